@@ -43,6 +43,8 @@ public class PagedResult<T extends BaseBean> implements BaseBean {
 
     private int totalCount;
 
+    private String continuation;
+
     public URI getPrev() {
         return prev;
     }
@@ -89,6 +91,14 @@ public class PagedResult<T extends BaseBean> implements BaseBean {
         this.totalCount = totalCount;
     }
 
+    public String getContinuation() {
+        return continuation;
+    }
+
+    public void setContinuation(final String continuation) {
+        this.continuation = continuation;
+    }
+
     @Override
     public int hashCode() {
         return new HashCodeBuilder().
@@ -98,6 +108,7 @@ public class PagedResult<T extends BaseBean> implements BaseBean {
                 append(page).
                 append(size).
                 append(totalCount).
+                append(continuation).
                 build();
     }
 
@@ -121,6 +132,7 @@ public class PagedResult<T extends BaseBean> implements BaseBean {
                 append(page, other.page).
                 append(size, other.size).
                 append(totalCount, other.totalCount).
+                append(continuation, other.continuation).
                 build();
     }
 }
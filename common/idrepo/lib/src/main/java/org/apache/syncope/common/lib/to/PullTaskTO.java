@@ -42,6 +42,8 @@ public class PullTaskTO extends ProvisioningTaskTO implements TemplatableTO {
 
     private boolean remediation;
 
+    private int commitBatchSize;
+
     @JacksonXmlProperty(localName = "_class", isAttribute = true)
     @JsonProperty("_class")
     @Schema(name = "_class", requiredMode = Schema.RequiredMode.REQUIRED,
@@ -90,6 +92,14 @@ public class PullTaskTO extends ProvisioningTaskTO implements TemplatableTO {
         this.remediation = remediation;
     }
 
+    public int getCommitBatchSize() {
+        return commitBatchSize;
+    }
+
+    public void setCommitBatchSize(final int commitBatchSize) {
+        this.commitBatchSize = commitBatchSize;
+    }
+
     @Override
     public int hashCode() {
         return new HashCodeBuilder().
@@ -98,6 +108,7 @@ public class PullTaskTO extends ProvisioningTaskTO implements TemplatableTO {
                 append(reconFilterBuilder).
                 append(destinationRealm).
                 append(remediation).
+                append(commitBatchSize).
                 build();
     }
 
@@ -119,6 +130,7 @@ public class PullTaskTO extends ProvisioningTaskTO implements TemplatableTO {
                 append(reconFilterBuilder, other.reconFilterBuilder).
                 append(destinationRealm, other.destinationRealm).
                 append(remediation, other.remediation).
+                append(commitBatchSize, other.commitBatchSize).
                 build();
     }
 }
@@ -36,6 +36,8 @@ public class PushTaskTO extends ProvisioningTaskTO {
 
     private final Map<String, String> filters = new HashMap<>();
 
+    private boolean snapshotMatching;
+
     @JacksonXmlProperty(localName = "_class", isAttribute = true)
     @JsonProperty("_class")
     @Schema(name = "_class", requiredMode = Schema.RequiredMode.REQUIRED,
@@ -58,12 +60,21 @@ public class PushTaskTO extends ProvisioningTaskTO {
         return filters;
     }
 
+    public boolean isSnapshotMatching() {
+        return snapshotMatching;
+    }
+
+    public void setSnapshotMatching(final boolean snapshotMatching) {
+        this.snapshotMatching = snapshotMatching;
+    }
+
     @Override
     public int hashCode() {
         return new HashCodeBuilder().
                 appendSuper(super.hashCode()).
                 append(sourceRealm).
                 append(filters).
+                append(snapshotMatching).
                 build();
     }
 
@@ -83,6 +94,7 @@ public class PushTaskTO extends ProvisioningTaskTO {
                 appendSuper(super.equals(obj)).
                 append(sourceRealm, other.sourceRealm).
                 append(filters, other.filters).
+                append(snapshotMatching, other.snapshotMatching).
                 build();
     }
 }
@@ -60,6 +60,11 @@ public class AnyQuery extends AbstractQuery {
 
             return this;
         }
+
+        public Builder continuation(final String continuation) {
+            getInstance().setContinuation(continuation);
+            return this;
+        }
     }
 
     private String realm;
@@ -70,6 +75,8 @@ public class AnyQuery extends AbstractQuery {
 
     private String fiql;
 
+    private String continuation;
+
     @Parameter(name = JAXRSService.PARAM_REALM, description = "realms define a hierarchical security domain tree, "
             + "primarily meant for containing Users, Groups and Any Objects", schema =
             @Schema(implementation = String.class, defaultValue = SyncopeConstants.ROOT_REALM, externalDocs =
@@ -127,6 +134,20 @@ public class AnyQuery extends AbstractQuery {
         this.fiql = fiql;
     }
 
+    @Parameter(name = JAXRSService.PARAM_CONTINUATION, description = "opaque token, as returned by a previous "
+            + "search, for fetching the following results; when provided, page is ignored and results are not bound "
+            + "by any result window limit; pass an empty value to start a new cursor-based search; total count is "
+            + "only reported when starting, -1 afterwards", schema =
+            @Schema(implementation = String.class))
+    public String getContinuation() {
+        return continuation;
+    }
+
+    @QueryParam(JAXRSService.PARAM_CONTINUATION)
+    public void setContinuation(final String continuation) {
+        this.continuation = continuation;
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (this == obj) {
@@ -144,6 +165,7 @@ public class AnyQuery extends AbstractQuery {
                 append(realm, other.realm).
                 append(details, other.details).
                 append(fiql, other.fiql).
+                append(continuation, other.continuation).
                 build();
     }
 
@@ -154,6 +176,7 @@ public class AnyQuery extends AbstractQuery {
                 append(realm).
                 append(details).
                 append(fiql).
+                append(continuation).
                 build();
     }
 }
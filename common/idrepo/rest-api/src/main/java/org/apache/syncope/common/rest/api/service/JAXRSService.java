@@ -52,6 +52,8 @@ public interface JAXRSService {
 
     String PARAM_ANYTYPEKEY = "anyTypeKey";
 
+    String PARAM_CONTINUATION = "continuation";
+
     String DOUBLE_DASH = "--";
 
     String CRLF = "\r\n";
@@ -149,16 +149,34 @@ public interface TaskService extends ExecutableService {
      * @param since match all executions started afterwards
      * @param statuses execution status(es) to match
      * @param resources external resource(s) to match
+     * @param export whether deleted propagation tasks shall be streamed as compressed download rather than listed
      * @return deleted propagation tasks
      */
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "List of deleted propagation tasks, as Entity"),
+        @ApiResponse(responseCode = "200", description = "List of deleted propagation tasks, as Entity; "
+                + "or gzip-compressed NDJSON, one propagation task per line, if export was requested"),
         @ApiResponse(responseCode = "412", description = "At least one matching condition must be specified") })
     @DELETE
     @Path("PROPAGATION/purge")
-    @Produces({ MediaType.APPLICATION_JSON, RESTHeaders.APPLICATION_YAML, MediaType.APPLICATION_XML })
+    @Produces({ MediaType.APPLICATION_JSON, RESTHeaders.APPLICATION_YAML, MediaType.APPLICATION_XML,
+        MediaType.APPLICATION_OCTET_STREAM })
     Response purgePropagations(
             @QueryParam("since") OffsetDateTime since,
             @QueryParam("statuses") List<ExecStatus> statuses,
-            @QueryParam("resources") List<String> resources);
+            @QueryParam("resources") List<String> resources,
+            @QueryParam("export") @DefaultValue("false") boolean export);
+
+    /**
+     * Downloads the full report of the pull or push task execution with matching key, as compressed artifact.
+     *
+     * @param executionKey key of task execution
+     * @return a stream for content download
+     */
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Full report, as gzip-compressed text"),
+        @ApiResponse(responseCode = "404", description = "No full report available for the given execution") })
+    @GET
+    @Path("executions/{executionKey}/report")
+    @Produces({ MediaType.APPLICATION_OCTET_STREAM })
+    Response exportExecutionReport(@NotNull @PathParam("executionKey") String executionKey);
 }
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.keymaster.client.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * Near cache of configuration parameters, as raw JSON and by domain, for {@link ConfParamOps} implementations
+ * reaching out to a remote Keymaster.
+ * Entries are dropped upon local changes, upon change notifications when available, or otherwise once expired.
+ */
+public class ConfParamCache {
+
+    protected final Cache<Pair<String, String>, Optional<JsonNode>> cache;
+
+    public ConfParamCache(final String cacheSpec) {
+        this.cache = Caffeine.from(cacheSpec).recordStats().build();
+    }
+
+    /**
+     * Returns the cached value for the given configuration parameter, invoking the provided loader only if not
+     * already available; exceptions thrown by the loader are propagated and nothing is cached.
+     *
+     * @param domain domain
+     * @param key configuration parameter key
+     * @param loader fetches the value from Keymaster, empty if not found
+     * @return cached value, empty if not found
+     */
+    public Optional<JsonNode> get(final String domain, final String key, final Supplier<Optional<JsonNode>> loader) {
+        return cache.get(Pair.of(domain, key), k -> loader.get());
+    }
+
+    public void invalidate(final String domain, final String key) {
+        cache.invalidate(Pair.of(domain, key));
+    }
+
+    public void invalidate(final String domain) {
+        cache.asMap().keySet().removeIf(key -> domain.equals(key.getLeft()));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -33,6 +33,8 @@ public class KeymasterProperties {
 
     private int maxRetries = 3;
 
+    private String confParamCacheSpec = "maximumSize=1000,expireAfterWrite=30s";
+
     public String getAddress() {
         return address;
     }
@@ -72,4 +74,12 @@ public class KeymasterProperties {
     public void setMaxRetries(final int maxRetries) {
         this.maxRetries = maxRetries;
     }
+
+    public String getConfParamCacheSpec() {
+        return confParamCacheSpec;
+    }
+
+    public void setConfParamCacheSpec(final String confParamCacheSpec) {
+        this.confParamCacheSpec = confParamCacheSpec;
+    }
 }
@@ -18,21 +18,30 @@
  */
 package org.apache.syncope.common.keymaster.client.zookeeper;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.framework.recipes.cache.ChildData;
+import org.apache.curator.framework.recipes.cache.CuratorCache;
+import org.apache.curator.framework.recipes.cache.CuratorCacheStorage;
+import org.apache.syncope.common.keymaster.client.api.ConfParamCache;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.common.keymaster.client.api.KeymasterException;
 import org.apache.zookeeper.KeeperException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 
 /**
- * Implements {@link ConfParamOps} via Apache Curator / Zookeeper.
+ * Implements {@link ConfParamOps} via Apache Curator / Zookeeper; values read are cached and invalidated by watching
+ * the configuration nodes, whose data is not retained by the watcher.
  */
-public class ZookeeperConfParamOps implements ConfParamOps {
+public class ZookeeperConfParamOps implements ConfParamOps, InitializingBean, DisposableBean {
 
     protected static final Logger LOG = LoggerFactory.getLogger(ConfParamOps.class);
 
@@ -42,12 +51,73 @@ public class ZookeeperConfParamOps implements ConfParamOps {
 
     protected final CuratorFramework client;
 
+    protected final ConfParamCache cache;
+
+    protected CuratorCache confCache;
+
     protected static String buildConfPath(final String... parts) {
         return CONF_PATH + '/' + String.join("/", parts);
     }
 
-    public ZookeeperConfParamOps(final CuratorFramework client) {
+    public ZookeeperConfParamOps(final CuratorFramework client, final ConfParamCache cache) {
         this.client = client;
+        this.cache = cache;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (client.checkExists().forPath(CONF_PATH) == null) {
+            client.create().creatingParentContainersIfNeeded().forPath(CONF_PATH);
+        }
+
+        confCache = CuratorCache.builder(client, CONF_PATH).withStorage(CuratorCacheStorage.dataNotCached()).build();
+        confCache.listenable().addListener((type, oldData, newData) -> {
+            switch (type) {
+                case NODE_CREATED:
+                case NODE_CHANGED:
+                case NODE_DELETED:
+                    invalidate(Optional.ofNullable(newData).orElse(oldData));
+                    break;
+
+                default:
+                    LOG.debug("Event {} received with data {}", type, newData);
+            }
+        });
+        confCache.start();
+    }
+
+    @Override
+    public void destroy() {
+        if (confCache != null) {
+            confCache.close();
+        }
+    }
+
+    protected void invalidate(final ChildData data) {
+        if (data == null) {
+            cache.invalidateAll();
+            return;
+        }
+
+        String[] parts = StringUtils.split(StringUtils.substringAfter(data.getPath(), CONF_PATH + '/'), '/');
+        if (parts.length == 1) {
+            LOG.debug("Invalidating configuration parameters for domain {}", parts[0]);
+            cache.invalidate(parts[0]);
+        } else if (parts.length > 1) {
+            LOG.debug("Invalidating configuration parameter {} for domain {}", parts[1], parts[0]);
+            cache.invalidate(parts[0], parts[1]);
+        }
+    }
+
+    protected Optional<JsonNode> fetch(final String domain, final String key) {
+        try {
+            return Optional.of(MAPPER.readTree(client.getData().forPath(buildConfPath(domain, key))));
+        } catch (KeeperException.NoNodeException e) {
+            LOG.debug("Node {} was not found", buildConfPath(domain, key));
+            return Optional.empty();
+        } catch (Exception e) {
+            throw new KeymasterException(e);
+        }
     }
 
     @Override
@@ -71,12 +141,13 @@ public class ZookeeperConfParamOps implements ConfParamOps {
     @Override
     public <T> T get(final String domain, final String key, final T defaultValue, final Class<T> reference) {
         T value = null;
-        try {
-            value = MAPPER.readValue(client.getData().forPath(buildConfPath(domain, key)), reference);
-        } catch (KeeperException.NoNodeException e) {
-            LOG.debug("Node {} was not found", buildConfPath(domain, key));
-        } catch (Exception e) {
-            throw new KeymasterException(e);
+        Optional<JsonNode> node = cache.get(domain, key, () -> fetch(domain, key));
+        if (node.isPresent()) {
+            try {
+                value = MAPPER.treeToValue(node.get(), reference);
+            } catch (Exception e) {
+                throw new KeymasterException(e);
+            }
         }
 
         return Optional.ofNullable(value).orElse(defaultValue);
@@ -95,6 +166,8 @@ public class ZookeeperConfParamOps implements ConfParamOps {
                 client.setData().forPath(buildConfPath(domain, key), MAPPER.writeValueAsBytes(value));
             } catch (Exception e) {
                 throw new KeymasterException(e);
+            } finally {
+                cache.invalidate(domain, key);
             }
         }
     }
@@ -105,6 +178,8 @@ public class ZookeeperConfParamOps implements ConfParamOps {
             client.delete().forPath(buildConfPath(domain, key));
         } catch (Exception e) {
             throw new KeymasterException(e);
+        } finally {
+            cache.invalidate(domain, key);
         }
     }
 }
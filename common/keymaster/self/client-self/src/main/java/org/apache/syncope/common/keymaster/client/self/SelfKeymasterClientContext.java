@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.regex.Pattern;
 import org.apache.cxf.ext.logging.LoggingFeature;
 import org.apache.cxf.jaxrs.client.JAXRSClientFactoryBean;
+import org.apache.syncope.common.keymaster.client.api.ConfParamCache;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.common.keymaster.client.api.DomainOps;
 import org.apache.syncope.common.keymaster.client.api.KeymasterProperties;
@@ -73,12 +74,22 @@ public class SelfKeymasterClientContext {
         return restClientFactoryBean;
     }
 
+    @Conditional(SelfKeymasterCondition.class)
+    @Bean
+    @ConditionalOnMissingBean
+    public ConfParamCache confParamCache(final KeymasterProperties props) {
+        return new ConfParamCache(props.getConfParamCacheSpec());
+    }
+
     @Conditional(SelfKeymasterCondition.class)
     @Bean
     @ConditionalOnMissingBean(name = "selfConfParamOps")
-    public ConfParamOps selfConfParamOps(@Qualifier("selfKeymasterRESTClientFactoryBean")
-            final JAXRSClientFactoryBean selfKeymasterRESTClientFactoryBean) {
-        return new SelfKeymasterConfParamOps(selfKeymasterRESTClientFactoryBean);
+    public ConfParamOps selfConfParamOps(
+            @Qualifier("selfKeymasterRESTClientFactoryBean")
+            final JAXRSClientFactoryBean selfKeymasterRESTClientFactoryBean,
+            final ConfParamCache confParamCache) {
+
+        return new SelfKeymasterConfParamOps(selfKeymasterRESTClientFactoryBean, confParamCache);
     }
 
     @Conditional(SelfKeymasterCondition.class)
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.common.keymaster.client.self;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import jakarta.ws.rs.core.Response;
 import java.io.ByteArrayInputStream;
@@ -25,7 +26,9 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Map;
+import java.util.Optional;
 import org.apache.cxf.jaxrs.client.JAXRSClientFactoryBean;
+import org.apache.syncope.common.keymaster.client.api.ConfParamCache;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.common.keymaster.client.api.KeymasterException;
 import org.apache.syncope.common.keymaster.rest.api.service.ConfParamService;
@@ -39,8 +42,11 @@ public class SelfKeymasterConfParamOps extends SelfKeymasterOps implements ConfP
 
     private static final JsonMapper MAPPER = JsonMapper.builder().findAndAddModules().build();
 
-    public SelfKeymasterConfParamOps(final JAXRSClientFactoryBean clientFactory) {
+    protected final ConfParamCache cache;
+
+    public SelfKeymasterConfParamOps(final JAXRSClientFactoryBean clientFactory, final ConfParamCache cache) {
         super(clientFactory);
+        this.cache = cache;
     }
 
     @Override
@@ -48,14 +54,37 @@ public class SelfKeymasterConfParamOps extends SelfKeymasterOps implements ConfP
         return client(ConfParamService.class, Map.of(RESTHeaders.DOMAIN, domain)).list();
     }
 
-    @Override
-    public <T> T get(final String domain, final String key, final T defaultValue, final Class<T> reference) {
+    protected Optional<JsonNode> fetch(final String domain, final String key) {
         Response response = client(ConfParamService.class, Map.of(RESTHeaders.DOMAIN, domain)).get(key);
+        if (response.getStatus() == Response.Status.NO_CONTENT.getStatusCode()
+                || response.getStatus() == Response.Status.NOT_FOUND.getStatusCode()) {
+
+            return Optional.empty();
+        }
         if (response.getStatus() != Response.Status.OK.getStatusCode()) {
+            throw new KeymasterException("Unexpected response status " + response.getStatus() + " for " + key);
+        }
+        try {
+            return Optional.of(MAPPER.readTree(response.readEntity(InputStream.class)));
+        } catch (IOException e) {
+            throw new KeymasterException("Could not deserialize response", e);
+        }
+    }
+
+    @Override
+    public <T> T get(final String domain, final String key, final T defaultValue, final Class<T> reference) {
+        Optional<JsonNode> value;
+        try {
+            value = cache.get(domain, key, () -> fetch(domain, key));
+        } catch (KeymasterException e) {
+            LOG.error("Could not read {}", key, e);
+            return defaultValue;
+        }
+        if (value.isEmpty()) {
             return defaultValue;
         }
         try {
-            return MAPPER.readValue(response.readEntity(InputStream.class), reference);
+            return MAPPER.treeToValue(value.get(), reference);
         } catch (IOException e) {
             LOG.error("Could not deserialize response", e);
             return defaultValue;
@@ -75,12 +104,18 @@ public class SelfKeymasterConfParamOps extends SelfKeymasterOps implements ConfP
                         set(key, new ByteArrayInputStream(baos.toByteArray()));
             } catch (IOException e) {
                 throw new KeymasterException("Could not serialize " + value, e);
+            } finally {
+                cache.invalidate(domain, key);
             }
         }
     }
 
     @Override
     public void remove(final String domain, final String key) {
-        client(ConfParamService.class, Map.of(RESTHeaders.DOMAIN, domain)).remove(key);
+        try {
+            client(ConfParamService.class, Map.of(RESTHeaders.DOMAIN, domain)).remove(key);
+        } finally {
+            cache.invalidate(domain, key);
+        }
     }
 }
@@ -623,13 +623,13 @@ public class ReconciliationLogic extends AbstractTransactionalLogic<EntityTO> {
         if (spec.getIgnorePaging()) {
             matching = new ArrayList<>();
 
-            int count = anySearchDAO.count(base, true, adminRealms, effectiveCond, anyType.getKind());
-            int pages = (count / AnyDAO.DEFAULT_PAGE_SIZE) + 1;
-
-            for (int p = 1; p <= pages; p++) {
-                matching.addAll(anySearchDAO.search(base, true, adminRealms, effectiveCond,
-                        p, AnyDAO.DEFAULT_PAGE_SIZE, orderBy, anyType.getKind()));
-            }
+            String continuation = null;
+            do {
+                Pair<List<Any<?>>, String> result = anySearchDAO.search(base, true, adminRealms, effectiveCond,
+                        continuation, AnyDAO.DEFAULT_PAGE_SIZE, orderBy, anyType.getKind());
+                matching.addAll(result.getLeft());
+                continuation = result.getRight();
+            } while (continuation != null);
         } else {
             matching = anySearchDAO.search(
                     base, true, adminRealms, effectiveCond, page, size, orderBy, anyType.getKind());
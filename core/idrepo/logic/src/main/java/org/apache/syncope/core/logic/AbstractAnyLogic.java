@@ -21,8 +21,11 @@ package org.apache.syncope.core.logic;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.request.AnyCR;
 import org.apache.syncope.common.lib.request.AnyObjectCR;
@@ -35,13 +38,16 @@ import org.apache.syncope.common.lib.to.ProvisioningResult;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.core.logic.api.LogicActions;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
+import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.provisioning.api.utils.RealmUtils;
 import org.apache.syncope.core.provisioning.java.utils.TemplateUtils;
 import org.apache.syncope.core.spring.implementation.ImplementationManager;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 
 public abstract class AbstractAnyLogic<TO extends AnyTO, C extends AnyCR, U extends AnyUR>
         extends AbstractResourceAssociator<TO> {
@@ -213,6 +219,32 @@ public abstract class AbstractAnyLogic<TO extends AnyTO, C extends AnyCR, U exte
         return result;
     }
 
+    /**
+     * Search to run once its base realm and authorized realms are resolved.
+     *
+     * @param <R> search result type
+     */
+    @FunctionalInterface
+    protected interface AnySearch<R> {
+
+        R search(Realm base, Set<String> authRealms, SearchCond searchCond);
+    }
+
+    protected <R> R doSearch(
+            final SearchCond searchCond,
+            final String realm,
+            final String entitlement,
+            final AnySearch<R> search) {
+
+        Realm base = Optional.ofNullable(realmDAO.findByFullPath(realm)).
+                orElseThrow(() -> new NotFoundException("Realm " + realm));
+
+        Set<String> authRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(entitlement), realm);
+
+        return search.search(base, authRealms, searchCond);
+    }
+
     public abstract TO read(String key);
 
     public abstract Pair<Integer, List<TO>> search(
@@ -222,6 +254,26 @@ public abstract class AbstractAnyLogic<TO extends AnyTO, C extends AnyCR, U exte
             boolean recursive,
             boolean details);
 
+    /**
+     * Cursor-based alternative to {@link #search(SearchCond, int, int, List, String, boolean, boolean)}.
+     *
+     * @param searchCond search condition
+     * @param continuation opaque token as returned by the previous invocation, null to start from the first result
+     * @param size number of results to fetch
+     * @param orderBy list of ordering clauses
+     * @param realm realm to start searching from
+     * @param recursive whether search should recursively include results from child realms
+     * @param details whether to include details in returned objects
+     * @return total number of matches, only counted when starting (-1 otherwise), matching objects and continuation
+     * token for the following results (null if no more results are available)
+     */
+    public abstract Triple<Integer, List<TO>, String> search(
+            SearchCond searchCond,
+            String continuation, int size, List<OrderByClause> orderBy,
+            String realm,
+            boolean recursive,
+            boolean details);
+
     public abstract ProvisioningResult<TO> update(U updateReq, boolean nullPriorityAsync);
 
     public abstract ProvisioningResult<TO> delete(String key, boolean nullPriorityAsync);
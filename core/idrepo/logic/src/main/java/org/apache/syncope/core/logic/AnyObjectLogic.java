@@ -27,6 +27,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.request.AnyObjectCR;
 import org.apache.syncope.common.lib.request.AnyObjectUR;
@@ -49,7 +50,6 @@ import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
-import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.provisioning.api.AnyObjectProvisioningManager;
 import org.apache.syncope.core.provisioning.api.data.AnyObjectDataBinder;
@@ -102,6 +102,13 @@ public class AnyObjectLogic extends AbstractAnyLogic<AnyObjectTO, AnyObjectCR, A
                 orElseThrow(() -> new NotFoundException("AnyObject " + type + " " + name));
     }
 
+    protected static String searchEntitlement(final SearchCond searchCond) {
+        if (searchCond.hasAnyTypeCond() == null) {
+            throw new UnsupportedOperationException("Need to specify " + AnyType.class.getSimpleName());
+        }
+        return AnyEntitlement.SEARCH.getFor(searchCond.hasAnyTypeCond());
+    }
+
     @Transactional(readOnly = true)
     @Override
     public Pair<Integer, List<AnyObjectTO>> search(
@@ -111,26 +118,42 @@ public class AnyObjectLogic extends AbstractAnyLogic<AnyObjectTO, AnyObjectCR, A
             final boolean recursive,
             final boolean details) {
 
-        if (searchCond.hasAnyTypeCond() == null) {
-            throw new UnsupportedOperationException("Need to specify " + AnyType.class.getSimpleName());
-        }
+        return doSearch(searchCond, realm, searchEntitlement(searchCond), (base, authRealms, effectiveCond) -> {
+            int count = searchDAO.count(base, recursive, authRealms, effectiveCond, AnyTypeKind.ANY_OBJECT);
 
-        Realm base = Optional.ofNullable(realmDAO.findByFullPath(realm)).
-                orElseThrow(() -> new NotFoundException("Realm " + realm));
+            List<AnyObject> matching = searchDAO.search(
+                    base, recursive, authRealms, effectiveCond, page, size, orderBy, AnyTypeKind.ANY_OBJECT);
+            List<AnyObjectTO> result = matching.stream().
+                    map(anyObject -> binder.getAnyObjectTO(anyObject, details)).
+                    collect(Collectors.toList());
 
-        Set<String> authRealms = RealmUtils.getEffective(
-                AuthContextUtils.getAuthorizations().get(AnyEntitlement.SEARCH.getFor(searchCond.hasAnyTypeCond())),
-                realm);
+            return Pair.of(count, result);
+        });
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Triple<Integer, List<AnyObjectTO>, String> search(
+            final SearchCond searchCond,
+            final String continuation, final int size, final List<OrderByClause> orderBy,
+            final String realm,
+            final boolean recursive,
+            final boolean details) {
 
-        int count = searchDAO.count(base, recursive, authRealms, searchCond, AnyTypeKind.ANY_OBJECT);
+        return doSearch(searchCond, realm, searchEntitlement(searchCond), (base, authRealms, effectiveCond) -> {
+            // counting is only worth when starting
+            int count = continuation == null
+                    ? searchDAO.count(base, recursive, authRealms, effectiveCond, AnyTypeKind.ANY_OBJECT)
+                    : -1;
 
-        List<AnyObject> matching = searchDAO.search(
-                base, recursive, authRealms, searchCond, page, size, orderBy, AnyTypeKind.ANY_OBJECT);
-        List<AnyObjectTO> result = matching.stream().
-                map(anyObject -> binder.getAnyObjectTO(anyObject, details)).
-                collect(Collectors.toList());
+            Pair<List<AnyObject>, String> matching = searchDAO.search(
+                    base, recursive, authRealms, effectiveCond, continuation, size, orderBy, AnyTypeKind.ANY_OBJECT);
+            List<AnyObjectTO> result = matching.getLeft().stream().
+                    map(anyObject -> binder.getAnyObjectTO(anyObject, details)).
+                    collect(Collectors.toList());
 
-        return Pair.of(count, result);
+            return Triple.of(count, result, matching.getRight());
+        });
     }
 
     public ProvisioningResult<AnyObjectTO> create(final AnyObjectCR createReq, final boolean nullPriorityAsync) {
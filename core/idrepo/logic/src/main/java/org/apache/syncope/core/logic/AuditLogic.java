@@ -125,6 +125,7 @@ public class AuditLogic extends AbstractTransactionalLogic<AuditConfTO> {
                 });
         audit.setActive(auditTO.isActive());
         audit = auditConfDAO.save(audit);
+        auditManager.refresh();
 
         setLevel(audit.getKey(), audit.isActive() ? Level.DEBUG : Level.OFF);
     }
@@ -134,6 +135,7 @@ public class AuditLogic extends AbstractTransactionalLogic<AuditConfTO> {
         AuditConf audit = Optional.ofNullable(auditConfDAO.find(key)).
                 orElseThrow(() -> new NotFoundException("Audit " + key));
         auditConfDAO.delete(audit);
+        auditManager.refresh();
 
         setLevel(audit.getKey(), Level.OFF);
     }
@@ -23,11 +23,11 @@ import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.request.GroupCR;
 import org.apache.syncope.common.lib.request.GroupUR;
@@ -58,7 +58,6 @@ import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.Implementation;
-import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
 import org.apache.syncope.core.provisioning.api.GroupProvisioningManager;
@@ -167,23 +166,54 @@ public class GroupLogic extends AbstractAnyLogic<GroupTO, GroupCR, GroupUR> {
             final boolean recursive,
             final boolean details) {
 
-        Realm base = Optional.ofNullable(realmDAO.findByFullPath(realm)).
-                orElseThrow(() -> new NotFoundException("Realm " + realm));
+        return doSearch(
+                searchCond == null ? groupDAO.getAllMatchingCond() : searchCond,
+                realm,
+                IdRepoEntitlement.GROUP_SEARCH,
+                (base, authRealms, effectiveCond) -> {
 
-        Set<String> authRealms = RealmUtils.getEffective(
-                AuthContextUtils.getAuthorizations().get(IdRepoEntitlement.GROUP_SEARCH), realm);
+                    int count = searchDAO.count(base, recursive, authRealms, effectiveCond, AnyTypeKind.GROUP);
 
-        SearchCond effectiveCond = searchCond == null ? groupDAO.getAllMatchingCond() : searchCond;
+                    List<Group> matching = searchDAO.search(
+                            base, recursive, authRealms, effectiveCond, page, size, orderBy, AnyTypeKind.GROUP);
+                    List<GroupTO> result = matching.stream().
+                            map(group -> binder.getGroupTO(group, details)).
+                            collect(Collectors.toList());
 
-        int count = searchDAO.count(base, recursive, authRealms, effectiveCond, AnyTypeKind.GROUP);
+                    return Pair.of(count, result);
+                });
+    }
 
-        List<Group> matching = searchDAO.search(
-                base, recursive, authRealms, effectiveCond, page, size, orderBy, AnyTypeKind.GROUP);
-        List<GroupTO> result = matching.stream().
-                map(group -> binder.getGroupTO(group, details)).
-                collect(Collectors.toList());
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.GROUP_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public Triple<Integer, List<GroupTO>, String> search(
+            final SearchCond searchCond,
+            final String continuation, final int size, final List<OrderByClause> orderBy,
+            final String realm,
+            final boolean recursive,
+            final boolean details) {
 
-        return Pair.of(count, result);
+        return doSearch(
+                searchCond == null ? groupDAO.getAllMatchingCond() : searchCond,
+                realm,
+                IdRepoEntitlement.GROUP_SEARCH,
+                (base, authRealms, effectiveCond) -> {
+
+                    // counting is only worth when starting
+                    int count = continuation == null
+                            ? searchDAO.count(base, recursive, authRealms, effectiveCond, AnyTypeKind.GROUP)
+                            : -1;
+
+                    Pair<List<Group>, String> matching = searchDAO.search(
+                            base, recursive, authRealms, effectiveCond, continuation, size, orderBy,
+                            AnyTypeKind.GROUP);
+                    List<GroupTO> result = matching.getLeft().stream().
+                            map(group -> binder.getGroupTO(group, details)).
+                            collect(Collectors.toList());
+
+                    return Triple.of(count, result, matching.getRight());
+                });
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.GROUP_CREATE + "')")
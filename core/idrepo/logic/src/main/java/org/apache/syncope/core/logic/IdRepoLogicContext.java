@@ -104,15 +104,18 @@ import org.apache.syncope.core.provisioning.api.notification.NotificationManager
 import org.apache.syncope.core.provisioning.api.propagation.PropagationManager;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskExecutor;
 import org.apache.syncope.core.provisioning.api.rules.RuleEnforcer;
+import org.apache.syncope.core.provisioning.java.pushpull.ProvisioningReportStore;
 import org.apache.syncope.core.provisioning.java.utils.TemplateUtils;
 import org.apache.syncope.core.spring.security.SecurityProperties;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.scheduling.quartz.SchedulerFactoryBean;
 
 @EnableAspectJAutoProxy(proxyTargetClass = false)
+@EnableConfigurationProperties(LogicProperties.class)
 @Configuration(proxyBeanMethods = false)
 public class IdRepoLogicContext {
 
@@ -148,15 +151,26 @@ public class IdRepoLogicContext {
 
     @ConditionalOnMissingBean(name = "defaultAuditAppenders")
     @Bean
-    public List<AuditAppender> defaultAuditAppenders(final DomainHolder domainHolder) {
+    public List<AuditAppender> defaultAuditAppenders(
+            final LogicProperties logicProperties,
+            final DomainHolder domainHolder) {
+
         List<AuditAppender> auditAppenders = new ArrayList<>();
 
         LoggerContext logCtx = (LoggerContext) LogManager.getContext(false);
         domainHolder.getDomains().forEach((domain, dataSource) -> {
-            AuditAppender appender = new JdbcAuditAppender(domain, dataSource);
+            // when asynchronous, each batch is written in a single transaction
+            AuditAppender appender = new JdbcAuditAppender(
+                    domain,
+                    dataSource,
+                    logicProperties.getAsyncAudit().isEnabled() ? logicProperties.getAsyncAudit().getBatchSize() : 0);
 
             LoggerConfig logConf = new LoggerConfig(AuditLoggerName.getAuditLoggerName(domain), null, false);
-            logConf.addAppender(appender.getTargetAppender(), Level.DEBUG, null);
+            logConf.addAppender(
+                    AuditLoader.domainAuditAppender(
+                            logCtx, appender.getTargetAppender(), logicProperties.getAsyncAudit()),
+                    Level.DEBUG,
+                    null);
             logConf.setLevel(Level.DEBUG);
             logCtx.getConfiguration().addLogger(logConf.getName(), logConf);
 
@@ -511,7 +525,8 @@ public class IdRepoLogicContext {
             final NotificationJobDelegate notificationJobDelegate,
             final TaskDataBinder taskDataBinder,
             final TaskUtilsFactory taskUtilsFactory,
-            final NotificationDAO notificationDAO) {
+            final NotificationDAO notificationDAO,
+            final ProvisioningReportStore provisioningReportStore) {
 
         return new TaskLogic(
                 jobManager,
@@ -524,7 +539,8 @@ public class IdRepoLogicContext {
                 taskDataBinder,
                 taskExecutor,
                 notificationJobDelegate,
-                taskUtilsFactory);
+                taskUtilsFactory,
+                provisioningReportStore);
     }
 
     @ConditionalOnMissingBean
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.logic;
+
+import org.apache.syncope.core.logic.audit.AsyncAuditAppender;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("logic")
+public class LogicProperties {
+
+    public static class AsyncAuditProperties {
+
+        /**
+         * Whether the default audit appenders shall be decorated by {@link AsyncAuditAppender}.
+         */
+        private boolean enabled = false;
+
+        private int queueCapacity = 10000;
+
+        private int batchSize = 100;
+
+        private AsyncAuditAppender.OverflowPolicy overflowPolicy = AsyncAuditAppender.OverflowPolicy.BLOCK;
+
+        /**
+         * Required when overflow policy is {@link AsyncAuditAppender.OverflowPolicy#SPILL}; spill files are named
+         * after the node, so the directory can be shared among Core nodes.
+         */
+        private String spillDirectory;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(final int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(final int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public AsyncAuditAppender.OverflowPolicy getOverflowPolicy() {
+            return overflowPolicy;
+        }
+
+        public void setOverflowPolicy(final AsyncAuditAppender.OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+        }
+
+        public String getSpillDirectory() {
+            return spillDirectory;
+        }
+
+        public void setSpillDirectory(final String spillDirectory) {
+            this.spillDirectory = spillDirectory;
+        }
+    }
+
+    private final AsyncAuditProperties asyncAudit = new AsyncAuditProperties();
+
+    public AsyncAuditProperties getAsyncAudit() {
+        return asyncAudit;
+    }
+}
@@ -19,7 +19,15 @@
 package org.apache.syncope.core.logic;
 
 import jakarta.ws.rs.core.Response;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -27,8 +35,11 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.mutable.MutableBoolean;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
 import org.apache.syncope.common.lib.SyncopeClientException;
@@ -70,8 +81,10 @@ import org.apache.syncope.core.provisioning.api.job.JobNamer;
 import org.apache.syncope.core.provisioning.api.notification.NotificationJobDelegate;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskExecutor;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.core.provisioning.api.utils.ExceptionUtils2;
 import org.apache.syncope.core.provisioning.java.propagation.DefaultPropagationReporter;
+import org.apache.syncope.core.provisioning.java.pushpull.ProvisioningReportStore;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
 import org.identityconnectors.framework.common.objects.ObjectClass;
@@ -85,6 +98,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 public class TaskLogic extends AbstractExecutableLogic<TaskTO> {
 
+    protected static final int PURGE_CHUNK_SIZE = 500;
+
     protected final TaskDAO taskDAO;
 
     protected final TaskExecDAO taskExecDAO;
@@ -101,6 +116,8 @@ public class TaskLogic extends AbstractExecutableLogic<TaskTO> {
 
     protected final TaskUtilsFactory taskUtilsFactory;
 
+    protected final ProvisioningReportStore reportStore;
+
     public TaskLogic(
             final JobManager jobManager,
             final SchedulerFactoryBean scheduler,
@@ -112,7 +129,8 @@ public class TaskLogic extends AbstractExecutableLogic<TaskTO> {
             final TaskDataBinder binder,
             final PropagationTaskExecutor taskExecutor,
             final NotificationJobDelegate notificationJobDelegate,
-            final TaskUtilsFactory taskUtilsFactory) {
+            final TaskUtilsFactory taskUtilsFactory,
+            final ProvisioningReportStore reportStore) {
 
         super(jobManager, scheduler, jobStatusDAO);
 
@@ -124,6 +142,7 @@ public class TaskLogic extends AbstractExecutableLogic<TaskTO> {
         this.taskExecutor = taskExecutor;
         this.notificationJobDelegate = notificationJobDelegate;
         this.taskUtilsFactory = taskUtilsFactory;
+        this.reportStore = reportStore;
     }
 
     protected void securityChecks(final String entitlement, final String realm) {
@@ -443,6 +462,40 @@ public class TaskLogic extends AbstractExecutableLogic<TaskTO> {
                 collect(Collectors.toList());
     }
 
+    protected Path findReport(final String executionKey) {
+        TaskExec<?> exec = taskExecDAO.find(executionKey).
+                orElseThrow(() -> new NotFoundException("Task execution " + executionKey));
+
+        return reportStore.find(executionKey).orElseThrow(() -> {
+            String filename = reportStore.getFilename(executionKey);
+            if (exec.getMessage() == null || !exec.getMessage().contains(filename)) {
+                return new NotFoundException("Report for task execution " + executionKey);
+            }
+
+            // the report was written, but is not reachable from this node
+            return new NotFoundException("Report " + filename + " for task execution " + executionKey
+                    + " was written but is not available under " + reportStore.getDirectory().
+                            map(Path::toString).orElse("the report directory, which is not configured")
+                    + ": the report directory must be shared among all Core nodes and never cleaned up");
+        });
+    }
+
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.TASK_READ + "')")
+    @Transactional(readOnly = true)
+    public String getReportFilename(final String executionKey) {
+        return findReport(executionKey).getFileName().toString();
+    }
+
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.TASK_READ + "')")
+    @Transactional(readOnly = true)
+    public void exportExecutionReport(final OutputStream os, final String executionKey) {
+        try {
+            Files.copy(findReport(executionKey), os);
+        } catch (IOException e) {
+            LOG.error("While exporting report for task execution {}", executionKey, e);
+        }
+    }
+
     @PreAuthorize("hasRole('" + IdRepoEntitlement.TASK_DELETE + "')")
     @Override
     public ExecTO deleteExecution(final String execKey) {
@@ -455,6 +508,7 @@ public class TaskLogic extends AbstractExecutableLogic<TaskTO> {
 
         ExecTO executionToDelete = binder.getExecTO(exec);
         taskExecDAO.delete(exec);
+        reportStore.delete(execKey);
         return executionToDelete;
     }
 
@@ -481,6 +535,7 @@ public class TaskLogic extends AbstractExecutableLogic<TaskTO> {
                 }
 
                 taskExecDAO.delete(exec);
+                reportStore.delete(exec.getKey());
                 item.setStatus(Response.Status.OK.getStatusCode());
             } catch (Exception e) {
                 LOG.error("Error deleting execution {} of task {}", exec.getKey(), key, e);
@@ -545,16 +600,118 @@ public class TaskLogic extends AbstractExecutableLogic<TaskTO> {
         doActionJob(JobNamer.getJobKey(task), action);
     }
 
+    protected void purgePropagations(
+            final OffsetDateTime since,
+            final List<ExecStatus> statuses,
+            final List<String> resources,
+            final Consumer<PropagationTaskTO> handler,
+            final Runnable beforeCommit) {
+
+        List<ExternalResource> externalResources = Optional.ofNullable(resources).
+                map(r -> r.stream().map(resourceDAO::find).
+                filter(Objects::nonNull).collect(Collectors.toList())).
+                orElse(null);
+
+        // each chunk is deleted and committed on its own, to keep transactions short
+        int purged;
+        do {
+            purged = taskDAO.purgePropagations(
+                    since, statuses, externalResources, PURGE_CHUNK_SIZE, handler, beforeCommit);
+        } while (purged > 0);
+    }
+
+    /**
+     * Only checks that the caller is allowed to purge propagation tasks: to be invoked before building streaming
+     * responses, which are only written once the response status has been sent.
+     */
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.TASK_DELETE + "')")
+    public void checkPurgePropagations() {
+        // authorization is enforced via @PreAuthorize
+    }
+
+    /**
+     * Deletes all the propagation tasks whose latest execution is matching the given conditions; as all deleted
+     * tasks are kept in memory, prefer {@link #purgePropagations(OffsetDateTime, List, List, boolean, OutputStream)}
+     * when many of them are expected.
+     *
+     * @param since match all executions ended before
+     * @param statuses execution status(es) to match
+     * @param resources external resource(s) to match
+     * @return deleted propagation tasks
+     */
     @PreAuthorize("hasRole('" + IdRepoEntitlement.TASK_DELETE + "')")
     public List<PropagationTaskTO> purgePropagations(
             final OffsetDateTime since,
             final List<ExecStatus> statuses,
             final List<String> resources) {
 
-        return taskDAO.purgePropagations(since, statuses, Optional.ofNullable(resources).
-                map(r -> r.stream().map(resourceDAO::find).
-                filter(Objects::nonNull).collect(Collectors.toList())).
-                orElse(null));
+        List<PropagationTaskTO> purged = new ArrayList<>();
+        purgePropagations(since, statuses, resources, purged::add, () -> {
+            // nothing to do
+        });
+        return purged;
+    }
+
+    /**
+     * Deletes all the propagation tasks whose latest execution is matching the given conditions, writing the
+     * deleted tasks to the given stream as they are deleted: either as gzip-compressed NDJSON, i.e. one JSON object
+     * per line, or as JSON array.
+     *
+     * @param since match all executions ended before
+     * @param statuses execution status(es) to match
+     * @param resources external resource(s) to match
+     * @param export whether to write gzip-compressed NDJSON rather than JSON array
+     * @param os output stream
+     * @throws IOException if the given stream cannot be written
+     */
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.TASK_DELETE + "')")
+    public void purgePropagations(
+            final OffsetDateTime since,
+            final List<ExecStatus> statuses,
+            final List<String> resources,
+            final boolean export,
+            final OutputStream os) throws IOException {
+
+        // sync flush, so that what was written for each chunk reaches the client before the chunk is committed
+        GZIPOutputStream gzip = export ? new GZIPOutputStream(os, true) : null;
+        Writer writer = new OutputStreamWriter(export ? gzip : os, StandardCharsets.UTF_8);
+        MutableBoolean first = new MutableBoolean(true);
+        try {
+            if (!export) {
+                writer.write('[');
+            }
+            purgePropagations(since, statuses, resources, taskTO -> {
+                try {
+                    if (export) {
+                        writer.write(POJOHelper.serialize(taskTO));
+                        writer.write('\n');
+                    } else {
+                        if (first.isFalse()) {
+                            writer.write(',');
+                        }
+                        writer.write(POJOHelper.serialize(taskTO));
+                        first.setFalse();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, () -> {
+                try {
+                    writer.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (export) {
+            writer.flush();
+            gzip.finish();
+        } else {
+            writer.write(']');
+            writer.flush();
+        }
     }
 
     @Override
@@ -168,23 +168,54 @@ public class UserLogic extends AbstractAnyLogic<UserTO, UserCR, UserUR> {
             final boolean recursive,
             final boolean details) {
 
-        Realm base = Optional.ofNullable(realmDAO.findByFullPath(realm)).
-                orElseThrow(() -> new NotFoundException("Realm " + realm));
-
-        Set<String> authRealms = RealmUtils.getEffective(
-                AuthContextUtils.getAuthorizations().get(IdRepoEntitlement.USER_SEARCH), realm);
-
-        SearchCond effectiveCond = searchCond == null ? userDAO.getAllMatchingCond() : searchCond;
-
-        int count = searchDAO.count(base, recursive, authRealms, effectiveCond, AnyTypeKind.USER);
+        return doSearch(
+                searchCond == null ? userDAO.getAllMatchingCond() : searchCond,
+                realm,
+                IdRepoEntitlement.USER_SEARCH,
+                (base, authRealms, effectiveCond) -> {
+
+                    int count = searchDAO.count(base, recursive, authRealms, effectiveCond, AnyTypeKind.USER);
+
+                    List<User> matching = searchDAO.search(
+                            base, recursive, authRealms, effectiveCond, page, size, orderBy, AnyTypeKind.USER);
+                    List<UserTO> result = matching.stream().
+                            map(user -> binder.getUserTO(user, details)).
+                            collect(Collectors.toList());
+
+                    return Pair.of(count, result);
+                });
+    }
 
-        List<User> matching = searchDAO.search(
-                base, recursive, authRealms, effectiveCond, page, size, orderBy, AnyTypeKind.USER);
-        List<UserTO> result = matching.stream().
-                map(user -> binder.getUserTO(user, details)).
-                collect(Collectors.toList());
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.USER_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public Triple<Integer, List<UserTO>, String> search(
+            final SearchCond searchCond,
+            final String continuation, final int size, final List<OrderByClause> orderBy,
+            final String realm,
+            final boolean recursive,
+            final boolean details) {
 
-        return Pair.of(count, result);
+        return doSearch(
+                searchCond == null ? userDAO.getAllMatchingCond() : searchCond,
+                realm,
+                IdRepoEntitlement.USER_SEARCH,
+                (base, authRealms, effectiveCond) -> {
+
+                    // counting is only worth when starting
+                    int count = continuation == null
+                            ? searchDAO.count(base, recursive, authRealms, effectiveCond, AnyTypeKind.USER)
+                            : -1;
+
+                    Pair<List<User>, String> matching = searchDAO.search(
+                            base, recursive, authRealms, effectiveCond, continuation, size, orderBy,
+                            AnyTypeKind.USER);
+                    List<UserTO> result = matching.getLeft().stream().
+                            map(user -> binder.getUserTO(user, details)).
+                            collect(Collectors.toList());
+
+                    return Triple.of(count, result, matching.getRight());
+                });
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ANONYMOUS + "')")
@@ -0,0 +1,452 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.logic.audit;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.appender.db.AbstractDatabaseAppender;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.apache.syncope.core.provisioning.api.utils.NodeUtils;
+
+/**
+ * Decouples audit writes from request processing: events are put into a bounded queue and handed over in batches
+ * to the target appender by a dedicated thread; {@link BatchingAppender} targets receive each batch at once, while
+ * database targets are flushed after each batch.
+ * What happens when the queue is full is determined by the configured {@link OverflowPolicy}.
+ */
+public class AsyncAuditAppender extends AbstractAppender {
+
+    public enum OverflowPolicy {
+        /**
+         * Wait for room in the queue.
+         */
+        BLOCK,
+        /**
+         * Discard the event.
+         */
+        DROP,
+        /**
+         * Append the event to a local file, replayed as soon as the queue is empty; batches which could not be
+         * written to the target appender are spilled as well.
+         */
+        SPILL;
+
+    }
+
+    /**
+     * Stands for the throwable of a spilled event, printing the stack trace as it was when spilled.
+     */
+    protected static class SpilledThrowable extends Throwable {
+
+        private static final long serialVersionUID = -3400545146311405475L;
+
+        private final String stackTrace;
+
+        public SpilledThrowable(final String stackTrace) {
+            super(null, null, false, false);
+            this.stackTrace = stackTrace;
+        }
+
+        @Override
+        public void printStackTrace(final PrintStream s) {
+            s.print(stackTrace);
+        }
+
+        @Override
+        public void printStackTrace(final PrintWriter s) {
+            s.print(stackTrace);
+        }
+
+        @Override
+        public String toString() {
+            return stackTrace;
+        }
+    }
+
+    protected static final long POLL_MILLIS = 200;
+
+    protected static final long REPLAY_RETRY_MILLIS = 10000;
+
+    protected final Appender target;
+
+    protected final BlockingQueue<LogEvent> queue;
+
+    protected final int batchSize;
+
+    protected final OverflowPolicy overflowPolicy;
+
+    protected final Path spillFile;
+
+    protected final Object spillLock = new Object();
+
+    protected final AtomicLong written = new AtomicLong();
+
+    protected final AtomicLong dropped = new AtomicLong();
+
+    protected final AtomicLong spilled = new AtomicLong();
+
+    protected final AtomicLong failed = new AtomicLong();
+
+    protected volatile boolean running;
+
+    protected Thread dispatcher;
+
+    protected long nextReplay;
+
+    /**
+     * @param target appender to write events to
+     * @param queueCapacity maximum number of events waiting to be written
+     * @param batchSize maximum number of events written at once
+     * @param overflowPolicy what to do with events not fitting the queue
+     * @param spillDirectory where to spill events, required for {@link OverflowPolicy#SPILL}
+     */
+    public AsyncAuditAppender(
+            final Appender target,
+            final int queueCapacity,
+            final int batchSize,
+            final OverflowPolicy overflowPolicy,
+            final Path spillDirectory) {
+
+        super(target.getName() + "_async", null, null, false, Property.EMPTY_ARRAY);
+
+        if (overflowPolicy == OverflowPolicy.SPILL && spillDirectory == null) {
+            throw new IllegalArgumentException("A spill directory is required for " + overflowPolicy);
+        }
+
+        this.target = target;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.spillFile = overflowPolicy == OverflowPolicy.SPILL
+                ? spillDirectory.resolve(getName() + "_" + NodeUtils.getNodeId() + ".spill")
+                : null;
+    }
+
+    public Appender getTarget() {
+        return target;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public int getQueueCapacity() {
+        return queue.size() + queue.remainingCapacity();
+    }
+
+    /**
+     * @return milliseconds elapsed since the oldest event still in queue was produced, 0 if the queue is empty
+     */
+    public long getLag() {
+        LogEvent oldest = queue.peek();
+        return oldest == null ? 0 : Math.max(0, System.currentTimeMillis() - oldest.getTimeMillis());
+    }
+
+    public long getWritten() {
+        return written.get();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public long getSpilled() {
+        return spilled.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        dispatcher = new Thread(this::dispatch, getName());
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+
+        super.start();
+    }
+
+    @Override
+    public boolean stop(final long timeout, final TimeUnit timeUnit) {
+        setStopping();
+        super.stop(timeout, timeUnit, false);
+
+        // let the dispatcher write all queued events before leaving
+        running = false;
+        if (dispatcher != null) {
+            try {
+                dispatcher.join(Math.max(1, timeUnit.toMillis(timeout)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        setStopped();
+        return true;
+    }
+
+    @Override
+    public void append(final LogEvent event) {
+        LogEvent immutable = event.toImmutable();
+        if (queue.offer(immutable)) {
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case BLOCK:
+                try {
+                    queue.put(immutable);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped.incrementAndGet();
+                }
+                break;
+
+            case SPILL:
+                spill(List.of(immutable));
+                break;
+
+            case DROP:
+            default:
+                dropped.incrementAndGet();
+        }
+    }
+
+    protected void dispatch() {
+        List<LogEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                LogEvent first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    replay();
+                } else {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    write(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                LOGGER.error("Unexpected error in {}", getName(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    protected boolean write(final List<LogEvent> batch) {
+        List<LogEvent> notWritten;
+        try {
+            if (target instanceof BatchingAppender batchingAppender) {
+                notWritten = batchingAppender.append(batch);
+                if (!notWritten.isEmpty()) {
+                    LOGGER.error("{} out of {} events could not be written to {}",
+                            notWritten.size(), batch.size(), target.getName());
+                }
+            } else {
+                batch.forEach(target::append);
+                if (target instanceof AbstractDatabaseAppender<?> databaseAppender) {
+                    databaseAppender.getManager().flush();
+                }
+                notWritten = List.of();
+            }
+        } catch (Exception e) {
+            LOGGER.error("While writing {} events to {}", batch.size(), target.getName(), e);
+            notWritten = batch;
+        }
+
+        written.addAndGet(batch.size() - notWritten.size());
+        if (notWritten.isEmpty()) {
+            return true;
+        }
+
+        if (overflowPolicy == OverflowPolicy.SPILL) {
+            spill(notWritten);
+        } else {
+            failed.addAndGet(notWritten.size());
+        }
+        return false;
+    }
+
+    protected void spill(final List<LogEvent> events) {
+        synchronized (spillLock) {
+            try (BufferedWriter writer = Files.newBufferedWriter(
+                    spillFile, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+
+                for (LogEvent event : events) {
+                    Map<String, Object> spilledEvent = new HashMap<>();
+                    spilledEvent.put("time", event.getTimeMillis());
+                    spilledEvent.put("level", event.getLevel().name());
+                    spilledEvent.put("logger", event.getLoggerName());
+                    spilledEvent.put("message", event.getMessage().getFormattedMessage());
+                    Optional.ofNullable(event.getThrown()).
+                            ifPresent(thrown -> spilledEvent.put("thrown", ExceptionUtils.getStackTrace(thrown)));
+
+                    writer.write(POJOHelper.serialize(spilledEvent));
+                    writer.newLine();
+                }
+
+                spilled.addAndGet(events.size());
+            } catch (IOException e) {
+                LOGGER.error("While spilling {} events to {}", events.size(), spillFile, e);
+                failed.addAndGet(events.size());
+            }
+        }
+    }
+
+    /**
+     * Reads the number of lines of the given replay file which were already handed over to the target appender.
+     *
+     * @param offsetFile file storing the number of lines already replayed
+     * @return number of lines already replayed
+     */
+    protected long readReplayOffset(final Path offsetFile) {
+        if (!Files.exists(offsetFile)) {
+            return 0;
+        }
+
+        try {
+            return Long.parseLong(Files.readString(offsetFile, StandardCharsets.UTF_8).trim());
+        } catch (IOException | NumberFormatException e) {
+            LOGGER.error("While reading {}, replaying from start", offsetFile, e);
+            return 0;
+        }
+    }
+
+    protected void writeReplayOffset(final Path offsetFile, final long offset) throws IOException {
+        Path tmp = offsetFile.resolveSibling(offsetFile.getFileName() + ".tmp");
+        Files.writeString(tmp, String.valueOf(offset), StandardCharsets.UTF_8);
+        Files.move(tmp, offsetFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    protected LogEvent toLogEvent(final Map<?, ?> spilledEvent) {
+        return Log4jLogEvent.newBuilder().
+                setLoggerName((String) spilledEvent.get("logger")).
+                setLevel(Optional.ofNullable((String) spilledEvent.get("level")).
+                        map(Level::toLevel).orElse(Level.DEBUG)).
+                setTimeMillis(spilledEvent.get("time") instanceof Number time
+                        ? time.longValue()
+                        : System.currentTimeMillis()).
+                setMessage(new SimpleMessage((String) spilledEvent.get("message"))).
+                setThrown(Optional.ofNullable((String) spilledEvent.get("thrown")).
+                        map(SpilledThrowable::new).orElse(null)).
+                build();
+    }
+
+    /**
+     * Writes the spilled events, if any, to the target appender; the number of lines handed over is recorded after
+     * each batch, so that an interrupted replay is resumed without writing the same events twice.
+     */
+    protected void replay() {
+        if (spillFile == null || System.currentTimeMillis() < nextReplay) {
+            return;
+        }
+
+        Path replayFile = spillFile.resolveSibling(spillFile.getFileName() + ".replay");
+        Path offsetFile = spillFile.resolveSibling(spillFile.getFileName() + ".offset");
+        synchronized (spillLock) {
+            if (!Files.exists(replayFile)) {
+                if (!Files.exists(spillFile)) {
+                    return;
+                }
+
+                try {
+                    Files.deleteIfExists(offsetFile);
+                    Files.move(spillFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException e) {
+                    LOGGER.error("While preparing {} for replay", spillFile, e);
+                    return;
+                }
+            }
+        }
+
+        boolean success = true;
+        long offset = readReplayOffset(offsetFile);
+        long lines = 0;
+        List<LogEvent> batch = new ArrayList<>(batchSize);
+        try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines++;
+                if (lines <= offset) {
+                    continue;
+                }
+
+                Map<?, ?> spilledEvent = POJOHelper.deserialize(line, Map.class);
+                if (spilledEvent == null) {
+                    LOGGER.warn("Skipping unreadable line {} of {}", lines, replayFile);
+                } else {
+                    batch.add(toLogEvent(spilledEvent));
+                }
+
+                if (batch.size() >= batchSize) {
+                    // events not written are spilled again by write(), hence they count as handed over
+                    success &= write(batch);
+                    batch.clear();
+                    writeReplayOffset(offsetFile, lines);
+                }
+            }
+            if (!batch.isEmpty()) {
+                success &= write(batch);
+            }
+
+            Files.delete(replayFile);
+            Files.deleteIfExists(offsetFile);
+        } catch (IOException e) {
+            LOGGER.error("While replaying {}", replayFile, e);
+            success = false;
+        }
+
+        if (!success) {
+            nextReplay = System.currentTimeMillis() + REPLAY_RETRY_MILLIS;
+        }
+    }
+}
@@ -35,6 +35,15 @@ import org.springframework.jdbc.datasource.DataSourceUtils;
 public class JdbcAuditAppender extends DefaultAuditAppender {
 
     public JdbcAuditAppender(final String domain, final DataSource domainDataSource) {
+        this(domain, domainDataSource, 0);
+    }
+
+    /**
+     * @param domain domain
+     * @param domainDataSource domain data source
+     * @param bufferSize number of events to buffer before writing them in a single transaction, 0 for no buffering
+     */
+    public JdbcAuditAppender(final String domain, final DataSource domainDataSource, final int bufferSize) {
         super(domain);
 
         LoggerContext logCtx = (LoggerContext) LogManager.getContext(false);
@@ -59,7 +68,7 @@ public class JdbcAuditAppender extends DefaultAuditAppender {
                             setName(getTargetAppenderName()).
                             setIgnoreExceptions(false).
                             setConnectionSource(new DataSourceConnectionSource(domain, domainDataSource)).
-                            setBufferSize(0).
+                            setBufferSize(bufferSize).
                             setTableName(AuditConfDAO.AUDIT_ENTRY_TABLE).
                             setColumnMappings(columnMappings).
                             build();
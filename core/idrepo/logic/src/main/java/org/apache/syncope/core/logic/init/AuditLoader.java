@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.logic.init;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 import javax.sql.DataSource;
@@ -28,6 +29,8 @@ import org.apache.logging.log4j.core.LoggerContext;
 import org.apache.logging.log4j.core.appender.rewrite.RewriteAppender;
 import org.apache.logging.log4j.core.config.LoggerConfig;
 import org.apache.syncope.common.lib.types.AuditLoggerName;
+import org.apache.syncope.core.logic.LogicProperties;
+import org.apache.syncope.core.logic.audit.AsyncAuditAppender;
 import org.apache.syncope.core.logic.audit.AuditAppender;
 import org.apache.syncope.core.persistence.api.SyncopeCoreLoader;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
@@ -57,6 +60,38 @@ public class AuditLoader implements SyncopeCoreLoader {
         }
     }
 
+    /**
+     * Returns the appender to attach to the main audit logger of a domain: the given target, possibly decorated for
+     * asynchronous and batched writes according to the provided configuration.
+     *
+     * @param ctx logger context
+     * @param target appender writing audit events
+     * @param asyncAudit configuration for asynchronous writes
+     * @return appender to attach
+     */
+    public static Appender domainAuditAppender(
+            final LoggerContext ctx,
+            final Appender target,
+            final LogicProperties.AsyncAuditProperties asyncAudit) {
+
+        if (!asyncAudit.isEnabled()) {
+            return target;
+        }
+
+        Appender async = ctx.getConfiguration().getAppender(target.getName() + "_async");
+        if (async == null) {
+            async = new AsyncAuditAppender(
+                    target,
+                    asyncAudit.getQueueCapacity(),
+                    asyncAudit.getBatchSize(),
+                    asyncAudit.getOverflowPolicy(),
+                    Optional.ofNullable(asyncAudit.getSpillDirectory()).map(Path::of).orElse(null));
+            async.start();
+            ctx.getConfiguration().addAppender(async);
+        }
+        return async;
+    }
+
     protected final AuditAccessor auditAccessor;
 
     protected final List<AuditAppender> auditAppenders;
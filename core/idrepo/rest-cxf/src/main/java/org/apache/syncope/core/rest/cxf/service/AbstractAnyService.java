@@ -28,6 +28,7 @@ import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
 import org.apache.syncope.common.lib.Attr;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.SyncopeConstants;
@@ -129,6 +130,20 @@ public abstract class AbstractAnyService<TO extends AnyTO, CR extends AnyCR, UR
                 : getSearchCond(anyQuery.getFiql(), realm);
 
         try {
+            if (anyQuery.getContinuation() != null) {
+                Triple<Integer, List<TO>, String> result = getAnyLogic().search(
+                        searchCond,
+                        StringUtils.isBlank(anyQuery.getContinuation()) ? null : anyQuery.getContinuation(),
+                        anyQuery.getSize(),
+                        getOrderByClauses(anyQuery.getOrderBy()),
+                        realm,
+                        anyQuery.getRecursive(),
+                        anyQuery.getDetails());
+
+                return buildPagedResult(
+                        result.getMiddle(), anyQuery.getSize(), result.getLeft(), result.getRight());
+            }
+
             Pair<Integer, List<TO>> result = getAnyLogic().search(
                     searchCond,
                     anyQuery.getPage(),
@@ -237,4 +237,40 @@ public abstract class AbstractService implements JAXRSService {
 
         return result;
     }
+
+    /**
+     * Builds a paged result out of a cursor-based search: no link to previous results is available, the link to
+     * following results carries the continuation token.
+     *
+     * @param <T> any subclass of {@link BaseBean}
+     * @param list bare list of items to be returned
+     * @param size requested size
+     * @param totalCount total result size (not considering pagination)
+     * @param continuation token for fetching the following results, null if no more results are available
+     * @return paged result
+     */
+    protected <T extends BaseBean> PagedResult<T> buildPagedResult(
+            final List<T> list, final int size, final int totalCount, final String continuation) {
+
+        PagedResult<T> result = new PagedResult<>();
+        result.getResult().addAll(list);
+
+        result.setSize(result.getResult().size());
+        result.setTotalCount(totalCount);
+        result.setContinuation(continuation);
+
+        if (continuation != null) {
+            UriBuilder builder = uriInfo.getAbsolutePathBuilder();
+            MultivaluedMap<String, String> queryParams = uriInfo.getQueryParameters();
+            queryParams.forEach((key, value) -> builder.queryParam(key, value.toArray()));
+
+            result.setNext(builder.
+                    replaceQueryParam(PARAM_PAGE).
+                    replaceQueryParam(PARAM_CONTINUATION, continuation).
+                    replaceQueryParam(PARAM_SIZE, size).
+                    build());
+        }
+
+        return result;
+    }
 }
@@ -19,7 +19,10 @@
 package org.apache.syncope.core.rest.cxf.service;
 
 import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import java.net.URI;
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -101,12 +104,41 @@ public class TaskServiceImpl extends AbstractExecutableService implements TaskSe
     public Response purgePropagations(
             final OffsetDateTime since,
             final List<ExecStatus> statuses,
-            final List<String> resources) {
+            final List<String> resources,
+            final boolean export) {
 
         if (since == null && CollectionUtils.isEmpty(statuses) && CollectionUtils.isEmpty(resources)) {
             return Response.status(Response.Status.PRECONDITION_FAILED).build();
         }
 
+        if (export) {
+            logic.checkPurgePropagations();
+            StreamingOutput sout = os -> logic.purgePropagations(since, statuses, resources, true, os);
+
+            return Response.ok(sout, MediaType.APPLICATION_OCTET_STREAM_TYPE).
+                    header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=purged-propagations.ndjson.gz").
+                    build();
+        }
+
+        // JSON can be written while purging, other formats require all deleted tasks to be collected first
+        List<MediaType> accepted = messageContext.getHttpHeaders().getAcceptableMediaTypes();
+        if (accepted.isEmpty() || accepted.get(0).isCompatible(MediaType.APPLICATION_JSON_TYPE)) {
+            logic.checkPurgePropagations();
+            StreamingOutput sout = os -> logic.purgePropagations(since, statuses, resources, false, os);
+
+            return Response.ok(sout, MediaType.APPLICATION_JSON_TYPE).build();
+        }
+
         return Response.ok(logic.purgePropagations(since, statuses, resources)).build();
     }
+
+    @Override
+    public Response exportExecutionReport(final String executionKey) {
+        String filename = logic.getReportFilename(executionKey);
+        StreamingOutput sout = os -> logic.exportExecutionReport(os, executionKey);
+
+        return Response.ok(sout, MediaType.APPLICATION_OCTET_STREAM_TYPE).
+                header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename).
+                build();
+    }
 }
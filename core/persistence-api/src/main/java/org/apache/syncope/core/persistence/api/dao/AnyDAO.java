@@ -22,6 +22,7 @@ import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.DerSchema;
@@ -37,6 +38,15 @@ public interface AnyDAO<A extends Any<?>> extends DAO<A> {
 
     List<A> findByKeys(List<String> keys);
 
+    /**
+     * Loads the anys matching the given keys together with their plain attributes, memberships and relationships,
+     * in a few set-based queries; meant to be invoked ahead of per-any processing of large populations.
+     *
+     * @param keys any keys
+     * @return anys matching the given keys
+     */
+    List<A> prefetch(List<String> keys);
+
     OffsetDateTime findLastChange(String key);
 
     A authFind(String key);
@@ -63,6 +73,26 @@ public interface AnyDAO<A extends Any<?>> extends DAO<A> {
 
     List<A> findByResource(ExternalResource resource);
 
+    /**
+     * Finds the non-null values of the given field, each paired with the key of the owning any object; meant for
+     * building in-memory indexes.
+     *
+     * @param field field name, e.g. {@code username} or {@code name}
+     * @param max maximum number of results
+     * @return at most {@code max} field values paired with owner keys
+     */
+    List<Pair<String, String>> findFieldValues(String field, int max);
+
+    /**
+     * Finds the string values of the given plain schema, each paired with the key of the owning any object; meant
+     * for building in-memory indexes.
+     *
+     * @param schema plain schema
+     * @param max maximum number of results
+     * @return at most {@code max} attribute values paired with owner keys
+     */
+    List<Pair<String, String>> findPlainAttrValues(PlainSchema schema, int max);
+
     /**
      * @return the search condition to match all entities
      */
@@ -91,6 +121,16 @@ public interface AnyDAO<A extends Any<?>> extends DAO<A> {
      */
     List<String> findAllKeys(int page, int itemsPerPage);
 
+    /**
+     * Find any objects' keys without any limitation, following the given key in natural order; unlike
+     * {@link #findAllKeys(int, int)}, cost does not grow with the number of keys already read.
+     *
+     * @param lastKey last key already read, null to start from the first
+     * @param itemsPerPage maximum number of keys to return
+     * @return any objects' keys following the given key
+     */
+    List<String> findAllKeys(String lastKey, int itemsPerPage);
+
     <S extends Schema> AllowedSchemas<S> findAllowedSchemas(A any, Class<S> reference);
 
     A save(A any);
@@ -20,6 +20,7 @@ package org.apache.syncope.core.persistence.api.dao;
 
 import java.util.List;
 import java.util.Set;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
@@ -81,4 +82,31 @@ public interface AnySearchDAO extends DAO<Any<?>> {
             int itemsPerPage,
             List<OrderByClause> orderBy,
             AnyTypeKind kind);
+
+    /**
+     * Cursor-based alternative to paged search, not subject to any result window limit: the returned continuation
+     * token can be passed to the next invocation, with the same search parameters, for fetching the following
+     * results.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition the search condition
+     * @param continuation opaque token as returned by the previous invocation, null to start from the first result
+     * @param itemsPerPage number of results to fetch
+     * @param orderBy list of ordering clauses
+     * @param kind any object
+     * @param <T> any
+     * @return the list of any objects matching the given search condition, and the continuation token for the
+     * following results, null if no more results are available
+     */
+    <T extends Any<?>> Pair<List<T>, String> search(
+            Realm base,
+            boolean recursive,
+            Set<String> adminRealms,
+            SearchCond searchCondition,
+            String continuation,
+            int itemsPerPage,
+            List<OrderByClause> orderBy,
+            AnyTypeKind kind);
 }
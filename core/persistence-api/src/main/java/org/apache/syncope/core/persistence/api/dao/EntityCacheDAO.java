@@ -34,4 +34,12 @@ public interface EntityCacheDAO {
     void evict(Class<? extends Entity> entityClass, String key);
 
     void clearCache();
+
+    /**
+     * Tells whether entities loaded in a transaction are kept in a store cache, thus available to later transactions
+     * without hitting the database.
+     *
+     * @return whether the store cache is enabled
+     */
+    boolean isStoreCacheEnabled();
 }
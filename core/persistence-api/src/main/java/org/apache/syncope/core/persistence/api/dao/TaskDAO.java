@@ -21,6 +21,7 @@ package org.apache.syncope.core.persistence.api.dao;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import org.apache.syncope.common.lib.to.PropagationTaskTO;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ExecStatus;
@@ -87,8 +88,27 @@ public interface TaskDAO extends DAO<Task<?>> {
 
     void deleteAll(ExternalResource resource, TaskType type);
 
-    List<PropagationTaskTO> purgePropagations(
+    /**
+     * Deletes, within a dedicated transaction, up to {@code max} propagation tasks whose latest execution is
+     * matching the given conditions, along with all their executions.
+     * Each deleted task is passed to the given handler before deletion, then the given callback is invoked before
+     * commit: should either fail, nothing is deleted.
+     * Deletion is performed via bulk statements, hence no entity lifecycle callback or event is triggered for the
+     * deleted tasks and executions.
+     *
+     * @param since match all executions ended before
+     * @param statuses execution status(es) to match
+     * @param externalResources external resource(s) to match
+     * @param max maximum number of propagation tasks to delete
+     * @param handler receives each deleted propagation task
+     * @param beforeCommit invoked once all the deleted propagation tasks were passed to the handler
+     * @return number of deleted propagation tasks, 0 when no more are matching
+     */
+    int purgePropagations(
             OffsetDateTime since,
             List<ExecStatus> statuses,
-            List<ExternalResource> externalResources);
+            List<ExternalResource> externalResources,
+            int max,
+            Consumer<PropagationTaskTO> handler,
+            Runnable beforeCommit);
 }
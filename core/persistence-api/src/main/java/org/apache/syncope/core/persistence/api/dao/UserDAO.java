@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.persistence.api.dao;
 
+import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -87,4 +88,13 @@ public interface UserDAO extends AnyDAO<User> {
     List<LinkedAccount> findLinkedAccountsByPrivilege(Privilege privilege);
 
     Pair<Set<String>, Set<String>> saveAndGetDynGroupMembs(User user);
+
+    /**
+     * Stores the given last login dates with a narrow update, bypassing the usual entity lifecycle; dates older
+     * than the ones already stored are ignored.
+     * This is the only way to change last login dates, as saving users does not store them.
+     *
+     * @param lastLoginDates last login dates, by user key
+     */
+    void updateLastLoginDates(Map<String, OffsetDateTime> lastLoginDates);
 }
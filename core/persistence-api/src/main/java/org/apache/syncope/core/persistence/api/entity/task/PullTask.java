@@ -47,4 +47,11 @@ public interface PullTask extends ProvisioningTask<PullTask> {
     void setRemediation(boolean remediation);
 
     boolean isRemediation();
+
+    /**
+     * @return number of pulled objects to handle within the same transaction, not batched if lower than 2
+     */
+    int getCommitBatchSize();
+
+    void setCommitBatchSize(int commitBatchSize);
 }
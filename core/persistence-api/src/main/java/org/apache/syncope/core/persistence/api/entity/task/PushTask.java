@@ -31,4 +31,11 @@ public interface PushTask extends ProvisioningTask<PushTask> {
     Optional<String> getFilter(String anyType);
 
     Map<String, String> getFilters();
+
+    /**
+     * @return whether remote objects are read once upfront, rather than one by one while pushing
+     */
+    boolean isSnapshotMatching();
+
+    void setSnapshotMatching(boolean snapshotMatching);
 }
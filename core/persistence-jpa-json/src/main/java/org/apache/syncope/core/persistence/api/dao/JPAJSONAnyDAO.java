@@ -19,10 +19,11 @@
 package org.apache.syncope.core.persistence.api.dao;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
-import org.apache.syncope.core.persistence.api.entity.DerSchema;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrUniqueValue;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
@@ -43,8 +44,10 @@ public interface JPAJSONAnyDAO {
             PlainAttrUniqueValue attrUniqueValue,
             boolean ignoreCaseMatch);
 
-    <A extends Any<?>> List<A> findByDerAttrValue(
-            String table, AnyUtils anyUtils, DerSchema schema, String value, boolean ignoreCaseMatch);
+    List<String> findKeysByPlainAttrValues(
+            String table, AnyUtils anyUtils, Map<PlainSchema, String> values, boolean ignoreCaseMatch);
+
+    List<Pair<String, String>> findPlainAttrValues(String table, AnyUtils anyUtils, PlainSchema schema, int max);
 
     <A extends Any<?>> void checkBeforeSave(String table, AnyUtils anyUtils, A any);
 }
@@ -40,6 +40,7 @@ import org.apache.syncope.core.persistence.jpa.dao.JPAJSONGroupDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPAJSONPlainAttrDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPAJSONPlainAttrValueDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPAJSONUserDAO;
+import org.apache.syncope.core.persistence.jpa.dao.SearchCondCache;
 import org.apache.syncope.core.spring.security.SecurityProperties;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -89,6 +90,7 @@ public abstract class JPAJSONPersistenceContext {
             final @Lazy AnyObjectDAO anyObjectDAO,
             final @Lazy AnySearchDAO anySearchDAO,
             final SearchCondVisitor searchCondVisitor,
+            final SearchCondCache searchCondCache,
             final @Lazy JPAJSONAnyDAO anyDAO) {
 
         return new JPAJSONGroupDAO(
@@ -103,6 +105,7 @@ public abstract class JPAJSONPersistenceContext {
                 anyObjectDAO,
                 anySearchDAO,
                 searchCondVisitor,
+                searchCondCache,
                 anyDAO);
     }
 
@@ -22,6 +22,7 @@ import org.apache.syncope.core.persistence.api.attrvalue.validation.PlainAttrVal
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.AuditConfDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.DynRealmDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
@@ -36,6 +37,7 @@ import org.apache.syncope.core.persistence.jpa.dao.OJPAJSONAnyDAO;
 import org.apache.syncope.core.persistence.jpa.dao.OJPAJSONAnySearchDAO;
 import org.apache.syncope.core.persistence.jpa.dao.OJPAJSONAuditConfDAO;
 import org.apache.syncope.core.persistence.jpa.dao.OJPAJSONPlainSchemaDAO;
+import org.apache.syncope.core.persistence.jpa.dao.SearchCondCache;
 import org.apache.syncope.core.persistence.jpa.entity.OJPAJSONEntityFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -66,6 +68,7 @@ public class OJPAJSONPersistenceContext extends JPAJSONPersistenceContext {
             final @Lazy GroupDAO groupDAO,
             final @Lazy AnyObjectDAO anyObjectDAO,
             final @Lazy PlainSchemaDAO schemaDAO,
+            final @Lazy DerSchemaDAO derSchemaDAO,
             final @Lazy EntityFactory entityFactory,
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator) {
@@ -77,6 +80,7 @@ public class OJPAJSONPersistenceContext extends JPAJSONPersistenceContext {
                 groupDAO,
                 anyObjectDAO,
                 schemaDAO,
+                derSchemaDAO,
                 entityFactory,
                 anyUtilsFactory,
                 validator);
@@ -93,8 +97,9 @@ public class OJPAJSONPersistenceContext extends JPAJSONPersistenceContext {
     public PlainSchemaDAO plainSchemaDAO(
             final AnyUtilsFactory anyUtilsFactory,
             final @Lazy PlainAttrDAO plainAttrDAO,
-            final @Lazy ExternalResourceDAO resourceDAO) {
+            final @Lazy ExternalResourceDAO resourceDAO,
+            final SearchCondCache searchCondCache) {
 
-        return new OJPAJSONPlainSchemaDAO(anyUtilsFactory, plainAttrDAO, resourceDAO);
+        return new OJPAJSONPlainSchemaDAO(anyUtilsFactory, plainAttrDAO, resourceDAO, searchCondCache);
     }
 }
@@ -21,17 +21,12 @@ package org.apache.syncope.core.persistence.jpa.dao;
 import jakarta.persistence.Query;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.regex.Pattern;
-import org.apache.commons.jexl3.parser.Parser;
-import org.apache.commons.jexl3.parser.ParserConstants;
-import org.apache.commons.jexl3.parser.Token;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
@@ -41,7 +36,6 @@ import org.apache.syncope.core.persistence.api.dao.JPAJSONAnyDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
-import org.apache.syncope.core.persistence.api.entity.DerSchema;
 import org.apache.syncope.core.persistence.api.entity.JSONPlainAttr;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrUniqueValue;
@@ -69,6 +63,16 @@ abstract class AbstractJPAJSONAnyDAO extends AbstractDAO<AbstractEntity> impleme
 
     protected abstract String queryBegin(String table);
 
+    /**
+     * Builds the native query selecting the non-null string values of a plain schema, each with the key of the owning
+     * any object; the plain schema key is the only parameter.
+     *
+     * @param table any table
+     * @param schema plain schema
+     * @return native query
+     */
+    protected abstract String plainAttrValuesQuery(String table, PlainSchema schema);
+
     protected Pair<String, Boolean> schemaInfo(final AttrSchemaType schemaType, final boolean ignoreCaseMatch) {
         String key;
         boolean lower = false;
@@ -117,15 +121,17 @@ abstract class AbstractJPAJSONAnyDAO extends AbstractDAO<AbstractEntity> impleme
     }
 
     protected <A extends Any<?>> List<A> buildResult(final AnyUtils anyUtils, final List<Object> queryResult) {
-        List<A> result = new ArrayList<>();
-        queryResult.forEach(anyKey -> {
-            A any = anyUtils.<A>dao().find(anyKey.toString());
-            if (any == null) {
-                LOG.error("Could not find any for key {}", anyKey);
-            } else {
-                result.add(any);
-            }
-        });
+        if (queryResult.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> keys = queryResult.stream().map(Object::toString).distinct().collect(Collectors.toList());
+        List<A> result = anyUtils.<A>dao().findByKeys(keys);
+        if (result.size() < keys.size()) {
+            Set<String> found = result.stream().map(any -> any.getKey()).collect(Collectors.toSet());
+            keys.stream().filter(key -> !found.contains(key)).
+                    forEach(key -> LOG.error("Could not find any for key {}", key));
+        }
         return result;
     }
 
@@ -177,159 +183,57 @@ abstract class AbstractJPAJSONAnyDAO extends AbstractDAO<AbstractEntity> impleme
                 : Optional.of(result.get(0));
     }
 
-    /**
-     * Split an attribute value recurring on provided literals/tokens.
-     *
-     * @param attrValue value to be split
-     * @param literals literals/tokens
-     * @return split value
-     */
-    protected List<String> split(final String attrValue, final List<String> literals) {
-        List<String> attrValues = new ArrayList<>();
-
-        if (literals.isEmpty()) {
-            attrValues.add(attrValue);
-        } else {
-            for (String token : attrValue.split(Pattern.quote(literals.get(0)))) {
-                if (!token.isEmpty()) {
-                    attrValues.addAll(split(token, literals.subList(1, literals.size())));
-                }
-            }
-        }
-
-        return attrValues;
-    }
-
     @SuppressWarnings("unchecked")
-    protected List<Object> findByDerAttrValue(
+    @Transactional(readOnly = true)
+    @Override
+    public List<String> findKeysByPlainAttrValues(
             final String table,
-            final Map<String, List<Object>> clauses) {
+            final AnyUtils anyUtils,
+            final Map<PlainSchema, String> values,
+            final boolean ignoreCaseMatch) {
 
-        StringJoiner actualClauses = new StringJoiner(" AND id IN ");
+        StringJoiner clauses = new StringJoiner(" AND id IN ");
         List<Object> queryParams = new ArrayList<>();
+        values.forEach((schema, value) -> {
+            PlainAttrValue attrValue = schema.isUniqueConstraint()
+                    ? anyUtils.newPlainAttrUniqueValue()
+                    : anyUtils.newPlainAttrValue();
+            attrValue.setStringValue(value);
+
+            clauses.add("(" + queryBegin(table)
+                    + "WHERE " + attrValueMatch(anyUtils, schema, attrValue, ignoreCaseMatch) + ')');
 
-        clauses.forEach((clause, parameters) -> {
-            actualClauses.add(clause);
-            queryParams.addAll(parameters);
+            queryParams.add(schema.getKey());
+            queryParams.add(getAttrValue(schema, attrValue, ignoreCaseMatch));
         });
 
+        LOG.debug("Generated where clauses {}", clauses);
+
         Query query = entityManager().createNativeQuery(
-                "SELECT DISTINCT id FROM " + table + " u WHERE id IN " + actualClauses.toString());
+                "SELECT DISTINCT id FROM " + table + " u WHERE id IN " + clauses);
         for (int i = 0; i < queryParams.size(); i++) {
             query.setParameter(i + 1, queryParams.get(i));
         }
 
-        return query.getResultList();
+        return ((List<Object>) query.getResultList()).stream().
+                map(Object::toString).collect(Collectors.toList());
     }
 
     @SuppressWarnings("unchecked")
     @Transactional(readOnly = true)
     @Override
-    public <A extends Any<?>> List<A> findByDerAttrValue(
+    public List<Pair<String, String>> findPlainAttrValues(
             final String table,
             final AnyUtils anyUtils,
-            final DerSchema derSchema,
-            final String value,
-            final boolean ignoreCaseMatch) {
-
-        if (derSchema == null) {
-            LOG.error("No DerSchema");
-            return List.of();
-        }
-
-        Parser parser = new Parser(derSchema.getExpression());
-
-        // Schema keys
-        List<String> identifiers = new ArrayList<>();
-
-        // Literals
-        List<String> literals = new ArrayList<>();
-
-        // Get schema keys and literals
-        for (Token token = parser.getNextToken(); token != null && StringUtils.isNotBlank(token.toString());
-                token = parser.getNextToken()) {
-
-            if (token.kind == ParserConstants.STRING_LITERAL) {
-                literals.add(token.toString().substring(1, token.toString().length() - 1));
-            }
-
-            if (token.kind == ParserConstants.IDENTIFIER) {
-                identifiers.add(token.toString());
-            }
-        }
-
-        // Sort literals in order to process later literals included into others
-        literals.sort((l1, l2) -> {
-            if (l1 == null && l2 == null) {
-                return 0;
-            } else if (l1 != null && l2 == null) {
-                return -1;
-            } else if (l1 == null) {
-                return 1;
-            } else if (l1.length() == l2.length()) {
-                return 0;
-            } else if (l1.length() > l2.length()) {
-                return -1;
-            } else {
-                return 1;
-            }
-        });
-
-        // Split value on provided literals
-        List<String> attrValues = split(value, literals);
-
-        if (attrValues.size() != identifiers.size()) {
-            LOG.error("Ambiguous JEXL expression resolution: literals and values have different size");
-            return List.of();
-        }
-
-        Map<String, List<Object>> clauses = new LinkedHashMap<>();
-
-        // builder to build the clauses
-        StringBuilder bld = new StringBuilder();
-
-        // Contains used identifiers in order to avoid replications
-        Set<String> used = new HashSet<>();
-
-        // Create several clauses: one for eanch identifiers
-        for (int i = 0; i < identifiers.size(); i++) {
-            if (!used.contains(identifiers.get(i))) {
-                // verify schema existence and get schema type
-                PlainSchema schema = plainSchemaDAO.find(identifiers.get(i));
-                if (schema == null) {
-                    LOG.error("Invalid schema '{}', ignoring", identifiers.get(i));
-                } else {
-                    // clear builder
-                    bld.delete(0, bld.length());
-
-                    PlainAttrValue attrValue;
-                    if (schema.isUniqueConstraint()) {
-                        attrValue = anyUtils.newPlainAttrUniqueValue();
-                    } else {
-                        attrValue = anyUtils.newPlainAttrValue();
-                    }
-                    attrValue.setStringValue(attrValues.get(i));
-
-                    bld.append('(').
-                            append(queryBegin(table)).
-                            append("WHERE ").
-                            append(attrValueMatch(anyUtils, schema, attrValue, ignoreCaseMatch)).
-                            append(')');
-
-                    used.add(identifiers.get(i));
-
-                    List<Object> queryParams = new ArrayList<>();
-                    queryParams.add(schema.getKey());
-                    queryParams.add(getAttrValue(schema, attrValue, ignoreCaseMatch));
-
-                    clauses.put(bld.toString(), queryParams);
-                }
-            }
-        }
+            final PlainSchema schema,
+            final int max) {
 
-        LOG.debug("Generated where clauses {}", clauses);
+        Query query = entityManager().createNativeQuery(plainAttrValuesQuery(table, schema));
+        query.setParameter(1, schema.getKey());
+        query.setMaxResults(max);
 
-        return buildResult(anyUtils, findByDerAttrValue(table, clauses));
+        return ((List<Object[]>) query.getResultList()).stream().
+                map(row -> Pair.of(row[0].toString(), row[1].toString())).collect(Collectors.toList());
     }
 
     @Transactional
@@ -33,9 +33,10 @@ abstract class AbstractJPAJSONPlainSchemaDAO extends JPAPlainSchemaDAO {
     protected AbstractJPAJSONPlainSchemaDAO(
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrDAO plainAttrDAO,
-            final ExternalResourceDAO resourceDAO) {
+            final ExternalResourceDAO resourceDAO,
+            final SearchCondCache searchCondCache) {
 
-        super(anyUtilsFactory, plainAttrDAO, resourceDAO);
+        super(anyUtilsFactory, plainAttrDAO, resourceDAO, searchCondCache);
     }
 
     @Override
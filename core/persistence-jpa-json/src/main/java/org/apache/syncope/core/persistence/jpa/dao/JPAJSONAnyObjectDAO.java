@@ -19,9 +19,11 @@
 package org.apache.syncope.core.persistence.jpa.dao;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.openjpa.persistence.FetchPlan;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.DynRealmDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
@@ -29,11 +31,11 @@ import org.apache.syncope.core.persistence.api.dao.JPAJSONAnyDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
-import org.apache.syncope.core.persistence.api.entity.DerSchema;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrUniqueValue;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
+import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAnyObject;
 import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAJSONAnyObject;
 
 public class JPAJSONAnyObjectDAO extends JPAAnyObjectDAO {
@@ -53,6 +55,12 @@ public class JPAJSONAnyObjectDAO extends JPAAnyObjectDAO {
         this.anyDAO = anyDAO;
     }
 
+    @Override
+    protected void addPrefetchFields(final FetchPlan fetchPlan) {
+        fetchPlan.addField(JPAAnyObject.class, "memberships");
+        fetchPlan.addField(JPAAnyObject.class, "relationships");
+    }
+
     @Override
     public List<AnyObject> findByPlainAttrValue(
             final PlainSchema schema,
@@ -74,12 +82,16 @@ public class JPAJSONAnyObjectDAO extends JPAAnyObjectDAO {
     }
 
     @Override
-    public List<AnyObject> findByDerAttrValue(
-            final DerSchema schema,
-            final String value,
+    protected List<String> findKeysByPlainAttrValues(
+            final Map<PlainSchema, String> values,
             final boolean ignoreCaseMatch) {
 
-        return anyDAO.findByDerAttrValue(JPAJSONAnyObject.TABLE, anyUtils(), schema, value, ignoreCaseMatch);
+        return anyDAO.findKeysByPlainAttrValues(JPAJSONAnyObject.TABLE, anyUtils(), values, ignoreCaseMatch);
+    }
+
+    @Override
+    public List<Pair<String, String>> findPlainAttrValues(final PlainSchema schema, final int max) {
+        return anyDAO.findPlainAttrValues(JPAJSONAnyObject.TABLE, anyUtils(), schema, max);
     }
 
     @Override
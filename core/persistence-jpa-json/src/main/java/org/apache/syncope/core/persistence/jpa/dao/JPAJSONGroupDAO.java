@@ -19,7 +19,10 @@
 package org.apache.syncope.core.persistence.jpa.dao;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.openjpa.persistence.FetchPlan;
 import org.apache.syncope.core.persistence.api.dao.AnyMatchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
@@ -30,7 +33,6 @@ import org.apache.syncope.core.persistence.api.dao.PlainAttrDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
-import org.apache.syncope.core.persistence.api.entity.DerSchema;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrUniqueValue;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
@@ -55,6 +57,7 @@ public class JPAJSONGroupDAO extends JPAGroupDAO {
             final AnyObjectDAO anyObjectDAO,
             final AnySearchDAO searchDAO,
             final SearchCondVisitor searchCondVisitor,
+            final SearchCondCache searchCondCache,
             final JPAJSONAnyDAO anyDAO) {
 
         super(anyUtilsFactory,
@@ -67,10 +70,16 @@ public class JPAJSONGroupDAO extends JPAGroupDAO {
                 userDAO,
                 anyObjectDAO,
                 searchDAO,
-                searchCondVisitor);
+                searchCondVisitor,
+                searchCondCache);
         this.anyDAO = anyDAO;
     }
 
+    @Override
+    protected void addPrefetchFields(final FetchPlan fetchPlan) {
+        // plain attributes are stored along with groups
+    }
+
     @Override
     public List<Group> findByPlainAttrValue(
             final PlainSchema schema,
@@ -92,12 +101,16 @@ public class JPAJSONGroupDAO extends JPAGroupDAO {
     }
 
     @Override
-    public List<Group> findByDerAttrValue(
-            final DerSchema schema,
-            final String value,
+    protected List<String> findKeysByPlainAttrValues(
+            final Map<PlainSchema, String> values,
             final boolean ignoreCaseMatch) {
 
-        return anyDAO.findByDerAttrValue(JPAGroup.TABLE, anyUtils(), schema, value, ignoreCaseMatch);
+        return anyDAO.findKeysByPlainAttrValues(JPAGroup.TABLE, anyUtils(), values, ignoreCaseMatch);
+    }
+
+    @Override
+    public List<Pair<String, String>> findPlainAttrValues(final PlainSchema schema, final int max) {
+        return anyDAO.findPlainAttrValues(JPAGroup.TABLE, anyUtils(), schema, max);
     }
 
     @Override
@@ -19,9 +19,11 @@
 package org.apache.syncope.core.persistence.jpa.dao;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.openjpa.persistence.FetchPlan;
 import org.apache.syncope.core.persistence.api.dao.AccessTokenDAO;
 import org.apache.syncope.core.persistence.api.dao.DelegationDAO;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
@@ -32,12 +34,12 @@ import org.apache.syncope.core.persistence.api.dao.JPAJSONAnyDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.RoleDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
-import org.apache.syncope.core.persistence.api.entity.DerSchema;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrUniqueValue;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAJSONUser;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
 import org.apache.syncope.core.spring.security.SecurityProperties;
 
 public class JPAJSONUserDAO extends JPAUserDAO {
@@ -70,6 +72,13 @@ public class JPAJSONUserDAO extends JPAUserDAO {
         this.anyDAO = anyDAO;
     }
 
+    @Override
+    protected void addPrefetchFields(final FetchPlan fetchPlan) {
+        fetchPlan.addField(JPAUser.class, "memberships");
+        fetchPlan.addField(JPAUser.class, "relationships");
+        fetchPlan.addField(JPAUser.class, "linkedAccounts");
+    }
+
     @Override
     public List<User> findByPlainAttrValue(
             final PlainSchema schema,
@@ -91,12 +100,16 @@ public class JPAJSONUserDAO extends JPAUserDAO {
     }
 
     @Override
-    public List<User> findByDerAttrValue(
-            final DerSchema schema,
-            final String value,
+    protected List<String> findKeysByPlainAttrValues(
+            final Map<PlainSchema, String> values,
             final boolean ignoreCaseMatch) {
 
-        return anyDAO.findByDerAttrValue(JPAJSONUser.TABLE, anyUtils(), schema, value, ignoreCaseMatch);
+        return anyDAO.findKeysByPlainAttrValues(JPAJSONUser.TABLE, anyUtils(), values, ignoreCaseMatch);
+    }
+
+    @Override
+    public List<Pair<String, String>> findPlainAttrValues(final PlainSchema schema, final int max) {
+        return anyDAO.findPlainAttrValues(JPAJSONUser.TABLE, anyUtils(), schema, max);
     }
 
     @Override
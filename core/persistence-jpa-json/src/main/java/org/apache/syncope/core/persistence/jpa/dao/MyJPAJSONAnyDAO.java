@@ -40,6 +40,15 @@ public class MyJPAJSONAnyDAO extends AbstractJPAJSONAnyDAO {
         return "SELECT DISTINCT id FROM " + view(table) + ' ';
     }
 
+    @Override
+    protected String plainAttrValuesQuery(final String table, final PlainSchema schema) {
+        String value = schema.isUniqueConstraint()
+                ? "attrUniqueValue ->> '$.stringValue'"
+                : "stringValue";
+        return "SELECT " + value + ", id FROM " + view(table) + ' '
+                + "WHERE plainSchema = ? AND " + value + " IS NOT NULL";
+    }
+
     @Override
     protected String attrValueMatch(
             final AnyUtils anyUtils,
@@ -27,6 +27,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.DynRealmDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
@@ -54,6 +55,7 @@ public class MyJPAJSONAnySearchDAO extends JPAAnySearchDAO {
             final GroupDAO groupDAO,
             final AnyObjectDAO anyObjectDAO,
             final PlainSchemaDAO schemaDAO,
+            final DerSchemaDAO derSchemaDAO,
             final EntityFactory entityFactory,
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator) {
@@ -65,6 +67,7 @@ public class MyJPAJSONAnySearchDAO extends JPAAnySearchDAO {
                 groupDAO,
                 anyObjectDAO,
                 schemaDAO,
+                derSchemaDAO,
                 entityFactory,
                 anyUtilsFactory,
                 validator);
@@ -145,6 +148,8 @@ public class MyJPAJSONAnySearchDAO extends JPAAnySearchDAO {
                 + " AS " + fieldName;
         item.where = "plainSchema = '" + fieldName + '\'';
         item.orderBy = fieldName + ' ' + clause.getDirection().name();
+        // unique values are JSON, hence not comparable as such
+        item.column = schema.isUniqueConstraint() ? null : svs.field().alias + '.' + key(schema.getType());
     }
 
     protected void fillAttrQuery(
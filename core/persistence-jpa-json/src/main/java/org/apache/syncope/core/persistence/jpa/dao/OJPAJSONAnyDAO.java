@@ -38,6 +38,15 @@ public class OJPAJSONAnyDAO extends AbstractJPAJSONAnyDAO {
         return "SELECT DISTINCT id FROM " + view(table) + ' ';
     }
 
+    @Override
+    protected String plainAttrValuesQuery(final String table, final PlainSchema schema) {
+        String value = schema.isUniqueConstraint()
+                ? "ustringValue"
+                : "JSON_VALUE(stringValue, '$[*]')";
+        return "SELECT " + value + ", id FROM " + view(table) + ' '
+                + "WHERE plainSchema = ? AND " + value + " IS NOT NULL";
+    }
+
     @Override
     protected Object getAttrValue(
             final PlainSchema schema,
@@ -42,6 +42,17 @@ public class PGJPAJSONAnyDAO extends AbstractJPAJSONAnyDAO {
                 + "jsonb_array_elements(COALESCE(attrs -> 'values', '[{}]'::jsonb)) attrValues ";
     }
 
+    @Override
+    protected String plainAttrValuesQuery(final String table, final PlainSchema schema) {
+        String value = schema.isUniqueConstraint()
+                ? "attrs -> 'uniqueValue' ->> 'stringValue'"
+                : "attrValues ->> 'stringValue'";
+        return "SELECT " + value + ", u.id FROM " + table + " u,"
+                + "jsonb_array_elements(u.plainAttrs) attrs,"
+                + "jsonb_array_elements(COALESCE(attrs -> 'values', '[{}]'::jsonb)) attrValues "
+                + "WHERE attrs ->> 'schema' = ? AND " + value + " IS NOT NULL";
+    }
+
     @Override
     protected String attrValueMatch(
             final AnyUtils anyUtils,
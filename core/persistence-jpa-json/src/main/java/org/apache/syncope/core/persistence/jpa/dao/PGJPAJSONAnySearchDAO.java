@@ -28,13 +28,13 @@ import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
-import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.common.rest.api.service.JAXRSService;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.DynRealmDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
@@ -54,7 +54,6 @@ import org.apache.syncope.core.persistence.api.dao.search.RelationshipTypeCond;
 import org.apache.syncope.core.persistence.api.dao.search.ResourceCond;
 import org.apache.syncope.core.persistence.api.dao.search.RoleCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
-import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
@@ -89,6 +88,7 @@ public class PGJPAJSONAnySearchDAO extends JPAAnySearchDAO {
             final GroupDAO groupDAO,
             final AnyObjectDAO anyObjectDAO,
             final PlainSchemaDAO schemaDAO,
+            final DerSchemaDAO derSchemaDAO,
             final EntityFactory entityFactory,
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator) {
@@ -100,6 +100,7 @@ public class PGJPAJSONAnySearchDAO extends JPAAnySearchDAO {
                 groupDAO,
                 anyObjectDAO,
                 schemaDAO,
+                derSchemaDAO,
                 entityFactory,
                 anyUtilsFactory,
                 validator);
@@ -134,6 +135,7 @@ public class PGJPAJSONAnySearchDAO extends JPAAnySearchDAO {
         item.select = svs.table().alias + '.' + fieldName;
         item.where = StringUtils.EMPTY;
         item.orderBy = svs.table().alias + '.' + fieldName + ' ' + clause.getDirection().name();
+        item.column = svs.table().alias + '.' + fieldName;
     }
 
     protected void fillAttrQuery(
@@ -677,66 +679,59 @@ public class PGJPAJSONAnySearchDAO extends JPAAnySearchDAO {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
-    protected <T extends Any<?>> List<T> doSearch(
+    protected Query buildSearchQuery(
             final Realm base,
             final boolean recursive,
             final Set<String> adminRealms,
             final SearchCond cond,
-            final int page,
-            final int itemsPerPage,
             final List<OrderByClause> orderBy,
-            final AnyTypeKind kind) {
-
-        try {
-            List<Object> parameters = new ArrayList<>();
-
-            SearchSupport svs = buildSearchSupport(kind);
+            final AnyTypeKind kind,
+            final List<Object> after) {
 
-            Triple<String, Set<String>, Set<String>> filter =
-                    getAdminRealmsFilter(base, recursive, adminRealms, svs, parameters);
-
-            SearchCond effectiveCond = buildEffectiveCond(cond, filter.getMiddle(), filter.getRight(), kind);
+        List<Object> parameters = new ArrayList<>();
 
-            // 1. get the query string from the search condition
-            Pair<StringBuilder, Set<String>> queryInfo = getQuery(effectiveCond, parameters, svs);
+        SearchSupport svs = buildSearchSupport(kind);
 
-            // 2. take into account realms and ordering
-            OrderBySupport obs = parseOrderBy(svs, orderBy);
+        Triple<String, Set<String>, Set<String>> filter =
+                getAdminRealmsFilter(base, recursive, adminRealms, svs, parameters);
 
-            StringBuilder queryString = new StringBuilder("SELECT ").append(svs.table().alias).append(".id");
-            obs.items.forEach(item -> queryString.append(',').append(item.select));
+        SearchCond effectiveCond = buildEffectiveCond(cond, filter.getMiddle(), filter.getRight(), kind);
 
-            buildFromAndWhere(queryString, queryInfo, filter.getLeft(), svs, obs);
+        // 1. get the query string from the search condition
+        Pair<StringBuilder, Set<String>> queryInfo = getQuery(effectiveCond, parameters, svs);
 
-            LOG.debug("Query: {}, parameters: {}", queryString, parameters);
+        // 2. take into account realms and ordering
+        OrderBySupport obs = parseOrderBy(svs, orderBy);
 
-            queryString.append(buildOrderBy(obs));
+        StringBuilder queryString = new StringBuilder("SELECT ").append(svs.table().alias).append(".id");
+        obs.items.forEach(item -> queryString.append(',').append(item.select));
+        if (after != null) {
+            queryString.append(buildNullMarkers(obs));
+        }
 
-            LOG.debug("Query with auth and order by statements: {}, parameters: {}", queryString, parameters);
+        String keyColumn = svs.table().alias + ".id";
+        buildFromAndWhere(
+                queryString,
+                queryInfo,
+                after == null || after.isEmpty()
+                ? filter.getLeft()
+                : filter.getLeft() + " AND " + buildSeekCond(obs, keyColumn, after, parameters),
+                svs,
+                obs);
 
-            // 3. prepare the search query
-            Query query = entityManager().createNativeQuery(queryString.toString());
+        LOG.debug("Query: {}, parameters: {}", queryString, parameters);
 
-            // 4. page starts from 1, while setFirtResult() starts from 0
-            query.setFirstResult(itemsPerPage * (page <= 0 ? 0 : page - 1));
+        queryString.append(buildOrderBy(obs, keyColumn, after != null));
 
-            if (itemsPerPage >= 0) {
-                query.setMaxResults(itemsPerPage);
-            }
+        LOG.debug("Query with auth and order by statements: {}, parameters: {}", queryString, parameters);
 
-            // 5. populate the search query with parameter values
-            fillWithParameters(query, parameters);
+        // 3. prepare the search query
+        Query query = entityManager().createNativeQuery(queryString.toString());
 
-            // 6. Prepare the result (avoiding duplicates)
-            return buildResult(query.getResultList(), kind);
-        } catch (SyncopeClientException e) {
-            throw e;
-        } catch (Exception e) {
-            LOG.error("While searching for {}", kind, e);
-        }
+        // 4. populate the search query with parameter values
+        fillWithParameters(query, parameters);
 
-        return List.of();
+        return query;
     }
 
     @Override
@@ -30,9 +30,10 @@ public class PGJPAJSONPlainSchemaDAO extends AbstractJPAJSONPlainSchemaDAO {
     public PGJPAJSONPlainSchemaDAO(
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrDAO plainAttrDAO,
-            final ExternalResourceDAO resourceDAO) {
+            final ExternalResourceDAO resourceDAO,
+            final SearchCondCache searchCondCache) {
 
-        super(anyUtilsFactory, plainAttrDAO, resourceDAO);
+        super(anyUtilsFactory, plainAttrDAO, resourceDAO, searchCondCache);
     }
 
     @Override
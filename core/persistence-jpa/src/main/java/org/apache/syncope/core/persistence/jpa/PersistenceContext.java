@@ -133,14 +133,19 @@ import org.apache.syncope.core.persistence.jpa.dao.JPATaskExecDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPAUserDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPAVirSchemaDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPAWAConfigDAO;
+import org.apache.syncope.core.persistence.jpa.dao.SearchCondCache;
 import org.apache.syncope.core.persistence.jpa.entity.JPAAnyUtilsFactory;
 import org.apache.syncope.core.persistence.jpa.entity.JPAEntityFactory;
 import org.apache.syncope.core.persistence.jpa.entity.am.JPAClientAppUtilsFactory;
 import org.apache.syncope.core.persistence.jpa.entity.policy.JPAPolicyUtilsFactory;
 import org.apache.syncope.core.persistence.jpa.entity.task.JPATaskUtilsFactory;
+import org.apache.syncope.core.persistence.jpa.openjpa.SearchCondCacheRemoteCommitListener;
+import org.apache.syncope.core.persistence.jpa.openjpa.SecurityCacheRemoteCommitListener;
 import org.apache.syncope.core.persistence.jpa.spring.CommonEntityManagerFactoryConf;
 import org.apache.syncope.core.persistence.jpa.spring.DomainTransactionInterceptorInjector;
 import org.apache.syncope.core.persistence.jpa.spring.MultiJarAwarePersistenceUnitPostProcessor;
+import org.apache.syncope.core.spring.security.AuthoritiesCache;
+import org.apache.syncope.core.spring.security.JWTAuthenticationCache;
 import org.apache.syncope.core.spring.security.SecurityProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -173,6 +178,15 @@ public class PersistenceContext {
         return new SearchCondVisitor();
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public SearchCondCache searchCondCache(
+            final PersistenceProperties persistenceProperties,
+            final SearchCondVisitor searchCondVisitor) {
+
+        return new SearchCondCache(searchCondVisitor, persistenceProperties.getSearchCondCacheSpec());
+    }
+
     @Bean
     public Validator localValidatorFactoryBean() {
         return new LocalValidatorFactoryBean();
@@ -186,7 +200,12 @@ public class PersistenceContext {
 
     @ConditionalOnMissingBean
     @Bean
-    public CommonEntityManagerFactoryConf commonEMFConf(final PersistenceProperties persistenceProperties) {
+    public CommonEntityManagerFactoryConf commonEMFConf(
+            final PersistenceProperties persistenceProperties,
+            final JWTAuthenticationCache jwtAuthenticationCache,
+            final AuthoritiesCache authoritiesCache,
+            final SearchCondCache searchCondCache) {
+
         CommonEntityManagerFactoryConf commonEMFConf = new CommonEntityManagerFactoryConf();
         commonEMFConf.setPackagesToScan("org.apache.syncope.core.persistence.jpa.entity");
         commonEMFConf.setValidationMode(ValidationMode.NONE);
@@ -214,6 +233,12 @@ public class PersistenceContext {
         jpaPropertyMap.put("openjpa.RemoteCommitProvider", persistenceProperties.getRemoteCommitProvider());
 
         commonEMFConf.setJpaPropertyMap(jpaPropertyMap);
+
+        commonEMFConf.getRemoteCommitListeners().
+                add(domain -> new SecurityCacheRemoteCommitListener(domain, jwtAuthenticationCache, authoritiesCache));
+        commonEMFConf.getRemoteCommitListeners().
+                add(domain -> new SearchCondCacheRemoteCommitListener(domain, searchCondCache));
+
         return commonEMFConf;
     }
 
@@ -318,8 +343,8 @@ public class PersistenceContext {
 
     @ConditionalOnMissingBean
     @Bean
-    public AccessTokenDAO accessTokenDAO() {
-        return new JPAAccessTokenDAO();
+    public AccessTokenDAO accessTokenDAO(final JWTAuthenticationCache jwtAuthenticationCache) {
+        return new JPAAccessTokenDAO(jwtAuthenticationCache);
     }
 
     @ConditionalOnMissingBean
@@ -337,7 +362,8 @@ public class PersistenceContext {
             final RealmDAO realmDAO,
             final PlainSchemaDAO plainSchemaDAO,
             final AnyUtilsFactory anyUtilsFactory,
-            final PlainAttrValidationManager validator) {
+            final PlainAttrValidationManager validator,
+            final SearchCondCache searchCondCache) {
 
         return new JPAAnyMatchDAO(
                 userDAO,
@@ -346,7 +372,8 @@ public class PersistenceContext {
                 realmDAO,
                 plainSchemaDAO,
                 anyUtilsFactory,
-                validator);
+                validator,
+                searchCondCache);
     }
 
     @ConditionalOnMissingBean
@@ -377,6 +404,7 @@ public class PersistenceContext {
             final @Lazy GroupDAO groupDAO,
             final @Lazy AnyObjectDAO anyObjectDAO,
             final PlainSchemaDAO schemaDAO,
+            final DerSchemaDAO derSchemaDAO,
             final EntityFactory entityFactory,
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator) {
@@ -388,6 +416,7 @@ public class PersistenceContext {
                 groupDAO,
                 anyObjectDAO,
                 schemaDAO,
+                derSchemaDAO,
                 entityFactory,
                 anyUtilsFactory,
                 validator);
@@ -456,8 +485,11 @@ public class PersistenceContext {
 
     @ConditionalOnMissingBean
     @Bean
-    public DelegationDAO delegationDAO() {
-        return new JPADelegationDAO();
+    public DelegationDAO delegationDAO(
+            final JWTAuthenticationCache jwtAuthenticationCache,
+            final AuthoritiesCache authoritiesCache) {
+
+        return new JPADelegationDAO(jwtAuthenticationCache, authoritiesCache);
     }
 
     @ConditionalOnMissingBean
@@ -475,13 +507,16 @@ public class PersistenceContext {
     @ConditionalOnMissingBean
     @Bean
     public DynRealmDAO dynRealmDAO(
+            final PersistenceProperties persistenceProperties,
             final ApplicationEventPublisher publisher,
             final @Lazy UserDAO userDAO,
             final @Lazy GroupDAO groupDAO,
             final @Lazy AnyObjectDAO anyObjectDAO,
             final AnySearchDAO searchDAO,
             final AnyMatchDAO anyMatchDAO,
-            final SearchCondVisitor searchCondVisitor) {
+            final SearchCondVisitor searchCondVisitor,
+            final SearchCondCache searchCondCache,
+            final AuthoritiesCache authoritiesCache) {
 
         return new JPADynRealmDAO(
                 publisher,
@@ -490,7 +525,10 @@ public class PersistenceContext {
                 anyObjectDAO,
                 searchDAO,
                 anyMatchDAO,
-                searchCondVisitor);
+                searchCondVisitor,
+                searchCondCache,
+                persistenceProperties.isDeferDynRealmRefresh(),
+                authoritiesCache);
     }
 
     @ConditionalOnMissingBean
@@ -506,7 +544,8 @@ public class PersistenceContext {
             final @Lazy UserDAO userDAO,
             final @Lazy AnyObjectDAO anyObjectDAO,
             final AnySearchDAO anySearchDAO,
-            final SearchCondVisitor searchCondVisitor) {
+            final SearchCondVisitor searchCondVisitor,
+            final SearchCondCache searchCondCache) {
 
         return new JPAGroupDAO(
                 anyUtilsFactory,
@@ -519,7 +558,8 @@ public class PersistenceContext {
                 userDAO,
                 anyObjectDAO,
                 anySearchDAO,
-                searchCondVisitor);
+                searchCondVisitor,
+                searchCondCache);
     }
 
     @ConditionalOnMissingBean
@@ -578,9 +618,10 @@ public class PersistenceContext {
     public PlainSchemaDAO plainSchemaDAO(
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrDAO plainAttrDAO,
-            final @Lazy ExternalResourceDAO resourceDAO) {
+            final @Lazy ExternalResourceDAO resourceDAO,
+            final SearchCondCache searchCondCache) {
 
-        return new JPAPlainSchemaDAO(anyUtilsFactory, plainAttrDAO, resourceDAO);
+        return new JPAPlainSchemaDAO(anyUtilsFactory, plainAttrDAO, resourceDAO, searchCondCache);
     }
 
     @ConditionalOnMissingBean
@@ -604,8 +645,8 @@ public class PersistenceContext {
 
     @ConditionalOnMissingBean
     @Bean
-    public RealmDAO realmDAO(final @Lazy RoleDAO roleDAO) {
-        return new JPARealmDAO(roleDAO);
+    public RealmDAO realmDAO(final @Lazy RoleDAO roleDAO, final AuthoritiesCache authoritiesCache) {
+        return new JPARealmDAO(roleDAO, authoritiesCache);
     }
 
     @ConditionalOnMissingBean
@@ -653,9 +694,18 @@ public class PersistenceContext {
             final @Lazy AnyMatchDAO anyMatchDAO,
             final @Lazy AnySearchDAO anySearchDAO,
             final DelegationDAO delegationDAO,
-            final SearchCondVisitor searchCondVisitor) {
+            final SearchCondVisitor searchCondVisitor,
+            final SearchCondCache searchCondCache,
+            final AuthoritiesCache authoritiesCache) {
 
-        return new JPARoleDAO(anyMatchDAO, publisher, anySearchDAO, delegationDAO, searchCondVisitor);
+        return new JPARoleDAO(
+                anyMatchDAO,
+                publisher,
+                anySearchDAO,
+                delegationDAO,
+                searchCondVisitor,
+                searchCondCache,
+                authoritiesCache);
     }
 
     @ConditionalOnMissingBean
@@ -34,6 +34,10 @@ public class PersistenceProperties {
 
     private String indexesXML = "classpath:indexes.xml";
 
+    private String searchCondCacheSpec = "maximumSize=5000,expireAfterAccess=1h";
+
+    private boolean deferDynRealmRefresh;
+
     @NestedConfigurationProperty
     private final List<DomainProperties> domain = new ArrayList<>();
 
@@ -69,6 +73,22 @@ public class PersistenceProperties {
         this.indexesXML = indexesXML;
     }
 
+    public String getSearchCondCacheSpec() {
+        return searchCondCacheSpec;
+    }
+
+    public void setSearchCondCacheSpec(final String searchCondCacheSpec) {
+        this.searchCondCacheSpec = searchCondCacheSpec;
+    }
+
+    public boolean isDeferDynRealmRefresh() {
+        return deferDynRealmRefresh;
+    }
+
+    public void setDeferDynRealmRefresh(final boolean deferDynRealmRefresh) {
+        this.deferDynRealmRefresh = deferDynRealmRefresh;
+    }
+
     public List<DomainProperties> getDomain() {
         return domain;
     }
@@ -20,6 +20,7 @@ package org.apache.syncope.core.persistence.jpa.dao;
 
 import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
+import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -29,16 +30,20 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Pattern;
-import org.apache.commons.jexl3.parser.Parser;
-import org.apache.commons.jexl3.parser.ParserConstants;
-import org.apache.commons.jexl3.parser.Token;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.openjpa.persistence.FetchPlan;
 import org.apache.openjpa.persistence.OpenJPAPersistence;
+import org.apache.openjpa.persistence.jdbc.FetchMode;
+import org.apache.openjpa.persistence.jdbc.JDBCFetchPlan;
+import org.apache.syncope.core.persistence.api.attrvalue.validation.ParsingValidationException;
 import org.apache.syncope.core.persistence.api.dao.AllowedSchemas;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
@@ -101,11 +106,27 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
         return anyUtils;
     }
 
-    @SuppressWarnings("unchecked")
     protected List<String> findAllKeys(final String table, final int page, final int itemsPerPage) {
+        return findAllKeys(table, null, itemsPerPage * (page <= 0 ? 0 : page - 1), itemsPerPage);
+    }
+
+    protected List<String> findAllKeys(final String table, final String lastKey, final int itemsPerPage) {
+        return findAllKeys(table, lastKey, 0, itemsPerPage);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected List<String> findAllKeys(
+            final String table,
+            final String lastKey,
+            final int firstResult,
+            final int itemsPerPage) {
+
         Query query = entityManager().createNativeQuery(
-                "SELECT id FROM " + table + " ORDER BY id", String.class);
-        query.setFirstResult(itemsPerPage * (page <= 0 ? 0 : page - 1));
+                "SELECT id FROM " + table + (lastKey == null ? "" : " WHERE id > ?") + " ORDER BY id", String.class);
+        if (lastKey != null) {
+            query.setParameter(1, lastKey);
+        }
+        query.setFirstResult(firstResult);
         query.setMaxResults(itemsPerPage);
 
         List<String> result = new ArrayList<>();
@@ -150,6 +171,64 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
         return query.getResultList();
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public List<Pair<String, String>> findFieldValues(final String field, final int max) {
+        if (anyUtils().getField(field) == null) {
+            throw new IllegalArgumentException("Invalid field: " + field);
+        }
+
+        TypedQuery<Object[]> query = entityManager().createQuery(
+                "SELECT e." + field + ", e.id FROM " + anyUtils().anyClass().getSimpleName() + " e "
+                + "WHERE e." + field + " IS NOT NULL", Object[].class);
+        query.setMaxResults(max);
+        return query.getResultList().stream().
+                map(row -> Pair.of(row[0].toString(), row[1].toString())).collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<Pair<String, String>> findPlainAttrValues(final PlainSchema schema, final int max) {
+        String entityName = schema.isUniqueConstraint()
+                ? anyUtils().plainAttrUniqueValueClass().getName()
+                : anyUtils().plainAttrValueClass().getName();
+        TypedQuery<Object[]> query = entityManager().createQuery(
+                "SELECT e.stringValue, e.attribute.owner.id FROM " + entityName + " e "
+                + "WHERE e.attribute.schema.id = :schemaKey AND e.stringValue IS NOT NULL", Object[].class);
+        query.setParameter("schemaKey", schema.getKey());
+        query.setMaxResults(max);
+        return query.getResultList().stream().
+                map(row -> Pair.of(row[0].toString(), row[1].toString())).collect(Collectors.toList());
+    }
+
+    /**
+     * Adds to the given fetch plan the associations to be loaded by {@link #prefetch(List)}.
+     *
+     * @param fetchPlan fetch plan
+     */
+    protected abstract void addPrefetchFields(FetchPlan fetchPlan);
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<A> prefetch(final List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        Class<A> entityClass = anyUtils().anyClass();
+        TypedQuery<A> query = entityManager().createQuery(
+                "SELECT e FROM " + entityClass.getSimpleName() + " e WHERE e.id IN (:keys)", entityClass);
+        query.setParameter("keys", keys);
+
+        // each association is loaded for all results at once, rather than one any at a time
+        JDBCFetchPlan fetchPlan = (JDBCFetchPlan) OpenJPAPersistence.cast(query).getFetchPlan();
+        fetchPlan.setEagerFetchMode(FetchMode.PARALLEL);
+        fetchPlan.setSubclassFetchMode(FetchMode.PARALLEL);
+        addPrefetchFields(fetchPlan);
+
+        return query.getResultList();
+    }
+
     @Transactional(readOnly = true)
     @Override
     public A authFind(final String key) {
@@ -249,146 +328,148 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
     }
 
     /**
-     * Split an attribute value recurring on provided literals/tokens.
+     * Finds the keys of anys holding all the given plain attribute values.
      *
-     * @param attrValue value to be split
-     * @param literals literals/tokens
-     * @return split value
+     * @param values plain schemas mapped to the value to match
+     * @param ignoreCaseMatch whether comparison for string values should take case into account or not
+     * @return keys of the matching anys
      */
-    private static List<String> split(final String attrValue, final List<String> literals) {
-        final List<String> attrValues = new ArrayList<>();
+    @SuppressWarnings("unchecked")
+    protected List<String> findKeysByPlainAttrValues(
+            final Map<PlainSchema, String> values,
+            final boolean ignoreCaseMatch) {
 
-        if (literals.isEmpty()) {
-            attrValues.add(attrValue);
-        } else {
-            for (String token : attrValue.split(Pattern.quote(literals.get(0)))) {
-                if (!token.isEmpty()) {
-                    attrValues.addAll(split(token, literals.subList(1, literals.size())));
-                }
+        // one join per plain schema, each bound to its own parameters
+        StringBuilder from = new StringBuilder();
+        StringBuilder where = new StringBuilder();
+        List<Object> parameters = new ArrayList<>();
+        for (Map.Entry<PlainSchema, String> entry : values.entrySet()) {
+            PlainSchema plainSchema = entry.getKey();
+
+            PlainAttrValue attrValue = plainSchema.isUniqueConstraint()
+                    ? anyUtils().newPlainAttrUniqueValue()
+                    : anyUtils().newPlainAttrValue();
+            try {
+                attrValue.parseValue(plainSchema, entry.getValue());
+            } catch (ParsingValidationException e) {
+                LOG.debug("Value '{}' not suitable for schema '{}'", entry.getValue(), plainSchema.getKey(), e);
+                return List.of();
             }
-        }
-
-        return attrValues;
-    }
-
-    private Set<String> getWhereClause(final String expression, final String value, final boolean ignoreCaseMatch) {
-        Parser parser = new Parser(expression);
-
-        // Schema keys
-        List<String> identifiers = new ArrayList<>();
 
-        // Literals
-        List<String> literals = new ArrayList<>();
-
-        // Get schema keys and literals
-        for (Token token = parser.getNextToken(); token != null && StringUtils.isNotBlank(token.toString());
-                token = parser.getNextToken()) {
-
-            if (token.kind == ParserConstants.STRING_LITERAL) {
-                literals.add(token.toString().substring(1, token.toString().length() - 1));
+            int i = parameters.size() / 2;
+            String attr = "a" + i;
+            String val = "v" + i;
+            if (i == 0) {
+                from.append(anyUtils().plainAttrClass().getSimpleName().substring(3)).append(' ').append(attr);
+            } else {
+                from.append(" JOIN ").append(anyUtils().plainAttrClass().getSimpleName().substring(3)).
+                        append(' ').append(attr).append(" ON ").append(attr).append(".owner_id = a0.owner_id");
+                where.append(" AND ");
             }
-
-            if (token.kind == ParserConstants.IDENTIFIER) {
-                identifiers.add(token.toString());
+            from.append(" JOIN ").append((plainSchema.isUniqueConstraint()
+                    ? anyUtils().plainAttrUniqueValueClass()
+                    : anyUtils().plainAttrValueClass()).getSimpleName().substring(3)).
+                    append(' ').append(val).append(" ON ").append(val).append(".attribute_id = ").append(attr).
+                    append(".id");
+
+            parameters.add(plainSchema.getKey());
+            where.append(attr).append(".schema_id = ?").append(parameters.size()).append(" AND ");
+
+            Object parameter = attrValue.getValue();
+            switch (plainSchema.getType()) {
+                case Boolean:
+                    parameters.add(((Boolean) parameter) ? 1 : 0);
+                    where.append(val).append(".booleanValue = ?").append(parameters.size());
+                    break;
+
+                case Long:
+                    parameters.add(parameter);
+                    where.append(val).append(".longValue = ?").append(parameters.size());
+                    break;
+
+                case Double:
+                    parameters.add(parameter);
+                    where.append(val).append(".doubleValue = ?").append(parameters.size());
+                    break;
+
+                case Date:
+                    parameters.add(parameter);
+                    where.append(val).append(".dateValue = ?").append(parameters.size());
+                    break;
+
+                default:
+                    if (ignoreCaseMatch) {
+                        parameters.add(attrValue.getStringValue().toLowerCase());
+                        where.append("LOWER(").append(val).append(".stringValue) = ?").append(parameters.size());
+                    } else {
+                        parameters.add(attrValue.getStringValue());
+                        where.append(val).append(".stringValue = ?").append(parameters.size());
+                    }
             }
         }
 
-        // Sort literals in order to process later literals included into others
-        literals.sort((l1, l2) -> {
-            if (l1 == null && l2 == null) {
-                return 0;
-            } else if (l1 != null && l2 == null) {
-                return -1;
-            } else if (l1 == null) {
-                return 1;
-            } else if (l1.length() == l2.length()) {
-                return 0;
-            } else if (l1.length() > l2.length()) {
-                return -1;
-            } else {
-                return 1;
-            }
-        });
+        String queryString = "SELECT DISTINCT a0.owner_id FROM " + from + " WHERE " + where;
+        LOG.debug("Generated query for derived attribute value: {}", queryString);
 
-        // Split value on provided literals
-        List<String> attrValues = split(value, literals);
-
-        if (attrValues.size() != identifiers.size()) {
-            LOG.error("Ambiguous JEXL expression resolution: literals and values have different size");
-            return Set.of();
+        Query query = entityManager().createNativeQuery(queryString);
+        for (int i = 0; i < parameters.size(); i++) {
+            query.setParameter(i + 1, parameters.get(i));
         }
 
-        // clauses to be used with INTERSECTed queries
-        Set<String> clauses = new HashSet<>();
-
-        // builder to build the clauses
-        StringBuilder bld = new StringBuilder();
-
-        // Contains used identifiers in order to avoid replications
-        Set<String> used = new HashSet<>();
-
-        // Create several clauses: one for each identifiers
-        for (int i = 0; i < identifiers.size(); i++) {
-            if (!used.contains(identifiers.get(i))) {
-                // verify schema existence and get schema type
-                PlainSchema schema = plainSchemaDAO.find(identifiers.get(i));
-                if (schema == null) {
-                    LOG.error("Invalid schema '{}', ignoring", identifiers.get(i));
-                } else {
-                    // clear builder
-                    bld.delete(0, bld.length());
-
-                    bld.append('(');
-
-                    // set schema key
-                    bld.append("s.id = '").append(identifiers.get(i)).append('\'');
-
-                    bld.append(" AND ");
-
-                    bld.append("s.id = a.schema_id").append(" AND ");
-
-                    bld.append("a.id = v.attribute_id");
-
-                    bld.append(" AND ");
-
-                    // use a value clause different for each different schema type
-                    switch (schema.getType()) {
-                        case Boolean:
-                            bld.append("v.booleanValue = '").append(attrValues.get(i)).append('\'');
-                            break;
-                        case Long:
-                            bld.append("v.longValue = ").append(attrValues.get(i));
-                            break;
-                        case Double:
-                            bld.append("v.doubleValue = ").append(attrValues.get(i));
-                            break;
-                        case Date:
-                            bld.append("v.dateValue = '").append(attrValues.get(i)).append('\'');
-                            break;
-                        default:
-                            if (ignoreCaseMatch) {
-                                bld.append("LOWER(v.stringValue) = '").
-                                        append(attrValues.get(i).toLowerCase()).append('\'');
-                            } else {
-                                bld.append("v.stringValue = '").
-                                        append(attrValues.get(i)).append('\'');
-                            }
-                    }
-
-                    bld.append(')');
+        return ((List<Object>) query.getResultList()).stream().
+                map(Object::toString).collect(Collectors.toList());
+    }
 
-                    used.add(identifiers.get(i));
+    /**
+     * Finds anys whose fields hold all the given values, among the given keys if provided.
+     *
+     * @param values field names mapped to the value to match
+     * @param keys keys to look among, or {@code null} to look among all anys
+     * @param ignoreCaseMatch whether comparison for string values should take case into account or not
+     * @return matching anys
+     */
+    protected List<A> findByFieldValues(
+            final Map<String, String> values,
+            final List<String> keys,
+            final boolean ignoreCaseMatch) {
 
-                    clauses.add(bld.toString());
-                }
+        StringJoiner where = new StringJoiner(" AND ");
+        List<String> fieldNames = new ArrayList<>();
+        for (String name : values.keySet()) {
+            Field field = anyUtils().getField(name);
+            if (!String.class.equals(field.getType())) {
+                LOG.error("Field '{}' is not a string, cannot match derived attribute values", name);
+                return List.of();
             }
-        }
 
-        LOG.debug("Generated where clauses {}", clauses);
+            where.add((ignoreCaseMatch ? "LOWER(e." + field.getName() + ')' : "e." + field.getName())
+                    + " = :f" + fieldNames.size());
+            fieldNames.add(name);
+        }
+        if (keys != null) {
+            where.add("e.id IN (:keys)");
+        }
+        Class<A> entityClass = anyUtils().anyClass();
+        String queryString = "SELECT e FROM " + entityClass.getSimpleName() + " e WHERE " + where;
 
-        return clauses;
+        List<A> result = new ArrayList<>();
+        int chunks = keys == null ? 1 : (keys.size() + DEFAULT_PAGE_SIZE - 1) / DEFAULT_PAGE_SIZE;
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            TypedQuery<A> query = entityManager().createQuery(queryString, entityClass);
+            for (int i = 0; i < fieldNames.size(); i++) {
+                String value = values.get(fieldNames.get(i));
+                query.setParameter("f" + i, ignoreCaseMatch ? value.toLowerCase() : value);
+            }
+            if (keys != null) {
+                query.setParameter("keys", keys.subList(
+                        chunk * DEFAULT_PAGE_SIZE, Math.min((chunk + 1) * DEFAULT_PAGE_SIZE, keys.size())));
+            }
+            result.addAll(query.getResultList());
+        }
+        return result;
     }
 
+    @Transactional(readOnly = true)
     @Override
     public List<A> findByDerAttrValue(final DerSchema schema, final String value, final boolean ignoreCaseMatch) {
         if (schema == null) {
@@ -396,40 +477,37 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
             return List.of();
         }
 
-        // query string
-        StringBuilder querystring = new StringBuilder();
+        Map<PlainSchema, String> plainValues = new LinkedHashMap<>();
+        Map<String, String> fieldValues = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry
+                : DerAttrValueParser.parse(schema.getExpression(), value).entrySet()) {
 
-        boolean subquery = false;
-        for (String clause : getWhereClause(schema.getExpression(), value, ignoreCaseMatch)) {
-            if (querystring.length() > 0) {
-                subquery = true;
-                querystring.append(" AND a.owner_id IN ( ");
-            }
-
-            querystring.append("SELECT a.owner_id ").
-                    append("FROM ").append(anyUtils().plainAttrClass().getSimpleName().substring(3)).append(" a, ").
-                    append(anyUtils().plainAttrValueClass().getSimpleName().substring(3)).append(" v, ").
-                    append(PlainSchema.class.getSimpleName()).append(" s ").
-                    append("WHERE ").append(clause);
-
-            if (subquery) {
-                querystring.append(')');
+            PlainSchema plainSchema = plainSchemaDAO.find(entry.getKey());
+            if (plainSchema != null) {
+                plainValues.put(plainSchema, entry.getValue());
+            } else if (anyUtils().getField(entry.getKey()) != null) {
+                fieldValues.put(entry.getKey(), entry.getValue());
+            } else {
+                LOG.error("Derived schema '{}' refers to '{}', which is neither a plain schema nor a field",
+                        schema.getKey(), entry.getKey());
+                return List.of();
             }
         }
+        if (plainValues.isEmpty() && fieldValues.isEmpty()) {
+            return List.of();
+        }
 
-        List<A> result = new ArrayList<>();
-        if (querystring.length() > 0) {
-            Query query = entityManager().createNativeQuery(querystring.toString());
-
-            for (Object anyKey : query.getResultList()) {
-                A any = find(anyKey.toString());
-                if (!result.contains(any)) {
-                    result.add(any);
-                }
+        List<String> keys = null;
+        if (!plainValues.isEmpty()) {
+            keys = findKeysByPlainAttrValues(plainValues, ignoreCaseMatch);
+            if (keys.isEmpty()) {
+                return List.of();
             }
         }
 
-        return result;
+        return fieldValues.isEmpty()
+                ? findByKeys(keys)
+                : findByFieldValues(fieldValues, keys, ignoreCaseMatch);
     }
 
     @SuppressWarnings("unchecked")
@@ -24,20 +24,27 @@ import jakarta.validation.constraints.Min;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
+import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
+import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.PlainAttrValidationManager;
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.DynRealmDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
@@ -55,6 +62,7 @@ import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.DerSchema;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
@@ -121,6 +129,8 @@ public abstract class AbstractAnySearchDAO extends AbstractDAO<Any<?>> implement
 
     protected final PlainSchemaDAO plainSchemaDAO;
 
+    protected final DerSchemaDAO derSchemaDAO;
+
     protected final EntityFactory entityFactory;
 
     protected final AnyUtilsFactory anyUtilsFactory;
@@ -134,6 +144,7 @@ public abstract class AbstractAnySearchDAO extends AbstractDAO<Any<?>> implement
             final GroupDAO groupDAO,
             final AnyObjectDAO anyObjectDAO,
             final PlainSchemaDAO plainSchemaDAO,
+            final DerSchemaDAO derSchemaDAO,
             final EntityFactory entityFactory,
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator) {
@@ -144,6 +155,7 @@ public abstract class AbstractAnySearchDAO extends AbstractDAO<Any<?>> implement
         this.groupDAO = groupDAO;
         this.anyObjectDAO = anyObjectDAO;
         this.plainSchemaDAO = plainSchemaDAO;
+        this.derSchemaDAO = derSchemaDAO;
         this.entityFactory = entityFactory;
         this.anyUtilsFactory = anyUtilsFactory;
         this.validator = validator;
@@ -171,7 +183,7 @@ public abstract class AbstractAnySearchDAO extends AbstractDAO<Any<?>> implement
             return 0;
         }
 
-        return doCount(base, recursive, adminRealms, cond, kind);
+        return doCount(base, recursive, adminRealms, resolveDerAttrConds(cond, kind), kind);
     }
 
     @Override
@@ -329,20 +341,145 @@ public abstract class AbstractAnySearchDAO extends AbstractDAO<Any<?>> implement
         return members;
     }
 
+    /**
+     * Loads the anys whose keys are returned by the given native query results, in batches of
+     * {@link AnyDAO#DEFAULT_PAGE_SIZE}; ordering is preserved and duplicate keys are skipped.
+     *
+     * @param raw native query results, either keys or rows with key as first column
+     * @param kind any type kind
+     * @param <T> any
+     * @return anys, in the same order as the given results
+     */
     @SuppressWarnings("unchecked")
-    protected <T extends Any<?>> List<T> buildResult(final List<Object> raw, final AnyTypeKind kind) {
-        List<String> keys = raw.stream().
-                map(key -> key instanceof Object[] ? (String) ((Object[]) key)[0] : ((String) key)).
+    protected <T extends Any<?>> List<T> buildResult(final List<?> raw, final AnyTypeKind kind) {
+        AnyDAO<?> dao = anyUtilsFactory.getInstance(kind).dao();
+
+        List<T> result = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        List<String> batch = new ArrayList<>(AnyDAO.DEFAULT_PAGE_SIZE);
+        Consumer<List<String>> flush = keys -> {
+            Map<String, Any<?>> anys = dao.findByKeys(keys).stream().
+                    collect(Collectors.toMap(Any::getKey, Function.identity()));
+            keys.forEach(key -> {
+                Any<?> any = anys.get(key);
+                if (any == null) {
+                    LOG.error("Could not find {} with id {}, even if returned by native query", kind, key);
+                } else {
+                    result.add((T) any);
+                }
+            });
+            keys.clear();
+        };
+
+        raw.stream().map(key -> key instanceof Object[] ? (String) ((Object[]) key)[0] : ((String) key)).
+                filter(seen::add).
+                forEach(key -> {
+                    batch.add(key);
+                    if (batch.size() == AnyDAO.DEFAULT_PAGE_SIZE) {
+                        flush.accept(batch);
+                    }
+                });
+        if (!batch.isEmpty()) {
+            flush.accept(batch);
+        }
+
+        return result;
+    }
+
+    /**
+     * Rewrites {@code EQ} and {@code IEQ} conditions on derived schemas into the equivalent conjunction of conditions
+     * on the plain schemas and fields referenced by their expressions, so that these are evaluated - and paged - by
+     * the same query as any other condition.
+     *
+     * @param cond search condition
+     * @param kind any type kind
+     * @return search condition only referring plain schemas and fields
+     * @throws IllegalArgumentException if a derived schema expression refers to anything but plain schemas and fields
+     */
+    protected SearchCond resolveDerAttrConds(final SearchCond cond, final AnyTypeKind kind) {
+        switch (cond.getType()) {
+            case AND:
+                return SearchCond.getAnd(
+                        resolveDerAttrConds(cond.getLeft(), kind), resolveDerAttrConds(cond.getRight(), kind));
+
+            case OR:
+                return SearchCond.getOr(
+                        resolveDerAttrConds(cond.getLeft(), kind), resolveDerAttrConds(cond.getRight(), kind));
+
+            default:
+        }
+
+        Optional<AttrCond> attrCond = cond.getLeaf(AttrCond.class).filter(leaf -> !(leaf instanceof AnyCond)).
+                filter(leaf -> leaf.getType() == AttrCond.Type.EQ || leaf.getType() == AttrCond.Type.IEQ);
+        if (attrCond.isEmpty()) {
+            return cond;
+        }
+        DerSchema derSchema = derSchemaDAO.find(attrCond.get().getSchema());
+        if (derSchema == null) {
+            return cond;
+        }
+
+        AnyUtils anyUtils = anyUtilsFactory.getInstance(kind);
+        List<SearchCond> plainConds = DerAttrValueParser.parse(
+                derSchema.getExpression(), attrCond.get().getExpression()).entrySet().stream().
+                map(entry -> {
+                    AttrCond plainCond;
+                    if (plainSchemaDAO.find(entry.getKey()) != null) {
+                        plainCond = new AttrCond(attrCond.get().getType());
+                    } else if (anyUtils.getField(entry.getKey()) != null) {
+                        plainCond = new AnyCond(attrCond.get().getType());
+                    } else {
+                        throw new IllegalArgumentException("Derived schema " + derSchema.getKey() + " refers to "
+                                + entry.getKey() + ", which is neither a plain schema nor a field");
+                    }
+                    plainCond.setSchema(entry.getKey());
+                    plainCond.setExpression(entry.getValue());
+                    return plainCond;
+                }).
+                map(plainCond -> cond.getType() == SearchCond.Type.NOT_LEAF
+                ? SearchCond.getNotLeaf(plainCond)
+                : SearchCond.getLeaf(plainCond)).
                 collect(Collectors.toList());
+        if (plainConds.isEmpty()) {
+            // the given value cannot be matched by any derived attribute value: keys are never null
+            AnyCond noneCond = new AnyCond(AttrCond.Type.ISNULL);
+            noneCond.setSchema("key");
+            return cond.getType() == SearchCond.Type.NOT_LEAF
+                    ? SearchCond.getNotLeaf(noneCond)
+                    : SearchCond.getLeaf(noneCond);
+        }
 
-        // sort anys according to keys' sorting, as their ordering is same as raw, e.g. the actual sql query results
-        List<Any<?>> anys = anyUtilsFactory.getInstance(kind).dao().findByKeys(keys).stream().
-                sorted(Comparator.comparing(any -> keys.indexOf(any.getKey()))).collect(Collectors.toList());
+        return cond.getType() == SearchCond.Type.NOT_LEAF
+                ? SearchCond.getOr(plainConds)
+                : SearchCond.getAnd(plainConds);
+    }
 
-        keys.stream().filter(key -> !anys.stream().anyMatch(any -> key.equals(any.getKey()))).
-                forEach(key -> LOG.error("Could not find {} with id {}, even if returned by native query", kind, key));
+    protected boolean isSearchable(final Set<String> adminRealms, final SearchCond cond) {
+        if (CollectionUtils.isEmpty(adminRealms)) {
+            LOG.error("No realms provided");
+            return false;
+        }
+
+        LOG.debug("Search condition:\n{}", cond);
+        if (cond == null || !cond.isValid()) {
+            LOG.error("Invalid search condition:\n{}", cond);
+            return false;
+        }
+
+        return true;
+    }
 
-        return (List<T>) anys;
+    protected List<OrderByClause> getEffectiveOrderBy(final List<OrderByClause> orderBy, final AnyTypeKind kind) {
+        if (orderBy.isEmpty()) {
+            OrderByClause keyClause = new OrderByClause();
+            keyClause.setField(kind == AnyTypeKind.USER ? "username" : "name");
+            keyClause.setDirection(OrderByClause.Direction.ASC);
+            return List.of(keyClause);
+        }
+
+        return orderBy.stream().
+                filter(clause -> !ArrayUtils.contains(ORDER_BY_NOT_ALLOWED, clause.getField())).
+                collect(Collectors.toList());
     }
 
     @Override
@@ -356,29 +493,67 @@ public abstract class AbstractAnySearchDAO extends AbstractDAO<Any<?>> implement
             final List<OrderByClause> orderBy,
             final AnyTypeKind kind) {
 
-        if (CollectionUtils.isEmpty(adminRealms)) {
-            LOG.error("No realms provided");
+        if (!isSearchable(adminRealms, cond)) {
             return List.of();
         }
 
-        LOG.debug("Search condition:\n{}", cond);
-        if (cond == null || !cond.isValid()) {
-            LOG.error("Invalid search condition:\n{}", cond);
-            return List.of();
+        return doSearch(
+                base, recursive, adminRealms, resolveDerAttrConds(cond, kind),
+                page, itemsPerPage, getEffectiveOrderBy(orderBy, kind), kind);
+    }
+
+    protected static SyncopeClientException invalidContinuation(final String continuation) {
+        SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidSearchParameters);
+        sce.getElements().add("Invalid continuation: " + continuation);
+        return sce;
+    }
+
+    /**
+     * Cursor-based search: implementations are expected to use a native cursor and to decide whether there is a
+     * next page on the raw number of matches, not on the number of entities eventually loaded.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param cond the search condition
+     * @param continuation opaque token as returned by the previous invocation, null to start from the first result
+     * @param itemsPerPage number of results to fetch
+     * @param orderBy list of ordering clauses
+     * @param kind any object
+     * @param <T> any
+     * @return the list of any objects matching the given search condition, and the continuation token
+     */
+    protected abstract <T extends Any<?>> Pair<List<T>, String> doSearch(
+            Realm base,
+            boolean recursive,
+            Set<String> adminRealms,
+            SearchCond cond,
+            String continuation,
+            int itemsPerPage,
+            List<OrderByClause> orderBy,
+            AnyTypeKind kind);
+
+    @Override
+    public <T extends Any<?>> Pair<List<T>, String> search(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final String continuation,
+            final int itemsPerPage,
+            final List<OrderByClause> orderBy,
+            final AnyTypeKind kind) {
+
+        if (itemsPerPage <= 0) {
+            throw new IllegalArgumentException("Cursor-based search requires a positive number of items per page");
         }
 
-        List<OrderByClause> effectiveOrderBy;
-        if (orderBy.isEmpty()) {
-            OrderByClause keyClause = new OrderByClause();
-            keyClause.setField(kind == AnyTypeKind.USER ? "username" : "name");
-            keyClause.setDirection(OrderByClause.Direction.ASC);
-            effectiveOrderBy = List.of(keyClause);
-        } else {
-            effectiveOrderBy = orderBy.stream().
-                    filter(clause -> !ArrayUtils.contains(ORDER_BY_NOT_ALLOWED, clause.getField())).
-                    collect(Collectors.toList());
+        if (!isSearchable(adminRealms, cond)) {
+            return Pair.of(List.of(), null);
         }
 
-        return doSearch(base, recursive, adminRealms, cond, page, itemsPerPage, effectiveOrderBy, kind);
+        return doSearch(
+                base, recursive, adminRealms, resolveDerAttrConds(cond, kind),
+                continuation, itemsPerPage, getEffectiveOrderBy(orderBy, kind), kind);
     }
 }
@@ -20,7 +20,12 @@ package org.apache.syncope.core.persistence.jpa.dao;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Optional;
+import org.apache.openjpa.persistence.OpenJPAPersistence;
 import org.apache.syncope.core.persistence.api.dao.DAO;
 import org.apache.syncope.core.persistence.api.entity.Entity;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
@@ -44,6 +49,33 @@ public abstract class AbstractDAO<E extends Entity> implements DAO<E> {
                 "Could not find EntityManager for domain " + AuthContextUtils.getDomain()));
     }
 
+    /**
+     * Executes the given SQL statement once per argument array, sending all executions to the database as a single
+     * JDBC batch on the connection bound to the current transaction.
+     *
+     * @param sql SQL statement, with positional parameters
+     * @param batchArgs arguments for each execution of the statement
+     */
+    protected void batchUpdate(final String sql, final Collection<Object[]> batchArgs) {
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        try (Connection conn = (Connection) OpenJPAPersistence.cast(entityManager()).getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            for (Object[] args : batchArgs) {
+                for (int i = 0; i < args.length; i++) {
+                    stmt.setObject(i + 1, args[i]);
+                }
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        } catch (SQLException e) {
+            throw new IllegalStateException("While executing batch " + sql, e);
+        }
+    }
+
     @Override
     public void refresh(final E entity) {
         entityManager().refresh(entity);
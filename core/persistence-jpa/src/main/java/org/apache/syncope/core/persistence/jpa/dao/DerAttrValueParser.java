@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import org.apache.commons.jexl3.parser.Parser;
+import org.apache.commons.jexl3.parser.ParserConstants;
+import org.apache.commons.jexl3.parser.Token;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decomposes the value of a derived attribute into the values of the plain attributes it is computed from, according
+ * to the derived schema JEXL expression.
+ */
+public final class DerAttrValueParser {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DerAttrValueParser.class);
+
+    /**
+     * Split an attribute value recurring on provided literals/tokens.
+     *
+     * @param attrValue value to be split
+     * @param literals literals/tokens
+     * @return split value
+     */
+    private static List<String> split(final String attrValue, final List<String> literals) {
+        List<String> attrValues = new ArrayList<>();
+
+        if (literals.isEmpty()) {
+            attrValues.add(attrValue);
+        } else {
+            for (String token : attrValue.split(Pattern.quote(literals.get(0)))) {
+                if (!token.isEmpty()) {
+                    attrValues.addAll(split(token, literals.subList(1, literals.size())));
+                }
+            }
+        }
+
+        return attrValues;
+    }
+
+    /**
+     * Matches the given derived attribute value against the given JEXL expression.
+     *
+     * @param expression derived schema JEXL expression
+     * @param value derived attribute value
+     * @return plain schema keys, in order of appearance, mapped to the value they shall hold; empty if the value
+     * cannot be unambiguously decomposed
+     */
+    public static Map<String, String> parse(final String expression, final String value) {
+        Parser parser = new Parser(expression);
+
+        // Schema keys
+        List<String> identifiers = new ArrayList<>();
+
+        // Literals
+        List<String> literals = new ArrayList<>();
+
+        // Get schema keys and literals
+        for (Token token = parser.getNextToken(); token != null && StringUtils.isNotBlank(token.toString());
+                token = parser.getNextToken()) {
+
+            if (token.kind == ParserConstants.STRING_LITERAL) {
+                literals.add(token.toString().substring(1, token.toString().length() - 1));
+            }
+
+            if (token.kind == ParserConstants.IDENTIFIER) {
+                identifiers.add(token.toString());
+            }
+        }
+
+        // Sort literals in order to process later literals included into others
+        literals.sort(Comparator.comparingInt(String::length).reversed());
+
+        // Split value on provided literals
+        List<String> attrValues = split(value, literals);
+
+        if (attrValues.size() != identifiers.size()) {
+            LOG.error("Ambiguous JEXL expression resolution: literals and values have different size");
+            return Map.of();
+        }
+
+        Map<String, String> result = new LinkedHashMap<>();
+        for (int i = 0; i < identifiers.size(); i++) {
+            String previous = result.putIfAbsent(identifiers.get(i), attrValues.get(i));
+            if (previous != null && !previous.equals(attrValues.get(i))) {
+                LOG.error("Conflicting values for '{}': {} and {}", identifiers.get(i), previous, attrValues.get(i));
+                return Map.of();
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Private default constructor, for static-only classes.
+     */
+    private DerAttrValueParser() {
+    }
+}
@@ -28,11 +28,19 @@ import org.apache.syncope.core.persistence.api.dao.AccessTokenDAO;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.entity.AccessToken;
 import org.apache.syncope.core.persistence.jpa.entity.JPAAccessToken;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.apache.syncope.core.spring.security.JWTAuthenticationCache;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ReflectionUtils;
 
 public class JPAAccessTokenDAO extends AbstractDAO<AccessToken> implements AccessTokenDAO {
 
+    protected final JWTAuthenticationCache jwtAuthenticationCache;
+
+    public JPAAccessTokenDAO(final JWTAuthenticationCache jwtAuthenticationCache) {
+        this.jwtAuthenticationCache = jwtAuthenticationCache;
+    }
+
     @Transactional(readOnly = true)
     @Override
     public AccessToken find(final String key) {
@@ -110,7 +118,9 @@ public class JPAAccessTokenDAO extends AbstractDAO<AccessToken> implements Acces
     @Transactional(rollbackFor = Throwable.class)
     @Override
     public AccessToken save(final AccessToken accessToken) {
-        return entityManager().merge(accessToken);
+        AccessToken merged = entityManager().merge(accessToken);
+        jwtAuthenticationCache.evictToken(AuthContextUtils.getDomain(), merged.getKey());
+        return merged;
     }
 
     @Transactional(rollbackFor = Throwable.class)
@@ -127,6 +137,7 @@ public class JPAAccessTokenDAO extends AbstractDAO<AccessToken> implements Acces
     @Override
     public void delete(final AccessToken accessToken) {
         entityManager().remove(accessToken);
+        jwtAuthenticationCache.evictToken(AuthContextUtils.getDomain(), accessToken.getKey());
     }
 
     @Override
@@ -26,7 +26,6 @@ import java.beans.PropertyDescriptor;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.time.OffsetDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -34,6 +33,8 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
@@ -56,7 +57,6 @@ import org.apache.syncope.core.persistence.api.dao.search.ResourceCond;
 import org.apache.syncope.core.persistence.api.dao.search.RoleCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
-import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.GroupableRelatable;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
@@ -71,6 +71,32 @@ import org.springframework.transaction.annotation.Transactional;
 
 public class JPAAnyMatchDAO extends AbstractDAO<Any<?>> implements AnyMatchDAO {
 
+    /**
+     * Information needed to match a leaf condition, resolved only once for each distinct condition.
+     */
+    protected static class ResolvedCond {
+
+        protected final PlainSchema schema;
+
+        protected final PlainAttrValue attrValue;
+
+        protected final Pattern pattern;
+
+        protected final PropertyDescriptor pd;
+
+        protected ResolvedCond(
+                final PlainSchema schema,
+                final PlainAttrValue attrValue,
+                final Pattern pattern,
+                final PropertyDescriptor pd) {
+
+            this.schema = schema;
+            this.attrValue = attrValue;
+            this.pattern = pattern;
+            this.pd = pd;
+        }
+    }
+
     protected final UserDAO userDAO;
 
     protected final GroupDAO groupDAO;
@@ -85,6 +111,8 @@ public class JPAAnyMatchDAO extends AbstractDAO<Any<?>> implements AnyMatchDAO {
 
     protected final PlainAttrValidationManager validator;
 
+    protected final SearchCondCache searchCondCache;
+
     public JPAAnyMatchDAO(
             final UserDAO userDAO,
             final GroupDAO groupDAO,
@@ -92,7 +120,8 @@ public class JPAAnyMatchDAO extends AbstractDAO<Any<?>> implements AnyMatchDAO {
             final RealmDAO realmDAO,
             final PlainSchemaDAO plainSchemaDAO,
             final AnyUtilsFactory anyUtilsFactory,
-            final PlainAttrValidationManager validator) {
+            final PlainAttrValidationManager validator,
+            final SearchCondCache searchCondCache) {
 
         this.userDAO = userDAO;
         this.groupDAO = groupDAO;
@@ -101,6 +130,7 @@ public class JPAAnyMatchDAO extends AbstractDAO<Any<?>> implements AnyMatchDAO {
         this.plainSchemaDAO = plainSchemaDAO;
         this.anyUtilsFactory = anyUtilsFactory;
         this.validator = validator;
+        this.searchCondCache = searchCondCache;
     }
 
     /**
@@ -279,21 +309,45 @@ public class JPAAnyMatchDAO extends AbstractDAO<Any<?>> implements AnyMatchDAO {
         return not ? !found : found;
     }
 
+    protected static Pattern likePattern(final AttrSchemaType schemaType, final AttrCond cond) {
+        if (schemaType != AttrSchemaType.String && schemaType != AttrSchemaType.Enum) {
+            return null;
+        }
+
+        StringBuilder output = new StringBuilder();
+        for (char c : cond.getExpression().toLowerCase().toCharArray()) {
+            if (c == '%') {
+                output.append(".*");
+            } else if (Character.isLetter(c)) {
+                output.append('[').
+                        append(c).
+                        append(Character.toUpperCase(c)).
+                        append(']');
+            } else {
+                output.append(c);
+            }
+        }
+        return cond.getType() == AttrCond.Type.LIKE
+                ? Pattern.compile(output.toString())
+                : Pattern.compile(output.toString(), Pattern.CASE_INSENSITIVE);
+    }
+
     @SuppressWarnings({ "unchecked", "rawtypes" })
     protected boolean matches(
             final List<? extends PlainAttrValue> anyAttrValues,
-            final PlainAttrValue attrValue,
-            final PlainSchema schema,
+            final ResolvedCond resolved,
             final AttrCond cond) {
 
         return anyAttrValues.stream().anyMatch(item -> {
             switch (cond.getType()) {
                 case EQ:
-                    return attrValue.getValue().equals(item.getValue());
+                    return resolved.attrValue.getValue().equals(item.getValue());
 
                 case IEQ:
-                    if (schema.getType() == AttrSchemaType.String || schema.getType() == AttrSchemaType.Enum) {
-                        return attrValue.getStringValue().equalsIgnoreCase(item.getStringValue());
+                    if (resolved.schema.getType() == AttrSchemaType.String
+                            || resolved.schema.getType() == AttrSchemaType.Enum) {
+
+                        return resolved.attrValue.getStringValue().equalsIgnoreCase(item.getStringValue());
                     } else {
                         LOG.error("IEQ is only compatible with string or enum schemas");
                         return false;
@@ -301,40 +355,23 @@ public class JPAAnyMatchDAO extends AbstractDAO<Any<?>> implements AnyMatchDAO {
 
                 case LIKE:
                 case ILIKE:
-                    if (schema.getType() == AttrSchemaType.String || schema.getType() == AttrSchemaType.Enum) {
-                        StringBuilder output = new StringBuilder();
-                        for (char c : cond.getExpression().toLowerCase().toCharArray()) {
-                            if (c == '%') {
-                                output.append(".*");
-                            } else if (Character.isLetter(c)) {
-                                output.append('[').
-                                        append(c).
-                                        append(Character.toUpperCase(c)).
-                                        append(']');
-                            } else {
-                                output.append(c);
-                            }
-                        }
-                        return (cond.getType() == AttrCond.Type.LIKE
-                                ? Pattern.compile(output.toString())
-                                : Pattern.compile(output.toString(), Pattern.CASE_INSENSITIVE)).
-                                matcher(item.getStringValue()).matches();
-                    } else {
+                    if (resolved.pattern == null) {
                         LOG.error("LIKE is only compatible with string or enum schemas");
                         return false;
                     }
+                    return resolved.pattern.matcher(item.getStringValue()).matches();
 
                 case GT:
-                    return item.<Comparable>getValue().compareTo(attrValue.getValue()) > 0;
+                    return item.<Comparable>getValue().compareTo(resolved.attrValue.getValue()) > 0;
 
                 case GE:
-                    return item.<Comparable>getValue().compareTo(attrValue.getValue()) >= 0;
+                    return item.<Comparable>getValue().compareTo(resolved.attrValue.getValue()) >= 0;
 
                 case LT:
-                    return item.<Comparable>getValue().compareTo(attrValue.getValue()) < 0;
+                    return item.<Comparable>getValue().compareTo(resolved.attrValue.getValue()) < 0;
 
                 case LE:
-                    return item.<Comparable>getValue().compareTo(attrValue.getValue()) <= 0;
+                    return item.<Comparable>getValue().compareTo(resolved.attrValue.getValue()) <= 0;
 
                 default:
                     return false;
@@ -342,10 +379,48 @@ public class JPAAnyMatchDAO extends AbstractDAO<Any<?>> implements AnyMatchDAO {
         });
     }
 
-    protected boolean matches(final Any<?> any, final AttrCond cond, final boolean not) {
+    protected Optional<ResolvedCond> resolve(final Any<?> any, final AttrCond cond) {
         PlainSchema schema = plainSchemaDAO.find(cond.getSchema());
         if (schema == null) {
             LOG.warn("Ignoring invalid schema '{}'", cond.getSchema());
+            return Optional.empty();
+        }
+
+        // only key and type are retained, as resolved information outlives the current transaction
+        PlainSchema resolved = new JPAPlainSchema();
+        resolved.setKey(schema.getKey());
+        resolved.setType(schema.getType());
+
+        PlainAttrValue attrValue = null;
+        Pattern pattern = null;
+        switch (cond.getType()) {
+            case ISNULL:
+            case ISNOTNULL:
+                break;
+
+            case LIKE:
+            case ILIKE:
+                pattern = likePattern(schema.getType(), cond);
+                break;
+
+            default:
+                attrValue = anyUtilsFactory.getInstance(any).newPlainAttrValue();
+                try {
+                    validator.validate(schema, cond.getExpression(), attrValue);
+                } catch (ValidationException e) {
+                    LOG.error("Could not validate expression '" + cond.getExpression() + '\'', e);
+                    return Optional.empty();
+                }
+        }
+
+        return Optional.of(new ResolvedCond(resolved, attrValue, pattern, null));
+    }
+
+    protected boolean matches(final Any<?> any, final AttrCond cond, final boolean not) {
+        Optional<ResolvedCond> resolved = searchCondCache.resolve(
+                Pair.of(AttrCond.class, Triple.of(cond.getSchema(), cond.getType(), cond.getExpression())),
+                () -> resolve(any, cond));
+        if (resolved.isEmpty()) {
             return false;
         }
 
@@ -363,41 +438,101 @@ public class JPAAnyMatchDAO extends AbstractDAO<Any<?>> implements AnyMatchDAO {
                 break;
 
             default:
-                PlainAttrValue attrValue = anyUtilsFactory.getInstance(any).newPlainAttrValue();
-                try {
-                    if (cond.getType() != AttrCond.Type.LIKE
-                            && cond.getType() != AttrCond.Type.ILIKE
-                            && cond.getType() != AttrCond.Type.ISNULL
-                            && cond.getType() != AttrCond.Type.ISNOTNULL) {
+                found = attr.map(a -> matches(a.getValues(), resolved.get(), cond)).orElse(false);
+        }
+        return not ? !found : found;
+    }
 
-                        validator.validate(schema, cond.getExpression(), attrValue);
-                    }
+    protected Optional<ResolvedCond> resolve(final Any<?> any, final AnyCond cond) {
+        // Keeps track of difference between entity's getKey() and JPA @Id fields
+        String property = "key".equals(cond.getSchema()) ? "id" : cond.getSchema();
+
+        PropertyDescriptor pd;
+        try {
+            pd = BeanUtils.getPropertyDescriptor(any.getClass(), property);
+        } catch (Exception e) {
+            LOG.error("While accessing {}.{}", any.getClass().getName(), property, e);
+            return Optional.empty();
+        }
+        if (pd == null) {
+            LOG.warn("Ignoring invalid schema '{}'", property);
+            return Optional.empty();
+        }
+
+        PlainSchema schema = new JPAPlainSchema();
+        schema.setKey(pd.getName());
+        for (AttrSchemaType attrSchemaType : AttrSchemaType.values()) {
+            if (pd.getPropertyType().isAssignableFrom(attrSchemaType.getType())) {
+                schema.setType(attrSchemaType);
+            }
+        }
+
+        // Deal with any Integer fields logically mapping to boolean values
+        boolean foundBooleanMin = false;
+        boolean foundBooleanMax = false;
+        if (Integer.class.equals(pd.getPropertyType())) {
+            for (Annotation annotation : pd.getPropertyType().getAnnotations()) {
+                if (Min.class.equals(annotation.annotationType())) {
+                    foundBooleanMin = ((Min) annotation).value() == 0;
+                } else if (Max.class.equals(annotation.annotationType())) {
+                    foundBooleanMax = ((Max) annotation).value() == 1;
+                }
+            }
+        }
+        if (foundBooleanMin && foundBooleanMax) {
+            schema.setType(AttrSchemaType.Boolean);
+        }
+
+        // Deal with any fields representing relationships to other entities
+        if (pd.getPropertyType().getAnnotation(Entity.class) != null) {
+            Method relMethod = null;
+            try {
+                relMethod = ClassUtils.getPublicMethod(pd.getPropertyType(), "getKey", new Class<?>[0]);
+            } catch (Exception e) {
+                LOG.error("Could not find {}#getKey", pd.getPropertyType(), e);
+            }
+
+            if (relMethod != null && String.class.isAssignableFrom(relMethod.getReturnType())) {
+                schema.setType(AttrSchemaType.String);
+            }
+        }
+
+        PlainAttrValue attrValue = null;
+        Pattern pattern = null;
+        switch (cond.getType()) {
+            case ISNULL:
+            case ISNOTNULL:
+                break;
+
+            case LIKE:
+            case ILIKE:
+                pattern = likePattern(schema.getType(), cond);
+                break;
+
+            default:
+                attrValue = anyUtilsFactory.getInstance(any).newPlainAttrValue();
+                try {
+                    validator.validate(schema, cond.getExpression(), attrValue);
                 } catch (ValidationException e) {
                     LOG.error("Could not validate expression '" + cond.getExpression() + '\'', e);
-                    return false;
+                    return Optional.empty();
                 }
-
-                found = attr.map(a -> matches(a.getValues(), attrValue, schema, cond)).orElse(false);
         }
-        return not ? !found : found;
+
+        return Optional.of(new ResolvedCond(schema, attrValue, pattern, pd));
     }
 
     protected boolean matches(final Any<?> any, final AnyCond cond, final boolean not) {
-        // Keeps track of difference between entity's getKey() and JPA @Id fields
-        if ("key".equals(cond.getSchema())) {
-            cond.setSchema("id");
+        Optional<ResolvedCond> resolved = searchCondCache.resolve(
+                Pair.of(any.getClass(), Triple.of(cond.getSchema(), cond.getType(), cond.getExpression())),
+                () -> resolve(any, cond));
+        if (resolved.isEmpty()) {
+            return false;
         }
 
-        PropertyDescriptor pd;
         Object anyAttrValue;
         try {
-            pd = BeanUtils.getPropertyDescriptor(any.getClass(), cond.getSchema());
-            if (pd == null) {
-                LOG.warn("Ignoring invalid schema '{}'", cond.getSchema());
-                return false;
-            }
-
-            anyAttrValue = pd.getReadMethod().invoke(any);
+            anyAttrValue = resolved.get().pd.getReadMethod().invoke(any);
         } catch (Exception e) {
             LOG.error("While accessing {}.{}", any, cond.getSchema(), e);
             return false;
@@ -414,78 +549,22 @@ public class JPAAnyMatchDAO extends AbstractDAO<Any<?>> implements AnyMatchDAO {
                 break;
 
             default:
-                PlainSchema schema = new JPAPlainSchema();
-                schema.setKey(pd.getName());
-                for (AttrSchemaType attrSchemaType : AttrSchemaType.values()) {
-                    if (pd.getPropertyType().isAssignableFrom(attrSchemaType.getType())) {
-                        schema.setType(attrSchemaType);
-                    }
-                }
-
-                // Deal with any Integer fields logically mapping to boolean values
-                boolean foundBooleanMin = false;
-                boolean foundBooleanMax = false;
-                if (Integer.class.equals(pd.getPropertyType())) {
-                    for (Annotation annotation : pd.getPropertyType().getAnnotations()) {
-                        if (Min.class.equals(annotation.annotationType())) {
-                            foundBooleanMin = ((Min) annotation).value() == 0;
-                        } else if (Max.class.equals(annotation.annotationType())) {
-                            foundBooleanMax = ((Max) annotation).value() == 1;
-                        }
-                    }
-                }
-                if (foundBooleanMin && foundBooleanMax) {
-                    schema.setType(AttrSchemaType.Boolean);
-                }
-
-                // Deal with any fields representing relationships to other entities
-                if (pd.getPropertyType().getAnnotation(Entity.class) != null) {
-                    Method relMethod = null;
-                    try {
-                        relMethod = ClassUtils.getPublicMethod(pd.getPropertyType(), "getKey", new Class<?>[0]);
-                    } catch (Exception e) {
-                        LOG.error("Could not find {}#getKey", pd.getPropertyType(), e);
-                    }
-
-                    if (relMethod != null && String.class.isAssignableFrom(relMethod.getReturnType())) {
-                        cond.setSchema(cond.getSchema() + "_id");
-                        schema.setType(AttrSchemaType.String);
-                    }
-                }
-
-                AnyUtils anyUtils = anyUtilsFactory.getInstance(any);
-
-                PlainAttrValue attrValue = anyUtils.newPlainAttrValue();
-                if (cond.getType() != AttrCond.Type.LIKE
-                        && cond.getType() != AttrCond.Type.ILIKE
-                        && cond.getType() != AttrCond.Type.ISNULL
-                        && cond.getType() != AttrCond.Type.ISNOTNULL) {
-
-                    try {
-                        validator.validate(schema, cond.getExpression(), attrValue);
-                    } catch (ValidationException e) {
-                        LOG.error("Could not validate expression '" + cond.getExpression() + '\'', e);
-                        return false;
-                    }
-                }
-
-                List<PlainAttrValue> anyAttrValues = new ArrayList<>();
-                anyAttrValues.add(anyUtils.newPlainAttrValue());
+                PlainAttrValue value = anyUtilsFactory.getInstance(any).newPlainAttrValue();
                 if (anyAttrValue instanceof String) {
-                    anyAttrValues.get(0).setStringValue((String) anyAttrValue);
+                    value.setStringValue((String) anyAttrValue);
                 } else if (anyAttrValue instanceof Long) {
-                    anyAttrValues.get(0).setLongValue((Long) anyAttrValue);
+                    value.setLongValue((Long) anyAttrValue);
                 } else if (anyAttrValue instanceof Double) {
-                    anyAttrValues.get(0).setDoubleValue((Double) anyAttrValue);
+                    value.setDoubleValue((Double) anyAttrValue);
                 } else if (anyAttrValue instanceof Boolean) {
-                    anyAttrValues.get(0).setBooleanValue((Boolean) anyAttrValue);
+                    value.setBooleanValue((Boolean) anyAttrValue);
                 } else if (anyAttrValue instanceof OffsetDateTime) {
-                    anyAttrValues.get(0).setDateValue((OffsetDateTime) anyAttrValue);
+                    value.setDateValue((OffsetDateTime) anyAttrValue);
                 } else if (anyAttrValue instanceof byte[]) {
-                    anyAttrValues.get(0).setBinaryValue((byte[]) anyAttrValue);
+                    value.setBinaryValue((byte[]) anyAttrValue);
                 }
 
-                found = matches(anyAttrValues, attrValue, schema, cond);
+                found = matches(List.of(value), resolved.get(), cond);
         }
         return not ? !found : found;
     }
@@ -19,7 +19,17 @@
 package org.apache.syncope.core.persistence.jpa.dao;
 
 import jakarta.persistence.Query;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -37,6 +47,7 @@ import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.rest.api.service.JAXRSService;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.DynRealmDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
@@ -71,6 +82,10 @@ import org.apache.syncope.core.provisioning.api.utils.RealmUtils;
  */
 public class JPAAnySearchDAO extends AbstractAnySearchDAO {
 
+    protected static final String KEYSET_CONTINUATION = "K";
+
+    protected static final String OFFSET_CONTINUATION = "O";
+
     protected static final String SELECT_COLS_FROM_VIEW =
             "any_id,creationContext,creationDate,creator,lastChangeContext,"
             + "lastChangeDate,lastModifier,status,changePwdDate,cipherAlgorithm,failedLogins,"
@@ -83,6 +98,7 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
             final GroupDAO groupDAO,
             final AnyObjectDAO anyObjectDAO,
             final PlainSchemaDAO plainSchemaDAO,
+            final DerSchemaDAO derSchemaDAO,
             final EntityFactory entityFactory,
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator) {
@@ -94,6 +110,7 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
                 groupDAO,
                 anyObjectDAO,
                 plainSchemaDAO,
+                derSchemaDAO,
                 entityFactory,
                 anyUtilsFactory,
                 validator);
@@ -202,8 +219,75 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
         return ((Number) countQuery.getSingleResult()).intValue();
     }
 
+    /**
+     * Builds the native query returning the keys of matching any objects, along with the values they are ordered by.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param cond the search condition
+     * @param orderBy list of ordering clauses
+     * @param kind any object
+     * @param after key and ordering values of the last result already returned, to only return the following ones,
+     * empty to return results from the first one; null when not searching by keyset
+     * @return native query, with parameter values set
+     */
+    protected Query buildSearchQuery(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final List<OrderByClause> orderBy,
+            final AnyTypeKind kind,
+            final List<Object> after) {
+
+        List<Object> parameters = new ArrayList<>();
+
+        SearchSupport svs = buildSearchSupport(kind);
+
+        Triple<String, Set<String>, Set<String>> filter =
+                getAdminRealmsFilter(base, recursive, adminRealms, svs, parameters);
+
+        // 1. get the query string from the search condition
+        Pair<StringBuilder, Set<String>> queryInfo =
+                getQuery(buildEffectiveCond(cond, filter.getMiddle(), filter.getRight(), kind), parameters, svs);
+
+        StringBuilder queryString = queryInfo.getLeft();
+
+        LOG.debug("Query: {}, parameters: {}", queryString, parameters);
+
+        // 2. take into account realms and ordering
+        OrderBySupport obs = parseOrderBy(svs, orderBy);
+        StringBuilder select = buildSelect(obs);
+        if (after != null) {
+            select.insert(select.length() - " FROM ".length(), buildNullMarkers(obs));
+        }
+        if (queryString.charAt(0) == '(') {
+            queryString.insert(0, select);
+        } else {
+            queryString.insert(0, select.append('('));
+            queryString.append(')');
+        }
+        queryString.
+                append(buildWhere(svs, obs)).
+                append(filter.getLeft());
+        if (after != null && !after.isEmpty()) {
+            queryString.append(" AND ").append(buildSeekCond(obs, "u.any_id", after, parameters));
+        }
+        queryString.append(buildOrderBy(obs, "u.any_id", after != null));
+
+        LOG.debug("Query with auth and order by statements: {}, parameters: {}", queryString, parameters);
+
+        // 3. prepare the search query
+        Query query = entityManager().createNativeQuery(queryString.toString());
+
+        // 4. populate the search query with parameter values
+        fillWithParameters(query, parameters);
+
+        return query;
+    }
+
     @Override
-    @SuppressWarnings("unchecked")
     protected <T extends Any<?>> List<T> doSearch(
             final Realm base,
             final boolean recursive,
@@ -215,58 +299,184 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
             final AnyTypeKind kind) {
 
         try {
-            List<Object> parameters = new ArrayList<>();
+            Query query = buildSearchQuery(base, recursive, adminRealms, cond, orderBy, kind, null);
 
-            SearchSupport svs = buildSearchSupport(kind);
+            // page starts from 1, while setFirtResult() starts from 0
+            query.setFirstResult(itemsPerPage * (page <= 0 ? 0 : page - 1));
 
-            Triple<String, Set<String>, Set<String>> filter =
-                    getAdminRealmsFilter(base, recursive, adminRealms, svs, parameters);
+            if (itemsPerPage >= 0) {
+                query.setMaxResults(itemsPerPage);
+            }
 
-            // 1. get the query string from the search condition
-            Pair<StringBuilder, Set<String>> queryInfo =
-                    getQuery(buildEffectiveCond(cond, filter.getMiddle(), filter.getRight(), kind), parameters, svs);
+            // Prepare the result (avoiding duplicates)
+            return buildResult(query.getResultList(), kind);
+        } catch (SyncopeClientException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error("While searching for {}", kind, e);
+        }
 
-            StringBuilder queryString = queryInfo.getLeft();
+        return List.of();
+    }
 
-            LOG.debug("Query: {}, parameters: {}", queryString, parameters);
+    /**
+     * Tells whether results can be sought by keyset, e.g. when all ordering values can be compared in WHERE.
+     *
+     * @param obs order by support
+     * @return whether results can be sought by keyset
+     */
+    protected boolean isSeekable(final OrderBySupport obs) {
+        return obs.items.stream().allMatch(item -> item.column != null);
+    }
 
-            // 2. take into account realms and ordering
-            OrderBySupport obs = parseOrderBy(svs, orderBy);
-            if (queryString.charAt(0) == '(') {
-                queryString.insert(0, buildSelect(obs));
-            } else {
-                queryString.insert(0, buildSelect(obs).append('('));
-                queryString.append(')');
-            }
-            queryString.
-                    append(buildWhere(svs, obs)).
-                    append(filter.getLeft()).
-                    append(buildOrderBy(obs));
+    protected static String encodeSeekValue(final Object value) {
+        if (value == null) {
+            return "N";
+        }
+        if (value instanceof Boolean) {
+            return "B" + value;
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return "L" + value;
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return "D" + value;
+        }
+        if (value instanceof BigDecimal bigDecimal) {
+            return "G" + bigDecimal.toPlainString();
+        }
+        if (value instanceof BigInteger) {
+            return "G" + value;
+        }
+        if (value instanceof Date date) {
+            return "T" + (date instanceof Timestamp timestamp ? timestamp.toInstant() : date.toInstant());
+        }
+        if (value instanceof OffsetDateTime) {
+            return "O" + value;
+        }
+        if (value instanceof LocalDateTime) {
+            return "E" + value;
+        }
+        return "S" + Base64.getUrlEncoder().withoutPadding().
+                encodeToString(value.toString().getBytes(StandardCharsets.UTF_8));
+    }
 
-            LOG.debug("Query with auth and order by statements: {}, parameters: {}", queryString, parameters);
+    protected static Object decodeSeekValue(final String value) {
+        String content = value.substring(1);
+        switch (value.charAt(0)) {
+            case 'N':
+                return null;
 
-            // 3. prepare the search query
-            Query query = entityManager().createNativeQuery(queryString.toString());
+            case 'B':
+                return Boolean.valueOf(content);
 
-            // 4. page starts from 1, while setFirtResult() starts from 0
-            query.setFirstResult(itemsPerPage * (page <= 0 ? 0 : page - 1));
+            case 'L':
+                return Long.valueOf(content);
 
-            if (itemsPerPage >= 0) {
-                query.setMaxResults(itemsPerPage);
+            case 'D':
+                return Double.valueOf(content);
+
+            case 'G':
+                return new BigDecimal(content);
+
+            case 'T':
+                return Timestamp.from(Instant.parse(content));
+
+            case 'O':
+                return OffsetDateTime.parse(content);
+
+            case 'E':
+                return LocalDateTime.parse(content);
+
+            case 'S':
+                return new String(Base64.getUrlDecoder().decode(content), StandardCharsets.UTF_8);
+
+            default:
+                throw new IllegalArgumentException("Unexpected value: " + value);
+        }
+    }
+
+    /**
+     * Keyset search, returning continuation tokens made of the key and ordering values of the last result: each page
+     * is then fetched by seeking, not by skipping all the previous ones.
+     * Falls back to offsets for orderings not supported by {@link #isSeekable(OrderBySupport)}; in both cases,
+     * the end of results is detected on the rows returned by the query, before removing duplicates.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    protected <T extends Any<?>> Pair<List<T>, String> doSearch(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final String continuation,
+            final int itemsPerPage,
+            final List<OrderByClause> orderBy,
+            final AnyTypeKind kind) {
+
+        OrderBySupport obs = parseOrderBy(buildSearchSupport(kind), orderBy);
+        boolean seekable = isSeekable(obs);
+        int seekValues = obs.items.size() + 1;
+
+        List<Object> after = seekable ? new ArrayList<>() : null;
+        int offset = 0;
+        if (continuation != null) {
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(continuation), StandardCharsets.UTF_8);
+                if (seekable && decoded.startsWith(KEYSET_CONTINUATION)) {
+                    for (String value : decoded.substring(KEYSET_CONTINUATION.length()).split(",")) {
+                        after.add(decodeSeekValue(value));
+                    }
+                } else if (!seekable && decoded.startsWith(OFFSET_CONTINUATION)) {
+                    offset = Integer.parseInt(decoded.substring(OFFSET_CONTINUATION.length()));
+                }
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeException e) {
+                throw invalidContinuation(continuation);
             }
+            if (seekable
+                    ? after.size() != seekValues || after.get(0) == null
+                    : offset <= 0) {
 
-            // 5. populate the search query with parameter values
-            fillWithParameters(query, parameters);
+                throw invalidContinuation(continuation);
+            }
+        }
 
-            // 6. Prepare the result (avoiding duplicates)
-            return buildResult(query.getResultList(), kind);
+        try {
+            Query query = buildSearchQuery(base, recursive, adminRealms, cond, orderBy, kind, after);
+            query.setFirstResult(offset);
+            query.setMaxResults(itemsPerPage);
+
+            List<Object[]> rows = query.getResultList();
+            if (rows.isEmpty()) {
+                return Pair.of(List.of(), null);
+            }
+
+            String next = null;
+            if (rows.size() >= itemsPerPage) {
+                if (seekable) {
+                    Object[] last = rows.get(rows.size() - 1);
+                    StringBuilder token = new StringBuilder(KEYSET_CONTINUATION);
+                    for (int i = 0; i < seekValues; i++) {
+                        token.append(i == 0 ? "" : ",").append(encodeSeekValue(last[i]));
+                    }
+                    next = token.toString();
+                } else {
+                    next = OFFSET_CONTINUATION + (offset + rows.size());
+                }
+            }
+
+            return Pair.of(
+                    buildResult(rows, kind),
+                    next == null
+                    ? null
+                    : Base64.getUrlEncoder().withoutPadding().encodeToString(next.getBytes(StandardCharsets.UTF_8)));
         } catch (SyncopeClientException e) {
             throw e;
         } catch (Exception e) {
             LOG.error("While searching for {}", kind, e);
         }
 
-        return List.of();
+        return Pair.of(List.of(), null);
     }
 
     protected int setParameter(final List<Object> parameters, final Object parameter) {
@@ -377,6 +587,96 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
         return orderBy;
     }
 
+    /**
+     * Builds the select columns telling whether each ordering value is null, to sort null values always last when
+     * searching by keyset, regardless of the DBMS in use.
+     *
+     * @param obs order by support
+     * @return select columns, each starting with a comma
+     */
+    protected StringBuilder buildNullMarkers(final OrderBySupport obs) {
+        StringBuilder markers = new StringBuilder();
+
+        for (int i = 0; i < obs.items.size(); i++) {
+            markers.append(",CASE WHEN ").append(obs.items.get(i).column).
+                    append(" IS NULL THEN 1 ELSE 0 END AS seeknull").append(i);
+        }
+
+        return markers;
+    }
+
+    /**
+     * Builds the ORDER BY clause, with the given key column as last criteria so that ordering is always total.
+     *
+     * @param obs order by support
+     * @param keyColumn column holding any object keys
+     * @param nullsLast whether null ordering values shall be sorted last, as from {@link #buildNullMarkers}
+     * @return ORDER BY clause
+     */
+    protected StringBuilder buildOrderBy(final OrderBySupport obs, final String keyColumn, final boolean nullsLast) {
+        StringBuilder orderBy = new StringBuilder(" ORDER BY ");
+
+        for (int i = 0; i < obs.items.size(); i++) {
+            if (nullsLast) {
+                orderBy.append("seeknull").append(i).append(" ASC,");
+            }
+            orderBy.append(obs.items.get(i).orderBy).append(',');
+        }
+
+        orderBy.append(keyColumn).
+                append(obs.items.stream().anyMatch(item -> item.orderBy.endsWith(" DESC")) ? " DESC" : " ASC");
+
+        return orderBy;
+    }
+
+    /**
+     * Builds the condition selecting results following the given one, according to the ordering clauses and to
+     * null values being sorted last.
+     *
+     * @param obs order by support
+     * @param keyColumn column holding any object keys
+     * @param after key and ordering values of the last result already returned
+     * @param parameters query parameters
+     * @return condition selecting results following the given one
+     */
+    protected String buildSeekCond(
+            final OrderBySupport obs,
+            final String keyColumn,
+            final List<Object> after,
+            final List<Object> parameters) {
+
+        List<String> terms = new ArrayList<>();
+        for (int i = 0; i <= obs.items.size(); i++) {
+            if (i < obs.items.size() && after.get(i + 1) == null) {
+                // nothing follows null values for this ordering item, but null values of following items
+                continue;
+            }
+
+            StringBuilder term = new StringBuilder("(");
+            for (int j = 0; j < i; j++) {
+                String column = obs.items.get(j).column;
+                Object value = after.get(j + 1);
+                term.append(value == null
+                        ? column + " IS NULL"
+                        : column + "=?" + setParameter(parameters, value)).
+                        append(" AND ");
+            }
+            if (i < obs.items.size()) {
+                OrderBySupport.Item item = obs.items.get(i);
+                term.append('(').append(item.column).append(" IS NULL OR ").append(item.column).
+                        append(item.orderBy.endsWith(" DESC") ? "<" : ">").
+                        append('?').append(setParameter(parameters, after.get(i + 1))).append(')');
+            } else {
+                term.append(keyColumn).
+                        append(obs.items.stream().anyMatch(item -> item.orderBy.endsWith(" DESC")) ? "<" : ">").
+                        append('?').append(setParameter(parameters, after.get(0)));
+            }
+            terms.add(term.append(')').toString());
+        }
+
+        return terms.stream().collect(Collectors.joining(" OR ", "(", ")"));
+    }
+
     protected String key(final AttrSchemaType schemaType) {
         String key;
         switch (schemaType) {
@@ -429,6 +729,7 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
                     append(svs.asSearchViewSupport().uniqueAttr().alias).
                     append(".schema_id='").append(fieldName).append("'").toString();
             item.orderBy = fieldName + ' ' + clause.getDirection().name();
+            item.column = svs.asSearchViewSupport().uniqueAttr().alias + '.' + key(schema.getType());
         } else {
             obs.views.add(svs.asSearchViewSupport().attr());
 
@@ -439,6 +740,7 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
                     append(svs.asSearchViewSupport().attr().alias).
                     append(".schema_id='").append(fieldName).append("'").toString();
             item.orderBy = fieldName + ' ' + clause.getDirection().name();
+            item.column = svs.asSearchViewSupport().attr().alias + '.' + key(schema.getType());
         }
     }
 
@@ -451,6 +753,7 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
         item.select = svs.field().alias + '.' + fieldName;
         item.where = StringUtils.EMPTY;
         item.orderBy = svs.field().alias + '.' + fieldName + ' ' + clause.getDirection().name();
+        item.column = svs.field().alias + '.' + fieldName;
     }
 
     protected void parseOrderByForCustom(
@@ -28,9 +28,24 @@ import org.apache.syncope.core.persistence.api.entity.Delegation;
 import org.apache.syncope.core.persistence.api.entity.Role;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.jpa.entity.JPADelegation;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.apache.syncope.core.spring.security.AuthoritiesCache;
+import org.apache.syncope.core.spring.security.JWTAuthenticationCache;
 
 public class JPADelegationDAO extends AbstractDAO<Delegation> implements DelegationDAO {
 
+    protected final JWTAuthenticationCache jwtAuthenticationCache;
+
+    protected final AuthoritiesCache authoritiesCache;
+
+    public JPADelegationDAO(
+            final JWTAuthenticationCache jwtAuthenticationCache,
+            final AuthoritiesCache authoritiesCache) {
+
+        this.jwtAuthenticationCache = jwtAuthenticationCache;
+        this.authoritiesCache = authoritiesCache;
+    }
+
     @Override
     public Delegation find(final String key) {
         return entityManager().find(JPADelegation.class, key);
@@ -101,12 +116,17 @@ public class JPADelegationDAO extends AbstractDAO<Delegation> implements Delegat
 
     @Override
     public Delegation save(final Delegation delegation) {
-        return entityManager().merge(delegation);
+        Delegation merged = entityManager().merge(delegation);
+        jwtAuthenticationCache.evictDelegations(AuthContextUtils.getDomain());
+        authoritiesCache.evictDelegations(AuthContextUtils.getDomain());
+        return merged;
     }
 
     @Override
     public void delete(final Delegation delegation) {
         entityManager().remove(delegation);
+        jwtAuthenticationCache.evictDelegations(AuthContextUtils.getDomain());
+        authoritiesCache.evictDelegations(AuthContextUtils.getDomain());
     }
 
     @Override
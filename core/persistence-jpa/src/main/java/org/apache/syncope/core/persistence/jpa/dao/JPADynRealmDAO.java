@@ -21,7 +21,12 @@ package org.apache.syncope.core.persistence.jpa.dao;
 import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.apache.syncope.core.persistence.api.dao.AnyMatchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
@@ -35,9 +40,12 @@ import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
 import org.apache.syncope.core.persistence.jpa.entity.JPADynRealm;
 import org.apache.syncope.core.provisioning.api.event.AnyLifecycleEvent;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.apache.syncope.core.spring.security.AuthoritiesCache;
 import org.identityconnectors.framework.common.objects.SyncDeltaType;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 public class JPADynRealmDAO extends AbstractDAO<DynRealm> implements DynRealmDAO {
 
@@ -57,6 +65,12 @@ public class JPADynRealmDAO extends AbstractDAO<DynRealm> implements DynRealmDAO
 
     protected final SearchCondVisitor searchCondVisitor;
 
+    protected final SearchCondCache searchCondCache;
+
+    protected final boolean deferRefresh;
+
+    protected final AuthoritiesCache authoritiesCache;
+
     public JPADynRealmDAO(
             final ApplicationEventPublisher publisher,
             final UserDAO userDAO,
@@ -64,7 +78,10 @@ public class JPADynRealmDAO extends AbstractDAO<DynRealm> implements DynRealmDAO
             final AnyObjectDAO anyObjectDAO,
             final AnySearchDAO searchDAO,
             final AnyMatchDAO anyMatchDAO,
-            final SearchCondVisitor searchCondVisitor) {
+            final SearchCondVisitor searchCondVisitor,
+            final SearchCondCache searchCondCache,
+            final boolean deferRefresh,
+            final AuthoritiesCache authoritiesCache) {
 
         this.publisher = publisher;
         this.userDAO = userDAO;
@@ -73,6 +90,9 @@ public class JPADynRealmDAO extends AbstractDAO<DynRealm> implements DynRealmDAO
         this.searchDAO = searchDAO;
         this.anyMatchDAO = anyMatchDAO;
         this.searchCondVisitor = searchCondVisitor;
+        this.searchCondCache = searchCondCache;
+        this.deferRefresh = deferRefresh;
+        this.authoritiesCache = authoritiesCache;
     }
 
     @Override
@@ -134,19 +154,18 @@ public class JPADynRealmDAO extends AbstractDAO<DynRealm> implements DynRealmDAO
         // refresh dynamic memberships
         List<String> cleared = clearDynMembers(merged);
 
+        List<Object[]> inserts = new ArrayList<>();
         merged.getDynMemberships().stream().map(memb -> searchDAO.search(
                 SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond()), memb.getAnyType().getKind())).
                 forEach(matching -> matching.forEach(any -> {
 
-            Query insert = entityManager().createNativeQuery("INSERT INTO " + DYNMEMB_TABLE + " VALUES(?, ?)");
-            insert.setParameter(1, any.getKey());
-            insert.setParameter(2, merged.getKey());
-            insert.executeUpdate();
+            inserts.add(new Object[] { any.getKey(), merged.getKey() });
 
             publisher.publishEvent(
                     new AnyLifecycleEvent<>(this, SyncDeltaType.UPDATE, any, AuthContextUtils.getDomain()));
             cleared.remove(any.getKey());
         }));
+        batchUpdate("INSERT INTO " + DYNMEMB_TABLE + " VALUES(?, ?)", inserts);
 
         notifyDynMembershipRemoval(cleared);
 
@@ -163,38 +182,99 @@ public class JPADynRealmDAO extends AbstractDAO<DynRealm> implements DynRealmDAO
         notifyDynMembershipRemoval(clearDynMembers(dynRealm));
 
         entityManager().remove(dynRealm);
+        authoritiesCache.evictAll(AuthContextUtils.getDomain());
     }
 
-    @Transactional
-    @Override
-    public void refreshDynMemberships(final Any<?> any) {
+    @SuppressWarnings("unchecked")
+    protected Set<String> findDynRealmKeys(final String anyKey) {
+        Query query = entityManager().createNativeQuery(
+                "SELECT dynRealm_id FROM " + DYNMEMB_TABLE + " WHERE any_id=?");
+        query.setParameter(1, anyKey);
+
+        Set<String> result = new HashSet<>();
+        query.getResultList().stream().map(key -> key instanceof Object[]
+                ? (String) ((Object[]) key)[0]
+                : ((String) key)).
+                forEach(dynRealm -> result.add((String) dynRealm));
+        return result;
+    }
+
+    protected void doRefreshDynMemberships(final Any<?> any) {
+        Set<String> dynRealms = new HashSet<>();
+        Set<String> after = new HashSet<>();
         findAll().forEach(dynRealm -> dynRealm.getDynMembership(any.getType()).ifPresent(memb -> {
-            boolean matches = anyMatchDAO.matches(
-                    any, SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond()));
-
-            Query find = entityManager().createNativeQuery(
-                    "SELECT dynRealm_id FROM " + DYNMEMB_TABLE + " WHERE any_id=?");
-            find.setParameter(1, any.getKey());
-            boolean existing = !find.getResultList().isEmpty();
-
-            if (matches && !existing) {
-                Query insert = entityManager().
-                        createNativeQuery("INSERT INTO " + DYNMEMB_TABLE + " VALUES(?, ?)");
-                insert.setParameter(1, any.getKey());
-                insert.setParameter(2, dynRealm.getKey());
-                insert.executeUpdate();
-            } else if (!matches && existing) {
-                Query delete = entityManager().createNativeQuery(
-                        "DELETE FROM " + DYNMEMB_TABLE + " WHERE dynRealm_id=? AND any_id=?");
-                delete.setParameter(1, dynRealm.getKey());
-                delete.setParameter(2, any.getKey());
-                delete.executeUpdate();
+            dynRealms.add(dynRealm.getKey());
+            if (anyMatchDAO.matches(any, searchCondCache.get(memb.getFIQLCond()))) {
+                after.add(dynRealm.getKey());
             }
         }));
+
+        Set<String> before = findDynRealmKeys(any.getKey());
+        before.retainAll(dynRealms);
+
+        Set<String> toAdd = new HashSet<>(after);
+        toAdd.removeAll(before);
+        Set<String> toRemove = new HashSet<>(before);
+        toRemove.removeAll(after);
+
+        batchUpdate(
+                "INSERT INTO " + DYNMEMB_TABLE + " VALUES(?, ?)",
+                toAdd.stream().
+                        map(dynRealm -> new Object[] { any.getKey(), dynRealm }).
+                        collect(Collectors.toList()));
+        batchUpdate(
+                "DELETE FROM " + DYNMEMB_TABLE + " WHERE dynRealm_id=? AND any_id=?",
+                toRemove.stream().
+                        map(dynRealm -> new Object[] { dynRealm, any.getKey() }).
+                        collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the anys whose refresh was deferred to the end of the current transaction, registering the
+     * synchronization which will process them before commit if not done yet.
+     *
+     * @return anys whose refresh is pending, by key
+     */
+    @SuppressWarnings("unchecked")
+    protected Map<String, Any<?>> pendingRefreshes() {
+        Map<String, Any<?>> pending = (Map<String, Any<?>>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Map<String, Any<?>> created = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void beforeCommit(final boolean readOnly) {
+                    created.values().forEach(JPADynRealmDAO.this::doRefreshDynMemberships);
+                    created.clear();
+                }
+
+                @Override
+                public void afterCompletion(final int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(JPADynRealmDAO.this);
+                }
+            });
+            pending = created;
+        }
+        return pending;
+    }
+
+    @Transactional
+    @Override
+    public void refreshDynMemberships(final Any<?> any) {
+        if (deferRefresh && TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingRefreshes().put(any.getKey(), any);
+        } else {
+            doRefreshDynMemberships(any);
+        }
     }
 
     @Override
     public void removeDynMemberships(final String anyKey) {
+        if (deferRefresh && TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingRefreshes().remove(anyKey);
+        }
+
         Query delete = entityManager().createNativeQuery("DELETE FROM " + DYNMEMB_TABLE + " WHERE any_id=?");
         delete.setParameter(1, anyKey);
         delete.executeUpdate();
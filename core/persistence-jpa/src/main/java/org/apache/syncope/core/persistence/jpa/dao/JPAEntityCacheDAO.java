@@ -25,17 +25,24 @@ import java.util.List;
 import java.util.Map;
 import org.apache.openjpa.datacache.CacheStatistics;
 import org.apache.openjpa.datacache.CacheStatisticsSPI;
+import org.apache.openjpa.datacache.DataCacheManager;
 import org.apache.openjpa.datacache.QueryKey;
 import org.apache.openjpa.kernel.QueryStatistics;
 import org.apache.openjpa.persistence.OpenJPAEntityManagerFactory;
+import org.apache.openjpa.persistence.OpenJPAEntityManagerFactorySPI;
 import org.apache.openjpa.persistence.OpenJPAPersistence;
 import org.apache.openjpa.persistence.QueryResultCacheImpl;
 import org.apache.syncope.core.persistence.api.dao.EntityCacheDAO;
 import org.apache.syncope.core.persistence.api.entity.Entity;
 import org.apache.syncope.core.provisioning.api.utils.FormatUtils;
+import org.apache.syncope.core.provisioning.api.utils.NodeUtils;
 
 public class JPAEntityCacheDAO extends AbstractDAO<Entity> implements EntityCacheDAO {
 
+    protected static double ratio(final long hits, final long total) {
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
     protected CacheStatisticsSPI cacheStatisticsSPI() {
         return (CacheStatisticsSPI) OpenJPAPersistence.cast(entityManagerFactory()).getStoreCache().getStatistics();
     }
@@ -49,6 +56,8 @@ public class JPAEntityCacheDAO extends AbstractDAO<Entity> implements EntityCach
     public Map<String, Object> getStatistics() {
         Map<String, Object> result = new LinkedHashMap<>();
 
+        result.put("node", NodeUtils.getNodeId());
+
         CacheStatistics cacheStats = cacheStatisticsSPI();
 
         Map<String, Object> storeCache = new LinkedHashMap<>();
@@ -65,6 +74,8 @@ public class JPAEntityCacheDAO extends AbstractDAO<Entity> implements EntityCach
         storeCache.put("total_hits", cacheStats.getTotalHitCount());
         storeCache.put("total_reads", cacheStats.getTotalReadCount());
         storeCache.put("total_writes", cacheStats.getTotalWriteCount());
+        storeCache.put("hit_ratio", ratio(cacheStats.getHitCount(), cacheStats.getReadCount()));
+        storeCache.put("total_hit_ratio", ratio(cacheStats.getTotalHitCount(), cacheStats.getTotalReadCount()));
 
         List<Map<String, Object>> storeCacheDetails = new ArrayList<>();
         storeCache.put("details", storeCacheDetails);
@@ -74,6 +85,7 @@ public class JPAEntityCacheDAO extends AbstractDAO<Entity> implements EntityCach
             classMap.put("hits", cacheStats.getHitCount(className));
             classMap.put("reads", cacheStats.getReadCount(className));
             classMap.put("writes", cacheStats.getWriteCount(className));
+            classMap.put("hit_ratio", ratio(cacheStats.getHitCount(className), cacheStats.getReadCount(className)));
             storeCache.put("total_hits", cacheStats.getTotalHitCount(className));
             storeCache.put("total_reads", cacheStats.getTotalReadCount(className));
             storeCache.put("total_writes", cacheStats.getTotalWriteCount(className));
@@ -95,6 +107,8 @@ public class JPAEntityCacheDAO extends AbstractDAO<Entity> implements EntityCach
         queryCache.put("total_hits", queryStats.getTotalHitCount());
         queryCache.put("total_executions", queryStats.getTotalExecutionCount());
         queryCache.put("total_evictions", queryStats.getTotalEvictionCount());
+        queryCache.put("hit_ratio", ratio(queryStats.getHitCount(), queryStats.getExecutionCount()));
+        queryCache.put("total_hit_ratio", ratio(queryStats.getTotalHitCount(), queryStats.getTotalExecutionCount()));
 
         List<Map<String, Object>> queryCacheDetails = new ArrayList<>();
         queryCache.put("details", queryCacheDetails);
@@ -142,4 +156,12 @@ public class JPAEntityCacheDAO extends AbstractDAO<Entity> implements EntityCach
         emf.getStoreCache().evictAll();
         emf.getQueryResultCache().evictAll();
     }
+
+    @Override
+    public boolean isStoreCacheEnabled() {
+        OpenJPAEntityManagerFactorySPI emfspi =
+                (OpenJPAEntityManagerFactorySPI) OpenJPAPersistence.cast(entityManagerFactory());
+        DataCacheManager dataCacheManager = emfspi.getConfiguration().getDataCacheManagerInstance();
+        return dataCacheManager != null && dataCacheManager.getSystemDataCache() != null;
+    }
 }
@@ -24,12 +24,15 @@ import jakarta.persistence.TypedQuery;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.openjpa.persistence.FetchPlan;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
@@ -61,6 +64,7 @@ import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
 import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
 import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAADynGroupMembership;
 import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAMembership;
+import org.apache.syncope.core.persistence.jpa.entity.group.JPAGPlainAttr;
 import org.apache.syncope.core.persistence.jpa.entity.group.JPAGroup;
 import org.apache.syncope.core.persistence.jpa.entity.group.JPATypeExtension;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAUDynGroupMembership;
@@ -93,6 +97,8 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
 
     protected final SearchCondVisitor searchCondVisitor;
 
+    protected final SearchCondCache searchCondCache;
+
     public JPAGroupDAO(
             final AnyUtilsFactory anyUtilsFactory,
             final ApplicationEventPublisher publisher,
@@ -104,7 +110,8 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
             final UserDAO userDAO,
             final AnyObjectDAO anyObjectDAO,
             final AnySearchDAO searchDAO,
-            final SearchCondVisitor searchCondVisitor) {
+            final SearchCondVisitor searchCondVisitor,
+            final SearchCondCache searchCondCache) {
 
         super(anyUtilsFactory, plainSchemaDAO, derSchemaDAO, dynRealmDAO);
         this.publisher = publisher;
@@ -114,6 +121,7 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
         this.anyObjectDAO = anyObjectDAO;
         this.anySearchDAO = searchDAO;
         this.searchCondVisitor = searchCondVisitor;
+        this.searchCondCache = searchCondCache;
     }
 
     @Override
@@ -185,6 +193,13 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
         }
     }
 
+    @Override
+    protected void addPrefetchFields(final FetchPlan fetchPlan) {
+        fetchPlan.addField(JPAGroup.class, "plainAttrs");
+        fetchPlan.addField(JPAGPlainAttr.class, "values");
+        fetchPlan.addField(JPAGPlainAttr.class, "uniqueValue");
+    }
+
     @Override
     protected void securityChecks(final Group group) {
         Set<String> authRealms = AuthContextUtils.getAuthorizations().
@@ -289,6 +304,11 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
         return findAllKeys(JPAGroup.TABLE, page, itemsPerPage);
     }
 
+    @Override
+    public List<String> findAllKeys(final String lastKey, final int itemsPerPage) {
+        return findAllKeys(JPAGroup.TABLE, lastKey, itemsPerPage);
+    }
+
     protected SearchCond buildDynMembershipCond(final String baseCondFIQL) {
         return SearchCondConverter.convert(searchCondVisitor, baseCondFIQL);
     }
@@ -535,6 +555,35 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
         delete.executeUpdate();
     }
 
+    @SuppressWarnings("unchecked")
+    protected Set<String> findDynGroupKeys(final String table, final String anyKey) {
+        Query query = entityManager().createNativeQuery("SELECT group_id FROM " + table + " WHERE any_id=?");
+        query.setParameter(1, anyKey);
+
+        Set<String> result = new HashSet<>();
+        query.getResultList().stream().map(key -> key instanceof Object[]
+                ? (String) ((Object[]) key)[0]
+                : ((String) key)).
+                forEach(group -> result.add((String) group));
+        return result;
+    }
+
+    /**
+     * Notifies lifecycle listeners only about the dynamic groups whose set of members was actually altered.
+     *
+     * @param dynGroups dynamic groups evaluated, by key
+     * @param added keys of groups which gained a dynamic member
+     * @param removed keys of groups which lost a dynamic member
+     */
+    protected void publishDynMembershipChanges(
+            final Map<String, Group> dynGroups,
+            final Set<String> added,
+            final Set<String> removed) {
+
+        Stream.concat(added.stream(), removed.stream()).forEach(key -> publisher.publishEvent(
+                new AnyLifecycleEvent<>(this, SyncDeltaType.UPDATE, dynGroups.get(key), AuthContextUtils.getDomain())));
+    }
+
     protected List<ADynGroupMembership> findWithADynMemberships(final AnyType anyType) {
         TypedQuery<ADynGroupMembership> query = entityManager().createQuery(
                 "SELECT e FROM " + JPAADynGroupMembership.class.getSimpleName() + " e  WHERE e.anyType=:anyType",
@@ -546,45 +595,35 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
     @Transactional
     @Override
     public Pair<Set<String>, Set<String>> refreshDynMemberships(final AnyObject anyObject) {
-        Query query = entityManager().createNativeQuery(
-                "SELECT group_id FROM " + JPAGroupDAO.ADYNMEMB_TABLE + " WHERE any_id=?");
-        query.setParameter(1, anyObject.getKey());
-
-        Set<String> before = new HashSet<>();
+        Map<String, Group> dynGroups = new HashMap<>();
         Set<String> after = new HashSet<>();
         findWithADynMemberships(anyObject.getType()).forEach(memb -> {
-            boolean matches = anyMatchDAO.matches(anyObject, buildDynMembershipCond(memb.getFIQLCond()));
-            if (matches) {
+            dynGroups.put(memb.getGroup().getKey(), memb.getGroup());
+            if (anyMatchDAO.matches(anyObject, searchCondCache.get(memb.getFIQLCond()))) {
                 after.add(memb.getGroup().getKey());
             }
+        });
 
-            Query find = entityManager().createNativeQuery(
-                    "SELECT any_id FROM " + ADYNMEMB_TABLE + " WHERE group_id=? AND any_id=?");
-            find.setParameter(1, memb.getGroup().getKey());
-            find.setParameter(2, anyObject.getKey());
-            boolean existing = !find.getResultList().isEmpty();
-            if (existing) {
-                before.add(memb.getGroup().getKey());
-            }
+        Set<String> before = findDynGroupKeys(ADYNMEMB_TABLE, anyObject.getKey());
+        before.retainAll(dynGroups.keySet());
 
-            if (matches && !existing) {
-                Query insert = entityManager().createNativeQuery(
-                        "INSERT INTO " + ADYNMEMB_TABLE + " VALUES(?, ?, ?)");
-                insert.setParameter(1, anyObject.getType().getKey());
-                insert.setParameter(2, anyObject.getKey());
-                insert.setParameter(3, memb.getGroup().getKey());
-                insert.executeUpdate();
-            } else if (!matches && existing) {
-                Query delete = entityManager().createNativeQuery(
-                        "DELETE FROM " + ADYNMEMB_TABLE + " WHERE group_id=? AND any_id=?");
-                delete.setParameter(1, memb.getGroup().getKey());
-                delete.setParameter(2, anyObject.getKey());
-                delete.executeUpdate();
-            }
+        Set<String> toAdd = new HashSet<>(after);
+        toAdd.removeAll(before);
+        Set<String> toRemove = new HashSet<>(before);
+        toRemove.removeAll(after);
 
-            publisher.publishEvent(
-                    new AnyLifecycleEvent<>(this, SyncDeltaType.UPDATE, memb.getGroup(), AuthContextUtils.getDomain()));
-        });
+        batchUpdate(
+                "INSERT INTO " + ADYNMEMB_TABLE + " VALUES(?, ?, ?)",
+                toAdd.stream().
+                        map(group -> new Object[] { anyObject.getType().getKey(), anyObject.getKey(), group }).
+                        collect(Collectors.toList()));
+        batchUpdate(
+                "DELETE FROM " + ADYNMEMB_TABLE + " WHERE group_id=? AND any_id=?",
+                toRemove.stream().
+                        map(group -> new Object[] { group, anyObject.getKey() }).
+                        collect(Collectors.toList()));
+
+        publishDynMembershipChanges(dynGroups, toAdd, toRemove);
 
         return Pair.of(before, after);
     }
@@ -645,45 +684,36 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
     @Transactional
     @Override
     public Pair<Set<String>, Set<String>> refreshDynMemberships(final User user) {
-        Query query = entityManager().createNativeQuery(
-                "SELECT group_id FROM " + JPAGroupDAO.UDYNMEMB_TABLE + " WHERE any_id=?");
-        query.setParameter(1, user.getKey());
-
-        Set<String> before = new HashSet<>();
+        Map<String, Group> dynGroups = new HashMap<>();
         Set<String> after = new HashSet<>();
         findWithUDynMemberships().forEach(memb -> {
-            boolean matches = anyMatchDAO.matches(user, buildDynMembershipCond(memb.getFIQLCond()));
-            if (matches) {
+            dynGroups.put(memb.getGroup().getKey(), memb.getGroup());
+            if (anyMatchDAO.matches(user, searchCondCache.get(memb.getFIQLCond()))) {
                 after.add(memb.getGroup().getKey());
             }
-
-            Query find = entityManager().createNativeQuery(
-                    "SELECT any_id FROM " + UDYNMEMB_TABLE + " WHERE group_id=? AND any_id=?");
-            find.setParameter(1, memb.getGroup().getKey());
-            find.setParameter(2, user.getKey());
-            boolean existing = !find.getResultList().isEmpty();
-            if (existing) {
-                before.add(memb.getGroup().getKey());
-            }
-
-            if (matches && !existing) {
-                Query insert = entityManager().createNativeQuery(
-                        "INSERT INTO " + UDYNMEMB_TABLE + " VALUES(?, ?)");
-                insert.setParameter(1, user.getKey());
-                insert.setParameter(2, memb.getGroup().getKey());
-                insert.executeUpdate();
-            } else if (!matches && existing) {
-                Query delete = entityManager().createNativeQuery(
-                        "DELETE FROM " + UDYNMEMB_TABLE + " WHERE group_id=? AND any_id=?");
-                delete.setParameter(1, memb.getGroup().getKey());
-                delete.setParameter(2, user.getKey());
-                delete.executeUpdate();
-            }
-
-            publisher.publishEvent(
-                    new AnyLifecycleEvent<>(this, SyncDeltaType.UPDATE, memb.getGroup(), AuthContextUtils.getDomain()));
         });
 
+        Set<String> before = findDynGroupKeys(UDYNMEMB_TABLE, user.getKey());
+        before.retainAll(dynGroups.keySet());
+
+        Set<String> toAdd = new HashSet<>(after);
+        toAdd.removeAll(before);
+        Set<String> toRemove = new HashSet<>(before);
+        toRemove.removeAll(after);
+
+        batchUpdate(
+                "INSERT INTO " + UDYNMEMB_TABLE + " VALUES(?, ?)",
+                toAdd.stream().
+                        map(group -> new Object[] { user.getKey(), group }).
+                        collect(Collectors.toList()));
+        batchUpdate(
+                "DELETE FROM " + UDYNMEMB_TABLE + " WHERE group_id=? AND any_id=?",
+                toRemove.stream().
+                        map(group -> new Object[] { group, user.getKey() }).
+                        collect(Collectors.toList()));
+
+        publishDynMembershipChanges(dynGroups, toAdd, toRemove);
+
         return Pair.of(before, after);
     }
 
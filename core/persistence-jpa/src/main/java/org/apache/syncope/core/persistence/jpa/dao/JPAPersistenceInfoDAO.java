@@ -34,6 +34,7 @@ import org.apache.openjpa.persistence.OpenJPAEntityManagerFactorySPI;
 import org.apache.openjpa.persistence.OpenJPAPersistence;
 import org.apache.syncope.core.persistence.api.dao.PersistenceInfoDAO;
 import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.jpa.openjpa.DBRemoteCommitProvider;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
 
@@ -92,6 +93,15 @@ public class JPAPersistenceInfoDAO extends AbstractDAO<Entity> implements Persis
             }
         }
 
+        if (rcp instanceof DBRemoteCommitProvider dbrcp) {
+            remoteCommitProvider.put("node", dbrcp.getNode());
+            remoteCommitProvider.put("tableName", dbrcp.getTableName());
+            remoteCommitProvider.put("pollInterval", dbrcp.getPollInterval());
+            remoteCommitProvider.put("retention", dbrcp.getRetention());
+            remoteCommitProvider.put("sent", dbrcp.getSent());
+            remoteCommitProvider.put("received", dbrcp.getReceived());
+        }
+
         remoteCommitProvider.put(
                 "addresses",
                 addresses.stream().map(address -> {
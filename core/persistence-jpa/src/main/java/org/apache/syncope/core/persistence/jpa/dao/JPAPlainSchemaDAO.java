@@ -46,14 +46,18 @@ public class JPAPlainSchemaDAO extends AbstractDAO<PlainSchema> implements Plain
 
     private final ExternalResourceDAO resourceDAO;
 
+    private final SearchCondCache searchCondCache;
+
     public JPAPlainSchemaDAO(
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrDAO plainAttrDAO,
-            final ExternalResourceDAO resourceDAO) {
+            final ExternalResourceDAO resourceDAO,
+            final SearchCondCache searchCondCache) {
 
         this.anyUtilsFactory = anyUtilsFactory;
         this.plainAttrDAO = plainAttrDAO;
         this.resourceDAO = resourceDAO;
+        this.searchCondCache = searchCondCache;
     }
 
     @Override
@@ -127,7 +131,11 @@ public class JPAPlainSchemaDAO extends AbstractDAO<PlainSchema> implements Plain
     @Override
     public PlainSchema save(final PlainSchema schema) {
         ((JPAPlainSchema) schema).map2json();
-        return entityManager().merge(schema);
+        PlainSchema merged = entityManager().merge(schema);
+
+        searchCondCache.invalidate();
+
+        return merged;
     }
 
     protected void deleteAttrs(final PlainSchema schema) {
@@ -153,6 +161,8 @@ public class JPAPlainSchemaDAO extends AbstractDAO<PlainSchema> implements Plain
         }
 
         entityManager().remove(schema);
+
+        searchCondCache.invalidate();
     }
 
     private <T extends PlainAttr<?>> String getPlainAttrTable(final Class<T> plainAttrClass) {
@@ -41,14 +41,19 @@ import org.apache.syncope.core.persistence.api.entity.policy.PropagationPolicy;
 import org.apache.syncope.core.persistence.api.entity.policy.ProvisioningPolicy;
 import org.apache.syncope.core.persistence.api.entity.policy.TicketExpirationPolicy;
 import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.apache.syncope.core.spring.security.AuthoritiesCache;
 import org.springframework.transaction.annotation.Transactional;
 
 public class JPARealmDAO extends AbstractDAO<Realm> implements RealmDAO {
 
     protected final RoleDAO roleDAO;
 
-    public JPARealmDAO(final RoleDAO roleDAO) {
+    protected final AuthoritiesCache authoritiesCache;
+
+    public JPARealmDAO(final RoleDAO roleDAO, final AuthoritiesCache authoritiesCache) {
         this.roleDAO = roleDAO;
+        this.authoritiesCache = authoritiesCache;
     }
 
     @Override
@@ -296,6 +301,10 @@ public class JPARealmDAO extends AbstractDAO<Realm> implements RealmDAO {
 
         if (!fullPathAfter.equals(fullPathBefore)) {
             findChildren(realm).forEach(this::save);
+
+            if (fullPathBefore != null) {
+                authoritiesCache.evictAll(AuthContextUtils.getDomain());
+            }
         }
 
         return merged;
@@ -314,5 +323,7 @@ public class JPARealmDAO extends AbstractDAO<Realm> implements RealmDAO {
 
             entityManager().remove(toBeDeleted);
         });
+
+        authoritiesCache.evictAll(AuthContextUtils.getDomain());
     }
 }
@@ -37,6 +37,7 @@ import org.apache.syncope.core.persistence.jpa.entity.JPARole;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
 import org.apache.syncope.core.provisioning.api.event.AnyLifecycleEvent;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.apache.syncope.core.spring.security.AuthoritiesCache;
 import org.identityconnectors.framework.common.objects.SyncDeltaType;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
@@ -55,18 +56,26 @@ public class JPARoleDAO extends AbstractDAO<Role> implements RoleDAO {
 
     protected final SearchCondVisitor searchCondVisitor;
 
+    protected final SearchCondCache searchCondCache;
+
+    protected final AuthoritiesCache authoritiesCache;
+
     public JPARoleDAO(
             final AnyMatchDAO anyMatchDAO,
             final ApplicationEventPublisher publisher,
             final AnySearchDAO anySearchDAO,
             final DelegationDAO delegationDAO,
-            final SearchCondVisitor searchCondVisitor) {
+            final SearchCondVisitor searchCondVisitor,
+            final SearchCondCache searchCondCache,
+            final AuthoritiesCache authoritiesCache) {
 
         this.anyMatchDAO = anyMatchDAO;
         this.publisher = publisher;
         this.anySearchDAO = anySearchDAO;
         this.delegationDAO = delegationDAO;
         this.searchCondVisitor = searchCondVisitor;
+        this.searchCondCache = searchCondCache;
+        this.authoritiesCache = authoritiesCache;
     }
 
     @Override
@@ -108,7 +117,9 @@ public class JPARoleDAO extends AbstractDAO<Role> implements RoleDAO {
     @Override
     public Role save(final Role role) {
         ((JPARole) role).list2json();
-        return entityManager().merge(role);
+        Role merged = entityManager().merge(role);
+        authoritiesCache.evictAll(AuthContextUtils.getDomain());
+        return merged;
     }
 
     @Override
@@ -153,6 +164,7 @@ public class JPARoleDAO extends AbstractDAO<Role> implements RoleDAO {
         delegationDAO.findByRole(role).forEach(delegation -> delegation.getRoles().remove(role));
 
         entityManager().remove(role);
+        authoritiesCache.evictAll(AuthContextUtils.getDomain());
     }
 
     @Override
@@ -198,8 +210,7 @@ public class JPARoleDAO extends AbstractDAO<Role> implements RoleDAO {
         query.setParameter(1, user.getKey());
 
         findAll().stream().filter(role -> role.getDynMembership() != null).forEach(role -> {
-            boolean matches = anyMatchDAO.matches(
-                    user, SearchCondConverter.convert(searchCondVisitor, role.getDynMembership().getFIQLCond()));
+            boolean matches = anyMatchDAO.matches(user, searchCondCache.get(role.getDynMembership().getFIQLCond()));
 
             Query find = entityManager().createNativeQuery(
                     "SELECT any_id FROM " + DYNMEMB_TABLE + " WHERE role_id=?");
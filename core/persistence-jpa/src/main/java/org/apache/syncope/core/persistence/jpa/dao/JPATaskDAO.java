@@ -30,6 +30,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.to.PropagationTaskTO;
@@ -62,6 +63,7 @@ import org.apache.syncope.core.persistence.jpa.entity.task.JPAPushTask;
 import org.apache.syncope.core.persistence.jpa.entity.task.JPASchedTask;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.SecurityProperties;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ReflectionUtils;
@@ -526,13 +528,17 @@ public class JPATaskDAO extends AbstractDAO<Task<?>> implements TaskDAO {
                 stream().map(Task<?>::getKey).forEach(key -> delete(type, key));
     }
 
+    @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = Throwable.class)
     @Override
-    public List<PropagationTaskTO> purgePropagations(
+    public int purgePropagations(
             final OffsetDateTime since,
             final List<ExecStatus> statuses,
-            final List<ExternalResource> externalResources) {
+            final List<ExternalResource> externalResources,
+            final int max,
+            final Consumer<PropagationTaskTO> handler,
+            final Runnable beforeCommit) {
 
-        StringBuilder queryString = new StringBuilder("SELECT t.task_id "
+        StringBuilder queryString = new StringBuilder("SELECT DISTINCT t.task_id "
                 + "FROM " + JPAPropagationTaskExec.TABLE + " t "
                 + "INNER JOIN " + JPAPropagationTask.TABLE + " z "
                 + "ON t.task_id=z.id "
@@ -565,32 +571,48 @@ public class JPATaskDAO extends AbstractDAO<Task<?>> implements TaskDAO {
         for (int i = 1; i <= queryParameters.size(); i++) {
             query.setParameter(i, queryParameters.get(i - 1));
         }
+        query.setMaxResults(max);
 
         @SuppressWarnings("unchecked")
         List<Object> raw = query.getResultList();
+        List<String> keys = raw.stream().map(Object::toString).distinct().collect(Collectors.toList());
+        if (keys.isEmpty()) {
+            return 0;
+        }
 
-        List<PropagationTaskTO> purged = new ArrayList<>();
-        raw.stream().map(Object::toString).distinct().forEach(key -> {
-            PropagationTask task = find(TaskType.PROPAGATION, key);
-            if (task != null) {
-                PropagationTaskTO taskTO = new PropagationTaskTO();
-
-                taskTO.setOperation(task.getOperation());
-                taskTO.setConnObjectKey(task.getConnObjectKey());
-                taskTO.setOldConnObjectKey(task.getOldConnObjectKey());
-                taskTO.setPropagationData(task.getSerializedPropagationData());
-                taskTO.setResource(task.getResource().getKey());
-                taskTO.setObjectClassName(task.getObjectClassName());
-                taskTO.setAnyTypeKind(task.getAnyTypeKind());
-                taskTO.setAnyType(task.getAnyType());
-                taskTO.setEntityKey(task.getEntityKey());
-
-                purged.add(taskTO);
-
-                delete(task);
-            }
+        TypedQuery<PropagationTask> tasks = entityManager().createQuery(
+                "SELECT e FROM " + JPAPropagationTask.class.getSimpleName() + " e WHERE e.id IN :keys",
+                PropagationTask.class);
+        tasks.setParameter("keys", keys);
+        tasks.getResultList().forEach(task -> {
+            PropagationTaskTO taskTO = new PropagationTaskTO();
+
+            taskTO.setOperation(task.getOperation());
+            taskTO.setConnObjectKey(task.getConnObjectKey());
+            taskTO.setOldConnObjectKey(task.getOldConnObjectKey());
+            taskTO.setPropagationData(task.getSerializedPropagationData());
+            taskTO.setResource(task.getResource().getKey());
+            taskTO.setObjectClassName(task.getObjectClassName());
+            taskTO.setAnyTypeKind(task.getAnyTypeKind());
+            taskTO.setAnyType(task.getAnyType());
+            taskTO.setEntityKey(task.getEntityKey());
+
+            handler.accept(taskTO);
         });
 
-        return purged;
+        entityManager().createQuery(
+                "DELETE FROM " + JPAPropagationTaskExec.class.getSimpleName() + " e WHERE e.task.id IN :keys").
+                setParameter("keys", keys).executeUpdate();
+        entityManager().createQuery(
+                "DELETE FROM " + JPAPropagationTask.class.getSimpleName() + " e WHERE e.id IN :keys").
+                setParameter("keys", keys).executeUpdate();
+
+        // bulk deletes bypass the store cache, which might still hold the instances just deleted
+        keys.forEach(key -> entityManagerFactory().getCache().evict(JPAPropagationTask.class, key));
+        entityManagerFactory().getCache().evict(JPAPropagationTaskExec.class);
+
+        beforeCommit.run();
+
+        return keys.size();
     }
 }
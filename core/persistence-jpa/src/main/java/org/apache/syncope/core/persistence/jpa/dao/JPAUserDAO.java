@@ -32,6 +32,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.openjpa.persistence.FetchPlan;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.core.persistence.api.dao.AccessTokenDAO;
@@ -57,6 +58,7 @@ import org.apache.syncope.core.persistence.api.entity.user.UMembership;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPALinkedAccount;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAUMembership;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUPlainAttr;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
 import org.apache.syncope.core.provisioning.api.utils.RealmUtils;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
@@ -204,6 +206,16 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
         }
     }
 
+    @Override
+    protected void addPrefetchFields(final FetchPlan fetchPlan) {
+        fetchPlan.addField(JPAUser.class, "plainAttrs");
+        fetchPlan.addField(JPAUser.class, "memberships");
+        fetchPlan.addField(JPAUser.class, "relationships");
+        fetchPlan.addField(JPAUser.class, "linkedAccounts");
+        fetchPlan.addField(JPAUPlainAttr.class, "values");
+        fetchPlan.addField(JPAUPlainAttr.class, "uniqueValue");
+    }
+
     @Override
     protected void securityChecks(final User user) {
         // Allows anonymous (during self-registration) and self (during self-update) to read own user,
@@ -282,6 +294,11 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
         return findAllKeys(JPAUser.TABLE, page, itemsPerPage);
     }
 
+    @Override
+    public List<String> findAllKeys(final String lastKey, final int itemsPerPage) {
+        return findAllKeys(JPAUser.TABLE, lastKey, itemsPerPage);
+    }
+
     protected Pair<User, Pair<Set<String>, Set<String>>> doSave(final User user) {
         User merged = super.save(user);
         roleDAO.refreshDynMemberships(merged);
@@ -301,6 +318,21 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
         return doSave(user).getRight();
     }
 
+    @Transactional
+    @Override
+    public void updateLastLoginDates(final Map<String, OffsetDateTime> lastLoginDates) {
+        Query query = entityManager().createQuery(
+                "UPDATE " + anyUtils().anyClass().getSimpleName() + " e SET e.lastLoginDate = :lastLoginDate "
+                + "WHERE e.id = :key AND (e.lastLoginDate IS NULL OR e.lastLoginDate < :lastLoginDate)");
+        lastLoginDates.forEach((key, lastLoginDate) -> {
+            query.setParameter("key", key);
+            query.setParameter("lastLoginDate", lastLoginDate);
+            if (query.executeUpdate() > 0) {
+                entityManagerFactory().getCache().evict(JPAUser.class, key);
+            }
+        });
+    }
+
     @Override
     public void delete(final User user) {
         roleDAO.removeDynMemberships(user.getKey());
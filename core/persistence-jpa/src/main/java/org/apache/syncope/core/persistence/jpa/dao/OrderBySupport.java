@@ -33,6 +33,11 @@ public class OrderBySupport {
 
         protected String orderBy;
 
+        /**
+         * Expression usable in WHERE for comparing the ordered values, null if not available.
+         */
+        protected String column;
+
         protected boolean isEmpty() {
             return (select == null || select.isEmpty())
                     && (where == null || where.isEmpty())
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
+import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+
+/**
+ * Domain-scoped cache of FIQL expressions compiled into {@link SearchCond} instances, and of the schema-dependent
+ * information resolved while matching their leaves.
+ * All the entries for a domain are dropped whenever a plain schema is saved or deleted there, on any node.
+ */
+public class SearchCondCache {
+
+    protected final SearchCondVisitor searchCondVisitor;
+
+    protected final Cache<Pair<String, String>, SearchCond> conds;
+
+    protected final Cache<Pair<String, Object>, Optional<?>> resolved;
+
+    public SearchCondCache(final SearchCondVisitor searchCondVisitor, final String cacheSpec) {
+        this.searchCondVisitor = searchCondVisitor;
+        this.conds = Caffeine.from(cacheSpec).build();
+        this.resolved = Caffeine.from(cacheSpec).build();
+    }
+
+    /**
+     * Returns the search condition compiled from the given FIQL expression for the current domain.
+     * Returned instances are shared, hence they must not be altered and must only be used for matching.
+     *
+     * @param fiql FIQL expression
+     * @return compiled search condition
+     */
+    public SearchCond get(final String fiql) {
+        return conds.get(
+                Pair.of(AuthContextUtils.getDomain(), fiql),
+                key -> SearchCondConverter.convert(searchCondVisitor, key.getRight()));
+    }
+
+    /**
+     * Returns the information resolved for the given key in the current domain, invoking the provided resolver only
+     * if not already available.
+     *
+     * @param key immutable key, identifying a leaf condition
+     * @param resolver function resolving information for the given key
+     * @param <T> resolved information type
+     * @return resolved information, empty if resolution failed
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> resolve(final Object key, final Supplier<Optional<T>> resolver) {
+        return (Optional<T>) resolved.get(Pair.of(AuthContextUtils.getDomain(), key), k -> resolver.get());
+    }
+
+    /**
+     * Drops all the entries for the current domain.
+     */
+    public void invalidate() {
+        invalidate(AuthContextUtils.getDomain());
+    }
+
+    /**
+     * Drops all the entries for the given domain.
+     *
+     * @param domain domain
+     */
+    public void invalidate(final String domain) {
+        conds.asMap().keySet().removeIf(key -> domain.equals(key.getLeft()));
+        resolved.asMap().keySet().removeIf(key -> domain.equals(key.getLeft()));
+    }
+}
@@ -84,6 +84,8 @@ public class JPAPullTask extends AbstractProvisioningTask<PullTask> implements P
     @NotNull
     private Boolean remediation = false;
 
+    private Integer commitBatchSize;
+
     @Override
     public PullMode getPullMode() {
         return pullMode;
@@ -157,6 +159,16 @@ public class JPAPullTask extends AbstractProvisioningTask<PullTask> implements P
         return concurrentSettings != null ? true : remediation;
     }
 
+    @Override
+    public int getCommitBatchSize() {
+        return Optional.ofNullable(commitBatchSize).orElse(0);
+    }
+
+    @Override
+    public void setCommitBatchSize(final int commitBatchSize) {
+        this.commitBatchSize = commitBatchSize;
+    }
+
     @Override
     protected Class<? extends TaskExec<SchedTask>> executionClass() {
         return JPAPullTaskExec.class;
@@ -72,6 +72,8 @@ public class JPAPushTask extends AbstractProvisioningTask<PushTask> implements P
     @Transient
     private Map<String, String> filterMap = new HashMap<>();
 
+    private Boolean snapshotMatching;
+
     @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(name = "PushTaskAction",
             joinColumns =
@@ -119,6 +121,16 @@ public class JPAPushTask extends AbstractProvisioningTask<PushTask> implements P
         return filterMap;
     }
 
+    @Override
+    public boolean isSnapshotMatching() {
+        return Optional.ofNullable(snapshotMatching).orElse(false);
+    }
+
+    @Override
+    public void setSnapshotMatching(final boolean snapshotMatching) {
+        this.snapshotMatching = snapshotMatching;
+    }
+
     @Override
     protected Class<? extends TaskExec<SchedTask>> executionClass() {
         return JPAPushTaskExec.class;
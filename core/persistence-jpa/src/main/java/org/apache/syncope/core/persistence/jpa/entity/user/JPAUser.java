@@ -127,8 +127,11 @@ public class JPAUser
     protected String username;
 
     /**
-     * Last successful login date.
+     * Last successful login date: not written when merging, but only via
+     * {@link org.apache.syncope.core.persistence.api.dao.UserDAO#updateLastLoginDates(java.util.Map)}, so that it is
+     * never moved backwards by the merge of a user loaded before the latest login.
      */
+    @Column(updatable = false)
     protected OffsetDateTime lastLoginDate;
 
     /**
@@ -0,0 +1,377 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.openjpa;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.apache.openjpa.event.AbstractRemoteCommitProvider;
+import org.apache.openjpa.event.RemoteCommitEvent;
+import org.apache.openjpa.jdbc.conf.JDBCConfiguration;
+import org.apache.openjpa.jdbc.sql.DBDictionary;
+import org.apache.openjpa.lib.conf.Configuration;
+import org.apache.syncope.core.provisioning.api.utils.NodeUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link org.apache.openjpa.event.RemoteCommitProvider} propagating commit events among Core nodes via a table in
+ * the same database they share, so that no further infrastructure is required.
+ * Events are written and read by a background thread every {@code PollInterval} milliseconds; rows older than
+ * {@code Retention} milliseconds are purged.
+ * To be configured as
+ * {@code persistence.remoteCommitProvider=org.apache.syncope.core.persistence.jpa.openjpa.DBRemoteCommitProvider}
+ * optionally followed by parameters, e.g. {@code (PollInterval=1000,Retention=300000)}.
+ * Each node is identified by {@link NodeUtils#getNodeId()}, unless {@code Node} is explicitly set: this is required
+ * when several Core nodes run on the same host.
+ */
+public class DBRemoteCommitProvider extends AbstractRemoteCommitProvider {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(DBRemoteCommitProvider.class);
+
+    /**
+     * Only accepts what {@link RemoteCommitEvent#writeExternal(java.io.ObjectOutput)} actually writes: collections
+     * of type names or of {@link org.apache.openjpa.util.OpenJPAId} instances, the latter referring to entity classes.
+     */
+    protected static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter(
+            "java.lang.Object;java.lang.String;java.lang.Number;java.lang.Long;java.lang.Integer"
+            + ";java.util.Collections$UnmodifiableCollection;java.util.Collections$SingletonSet"
+            + ";java.util.ArrayList;java.util.HashSet;java.util.Map$Entry"
+            + ";org.apache.openjpa.util.OpenJPAId;org.apache.openjpa.util.StringId;org.apache.openjpa.util.LongId"
+            + ";org.apache.openjpa.util.IntId;org.apache.openjpa.util.Id;org.apache.openjpa.util.ObjectId"
+            + ";org.apache.syncope.core.persistence.jpa.entity.**;!*");
+
+    protected String node = NodeUtils.getNodeId();
+
+    protected final Queue<byte[]> outgoing = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Keys of the events already processed, with their creation time, to skip them when read again.
+     */
+    protected final Map<String, Timestamp> processed = new ConcurrentHashMap<>();
+
+    protected JDBCConfiguration conf;
+
+    protected String tableName = "SyncopeRemoteCommit";
+
+    protected long pollInterval = 1000;
+
+    protected long retention = 300000;
+
+    protected ScheduledExecutorService scheduler;
+
+    protected boolean tableReady;
+
+    protected Timestamp watermark;
+
+    protected long lastPurge;
+
+    protected final AtomicLong received = new AtomicLong();
+
+    protected final AtomicLong sent = new AtomicLong();
+
+    public String getNode() {
+        return node;
+    }
+
+    public void setNode(final String node) {
+        this.node = node;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public void setTableName(final String tableName) {
+        this.tableName = tableName;
+    }
+
+    public long getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(final long pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public long getRetention() {
+        return retention;
+    }
+
+    public void setRetention(final long retention) {
+        this.retention = retention;
+    }
+
+    public long getReceived() {
+        return received.get();
+    }
+
+    public long getSent() {
+        return sent.get();
+    }
+
+    @Override
+    public void setConfiguration(final Configuration config) {
+        super.setConfiguration(config);
+        this.conf = (JDBCConfiguration) config;
+    }
+
+    @Override
+    public void endConfiguration() {
+        super.endConfiguration();
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dbRemoteCommitProvider");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::poll, pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void broadcast(final RemoteCommitEvent event) {
+        try {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+                event.writeExternal(oos);
+            }
+            outgoing.add(baos.toByteArray());
+        } catch (IOException e) {
+            LOG.error("Could not serialize remote commit event", e);
+        }
+    }
+
+    protected DataSource dataSource() {
+        DataSource dataSource = conf.getDataSource2(null);
+        return dataSource == null ? conf.getDataSource(null) : dataSource;
+    }
+
+    protected DBDictionary dictionary() {
+        return conf.getDBDictionaryInstance();
+    }
+
+    protected boolean tableExists(final Connection conn) throws SQLException {
+        DatabaseMetaData metaData = conn.getMetaData();
+        // unquoted identifiers might be stored as given, in upper or in lower case, depending on the DBMS
+        for (String name : Set.of(
+                tableName, tableName.toUpperCase(Locale.ROOT), tableName.toLowerCase(Locale.ROOT))) {
+
+            try (ResultSet rs = metaData.getTables(conn.getCatalog(), conn.getSchema(), name, null)) {
+                if (rs.next()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    protected void ensureTable(final Connection conn) throws SQLException {
+        if (tableReady) {
+            return;
+        }
+
+        if (!tableExists(conn)) {
+            LOG.info("Creating table {}", tableName);
+
+            DBDictionary dict = dictionary();
+            try (Statement stmt = conn.createStatement()) {
+                stmt.executeUpdate("CREATE TABLE " + tableName + " ("
+                        + "id " + dict.varcharTypeName + "(36) NOT NULL, "
+                        + "node " + dict.varcharTypeName + "(255) NOT NULL, "
+                        + "created " + dict.timestampTypeName + " NOT NULL, "
+                        + "payload " + dict.blobTypeName + ", "
+                        + "PRIMARY KEY (id))");
+                stmt.executeUpdate("CREATE INDEX " + tableName + "Created ON " + tableName + "(created)");
+                if (!conn.getAutoCommit()) {
+                    conn.commit();
+                }
+            } catch (SQLException e) {
+                if (!conn.getAutoCommit()) {
+                    conn.rollback();
+                }
+                // another node might have created the table meanwhile
+                if (!tableExists(conn)) {
+                    throw e;
+                }
+            }
+        }
+
+        tableReady = true;
+    }
+
+    protected void write(final Connection conn) throws SQLException {
+        List<byte[]> batch = new ArrayList<>();
+        for (byte[] payload = outgoing.poll(); payload != null; payload = outgoing.poll()) {
+            batch.add(payload);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try (PreparedStatement stmt = conn.prepareStatement("INSERT INTO " + tableName + " VALUES(?, ?, "
+                + dictionary().currentTimestampFunction + ", ?)")) {
+
+            for (byte[] payload : batch) {
+                stmt.setString(1, UUID.randomUUID().toString());
+                stmt.setString(2, node);
+                stmt.setBytes(3, payload);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+            if (!conn.getAutoCommit()) {
+                conn.commit();
+            }
+
+            sent.addAndGet(batch.size());
+        } catch (SQLException e) {
+            batch.forEach(outgoing::add);
+            throw e;
+        }
+    }
+
+    protected RemoteCommitEvent deserialize(final InputStream payload) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new ObjectInputStream(payload) {
+
+            @Override
+            protected Class<?> resolveClass(final ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+                try {
+                    return Class.forName(desc.getName(), false, DBRemoteCommitProvider.class.getClassLoader());
+                } catch (ClassNotFoundException e) {
+                    return super.resolveClass(desc);
+                }
+            }
+        }) {
+            ois.setObjectInputFilter(FILTER);
+
+            RemoteCommitEvent event = new RemoteCommitEvent();
+            event.readExternal(ois);
+            return event;
+        }
+    }
+
+    protected void read(final Connection conn) throws SQLException {
+        Timestamp from = watermark == null ? null : new Timestamp(watermark.getTime() - 10 * pollInterval);
+
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT id, created, payload FROM " + tableName
+                + " WHERE node <> ?" + (from == null ? "" : " AND created >= ?") + " ORDER BY created")) {
+
+            stmt.setString(1, node);
+            if (from != null) {
+                stmt.setTimestamp(2, from);
+            }
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String id = rs.getString(1);
+                    Timestamp created = rs.getTimestamp(2);
+                    if (watermark == null || created.after(watermark)) {
+                        watermark = created;
+                    }
+
+                    if (processed.putIfAbsent(id, created) == null) {
+                        try {
+                            fireEvent(deserialize(new ByteArrayInputStream(rs.getBytes(3))));
+                            received.incrementAndGet();
+                        } catch (Exception e) {
+                            LOG.error("Could not process remote commit event {}", id, e);
+                        }
+                    }
+                }
+            }
+        }
+
+        if (from != null) {
+            processed.values().removeIf(created -> created.before(from));
+        }
+    }
+
+    protected void purge(final Connection conn) throws SQLException {
+        if (System.currentTimeMillis() - lastPurge < retention / 10) {
+            return;
+        }
+        lastPurge = System.currentTimeMillis();
+
+        Timestamp latest = null;
+        try (Statement stmt = conn.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT MAX(created) FROM " + tableName)) {
+
+            if (rs.next()) {
+                latest = rs.getTimestamp(1);
+            }
+        }
+        if (latest == null) {
+            return;
+        }
+
+        try (PreparedStatement stmt = conn.prepareStatement("DELETE FROM " + tableName + " WHERE created < ?")) {
+            stmt.setTimestamp(1, new Timestamp(latest.getTime() - retention));
+            stmt.executeUpdate();
+            if (!conn.getAutoCommit()) {
+                conn.commit();
+            }
+        }
+    }
+
+    protected synchronized void poll() {
+        try (Connection conn = dataSource().getConnection()) {
+            ensureTable(conn);
+            write(conn);
+            read(conn);
+            purge(conn);
+        } catch (Exception e) {
+            LOG.error("While exchanging remote commit events via {}", tableName, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            if (!outgoing.isEmpty()) {
+                poll();
+            }
+        }
+    }
+}
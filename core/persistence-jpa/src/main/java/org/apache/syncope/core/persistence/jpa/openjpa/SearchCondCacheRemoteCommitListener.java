@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.openjpa;
+
+import java.util.Collection;
+import org.apache.openjpa.event.RemoteCommitEvent;
+import org.apache.openjpa.event.RemoteCommitListener;
+import org.apache.openjpa.util.OpenJPAId;
+import org.apache.syncope.core.persistence.api.entity.PlainSchema;
+import org.apache.syncope.core.persistence.jpa.dao.SearchCondCache;
+
+/**
+ * Drops the entries of the {@link SearchCondCache} of this node for a domain whenever a plain schema is saved or
+ * deleted there by other nodes, as notified by the configured {@link org.apache.openjpa.event.RemoteCommitProvider}.
+ */
+public class SearchCondCacheRemoteCommitListener implements RemoteCommitListener {
+
+    protected final String domain;
+
+    protected final SearchCondCache searchCondCache;
+
+    public SearchCondCacheRemoteCommitListener(final String domain, final SearchCondCache searchCondCache) {
+        this.domain = domain;
+        this.searchCondCache = searchCondCache;
+    }
+
+    protected boolean isPlainSchema(final Collection<?> oids) {
+        return oids.stream().filter(OpenJPAId.class::isInstance).map(OpenJPAId.class::cast).
+                anyMatch(oid -> PlainSchema.class.isAssignableFrom(oid.getType()));
+    }
+
+    @Override
+    public void afterCommit(final RemoteCommitEvent event) {
+        // only the changed types are known with extents payload
+        if (event.getPayloadType() == RemoteCommitEvent.PAYLOAD_EXTENTS
+                || isPlainSchema(event.getUpdatedObjectIds())
+                || isPlainSchema(event.getDeletedObjectIds())) {
+
+            searchCondCache.invalidate(domain);
+        }
+    }
+
+    @Override
+    public void close() {
+        // nothing to do
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.openjpa;
+
+import java.util.Collection;
+import org.apache.openjpa.event.RemoteCommitEvent;
+import org.apache.openjpa.event.RemoteCommitListener;
+import org.apache.openjpa.util.OpenJPAId;
+import org.apache.syncope.core.persistence.api.entity.AccessToken;
+import org.apache.syncope.core.persistence.api.entity.Delegation;
+import org.apache.syncope.core.persistence.api.entity.DynRealm;
+import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.entity.Role;
+import org.apache.syncope.core.persistence.api.entity.group.Group;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.spring.security.AuthoritiesCache;
+import org.apache.syncope.core.spring.security.JWTAuthenticationCache;
+
+/**
+ * Applies to the security caches of this node the evictions due to changes committed by other nodes, as notified by
+ * the configured {@link org.apache.openjpa.event.RemoteCommitProvider}.
+ */
+public class SecurityCacheRemoteCommitListener implements RemoteCommitListener {
+
+    protected final String domain;
+
+    protected final JWTAuthenticationCache jwtAuthenticationCache;
+
+    protected final AuthoritiesCache authoritiesCache;
+
+    public SecurityCacheRemoteCommitListener(
+            final String domain,
+            final JWTAuthenticationCache jwtAuthenticationCache,
+            final AuthoritiesCache authoritiesCache) {
+
+        this.domain = domain;
+        this.jwtAuthenticationCache = jwtAuthenticationCache;
+        this.authoritiesCache = authoritiesCache;
+    }
+
+    protected void evict(final Collection<?> oids) {
+        oids.stream().filter(OpenJPAId.class::isInstance).map(OpenJPAId.class::cast).forEach(oid -> {
+            String key = String.valueOf(oid.getIdObject());
+
+            if (AccessToken.class.isAssignableFrom(oid.getType())) {
+                jwtAuthenticationCache.evictToken(domain, key);
+            } else if (User.class.isAssignableFrom(oid.getType())) {
+                jwtAuthenticationCache.evictUser(domain, key);
+                authoritiesCache.evictUser(domain, key);
+            } else if (Delegation.class.isAssignableFrom(oid.getType())) {
+                jwtAuthenticationCache.evictDelegations(domain);
+                authoritiesCache.evictDelegations(domain);
+            } else if (Group.class.isAssignableFrom(oid.getType())
+                    || Role.class.isAssignableFrom(oid.getType())
+                    || Realm.class.isAssignableFrom(oid.getType())
+                    || DynRealm.class.isAssignableFrom(oid.getType())) {
+
+                // previous and current owners of a changed group are not known here
+                jwtAuthenticationCache.evictAll(domain);
+                authoritiesCache.evictAll(domain);
+            }
+        });
+    }
+
+    @Override
+    public void afterCommit(final RemoteCommitEvent event) {
+        if (event.getPayloadType() == RemoteCommitEvent.PAYLOAD_EXTENTS) {
+            // only the changed types are known
+            jwtAuthenticationCache.evictAll(domain);
+            authoritiesCache.evictAll(domain);
+        } else {
+            evict(event.getUpdatedObjectIds());
+            evict(event.getDeletedObjectIds());
+        }
+    }
+
+    @Override
+    public void close() {
+        // nothing to do
+    }
+}
@@ -19,10 +19,14 @@
 package org.apache.syncope.core.persistence.jpa.spring;
 
 import jakarta.persistence.ValidationMode;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import javax.sql.DataSource;
+import org.apache.openjpa.event.RemoteCommitListener;
 import org.apache.syncope.core.persistence.api.DomainHolder;
 import org.springframework.orm.jpa.persistenceunit.PersistenceUnitPostProcessor;
 
@@ -42,6 +46,8 @@ public class CommonEntityManagerFactoryConf implements DomainHolder {
 
     private final Map<String, Object> jpaPropertyMap = new HashMap<>();
 
+    private final List<Function<String, RemoteCommitListener>> remoteCommitListeners = new ArrayList<>();
+
     @Override
     public Map<String, DataSource> getDomains() {
         return domains;
@@ -80,4 +86,11 @@ public class CommonEntityManagerFactoryConf implements DomainHolder {
             this.jpaPropertyMap.putAll(jpaProperties);
         }
     }
+
+    /**
+     * @return builders, by domain, of the listeners to register for commit events received from other nodes
+     */
+    public List<Function<String, RemoteCommitListener>> getRemoteCommitListeners() {
+        return remoteCommitListeners;
+    }
 }
@@ -18,6 +18,10 @@
  */
 package org.apache.syncope.core.persistence.jpa.spring;
 
+import jakarta.persistence.PersistenceException;
+import org.apache.openjpa.event.RemoteCommitEventManager;
+import org.apache.openjpa.event.SingleJVMRemoteCommitProvider;
+import org.apache.openjpa.persistence.OpenJPAPersistence;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 
 /**
@@ -28,7 +32,11 @@ public class DomainEntityManagerFactoryBean extends LocalContainerEntityManagerF
 
     private static final long serialVersionUID = 49152547930966545L;
 
+    private CommonEntityManagerFactoryConf commonEMFConf;
+
     public void setCommonEntityManagerFactoryConf(final CommonEntityManagerFactoryConf commonEMFConf) {
+        this.commonEMFConf = commonEMFConf;
+
         super.setJpaPropertyMap(commonEMFConf.getJpaPropertyMap());
 
         if (commonEMFConf.getPackagesToScan() != null) {
@@ -43,4 +51,19 @@ public class DomainEntityManagerFactoryBean extends LocalContainerEntityManagerF
 
         commonEMFConf.getDomains().put(this.getPersistenceUnitName(), this.getDataSource());
     }
+
+    @Override
+    public void afterPropertiesSet() throws PersistenceException {
+        super.afterPropertiesSet();
+
+        // events from a single JVM provider only come from the other domains of this node
+        RemoteCommitEventManager rcem = OpenJPAPersistence.cast(getNativeEntityManagerFactory()).
+                getConfiguration().getRemoteCommitEventManager();
+        if (commonEMFConf != null && rcem.areRemoteEventsEnabled()
+                && !(rcem.getRemoteCommitProvider() instanceof SingleJVMRemoteCommitProvider)) {
+
+            commonEMFConf.getRemoteCommitListeners().
+                    forEach(listener -> rcem.addListener(listener.apply(getPersistenceUnitName())));
+        }
+    }
 }
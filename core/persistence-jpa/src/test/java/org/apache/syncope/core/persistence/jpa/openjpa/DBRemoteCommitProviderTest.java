@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.openjpa;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.apache.openjpa.event.RemoteCommitEvent;
+import org.apache.openjpa.jdbc.sql.DBDictionary;
+import org.apache.openjpa.jdbc.sql.H2Dictionary;
+import org.apache.openjpa.util.OpenJPAId;
+import org.apache.openjpa.util.StringId;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DBRemoteCommitProviderTest {
+
+    private static class TestDBRemoteCommitProvider extends DBRemoteCommitProvider {
+
+        private final DataSource dataSource;
+
+        private final List<RemoteCommitEvent> fired = new ArrayList<>();
+
+        TestDBRemoteCommitProvider(final DataSource dataSource, final String node) {
+            this.dataSource = dataSource;
+            setNode(node);
+        }
+
+        @Override
+        protected DataSource dataSource() {
+            return dataSource;
+        }
+
+        @Override
+        protected DBDictionary dictionary() {
+            return new H2Dictionary();
+        }
+
+        @Override
+        protected void fireEvent(final RemoteCommitEvent event) {
+            fired.add(event);
+        }
+    }
+
+    private static RemoteCommitEvent event(final List<Object> updates) {
+        return new RemoteCommitEvent(RemoteCommitEvent.PAYLOAD_OIDS, null, null, updates, new ArrayList<>());
+    }
+
+    private TestDBRemoteCommitProvider node1;
+
+    private TestDBRemoteCommitProvider node2;
+
+    @Before
+    public void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+
+        node1 = new TestDBRemoteCommitProvider(dataSource, "node1");
+        node2 = new TestDBRemoteCommitProvider(dataSource, "node2");
+    }
+
+    @Test
+    public void exchange() {
+        String key = UUID.randomUUID().toString();
+        node1.broadcast(event(new ArrayList<>(List.of(new StringId(JPAUser.class, key)))));
+        node1.poll();
+        node2.poll();
+
+        assertEquals(1, node1.getSent());
+        assertTrue(node1.fired.isEmpty());
+
+        assertEquals(1, node2.getReceived());
+        assertEquals(1, node2.fired.size());
+        OpenJPAId oid = (OpenJPAId) node2.fired.get(0).getUpdatedObjectIds().iterator().next();
+        assertEquals(JPAUser.class, oid.getType());
+        assertEquals(key, oid.getIdObject());
+
+        // events already processed are not fired again
+        node2.poll();
+        assertEquals(1, node2.fired.size());
+
+        node2.broadcast(event(new ArrayList<>(List.of(new StringId(JPAUser.class, key)))));
+        node2.poll();
+        node1.poll();
+
+        assertEquals(1, node1.getReceived());
+        assertEquals(1, node1.fired.size());
+        assertEquals(1, node2.fired.size());
+    }
+
+    @Test
+    public void rejectUnexpectedClasses() {
+        node1.broadcast(event(new ArrayList<>(List.of(new Date()))));
+        node1.poll();
+        node2.poll();
+
+        assertEquals(1, node1.getSent());
+        assertEquals(0, node2.getReceived());
+        assertTrue(node2.fired.isEmpty());
+    }
+}
@@ -23,6 +23,11 @@ import org.apache.syncope.core.provisioning.api.event.AfterHandlingEvent;
 
 public interface AuditManager {
 
+    /**
+     * Discards any audit configuration cached for the current domain, to be invoked after changes.
+     */
+    void refresh();
+
     /**
      * Checks if audit is requested matching the provided conditions.
      *
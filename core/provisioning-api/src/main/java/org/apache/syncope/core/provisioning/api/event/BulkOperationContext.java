@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api.event;
+
+/**
+ * Tells whether the current thread is running a bulk operation, as a pull or push task: listeners may then process
+ * the {@link AnyLifecycleEvent}s published meanwhile in batches, rather than right away.
+ */
+public final class BulkOperationContext {
+
+    private static final ThreadLocal<Boolean> BULK = new ThreadLocal<>();
+
+    public static boolean isBulk() {
+        return Boolean.TRUE.equals(BULK.get());
+    }
+
+    public static void setBulk(final boolean bulk) {
+        if (bulk) {
+            BULK.set(Boolean.TRUE);
+        } else {
+            BULK.remove();
+        }
+    }
+
+    private BulkOperationContext() {
+        // private constructor for static utility class
+    }
+}
@@ -18,25 +18,26 @@
  */
 package org.apache.syncope.core.provisioning.api.jexl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Field;
 import java.time.temporal.TemporalAccessor;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.jexl3.JexlBuilder;
 import org.apache.commons.jexl3.JexlContext;
 import org.apache.commons.jexl3.JexlEngine;
 import org.apache.commons.jexl3.JexlException;
 import org.apache.commons.jexl3.JexlExpression;
 import org.apache.commons.jexl3.JxltEngine;
-import org.apache.commons.jexl3.MapContext;
 import org.apache.commons.jexl3.introspection.JexlPermissions;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ClassUtils;
@@ -66,7 +67,12 @@ public final class JexlUtils {
     private static final String[] IGNORE_FIELDS = { "password", "clearPassword", "serialVersionUID", "class" };
 
     private static final Map<Class<?>, Set<Pair<PropertyDescriptor, Field>>> FIELD_CACHE =
-            Collections.synchronizedMap(new HashMap<>());
+            new ConcurrentHashMap<>();
+
+    private static final int EXPRESSION_CACHE_SIZE = 1024;
+
+    private static final Cache<String, JexlExpression> EXPRESSION_CACHE =
+            Caffeine.newBuilder().maximumSize(EXPRESSION_CACHE_SIZE).build();
 
     private static JexlEngine JEXL_ENGINE;
 
@@ -104,12 +110,24 @@ public final class JexlUtils {
         return result;
     }
 
+    /**
+     * Returns the compiled form of the given expression, compiling it only if not already available.
+     * Compiled expressions are immutable, hence they can be shared among threads.
+     *
+     * @param expression JEXL expression
+     * @return compiled expression
+     * @throws JexlException if the given expression is not valid
+     */
+    public static JexlExpression getExpression(final String expression) {
+        return EXPRESSION_CACHE.get(expression, expr -> getEngine().createExpression(expr));
+    }
+
     public static Object evaluate(final String expression, final JexlContext jexlContext) {
         Object result = null;
 
         if (StringUtils.isNotBlank(expression) && jexlContext != null) {
             try {
-                JexlExpression jexlExpression = getEngine().createExpression(expression);
+                JexlExpression jexlExpression = getExpression(expression);
                 result = jexlExpression.evaluate(jexlContext);
             } catch (Exception e) {
                 LOG.error("Error while evaluating JEXL expression: " + expression, e);
@@ -121,65 +139,87 @@ public final class JexlUtils {
         return result == null ? StringUtils.EMPTY : result;
     }
 
-    public static void addFieldsToContext(final Object object, final JexlContext jexlContext) {
-        if (object == null) {
-            return;
-        }
+    private static Set<Pair<PropertyDescriptor, Field>> buildFieldDescriptors(final Class<?> reference) {
+        Set<Pair<PropertyDescriptor, Field>> descriptors = new HashSet<>();
 
-        Set<Pair<PropertyDescriptor, Field>> cached = FIELD_CACHE.get(object.getClass());
-        if (cached == null) {
-            FIELD_CACHE.put(object.getClass(), Collections.synchronizedSet(new HashSet<>()));
-
-            List<Class<?>> classes = ClassUtils.getAllSuperclasses(object.getClass());
-            classes.add(object.getClass());
-            classes.forEach(clazz -> {
-                try {
-                    for (PropertyDescriptor desc : Introspector.getBeanInfo(clazz).getPropertyDescriptors()) {
-                        if (!desc.getName().startsWith("pc")
-                                && !ArrayUtils.contains(IGNORE_FIELDS, desc.getName())
-                                && !Collection.class.isAssignableFrom(desc.getPropertyType())
-                                && !Map.class.isAssignableFrom(desc.getPropertyType())
-                                && !desc.getPropertyType().isArray()) {
-
-                            Field field = null;
-                            try {
-                                field = clazz.getDeclaredField(desc.getName());
-                            } catch (NoSuchFieldException | SecurityException e) {
-                                LOG.debug("Could not get field {} from {}", desc.getName(), clazz.getName(), e);
-                            }
-
-                            FIELD_CACHE.get(object.getClass()).add(Pair.of(desc, field));
+        List<Class<?>> classes = ClassUtils.getAllSuperclasses(reference);
+        classes.add(reference);
+        classes.forEach(clazz -> {
+            try {
+                for (PropertyDescriptor desc : Introspector.getBeanInfo(clazz).getPropertyDescriptors()) {
+                    if (!desc.getName().startsWith("pc")
+                            && !ArrayUtils.contains(IGNORE_FIELDS, desc.getName())
+                            && !Collection.class.isAssignableFrom(desc.getPropertyType())
+                            && !Map.class.isAssignableFrom(desc.getPropertyType())
+                            && !desc.getPropertyType().isArray()) {
+
+                        Field field = null;
+                        try {
+                            field = clazz.getDeclaredField(desc.getName());
+                        } catch (NoSuchFieldException | SecurityException e) {
+                            LOG.debug("Could not get field {} from {}", desc.getName(), clazz.getName(), e);
                         }
+
+                        descriptors.add(Pair.of(desc, field));
                     }
-                } catch (IntrospectionException e) {
-                    LOG.warn("Could not introspect {}", clazz.getName(), e);
                 }
-            });
+            } catch (IntrospectionException e) {
+                LOG.warn("Could not introspect {}", clazz.getName(), e);
+            }
+        });
+
+        return Set.copyOf(descriptors);
+    }
+
+    private static Set<Pair<PropertyDescriptor, Field>> getFieldDescriptors(final Class<?> reference) {
+        return FIELD_CACHE.computeIfAbsent(reference, JexlUtils::buildFieldDescriptors);
+    }
+
+    private static Object readField(final Object object, final Pair<PropertyDescriptor, Field> fd) throws Exception {
+        Object fieldValue = null;
+        if (fd.getLeft().getReadMethod() == null) {
+            if (fd.getRight() != null) {
+                ReflectionUtils.makeAccessible(fd.getRight());
+                fieldValue = fd.getRight().get(object);
+            }
+        } else {
+            fieldValue = fd.getLeft().getReadMethod().invoke(object);
+        }
+
+        if (fieldValue == null) {
+            return StringUtils.EMPTY;
+        }
+        return TemporalAccessor.class.isAssignableFrom(fd.getLeft().getPropertyType())
+                ? FormatUtils.format((TemporalAccessor) fieldValue)
+                : fieldValue;
+    }
+
+    private static Optional<Pair<String, String>> getFullPath(final Object object) {
+        if (object instanceof Any && ((Any<?>) object).getRealm() != null) {
+            return Optional.of(Pair.of("realm", ((Any<?>) object).getRealm().getFullPath()));
+        }
+        if (object instanceof AnyTO && ((AnyTO) object).getRealm() != null) {
+            return Optional.of(Pair.of("realm", ((AnyTO) object).getRealm()));
+        }
+        if (object instanceof Realm) {
+            return Optional.of(Pair.of("fullPath", ((Realm) object).getFullPath()));
+        }
+        if (object instanceof RealmTO) {
+            return Optional.of(Pair.of("fullPath", ((RealmTO) object).getFullPath()));
+        }
+        return Optional.empty();
+    }
 
-            cached = FIELD_CACHE.get(object.getClass());
+    public static void addFieldsToContext(final Object object, final JexlContext jexlContext) {
+        if (object == null) {
+            return;
         }
 
-        cached.forEach(fd -> {
+        getFieldDescriptors(object.getClass()).forEach(fd -> {
             String fieldName = fd.getLeft().getName();
-            Class<?> fieldType = fd.getLeft().getPropertyType();
 
             try {
-                Object fieldValue = null;
-                if (fd.getLeft().getReadMethod() == null) {
-                    if (fd.getRight() != null) {
-                        ReflectionUtils.makeAccessible(fd.getRight());
-                        fieldValue = fd.getRight().get(object);
-                    }
-                } else {
-                    fieldValue = fd.getLeft().getReadMethod().invoke(object);
-                }
-                if (fieldValue == null) {
-                    fieldValue = StringUtils.EMPTY;
-                } else {
-                    fieldValue = TemporalAccessor.class.isAssignableFrom(fieldType)
-                            ? FormatUtils.format((TemporalAccessor) fieldValue)
-                            : fieldValue;
-                }
+                Object fieldValue = readField(object, fd);
 
                 jexlContext.set(fieldName, fieldValue);
 
@@ -189,15 +229,26 @@ public final class JexlUtils {
             }
         });
 
-        if (object instanceof Any && ((Any<?>) object).getRealm() != null) {
-            jexlContext.set("realm", ((Any<?>) object).getRealm().getFullPath());
-        } else if (object instanceof AnyTO && ((AnyTO) object).getRealm() != null) {
-            jexlContext.set("realm", ((AnyTO) object).getRealm());
-        } else if (object instanceof Realm) {
-            jexlContext.set("fullPath", ((Realm) object).getFullPath());
-        } else if (object instanceof RealmTO) {
-            jexlContext.set("fullPath", ((RealmTO) object).getFullPath());
+        getFullPath(object).ifPresent(fullPath -> jexlContext.set(fullPath.getLeft(), fullPath.getRight()));
+    }
+
+    static Optional<Object> getField(final Object object, final String name) {
+        Optional<Pair<String, String>> fullPath = getFullPath(object).filter(fp -> fp.getLeft().equals(name));
+        if (fullPath.isPresent()) {
+            return Optional.of(fullPath.get().getRight());
         }
+
+        for (Pair<PropertyDescriptor, Field> fd : getFieldDescriptors(object.getClass())) {
+            if (name.equals(fd.getLeft().getName())) {
+                try {
+                    return Optional.of(readField(object, fd));
+                } catch (Exception e) {
+                    LOG.error("Reading '{}' value error", name, e);
+                }
+            }
+        }
+
+        return Optional.empty();
     }
 
     public static void addAttrsToContext(final Collection<Attr> attrs, final JexlContext jexlContext) {
@@ -217,19 +268,28 @@ public final class JexlUtils {
         });
     }
 
+    private static Object getValue(final PlainAttr<?> attr) {
+        List<String> attrValues = attr.getValuesAsStrings();
+        if (attrValues.isEmpty()) {
+            return StringUtils.EMPTY;
+        }
+        return attrValues.size() == 1
+                ? attrValues.get(0)
+                : attrValues;
+    }
+
+    static Optional<Object> getPlainAttr(final Collection<? extends PlainAttr<?>> attrs, final String name) {
+        return attrs.stream().
+                filter(attr -> attr.getSchema() != null && name.equals(attr.getSchema().getKey())).
+                findFirst().
+                map(JexlUtils::getValue);
+    }
+
     public static void addPlainAttrsToContext(
             final Collection<? extends PlainAttr<?>> attrs, final JexlContext jexlContext) {
 
         attrs.stream().filter(attr -> attr.getSchema() != null).forEach(attr -> {
-            List<String> attrValues = attr.getValuesAsStrings();
-            Object value;
-            if (attrValues.isEmpty()) {
-                value = StringUtils.EMPTY;
-            } else {
-                value = attrValues.size() == 1
-                        ? attrValues.get(0)
-                        : attrValues;
-            }
+            Object value = getValue(attr);
 
             LOG.debug("Add attribute {} with value {}", attr.getSchema().getKey(), value);
 
@@ -252,9 +312,9 @@ public final class JexlUtils {
             final Any<?> any,
             final DerAttrHandler derAttrHandler) {
 
-        JexlContext jexlContext = new MapContext();
-        addPlainAttrsToContext(any.getPlainAttrs(), jexlContext);
-        addDerAttrsToContext(any, derAttrHandler, jexlContext);
+        JexlContext jexlContext = new LazyJexlContext().
+                withPlainAttrs(any.getPlainAttrs()).
+                withDerAttrs(any, derAttrHandler);
 
         return Boolean.parseBoolean(evaluate(mandatoryCondition, jexlContext).toString());
     }
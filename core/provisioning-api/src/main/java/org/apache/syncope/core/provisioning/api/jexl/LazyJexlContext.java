@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api.jexl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import org.apache.commons.jexl3.JexlContext;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.PlainAttr;
+import org.apache.syncope.core.provisioning.api.DerAttrHandler;
+
+/**
+ * {@link JexlContext} materializing variables only when referenced by the evaluated expression, rather than reading
+ * upfront all fields and attributes of the involved objects.
+ * Sources are looked up in the order they were added; they are not expected to overlap, as schema keys cannot match
+ * field names.
+ */
+public class LazyJexlContext implements JexlContext {
+
+    protected final List<Function<String, Optional<Object>>> sources = new ArrayList<>();
+
+    protected final Map<String, Object> vars = new HashMap<>();
+
+    protected final Set<String> unresolved = new HashSet<>();
+
+    public LazyJexlContext withFields(final Object object) {
+        if (object != null) {
+            sources.add(name -> JexlUtils.getField(object, name));
+        }
+        return this;
+    }
+
+    public LazyJexlContext withPlainAttrs(final Collection<? extends PlainAttr<?>> attrs) {
+        sources.add(name -> JexlUtils.getPlainAttr(attrs, name));
+        return this;
+    }
+
+    public LazyJexlContext withDerAttrs(final Any<?> any, final DerAttrHandler derAttrHandler) {
+        // derived attribute values are all calculated at once, only if needed
+        Map<String, Object> derAttrs = new HashMap<>();
+        boolean[] calculated = new boolean[1];
+        sources.add(name -> {
+            if (!calculated[0]) {
+                derAttrHandler.getValues(any).forEach((schema, value) -> derAttrs.put(schema.getKey(), value));
+                calculated[0] = true;
+            }
+            return Optional.ofNullable(derAttrs.get(name));
+        });
+        return this;
+    }
+
+    protected void resolve(final String name) {
+        if (vars.containsKey(name) || unresolved.contains(name)) {
+            return;
+        }
+
+        Optional<Object> value = sources.stream().
+                map(source -> source.apply(name)).
+                filter(Optional::isPresent).
+                map(Optional::get).
+                findFirst();
+        if (value.isPresent()) {
+            vars.put(name, value.get());
+        } else {
+            unresolved.add(name);
+        }
+    }
+
+    @Override
+    public Object get(final String name) {
+        resolve(name);
+        return vars.get(name);
+    }
+
+    @Override
+    public void set(final String name, final Object value) {
+        vars.put(name, value);
+        unresolved.remove(name);
+    }
+
+    @Override
+    public boolean has(final String name) {
+        resolve(name);
+        return vars.containsKey(name);
+    }
+}
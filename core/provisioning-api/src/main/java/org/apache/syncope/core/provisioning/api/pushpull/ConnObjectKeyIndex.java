@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api.pushpull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * In-memory snapshot of the internal values matched by the connector object key of a provision, each mapped to the
+ * keys of the any objects holding it; built once per provision before full reconciliation, so that incoming objects
+ * can be matched with hash lookups instead of one query each.
+ */
+public class ConnObjectKeyIndex {
+
+    protected final boolean ignoreCaseMatch;
+
+    protected final int maxSize;
+
+    /**
+     * Values are either a single key or, for values shared by more than one any object, an array of keys.
+     */
+    protected final Map<String, Object> anys = new HashMap<>();
+
+    protected final Set<String> linkedAccounts = new HashSet<>();
+
+    public ConnObjectKeyIndex(final boolean ignoreCaseMatch, final int maxSize) {
+        this.ignoreCaseMatch = ignoreCaseMatch;
+        this.maxSize = maxSize;
+    }
+
+    protected String normalize(final String value) {
+        return ignoreCaseMatch ? value.toLowerCase(Locale.ROOT) : value;
+    }
+
+    protected boolean isFull() {
+        return anys.size() + linkedAccounts.size() >= maxSize;
+    }
+
+    /**
+     * Adds the given value for the given any object.
+     *
+     * @param value internal value
+     * @param anyKey any object key
+     * @return false if the maximum size was reached, hence the index shall not be used
+     */
+    public boolean addAny(final String value, final String anyKey) {
+        String normalized = normalize(value);
+
+        Object current = anys.get(normalized);
+        if (current == null) {
+            if (isFull()) {
+                return false;
+            }
+            anys.put(normalized, anyKey);
+        } else if (current instanceof String) {
+            if (!current.equals(anyKey)) {
+                anys.put(normalized, new String[] { (String) current, anyKey });
+            }
+        } else {
+            String[] keys = (String[]) current;
+            if (Stream.of(keys).noneMatch(anyKey::equals)) {
+                String[] extended = new String[keys.length + 1];
+                System.arraycopy(keys, 0, extended, 0, keys.length);
+                extended[keys.length] = anyKey;
+                anys.put(normalized, extended);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the given connector object key value, as owned by a linked account.
+     *
+     * @param connObjectKeyValue connector object key value
+     * @return false if the maximum size was reached, hence the index shall not be used
+     */
+    public boolean addLinkedAccount(final String connObjectKeyValue) {
+        if (isFull()) {
+            return false;
+        }
+        linkedAccounts.add(connObjectKeyValue);
+        return true;
+    }
+
+    /**
+     * @param value internal value
+     * @return keys of the any objects holding the given value
+     */
+    public List<String> getAnyKeys(final String value) {
+        Object current = anys.get(normalize(value));
+        if (current == null) {
+            return List.of();
+        }
+        return current instanceof String
+                ? List.of((String) current)
+                : Stream.of((String[]) current).collect(Collectors.toList());
+    }
+
+    /**
+     * @param connObjectKeyValue connector object key value
+     * @return whether a linked account might own the given connector object key value
+     */
+    public boolean hasLinkedAccount(final String connObjectKeyValue) {
+        return linkedAccounts.contains(connObjectKeyValue);
+    }
+
+    public int size() {
+        return anys.size() + linkedAccounts.size();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api.pushpull;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+
+/**
+ * Local copy of the objects found on an external resource for a provision, keyed by connector object key value;
+ * taken once before pushing, so that any objects can be matched - and their changes detected - without reading
+ * from the connector one by one.
+ */
+public class ConnObjectSnapshot {
+
+    protected final boolean ignoreCaseMatch;
+
+    protected final Set<String> attrsToGet;
+
+    protected final int maxSize;
+
+    protected final Map<String, ConnectorObject> objects = new HashMap<>();
+
+    public ConnObjectSnapshot(final boolean ignoreCaseMatch, final Set<String> attrsToGet, final int maxSize) {
+        this.ignoreCaseMatch = ignoreCaseMatch;
+        this.attrsToGet = attrsToGet;
+        this.maxSize = maxSize;
+    }
+
+    protected String normalize(final String connObjectKeyValue) {
+        return ignoreCaseMatch ? connObjectKeyValue.toLowerCase(Locale.ROOT) : connObjectKeyValue;
+    }
+
+    /**
+     * @return names of the attributes read for each object
+     */
+    public Set<String> getAttrsToGet() {
+        return attrsToGet;
+    }
+
+    /**
+     * Adds the given object, unless another one was already added for the same connector object key value.
+     *
+     * @param connObjectKeyValue connector object key value
+     * @param obj connector object
+     * @return false if the maximum size was reached, hence the snapshot shall not be used
+     */
+    public boolean put(final String connObjectKeyValue, final ConnectorObject obj) {
+        String normalized = normalize(connObjectKeyValue);
+        if (!objects.containsKey(normalized)) {
+            if (objects.size() >= maxSize) {
+                return false;
+            }
+            objects.put(normalized, obj);
+        }
+        return true;
+    }
+
+    /**
+     * @param connObjectKeyValue connector object key value
+     * @return object found for the given connector object key value, if any
+     */
+    public Optional<ConnectorObject> get(final String connObjectKeyValue) {
+        return Optional.ofNullable(objects.get(normalize(connObjectKeyValue)));
+    }
+
+    public int size() {
+        return objects.size();
+    }
+}
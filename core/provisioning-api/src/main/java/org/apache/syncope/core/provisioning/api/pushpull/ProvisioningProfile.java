@@ -20,6 +20,8 @@ package org.apache.syncope.core.provisioning.api.pushpull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import org.apache.syncope.common.lib.to.ProvisioningReport;
 import org.apache.syncope.common.lib.types.ConflictResolutionAction;
@@ -34,6 +36,12 @@ public class ProvisioningProfile<T extends ProvisioningTask<?>, A extends Provis
 
     private final List<ProvisioningReport> results = new CopyOnWriteArrayList<>();
 
+    private final ThreadLocal<List<ProvisioningReport>> batchResults = new ThreadLocal<>();
+
+    private final Map<String, ConnObjectKeyIndex> connObjectKeyIndexes = new ConcurrentHashMap<>();
+
+    private final Map<String, ConnObjectSnapshot> connObjectSnapshots = new ConcurrentHashMap<>();
+
     private boolean dryRun;
 
     private ConflictResolutionAction conflictResolutionAction;
@@ -55,8 +63,36 @@ public class ProvisioningProfile<T extends ProvisioningTask<?>, A extends Provis
         return task;
     }
 
+    /**
+     * While running pull and push tasks, only the most recent results are kept here, older ones being moved to
+     * the task execution report.
+     * Within a batch, only the results added by the current thread since the batch began are returned.
+     *
+     * @return provisioning results
+     */
     public List<ProvisioningReport> getResults() {
-        return results;
+        List<ProvisioningReport> batch = batchResults.get();
+        return batch == null ? results : batch;
+    }
+
+    /**
+     * Starts keeping apart the results added by the current thread, until {@link #endBatch(boolean)} is invoked.
+     */
+    public void beginBatch() {
+        batchResults.set(new ArrayList<>());
+    }
+
+    /**
+     * Stops keeping apart the results added by the current thread.
+     *
+     * @param commit whether the results kept apart shall be added to the provisioning results or discarded
+     */
+    public void endBatch(final boolean commit) {
+        List<ProvisioningReport> batch = batchResults.get();
+        batchResults.remove();
+        if (commit && batch != null) {
+            results.addAll(batch);
+        }
     }
 
     public boolean isDryRun() {
@@ -86,4 +122,18 @@ public class ProvisioningProfile<T extends ProvisioningTask<?>, A extends Provis
     public List<A> getActions() {
         return actions;
     }
+
+    /**
+     * @return indexes to match pulled objects with, by any type
+     */
+    public Map<String, ConnObjectKeyIndex> getConnObjectKeyIndexes() {
+        return connObjectKeyIndexes;
+    }
+
+    /**
+     * @return snapshots to match pushed objects with, by any type
+     */
+    public Map<String, ConnObjectSnapshot> getConnObjectSnapshots() {
+        return connObjectSnapshots;
+    }
 }
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.api.pushpull;
 
+import java.util.List;
 import org.apache.syncope.core.persistence.api.entity.task.PullTask;
 import org.identityconnectors.framework.common.objects.SyncDelta;
 import org.identityconnectors.framework.common.objects.SyncResultsHandler;
@@ -26,4 +27,13 @@ public interface SyncopePullResultHandler extends SyncopeResultHandler<PullTask,
 
     @Override
     boolean handle(SyncDelta delta);
+
+    /**
+     * Handles the given deltas, in order, within a single transaction; handling stops at the first delta for which
+     * {@link #handle(SyncDelta)} would have returned {@code false}.
+     *
+     * @param deltas deltas to handle
+     * @return number of deltas successfully handled
+     */
+    int handle(List<SyncDelta> deltas);
 }
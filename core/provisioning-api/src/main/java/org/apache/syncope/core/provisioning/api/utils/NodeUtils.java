@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api.utils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public final class NodeUtils {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NodeUtils.class);
+
+    private static final String NODE_ID;
+
+    static {
+        String nodeId;
+        try {
+            nodeId = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            LOG.warn("Could not determine local host name", e);
+            nodeId = "unknown";
+        }
+        NODE_ID = nodeId;
+    }
+
+    /**
+     * Identifies the current Core node among the others sharing the same persistence storage; it is stable across
+     * restarts as it is based on the local host name.
+     *
+     * @return identifier of the current Core node
+     */
+    public static String getNodeId() {
+        return NODE_ID;
+    }
+
+    /**
+     * Private default constructor, for static-only classes.
+     */
+    private NodeUtils() {
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Bounds the number of in-flight operations towards a single connector instance: operations exceeding the limit
+ * wait for a permit, granted as soon as a running one completes.
+ * Asynchronous callers are never blocked, as their operations are queued and started once a permit is available.
+ */
+public class ConnectorBulkhead {
+
+    /**
+     * Shared by all connector instances, only runs short timer actions as request timeouts.
+     */
+    protected static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "ConnectorBulkheadScheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    protected final int maxInFlight;
+
+    protected final AtomicInteger inFlight = new AtomicInteger();
+
+    protected final Queue<CompletableFuture<Void>> waiting = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param maxInFlight maximum number of concurrent operations, no limit if not positive
+     */
+    public ConnectorBulkhead(final int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getWaiting() {
+        return waiting.size();
+    }
+
+    /**
+     * Requests a permit; once granted, {@link #release()} must be invoked when done.
+     * Cancelling the returned future withdraws the request, if not granted yet.
+     *
+     * @return future completed when the permit is granted
+     */
+    public CompletableFuture<Void> acquire() {
+        if (maxInFlight <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<Void> permit = new CompletableFuture<>();
+        waiting.add(permit);
+        drain();
+        return permit;
+    }
+
+    public void release() {
+        if (maxInFlight > 0) {
+            inFlight.decrementAndGet();
+            drain();
+        }
+    }
+
+    /**
+     * Starts the given operation as soon as a permit is granted.
+     * Operations whose returned future was already completed (e.g. by timeout) while queued are not started at all.
+     *
+     * @param operation operation to start
+     * @param <T> result type
+     * @return future completed with the outcome of the operation
+     */
+    public <T> CompletableFuture<T> submit(final Supplier<CompletableFuture<T>> operation) {
+        if (maxInFlight <= 0) {
+            return start(operation);
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture<Void> permit = acquire();
+        result.whenComplete((value, error) -> permit.cancel(false));
+        permit.thenRun(() -> {
+            if (result.isDone()) {
+                release();
+                return;
+            }
+
+            start(operation).whenComplete((value, error) -> {
+                release();
+                if (error == null) {
+                    result.complete(value);
+                } else {
+                    result.completeExceptionally(error);
+                }
+            });
+        });
+
+        return result;
+    }
+
+    /**
+     * Same as {@link #submit(Supplier)}, but once the permit is granted the operation is only started after the delay
+     * returned by the given function, in nanoseconds; negative delays fail the operation without starting it.
+     *
+     * @param operation operation to start
+     * @param delay provides the delay, invoked once the permit is granted
+     * @param <T> result type
+     * @return future completed with the outcome of the operation
+     */
+    public <T> CompletableFuture<T> submit(
+            final Supplier<CompletableFuture<T>> operation,
+            final LongSupplier delay) {
+
+        return submit(() -> {
+            long nanos = delay.getAsLong();
+            if (nanos < 0) {
+                return CompletableFuture.failedFuture(new TimeoutException());
+            }
+            if (nanos == 0) {
+                return operation.get();
+            }
+
+            CompletableFuture<T> delayed = new CompletableFuture<>();
+            schedule(() -> start(operation).whenComplete((value, error) -> {
+                if (error == null) {
+                    delayed.complete(value);
+                } else {
+                    delayed.completeExceptionally(error);
+                }
+            }), nanos, TimeUnit.NANOSECONDS);
+            return delayed;
+        });
+    }
+
+    /**
+     * Runs the given action after the given delay, without keeping any thread waiting for it.
+     *
+     * @param action action to run
+     * @param delay delay
+     * @param unit time unit of the delay argument
+     * @return handle to cancel the action
+     */
+    public ScheduledFuture<?> schedule(final Runnable action, final long delay, final TimeUnit unit) {
+        return SCHEDULER.schedule(action, delay, unit);
+    }
+
+    protected static <T> CompletableFuture<T> start(final Supplier<CompletableFuture<T>> operation) {
+        try {
+            return operation.get();
+        } catch (Throwable t) {
+            return CompletableFuture.failedFuture(t);
+        }
+    }
+
+    protected void drain() {
+        while (!waiting.isEmpty()) {
+            int current = inFlight.get();
+            if (current >= maxInFlight) {
+                return;
+            }
+            if (!inFlight.compareAndSet(current, current + 1)) {
+                continue;
+            }
+
+            // requests withdrawn while waiting give the permit back
+            CompletableFuture<Void> next = waiting.poll();
+            if (next == null || !next.complete(null)) {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+}
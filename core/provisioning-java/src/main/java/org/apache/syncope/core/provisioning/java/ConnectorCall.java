@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.util.concurrent.CancellationException;
+import java.util.function.Supplier;
+
+/**
+ * Operation towards a connector instance, which can be interrupted by another thread once started, as when its
+ * request timeout expires; if interrupted before being started, it does not start at all.
+ *
+ * @param <T> result type
+ */
+public class ConnectorCall<T> implements Supplier<T> {
+
+    protected final Supplier<T> operation;
+
+    protected Thread runner;
+
+    protected boolean interrupted;
+
+    public ConnectorCall(final Supplier<T> operation) {
+        this.operation = operation;
+    }
+
+    @Override
+    public T get() {
+        synchronized (this) {
+            if (interrupted) {
+                throw new CancellationException("Request timeout");
+            }
+            runner = Thread.currentThread();
+        }
+
+        try {
+            return operation.get();
+        } finally {
+            synchronized (this) {
+                runner = null;
+                if (interrupted) {
+                    // clear the flag set by interrupt(), the running thread goes on with other work
+                    Thread.interrupted();
+                }
+            }
+        }
+    }
+
+    public synchronized void interrupt() {
+        interrupted = true;
+        if (runner != null) {
+            runner.interrupt();
+        }
+    }
+
+    public synchronized boolean isInterrupted() {
+        return interrupted;
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Failure-rate circuit breaker for a single connector instance.
+ * Outcomes of the latest operations are tracked over a sliding window: when the failure rate reaches the configured
+ * threshold, further operations are rejected until the open state duration elapses; then a single trial operation is
+ * let through, whose outcome either closes the circuit again or re-opens it.
+ */
+public class ConnectorCircuitBreaker {
+
+    public enum State {
+
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+
+    }
+
+    /**
+     * Admission of a single operation, to be passed back when reporting its outcome.
+     */
+    public static final class Permit {
+
+        private final long generation;
+
+        private final boolean trial;
+
+        private Permit(final long generation, final boolean trial) {
+            this.generation = generation;
+            this.trial = trial;
+        }
+    }
+
+    protected final int failureRateThreshold;
+
+    protected final int minimumCalls;
+
+    protected final long openStateNanos;
+
+    protected final boolean[] window;
+
+    protected int windowIndex;
+
+    protected int calls;
+
+    protected int failures;
+
+    protected State state = State.CLOSED;
+
+    /**
+     * Incremented at each state change, so that outcomes of operations admitted before are not accounted.
+     */
+    protected long generation;
+
+    protected long openedAt;
+
+    protected boolean trialInFlight;
+
+    /**
+     * @param failureRateThreshold failure rate percentage opening the circuit, disabled if not positive
+     * @param slidingWindowSize number of latest outcomes to consider
+     * @param minimumCalls minimum number of outcomes before failure rate is evaluated
+     * @param openStateSeconds seconds to wait before letting a trial operation through
+     */
+    public ConnectorCircuitBreaker(
+            final int failureRateThreshold,
+            final int slidingWindowSize,
+            final int minimumCalls,
+            final int openStateSeconds) {
+
+        this.failureRateThreshold = failureRateThreshold;
+        this.window = new boolean[Math.max(1, slidingWindowSize)];
+        this.minimumCalls = Math.min(Math.max(1, minimumCalls), window.length);
+        this.openStateNanos = TimeUnit.SECONDS.toNanos(openStateSeconds);
+    }
+
+    public boolean isEnabled() {
+        return failureRateThreshold > 0;
+    }
+
+    /**
+     * @return permit for an operation to be attempted, null if rejected
+     */
+    public synchronized Permit tryAcquire() {
+        if (!isEnabled()) {
+            return new Permit(generation, false);
+        }
+
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openStateNanos) {
+            state = State.HALF_OPEN;
+            generation++;
+            trialInFlight = false;
+        }
+
+        switch (state) {
+            case CLOSED:
+                return new Permit(generation, false);
+
+            case HALF_OPEN:
+                if (trialInFlight) {
+                    return null;
+                }
+                trialInFlight = true;
+                return new Permit(generation, true);
+
+            case OPEN:
+            default:
+                return null;
+        }
+    }
+
+    protected boolean isCurrent(final Permit permit) {
+        return isEnabled() && permit.generation == generation;
+    }
+
+    public synchronized void onSuccess(final Permit permit) {
+        if (!isCurrent(permit)) {
+            return;
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (permit.trial) {
+                close();
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure(final Permit permit) {
+        if (!isCurrent(permit)) {
+            return;
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (permit.trial) {
+                open();
+            }
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (calls >= minimumCalls && failures * 100 >= failureRateThreshold * calls) {
+                open();
+            }
+        }
+    }
+
+    /**
+     * Reports an outcome telling nothing about the target health: no state change occurs, but a trial operation
+     * gives way to the next one.
+     *
+     * @param permit permit of the completed operation
+     */
+    public synchronized void onIgnored(final Permit permit) {
+        if (isCurrent(permit) && state == State.HALF_OPEN && permit.trial) {
+            trialInFlight = false;
+        }
+    }
+
+    protected void record(final boolean failure) {
+        if (calls == window.length) {
+            if (window[windowIndex]) {
+                failures--;
+            }
+        } else {
+            calls++;
+        }
+
+        window[windowIndex] = failure;
+        if (failure) {
+            failures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    protected void open() {
+        state = State.OPEN;
+        generation++;
+        openedAt = System.nanoTime();
+        trialInFlight = false;
+    }
+
+    protected void close() {
+        state = State.CLOSED;
+        generation++;
+        trialInFlight = false;
+        windowIndex = 0;
+        calls = 0;
+        failures = 0;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * @return failure rate percentage over the current sliding window, -1 if not enough outcomes were recorded
+     */
+    public synchronized float getFailureRate() {
+        return calls < minimumCalls ? -1 : failures * 100F / calls;
+    }
+}
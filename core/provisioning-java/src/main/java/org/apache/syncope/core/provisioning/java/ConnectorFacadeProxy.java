@@ -22,13 +22,16 @@ import java.io.File;
 import java.net.URI;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import org.apache.syncope.common.lib.types.ConnectorCapability;
 import org.apache.syncope.core.persistence.api.entity.ConnInstance;
 import org.apache.syncope.core.provisioning.api.ConnIdBundleManager;
 import org.apache.syncope.core.provisioning.api.Connector;
+import org.apache.syncope.core.provisioning.api.ConnectorUnavailableException;
 import org.apache.syncope.core.provisioning.api.TimeoutException;
 import org.apache.syncope.core.provisioning.api.pushpull.ReconFilterBuilder;
 import org.apache.syncope.core.provisioning.api.utils.ConnPoolConfUtils;
@@ -41,6 +44,8 @@ import org.identityconnectors.framework.api.ConfigurationProperties;
 import org.identityconnectors.framework.api.ConnectorFacade;
 import org.identityconnectors.framework.api.ConnectorFacadeFactory;
 import org.identityconnectors.framework.api.ConnectorInfo;
+import org.identityconnectors.framework.common.exceptions.ConnectorIOException;
+import org.identityconnectors.framework.common.exceptions.OperationTimeoutException;
 import org.identityconnectors.framework.common.objects.Attribute;
 import org.identityconnectors.framework.common.objects.AttributeDelta;
 import org.identityconnectors.framework.common.objects.ConnectorObject;
@@ -53,6 +58,7 @@ import org.identityconnectors.framework.common.objects.SyncResultsHandler;
 import org.identityconnectors.framework.common.objects.SyncToken;
 import org.identityconnectors.framework.common.objects.Uid;
 import org.identityconnectors.framework.common.objects.filter.Filter;
+import org.identityconnectors.framework.common.objects.filter.FilterBuilder;
 import org.identityconnectors.framework.spi.SearchResultsHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -76,6 +82,21 @@ public class ConnectorFacadeProxy implements Connector {
 
     private final AsyncConnectorFacade asyncFacade;
 
+    /**
+     * Bounds the operations in-flight towards this connector instance.
+     */
+    private final ConnectorBulkhead bulkhead;
+
+    /**
+     * Spaces the operations started towards this connector instance.
+     */
+    private final ConnectorRateLimiter rateLimiter;
+
+    /**
+     * Short-circuits the operations towards this connector instance while failing too often.
+     */
+    private final ConnectorCircuitBreaker circuitBreaker;
+
     /**
      * Use the passed connector instance to build a ConnectorFacade that will be used to make all wrapped calls.
      *
@@ -87,8 +108,31 @@ public class ConnectorFacadeProxy implements Connector {
      * @see ConnectorFacade
      */
     public ConnectorFacadeProxy(final ConnInstance connInstance, final AsyncConnectorFacade asyncFacade) {
+        this(connInstance, asyncFacade, new ProvisioningProperties.ConnectorLimitsProperties());
+    }
+
+    /**
+     * Use the passed connector instance to build a ConnectorFacade that will be used to make all wrapped calls,
+     * within the given limits.
+     *
+     * @param connInstance the connector instance
+     * @param asyncFacade the async connectot facade
+     * @param limits limits to enforce on operations towards the connector instance
+     */
+    public ConnectorFacadeProxy(
+            final ConnInstance connInstance,
+            final AsyncConnectorFacade asyncFacade,
+            final ProvisioningProperties.ConnectorLimitsProperties limits) {
+
         this.connInstance = connInstance;
         this.asyncFacade = asyncFacade;
+        this.bulkhead = new ConnectorBulkhead(limits.getMaxInFlight());
+        this.rateLimiter = new ConnectorRateLimiter(limits.getPermitsPerSecond());
+        this.circuitBreaker = new ConnectorCircuitBreaker(
+                limits.getFailureRateThreshold(),
+                limits.getSlidingWindowSize(),
+                limits.getMinimumCalls(),
+                limits.getOpenStateSeconds());
 
         ConnIdBundleManager connIdBundleManager =
                 ApplicationContextProvider.getBeanFactory().getBean(ConnIdBundleManager.class);
@@ -129,30 +173,31 @@ public class ConnectorFacadeProxy implements Connector {
 
     @Override
     public Uid authenticate(final String username, final String password, final OperationOptions options) {
-        Uid result = null;
-
         if (connInstance.getCapabilities().contains(ConnectorCapability.AUTHENTICATE)) {
-            Future<Uid> future = asyncFacade.authenticate(
-                    connector, username, new GuardedString(password.toCharArray()), options);
-            try {
-                result = future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-            } catch (java.util.concurrent.TimeoutException e) {
-                future.cancel(true);
-                throw new TimeoutException("Request timeout");
-            } catch (Exception e) {
-                LOG.error("Connector request execution failure", e);
-                if (e.getCause() instanceof RuntimeException runtimeException) {
-                    throw runtimeException;
-                } else {
-                    throw new RuntimeException(e.getCause());
-                }
-            }
-        } else {
-            LOG.info("Authenticate was attempted, although the connector only has these capabilities: {}. No action.",
-                    connInstance.getCapabilities());
+            return execute(() -> connector.authenticate(
+                    ObjectClass.ACCOUNT, username, new GuardedString(password.toCharArray()), options));
         }
 
-        return result;
+        LOG.info("Authenticate was attempted, although the connector only has these capabilities: {}. No action.",
+                connInstance.getCapabilities());
+        return null;
+    }
+
+    private Supplier<Uid> createOperation(
+            final ObjectClass objectClass,
+            final Set<Attribute> attrs,
+            final OperationOptions options,
+            final AtomicReference<Boolean> propagationAttempted) {
+
+        if (connInstance.getCapabilities().contains(ConnectorCapability.CREATE)) {
+            propagationAttempted.set(true);
+
+            return () -> connector.create(objectClass, attrs, options);
+        }
+
+        LOG.info("Create was attempted, although the connector only has these capabilities: {}. No action.",
+                connInstance.getCapabilities());
+        return null;
     }
 
     @Override
@@ -162,31 +207,26 @@ public class ConnectorFacadeProxy implements Connector {
             final OperationOptions options,
             final AtomicReference<Boolean> propagationAttempted) {
 
-        Uid result = null;
+        return execute(createOperation(objectClass, attrs, options, propagationAttempted));
+    }
 
-        if (connInstance.getCapabilities().contains(ConnectorCapability.CREATE)) {
+    private Supplier<Uid> updateOperation(
+            final ObjectClass objectClass,
+            final Uid uid,
+            final Set<Attribute> attrs,
+            final OperationOptions options,
+            final AtomicReference<Boolean> propagationAttempted) {
+
+        if (connInstance.getCapabilities().contains(ConnectorCapability.UPDATE)) {
             propagationAttempted.set(true);
 
-            Future<Uid> future = asyncFacade.create(connector, objectClass, attrs, options);
-            try {
-                result = future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-            } catch (java.util.concurrent.TimeoutException e) {
-                future.cancel(true);
-                throw new TimeoutException("Request timeout");
-            } catch (Exception e) {
-                LOG.error("Connector request execution failure", e);
-                if (e.getCause() instanceof RuntimeException runtimeException) {
-                    throw runtimeException;
-                } else {
-                    throw new RuntimeException(e.getCause());
-                }
-            }
-        } else {
-            LOG.info("Create was attempted, although the connector only has these capabilities: {}. No action.",
-                    connInstance.getCapabilities());
+            return () -> connector.update(objectClass, uid, attrs, options);
         }
 
-        return result;
+        LOG.info("Update for {} was attempted, although the "
+                + "connector only has these capabilities: {}. No action.",
+                uid.getUidValue(), connInstance.getCapabilities());
+        return null;
     }
 
     @Override
@@ -197,33 +237,26 @@ public class ConnectorFacadeProxy implements Connector {
             final OperationOptions options,
             final AtomicReference<Boolean> propagationAttempted) {
 
-        Uid result = null;
+        return execute(updateOperation(objectClass, uid, attrs, options, propagationAttempted));
+    }
 
-        if (connInstance.getCapabilities().contains(ConnectorCapability.UPDATE)) {
-            propagationAttempted.set(true);
+    private Supplier<Set<AttributeDelta>> updateDeltaOperation(
+            final ObjectClass objectClass,
+            final Uid uid,
+            final Set<AttributeDelta> modifications,
+            final OperationOptions options,
+            final AtomicReference<Boolean> propagationAttempted) {
 
-            Future<Uid> future = asyncFacade.update(connector, objectClass, uid, attrs, options);
+        if (connInstance.getCapabilities().contains(ConnectorCapability.UPDATE_DELTA)) {
+            propagationAttempted.set(true);
 
-            try {
-                result = future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-            } catch (java.util.concurrent.TimeoutException e) {
-                future.cancel(true);
-                throw new TimeoutException("Request timeout");
-            } catch (Exception e) {
-                LOG.error("Connector request execution failure", e);
-                if (e.getCause() instanceof RuntimeException runtimeException) {
-                    throw runtimeException;
-                } else {
-                    throw new RuntimeException(e.getCause());
-                }
-            }
-        } else {
-            LOG.info("Update for {} was attempted, although the "
-                    + "connector only has these capabilities: {}. No action.",
-                    uid.getUidValue(), connInstance.getCapabilities());
+            return () -> connector.updateDelta(objectClass, uid, modifications, options);
         }
 
-        return result;
+        LOG.info("UpdateDelta for {} was attempted, although the "
+                + "connector only has these capabilities: {}. No action.",
+                uid.getUidValue(), connInstance.getCapabilities());
+        return null;
     }
 
     @Override
@@ -234,34 +267,27 @@ public class ConnectorFacadeProxy implements Connector {
             final OperationOptions options,
             final AtomicReference<Boolean> propagationAttempted) {
 
-        Set<AttributeDelta> result = null;
+        return execute(updateDeltaOperation(objectClass, uid, modifications, options, propagationAttempted));
+    }
 
-        if (connInstance.getCapabilities().contains(ConnectorCapability.UPDATE_DELTA)) {
-            propagationAttempted.set(true);
+    private Supplier<Void> deleteOperation(
+            final ObjectClass objectClass,
+            final Uid uid,
+            final OperationOptions options,
+            final AtomicReference<Boolean> propagationAttempted) {
 
-            Future<Set<AttributeDelta>> future =
-                    asyncFacade.updateDelta(connector, objectClass, uid, modifications, options);
+        if (connInstance.getCapabilities().contains(ConnectorCapability.DELETE)) {
+            propagationAttempted.set(true);
 
-            try {
-                result = future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-            } catch (java.util.concurrent.TimeoutException e) {
-                future.cancel(true);
-                throw new TimeoutException("Request timeout");
-            } catch (Exception e) {
-                LOG.error("Connector request execution failure", e);
-                if (e.getCause() instanceof RuntimeException runtimeException) {
-                    throw runtimeException;
-                } else {
-                    throw new RuntimeException(e.getCause());
-                }
-            }
-        } else {
-            LOG.info("UpdateDelta for {} was attempted, although the "
-                    + "connector only has these capabilities: {}. No action.",
-                    uid.getUidValue(), connInstance.getCapabilities());
+            return () -> {
+                connector.delete(objectClass, uid, options);
+                return null;
+            };
         }
 
-        return result;
+        LOG.info("Delete for {} was attempted, although the connector only has these capabilities: {}. No action.",
+                uid.getUidValue(), connInstance.getCapabilities());
+        return null;
     }
 
     @Override
@@ -271,28 +297,7 @@ public class ConnectorFacadeProxy implements Connector {
             final OperationOptions options,
             final AtomicReference<Boolean> propagationAttempted) {
 
-        if (connInstance.getCapabilities().contains(ConnectorCapability.DELETE)) {
-            propagationAttempted.set(true);
-
-            Future<Uid> future = asyncFacade.delete(connector, objectClass, uid, options);
-
-            try {
-                future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-            } catch (java.util.concurrent.TimeoutException e) {
-                future.cancel(true);
-                throw new TimeoutException("Request timeout");
-            } catch (Exception e) {
-                LOG.error("Connector request execution failure", e);
-                if (e.getCause() instanceof RuntimeException runtimeException) {
-                    throw runtimeException;
-                } else {
-                    throw new RuntimeException(e.getCause());
-                }
-            }
-        } else {
-            LOG.info("Delete for {} was attempted, although the connector only has these capabilities: {}. No action.",
-                    uid.getUidValue(), connInstance.getCapabilities());
-        }
+        execute(deleteOperation(objectClass, uid, options, propagationAttempted));
     }
 
     @Override
@@ -307,32 +312,19 @@ public class ConnectorFacadeProxy implements Connector {
         }
     }
 
-    @Override
-    public SyncToken getLatestSyncToken(final ObjectClass objectClass) {
-        SyncToken result = null;
-
+    private Supplier<SyncToken> getLatestSyncTokenOperation(final ObjectClass objectClass) {
         if (connInstance.getCapabilities().contains(ConnectorCapability.SYNC)) {
-            Future<SyncToken> future = asyncFacade.getLatestSyncToken(connector, objectClass);
-
-            try {
-                result = future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-            } catch (java.util.concurrent.TimeoutException e) {
-                future.cancel(true);
-                throw new TimeoutException("Request timeout");
-            } catch (Exception e) {
-                LOG.error("Connector request execution failure", e);
-                if (e.getCause() instanceof RuntimeException runtimeException) {
-                    throw runtimeException;
-                } else {
-                    throw new RuntimeException(e.getCause());
-                }
-            }
-        } else {
-            LOG.info("getLatestSyncToken was attempted, although the "
-                    + "connector only has these capabilities: {}. No action.", connInstance.getCapabilities());
+            return () -> connector.getLatestSyncToken(objectClass);
         }
 
-        return result;
+        LOG.info("getLatestSyncToken was attempted, although the "
+                + "connector only has these capabilities: {}. No action.", connInstance.getCapabilities());
+        return null;
+    }
+
+    @Override
+    public SyncToken getLatestSyncToken(final ObjectClass objectClass) {
+        return execute(getLatestSyncTokenOperation(objectClass));
     }
 
     @Override
@@ -356,88 +348,78 @@ public class ConnectorFacadeProxy implements Connector {
 
     @Override
     public Set<ObjectClassInfo> getObjectClassInfo() {
-        Future<Set<ObjectClassInfo>> future = asyncFacade.getObjectClassInfo(connector);
-        try {
-            return future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-        } catch (java.util.concurrent.TimeoutException e) {
-            future.cancel(true);
-            throw new TimeoutException("Request timeout");
-        } catch (Exception e) {
-            LOG.error("Connector request execution failure", e);
-            if (e.getCause() instanceof RuntimeException runtimeException) {
-                throw runtimeException;
-            } else {
-                throw new RuntimeException(e.getCause());
+        return execute(() -> {
+            try {
+                return connector.schema().getObjectClassInfo();
+            } catch (Exception e) {
+                // catch exception in order to manage unpredictable behaviors
+                LOG.debug("While reading schema on connector {}", connector, e);
+                return Set.of();
             }
-        }
+        });
     }
 
     @Override
     public void validate() {
-        Future<String> future = asyncFacade.test(connector);
-        try {
-            future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-        } catch (java.util.concurrent.TimeoutException e) {
-            future.cancel(true);
-            throw new TimeoutException("Request timeout");
-        } catch (Exception e) {
-            LOG.error("Connector request execution failure", e);
-            if (e.getCause() instanceof RuntimeException runtimeException) {
-                throw runtimeException;
-            } else {
-                throw new RuntimeException(e.getCause());
-            }
-        }
+        execute(() -> {
+            connector.test();
+            return null;
+        });
     }
 
     @Override
     public void test() {
-        Future<String> future = asyncFacade.test(connector);
-        try {
-            future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-        } catch (java.util.concurrent.TimeoutException e) {
-            future.cancel(true);
-            throw new TimeoutException("Request timeout");
-        } catch (Exception e) {
-            LOG.error("Connector request execution failure", e);
-            if (e.getCause() instanceof RuntimeException runtimeException) {
-                throw runtimeException;
-            } else {
-                throw new RuntimeException(e.getCause());
-            }
-        }
+        execute(() -> {
+            connector.test();
+            return null;
+        });
     }
 
-    @Override
-    public ConnectorObject getObject(
+    private Supplier<ConnectorObject> getObjectOperation(
             final ObjectClass objectClass,
             final Attribute connObjectKey,
             final boolean ignoreCaseMatch,
             final OperationOptions options) {
 
-        Future<ConnectorObject> future;
-
         if (connInstance.getCapabilities().contains(ConnectorCapability.SEARCH)) {
-            future = asyncFacade.getObject(connector, objectClass, connObjectKey, ignoreCaseMatch, options);
-        } else {
-            LOG.info("Search was attempted, although the connector only has these capabilities: {}. No action.",
-                    connInstance.getCapabilities());
-            return null;
-        }
+            return () -> {
+                ConnectorObject[] objects = new ConnectorObject[1];
+                connector.search(
+                        objectClass,
+                        ignoreCaseMatch
+                        ? FilterBuilder.equalsIgnoreCase(connObjectKey)
+                        : FilterBuilder.equalTo(connObjectKey),
+                        new SearchResultsHandler() {
+
+                    @Override
+                    public boolean handle(final ConnectorObject connectorObject) {
+                        objects[0] = connectorObject;
+                        return false;
+                    }
 
-        try {
-            return future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-        } catch (java.util.concurrent.TimeoutException e) {
-            future.cancel(true);
-            throw new TimeoutException("Request timeout");
-        } catch (Exception e) {
-            LOG.error("Connector request execution failure", e);
-            if (e.getCause() instanceof RuntimeException runtimeException) {
-                throw runtimeException;
-            } else {
-                throw new RuntimeException(e.getCause());
-            }
+                    @Override
+                    public void handleResult(final SearchResult sr) {
+                        // do nothing
+                    }
+                },
+                        options);
+                return objects[0];
+            };
         }
+
+        LOG.info("Search was attempted, although the connector only has these capabilities: {}. No action.",
+                connInstance.getCapabilities());
+        return null;
+    }
+
+    @Override
+    public ConnectorObject getObject(
+            final ObjectClass objectClass,
+            final Attribute connObjectKey,
+            final boolean ignoreCaseMatch,
+            final OperationOptions options) {
+
+        return execute(getObjectOperation(objectClass, connObjectKey, ignoreCaseMatch, options));
     }
 
     @Override
@@ -495,6 +477,109 @@ public class ConnectorFacadeProxy implements Connector {
         return connInstance;
     }
 
+    public ConnectorBulkhead getBulkhead() {
+        return bulkhead;
+    }
+
+    public ConnectorRateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    public ConnectorCircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Runs the given operation via {@link #executeAsync(Supplier)} and waits for its outcome, no longer than the
+     * request timeout: the caller thread is never interrupted, as it may be within a transaction.
+     *
+     * @param operation operation to run, null for no action
+     * @param <T> result type
+     * @return operation result
+     * @throws TimeoutException if not completed within the request timeout
+     * @throws ConnectorUnavailableException if short-circuited
+     */
+    private <T> T execute(final Supplier<T> operation) {
+        try {
+            return executeAsync(operation).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Runs the given operation on the connector executor, within the limits configured for this connector instance;
+     * the request timeout is enforced on the returned future, without keeping any thread waiting for it, and
+     * interrupts the operation if still running.
+     * A rate limit slot is only reserved once the in-flight permit is granted, and only if the operation can start
+     * before the request timeout expires.
+     *
+     * @param operation operation to run, null for no action
+     * @param <T> result type
+     * @return future result, failed with {@link TimeoutException} if not completed within the request timeout or
+     * with {@link ConnectorUnavailableException} if short-circuited
+     */
+    private <T> CompletableFuture<T> executeAsync(final Supplier<T> operation) {
+        if (operation == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        ConnectorCircuitBreaker.Permit permit = circuitBreaker.tryAcquire();
+        if (permit == null) {
+            return CompletableFuture.failedFuture(new ConnectorUnavailableException(
+                    "Circuit breaker open for " + connInstance.getDisplayName()));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(connInstance.getConnRequestTimeout());
+        ConnectorCall<T> call = new ConnectorCall<>(operation);
+        return bulkhead.submit(
+                () -> asyncFacade.execute(call),
+                () -> rateLimiter.tryReserve(deadline - System.nanoTime())).
+                orTimeout(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS).
+                handle((result, error) -> {
+                    if (error == null) {
+                        circuitBreaker.onSuccess(permit);
+                        return result;
+                    }
+
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    if (cause instanceof java.util.concurrent.TimeoutException) {
+                        call.interrupt();
+                    }
+                    throw failure(cause, permit);
+                });
+    }
+
+    /**
+     * Accounts the given failure for circuit breaker and translates it for callers.
+     *
+     * @param cause failure
+     * @param permit circuit breaker permit of the failed operation
+     * @return exception to throw
+     */
+    private RuntimeException failure(final Throwable cause, final ConnectorCircuitBreaker.Permit permit) {
+        if (cause instanceof java.util.concurrent.TimeoutException) {
+            circuitBreaker.onFailure(permit);
+            return new TimeoutException("Request timeout");
+        }
+
+        // only failures telling that the target is unreachable or unresponsive count for circuit breaker
+        if (cause instanceof ConnectorIOException || cause instanceof OperationTimeoutException) {
+            circuitBreaker.onFailure(permit);
+        } else {
+            circuitBreaker.onIgnored(permit);
+        }
+
+        LOG.error("Connector request execution failure", cause);
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new RuntimeException(cause);
+    }
+
     private static Object getPropertyValue(final String propType, final List<?> values) {
         Object value = null;
 
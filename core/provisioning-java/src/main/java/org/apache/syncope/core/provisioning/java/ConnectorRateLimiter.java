@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaces the operations towards a single connector instance so that no more than the given number per second is
+ * started; callers are told how long to delay rather than being blocked.
+ */
+public class ConnectorRateLimiter {
+
+    protected final double permitsPerSecond;
+
+    protected final long intervalNanos;
+
+    protected long nextFreeNanos = System.nanoTime();
+
+    /**
+     * @param permitsPerSecond maximum operations per second, no limit if not positive
+     */
+    public ConnectorRateLimiter(final double permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.intervalNanos = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0;
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    /**
+     * Reserves the next available slot, unless it is farther than the given maximum wait.
+     *
+     * @param maxWaitNanos maximum nanoseconds to wait
+     * @return nanoseconds to wait before starting the operation, 0 if it can start right away, negative if no slot was
+     * reserved as the wait would exceed the given maximum
+     */
+    public synchronized long tryReserve(final long maxWaitNanos) {
+        if (intervalNanos <= 0) {
+            return 0;
+        }
+
+        long now = System.nanoTime();
+        long wait = Math.max(0, nextFreeNanos - now);
+        if (wait > maxWaitNanos) {
+            return -1;
+        }
+        nextFreeNanos = Math.max(nextFreeNanos, now) + intervalNanos;
+        return wait;
+    }
+}
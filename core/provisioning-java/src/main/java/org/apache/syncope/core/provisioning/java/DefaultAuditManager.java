@@ -18,9 +18,11 @@
  */
 package org.apache.syncope.core.provisioning.java;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.time.OffsetDateTime;
 import java.util.Arrays;
-import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.SerializationUtils;
 import org.apache.syncope.common.lib.audit.AuditEntry;
@@ -41,6 +43,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Transactional(readOnly = true)
 public class DefaultAuditManager implements AuditManager {
@@ -78,8 +82,39 @@ public class DefaultAuditManager implements AuditManager {
 
     protected final AuditConfDAO auditConfDAO;
 
-    public DefaultAuditManager(final AuditConfDAO auditConfDAO) {
+    /**
+     * Per-domain snapshot of the keys of active audit configurations; entries expire according to the configured
+     * spec, so that changes performed by other cluster members are eventually picked up.
+     */
+    protected final Cache<String, Set<String>> activeAudits;
+
+    public DefaultAuditManager(final AuditConfDAO auditConfDAO, final String cacheSpec) {
         this.auditConfDAO = auditConfDAO;
+        this.activeAudits = Caffeine.from(cacheSpec).build();
+    }
+
+    protected Set<String> activeAudits() {
+        return activeAudits.get(
+                AuthContextUtils.getDomain(),
+                domain -> auditConfDAO.findAll().stream().
+                        filter(AuditConf::isActive).map(AuditConf::getKey).collect(Collectors.toUnmodifiableSet()));
+    }
+
+    @Override
+    public void refresh() {
+        String domain = AuthContextUtils.getDomain();
+        activeAudits.invalidate(domain);
+
+        // prevent concurrent readers from caching again the state preceding the ongoing transaction
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(final int status) {
+                    activeAudits.invalidate(domain);
+                }
+            });
+        }
     }
 
     @Override
@@ -90,24 +125,11 @@ public class DefaultAuditManager implements AuditManager {
             final String subcategory,
             final String event) {
 
-        AuditEntry auditEntry = new AuditEntry();
-        auditEntry.setWho(who);
-        auditEntry.setLogger(new AuditLoggerName(type, category, subcategory, event, Result.SUCCESS));
-        auditEntry.setDate(OffsetDateTime.now());
-
-        AuditConf auditConf = auditConfDAO.find(auditEntry.getLogger().toAuditKey());
-        boolean auditRequested = auditConf != null && auditConf.isActive();
-
-        if (auditRequested) {
-            return true;
-        }
-
-        auditEntry.setLogger(new AuditLoggerName(type, category, subcategory, event, Result.FAILURE));
-
-        auditConf = auditConfDAO.find(auditEntry.getLogger().toAuditKey());
-        auditRequested = auditConf != null && auditConf.isActive();
-
-        return auditRequested;
+        Set<String> active = activeAudits();
+        return active.contains(
+                new AuditLoggerName(type, category, subcategory, event, Result.SUCCESS).toAuditKey())
+                || active.contains(
+                        new AuditLoggerName(type, category, subcategory, event, Result.FAILURE).toAuditKey());
     }
 
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
@@ -140,9 +162,8 @@ public class DefaultAuditManager implements AuditManager {
 
         AuditLoggerName auditLoggerName = new AuditLoggerName(type, category, subcategory, event, condition);
 
-        Optional.ofNullable(auditConfDAO.find(auditLoggerName.toAuditKey())).
-                filter(AuditConf::isActive).ifPresent(audit -> {
-
+        String auditKey = auditLoggerName.toAuditKey();
+        if (activeAudits().contains(auditKey)) {
             Throwable throwable = output instanceof Throwable
                     ? (Throwable) output
                     : null;
@@ -167,7 +188,7 @@ public class DefaultAuditManager implements AuditManager {
             Logger logger = LoggerFactory.getLogger(
                     AuditLoggerName.getAuditLoggerName(AuthContextUtils.getDomain()));
             Logger eventLogger = LoggerFactory.getLogger(
-                    AuditLoggerName.getAuditEventLoggerName(AuthContextUtils.getDomain(), audit.getKey()));
+                    AuditLoggerName.getAuditEventLoggerName(AuthContextUtils.getDomain(), auditKey));
             String serializedAuditEntry = POJOHelper.serialize(auditEntry);
 
             if (throwable == null) {
@@ -177,6 +198,6 @@ public class DefaultAuditManager implements AuditManager {
                 logger.debug(serializedAuditEntry, throwable);
                 eventLogger.debug(serializedAuditEntry, throwable);
             }
-        });
+        }
     }
 }
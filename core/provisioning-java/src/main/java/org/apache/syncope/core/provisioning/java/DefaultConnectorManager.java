@@ -67,13 +67,16 @@ public class DefaultConnectorManager implements ConnectorManager {
 
     protected final EntityFactory entityFactory;
 
+    protected final ProvisioningProperties props;
+
     public DefaultConnectorManager(
             final ConnIdBundleManager connIdBundleManager,
             final RealmDAO realmDAO,
             final ExternalResourceDAO resourceDAO,
             final ConnInstanceDataBinder connInstanceDataBinder,
             final AsyncConnectorFacade asyncFacade,
-            final EntityFactory entityFactory) {
+            final EntityFactory entityFactory,
+            final ProvisioningProperties props) {
 
         this.connIdBundleManager = connIdBundleManager;
         this.realmDAO = realmDAO;
@@ -81,6 +84,7 @@ public class DefaultConnectorManager implements ConnectorManager {
         this.connInstanceDataBinder = connInstanceDataBinder;
         this.asyncFacade = asyncFacade;
         this.entityFactory = entityFactory;
+        this.props = props;
     }
 
     @Override
@@ -153,9 +157,23 @@ public class DefaultConnectorManager implements ConnectorManager {
         return override;
     }
 
+    protected ProvisioningProperties.ConnectorLimitsProperties getLimits(final String connInstanceKey) {
+        return Optional.ofNullable(connInstanceKey).
+                map(props.getConnInstanceLimits()::get).
+                map(limits -> limits.merge(props.getConnectorLimits())).
+                orElseGet(props::getConnectorLimits);
+    }
+
+    protected Connector createConnector(
+            final ConnInstance connInstance,
+            final ProvisioningProperties.ConnectorLimitsProperties limits) {
+
+        return new ConnectorFacadeProxy(connInstance, asyncFacade, limits);
+    }
+
     @Override
     public Connector createConnector(final ConnInstance connInstance) {
-        return new ConnectorFacadeProxy(connInstance, asyncFacade);
+        return createConnector(connInstance, getLimits(connInstance.getKey()));
     }
 
     @Override
@@ -170,7 +188,8 @@ public class DefaultConnectorManager implements ConnectorManager {
                 connInstanceDataBinder.getConnInstanceTO(resource.getConnector()),
                 resource.getConfOverride(),
                 resource.isOverrideCapabilities() ? Optional.of(resource.getCapabilitiesOverride()) : Optional.empty());
-        Connector connector = createConnector(connInstance);
+        // connector instance override is not bound to the original key, hence limits must be looked up here
+        Connector connector = createConnector(connInstance, getLimits(resource.getConnector().getKey()));
         LOG.debug("Connector to be registered: {}", connector);
 
         ApplicationContextProvider.getBeanFactory().registerSingleton(beanName, connector);
@@ -22,7 +22,6 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import org.apache.commons.jexl3.JexlContext;
-import org.apache.commons.jexl3.MapContext;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.DerSchema;
@@ -30,6 +29,7 @@ import org.apache.syncope.core.persistence.api.entity.GroupableRelatable;
 import org.apache.syncope.core.persistence.api.entity.Membership;
 import org.apache.syncope.core.provisioning.api.DerAttrHandler;
 import org.apache.syncope.core.provisioning.api.jexl.JexlUtils;
+import org.apache.syncope.core.provisioning.api.jexl.LazyJexlContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.transaction.annotation.Transactional;
@@ -43,9 +43,9 @@ public class DefaultDerAttrHandler implements DerAttrHandler {
         Map<DerSchema, String> result = new HashMap<>(schemas.size());
 
         schemas.forEach(schema -> {
-            JexlContext jexlContext = new MapContext();
-            JexlUtils.addPlainAttrsToContext(any.getPlainAttrs(), jexlContext);
-            JexlUtils.addFieldsToContext(any, jexlContext);
+            JexlContext jexlContext = new LazyJexlContext().
+                    withFields(any).
+                    withPlainAttrs(any.getPlainAttrs());
 
             result.put(schema, JexlUtils.evaluate(schema.getExpression(), jexlContext).toString());
         });
@@ -96,9 +96,9 @@ public class DefaultDerAttrHandler implements DerAttrHandler {
         Map<DerSchema, String> result = new HashMap<>(schemas.size());
 
         schemas.forEach(schema -> {
-            JexlContext jexlContext = new MapContext();
-            JexlUtils.addPlainAttrsToContext(any.getPlainAttrs(membership), jexlContext);
-            JexlUtils.addFieldsToContext(any, jexlContext);
+            JexlContext jexlContext = new LazyJexlContext().
+                    withFields(any).
+                    withPlainAttrs(any.getPlainAttrs(membership));
 
             result.put(schema, JexlUtils.evaluate(schema.getExpression(), jexlContext).toString());
         });
@@ -29,7 +29,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.jexl3.JexlContext;
-import org.apache.commons.jexl3.MapContext;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.reflect.FieldUtils;
@@ -91,7 +90,9 @@ import org.apache.syncope.core.provisioning.api.cache.VirAttrCache;
 import org.apache.syncope.core.provisioning.api.cache.VirAttrCacheKey;
 import org.apache.syncope.core.provisioning.api.data.ItemTransformer;
 import org.apache.syncope.core.provisioning.api.jexl.JexlUtils;
+import org.apache.syncope.core.provisioning.api.jexl.LazyJexlContext;
 import org.apache.syncope.core.provisioning.api.utils.FormatUtils;
+import org.apache.syncope.core.provisioning.java.cache.MappingPlanCache;
 import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
 import org.apache.syncope.core.spring.security.Encryptor;
@@ -138,6 +139,8 @@ public class DefaultMappingManager implements MappingManager {
 
     protected final IntAttrNameParser intAttrNameParser;
 
+    protected final MappingPlanCache mappingPlanCache;
+
     public DefaultMappingManager(
             final AnyTypeDAO anyTypeDAO,
             final UserDAO userDAO,
@@ -151,7 +154,8 @@ public class DefaultMappingManager implements MappingManager {
             final VirAttrHandler virAttrHandler,
             final VirAttrCache virAttrCache,
             final AnyUtilsFactory anyUtilsFactory,
-            final IntAttrNameParser intAttrNameParser) {
+            final IntAttrNameParser intAttrNameParser,
+            final MappingPlanCache mappingPlanCache) {
 
         this.anyTypeDAO = anyTypeDAO;
         this.userDAO = userDAO;
@@ -166,6 +170,7 @@ public class DefaultMappingManager implements MappingManager {
         this.virAttrCache = virAttrCache;
         this.anyUtilsFactory = anyUtilsFactory;
         this.intAttrNameParser = intAttrNameParser;
+        this.mappingPlanCache = mappingPlanCache;
     }
 
     protected List<Implementation> getTransformers(final Item item) {
@@ -175,6 +180,10 @@ public class DefaultMappingManager implements MappingManager {
                 collect(Collectors.toList());
     }
 
+    protected List<ItemTransformer> getItemTransformers(final Item item) {
+        return MappingUtils.getItemTransformers(mappingPlanCache.getJEXLTransformer(item), getTransformers(item));
+    }
+
     protected String processPreparedAttr(final Pair<String, Attribute> preparedAttr, final Set<Attribute> attributes) {
         String connObjectKey = null;
 
@@ -249,10 +258,10 @@ public class DefaultMappingManager implements MappingManager {
                 : provision.getMapping().getConnObjectLink();
         String evalConnObjectLink = null;
         if (StringUtils.isNotBlank(connObjectLink)) {
-            JexlContext jexlContext = new MapContext();
-            JexlUtils.addFieldsToContext(any, jexlContext);
-            JexlUtils.addPlainAttrsToContext(any.getPlainAttrs(), jexlContext);
-            JexlUtils.addDerAttrsToContext(any, derAttrHandler, jexlContext);
+            JexlContext jexlContext = new LazyJexlContext().
+                    withFields(any).
+                    withPlainAttrs(any.getPlainAttrs()).
+                    withDerAttrs(any, derAttrHandler);
             evalConnObjectLink = JexlUtils.evaluate(connObjectLink, jexlContext).toString();
         }
 
@@ -279,8 +288,7 @@ public class DefaultMappingManager implements MappingManager {
         String connObjectLink = orgUnit.getConnObjectLink();
         String evalConnObjectLink = null;
         if (StringUtils.isNotBlank(connObjectLink)) {
-            JexlContext jexlContext = new MapContext();
-            JexlUtils.addFieldsToContext(realm, jexlContext);
+            JexlContext jexlContext = new LazyJexlContext().withFields(realm);
             evalConnObjectLink = JexlUtils.evaluate(connObjectLink, jexlContext).toString();
         }
 
@@ -541,7 +549,7 @@ public class DefaultMappingManager implements MappingManager {
 
         IntAttrName intAttrName;
         try {
-            intAttrName = intAttrNameParser.parse(item.getIntAttrName(), any.getType().getKind());
+            intAttrName = mappingPlanCache.getIntAttrName(item.getIntAttrName(), any.getType().getKind());
         } catch (ParseException e) {
             LOG.error("Invalid intAttrName '{}' specified, ignoring", item.getIntAttrName(), e);
             return null;
@@ -855,7 +863,7 @@ public class DefaultMappingManager implements MappingManager {
 
         Pair<AttrSchemaType, List<PlainAttrValue>> transformed = Pair.of(schemaType, values);
         if (transform) {
-            for (ItemTransformer transformer : MappingUtils.getItemTransformers(mapItem, getTransformers(mapItem))) {
+            for (ItemTransformer transformer : getItemTransformers(mapItem)) {
                 transformed = transformer.beforePropagation(
                         mapItem, any, transformed.getLeft(), transformed.getRight());
             }
@@ -910,7 +918,7 @@ public class DefaultMappingManager implements MappingManager {
                     resource,
                     provision,
                     mapItem,
-                    intAttrNameParser.parse(mapItem.getIntAttrName(), any.getType().getKind()),
+                    mappingPlanCache.getIntAttrName(mapItem.getIntAttrName(), any.getType().getKind()),
                     AttrSchemaType.String,
                     any,
                     AccountGetter.DEFAULT,
@@ -941,7 +949,7 @@ public class DefaultMappingManager implements MappingManager {
         List<Object> values = null;
         if (attr != null) {
             values = attr.getValue();
-            for (ItemTransformer transformer : MappingUtils.getItemTransformers(mapItem, getTransformers(mapItem))) {
+            for (ItemTransformer transformer : getItemTransformers(mapItem)) {
                 values = transformer.beforePull(mapItem, anyTO, values);
             }
         }
@@ -949,7 +957,8 @@ public class DefaultMappingManager implements MappingManager {
 
         IntAttrName intAttrName;
         try {
-            intAttrName = intAttrNameParser.parse(mapItem.getIntAttrName(), AnyTypeKind.fromTOClass(anyTO.getClass()));
+            intAttrName = mappingPlanCache.getIntAttrName(
+                    mapItem.getIntAttrName(), AnyTypeKind.fromTOClass(anyTO.getClass()));
         } catch (ParseException e) {
             LOG.error("Invalid intAttrName '{}' specified, ignoring", mapItem.getIntAttrName(), e);
             return;
@@ -1098,7 +1107,7 @@ public class DefaultMappingManager implements MappingManager {
         List<Object> values = null;
         if (attr != null) {
             values = attr.getValue();
-            for (ItemTransformer transformer : MappingUtils.getItemTransformers(item, getTransformers(item))) {
+            for (ItemTransformer transformer : getItemTransformers(item)) {
                 values = transformer.beforePull(item, realmTO, values);
             }
         }
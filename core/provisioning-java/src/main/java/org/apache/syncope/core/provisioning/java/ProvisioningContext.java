@@ -117,6 +117,7 @@ import org.apache.syncope.core.provisioning.api.notification.NotificationManager
 import org.apache.syncope.core.provisioning.api.propagation.PropagationManager;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskExecutor;
 import org.apache.syncope.core.provisioning.java.cache.CaffeineVirAttrCache;
+import org.apache.syncope.core.provisioning.java.cache.MappingPlanCache;
 import org.apache.syncope.core.provisioning.java.data.AccessTokenDataBinderImpl;
 import org.apache.syncope.core.provisioning.java.data.AnyObjectDataBinderImpl;
 import org.apache.syncope.core.provisioning.java.data.AnyTypeClassDataBinderImpl;
@@ -163,6 +164,7 @@ import org.apache.syncope.core.provisioning.java.propagation.DefaultPropagationM
 import org.apache.syncope.core.provisioning.java.propagation.PriorityPropagationTaskExecutor;
 import org.apache.syncope.core.provisioning.java.pushpull.InboundMatcher;
 import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
+import org.apache.syncope.core.provisioning.java.pushpull.ProvisioningReportStore;
 import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
 import org.apache.syncope.core.provisioning.java.utils.TemplateUtils;
 import org.apache.syncope.core.spring.security.DefaultCredentialChecker;
@@ -371,7 +373,8 @@ public class ProvisioningContext {
             final RealmDAO realmDAO,
             final ExternalResourceDAO resourceDAO,
             final ConnInstanceDataBinder connInstanceDataBinder,
-            final AsyncConnectorFacade asyncConnectorFacade) {
+            final AsyncConnectorFacade asyncConnectorFacade,
+            final ProvisioningProperties props) {
 
         return new DefaultConnectorManager(
                 connIdBundleManager,
@@ -379,7 +382,8 @@ public class ProvisioningContext {
                 resourceDAO,
                 connInstanceDataBinder,
                 asyncConnectorFacade,
-                entityFactory);
+                entityFactory,
+                props);
     }
 
     @ConditionalOnMissingBean
@@ -391,6 +395,7 @@ public class ProvisioningContext {
     @ConditionalOnMissingBean
     @Bean
     public InboundMatcher inboundMatcher(
+            final ProvisioningProperties provisioningProperties,
             final AnyUtilsFactory anyUtilsFactory,
             final UserDAO userDAO,
             final AnyObjectDAO anyObjectDAO,
@@ -412,19 +417,27 @@ public class ProvisioningContext {
                 implementationDAO,
                 virAttrHandler,
                 intAttrNameParser,
-                anyUtilsFactory);
+                anyUtilsFactory,
+                provisioningProperties.getInboundMatcherIndexMaxSize());
     }
 
     @ConditionalOnMissingBean
     @Bean
     public OutboundMatcher outboundMatcher(
+            final ProvisioningProperties provisioningProperties,
             final AnyUtilsFactory anyUtilsFactory,
             final MappingManager mappingManager,
             final UserDAO userDAO,
             final VirSchemaDAO virSchemaDAO,
             final VirAttrHandler virAttrHandler) {
 
-        return new OutboundMatcher(mappingManager, userDAO, anyUtilsFactory, virSchemaDAO, virAttrHandler);
+        return new OutboundMatcher(
+                mappingManager,
+                userDAO,
+                anyUtilsFactory,
+                virSchemaDAO,
+                virAttrHandler,
+                provisioningProperties.getOutboundMatcherSnapshotMaxSize());
     }
 
     @ConditionalOnMissingBean
@@ -459,7 +472,8 @@ public class ProvisioningContext {
             final DerAttrHandler derAttrHandler,
             final VirAttrHandler virAttrHandler,
             final VirAttrCache virAttrCache,
-            final IntAttrNameParser intAttrNameParser) {
+            final IntAttrNameParser intAttrNameParser,
+            final MappingPlanCache mappingPlanCache) {
 
         return new DefaultMappingManager(
                 anyTypeDAO,
@@ -474,7 +488,8 @@ public class ProvisioningContext {
                 virAttrHandler,
                 virAttrCache,
                 anyUtilsFactory,
-                intAttrNameParser);
+                intAttrNameParser,
+                mappingPlanCache);
     }
 
     @ConditionalOnMissingBean
@@ -631,6 +646,23 @@ public class ProvisioningContext {
                 virtAttrHandler);
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public MappingPlanCache mappingPlanCache(
+            final ProvisioningProperties provisioningProperties,
+            final IntAttrNameParser intAttrNameParser,
+            final PlainSchemaDAO plainSchemaDAO,
+            final DerSchemaDAO derSchemaDAO,
+            final VirSchemaDAO virSchemaDAO) {
+
+        return new MappingPlanCache(
+                intAttrNameParser,
+                plainSchemaDAO,
+                derSchemaDAO,
+                virSchemaDAO,
+                provisioningProperties.getMappingPlanCacheSpec());
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public VirAttrCache virAttrCache(final ProvisioningProperties provisioningProperties) {
@@ -684,8 +716,20 @@ public class ProvisioningContext {
 
     @ConditionalOnMissingBean
     @Bean
-    public AuditManager auditManager(final AuditConfDAO auditConfDAO) {
-        return new DefaultAuditManager(auditConfDAO);
+    public AuditManager auditManager(
+            final ProvisioningProperties provisioningProperties,
+            final AuditConfDAO auditConfDAO) {
+
+        return new DefaultAuditManager(auditConfDAO, provisioningProperties.getAuditConfCacheSpec());
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public ProvisioningReportStore provisioningReportStore(final ProvisioningProperties provisioningProperties) {
+        return new ProvisioningReportStore(
+                provisioningProperties.getReport().getDirectory(),
+                provisioningProperties.getReport().getFailureSampleSize(),
+                provisioningProperties.getReport().getRetainedResults());
     }
 
     @ConditionalOnMissingBean
@@ -19,7 +19,10 @@
 package org.apache.syncope.core.provisioning.java;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import org.quartz.impl.jdbcjobstore.DriverDelegate;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -89,16 +92,166 @@ public class ProvisioningProperties {
         }
     }
 
+    /**
+     * Limits enforced on the operations towards connector instances; when overriding for a connector instance, the
+     * values not set are taken from the global limits.
+     */
+    public static class ConnectorLimitsProperties {
+
+        /**
+         * Maximum number of in-flight operations; not limited if not positive.
+         */
+        private Integer maxInFlight;
+
+        /**
+         * Maximum number of operations started per second; not limited if not positive.
+         */
+        private Double permitsPerSecond;
+
+        /**
+         * Failure rate percentage opening the circuit breaker; circuit breaker disabled if not positive.
+         */
+        private Integer failureRateThreshold;
+
+        private Integer slidingWindowSize;
+
+        private Integer minimumCalls;
+
+        private Integer openStateSeconds;
+
+        public int getMaxInFlight() {
+            return Optional.ofNullable(maxInFlight).orElse(0);
+        }
+
+        public void setMaxInFlight(final int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+        }
+
+        public double getPermitsPerSecond() {
+            return Optional.ofNullable(permitsPerSecond).orElse(0D);
+        }
+
+        public void setPermitsPerSecond(final double permitsPerSecond) {
+            this.permitsPerSecond = permitsPerSecond;
+        }
+
+        public int getFailureRateThreshold() {
+            return Optional.ofNullable(failureRateThreshold).orElse(0);
+        }
+
+        public void setFailureRateThreshold(final int failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+        }
+
+        public int getSlidingWindowSize() {
+            return Optional.ofNullable(slidingWindowSize).orElse(20);
+        }
+
+        public void setSlidingWindowSize(final int slidingWindowSize) {
+            this.slidingWindowSize = slidingWindowSize;
+        }
+
+        public int getMinimumCalls() {
+            return Optional.ofNullable(minimumCalls).orElse(10);
+        }
+
+        public void setMinimumCalls(final int minimumCalls) {
+            this.minimumCalls = minimumCalls;
+        }
+
+        public int getOpenStateSeconds() {
+            return Optional.ofNullable(openStateSeconds).orElse(30);
+        }
+
+        public void setOpenStateSeconds(final int openStateSeconds) {
+            this.openStateSeconds = openStateSeconds;
+        }
+
+        /**
+         * @param defaults limits to take the values not set here from
+         * @return new limits, with the values set here or, if not set, in the given defaults
+         */
+        public ConnectorLimitsProperties merge(final ConnectorLimitsProperties defaults) {
+            ConnectorLimitsProperties merged = new ConnectorLimitsProperties();
+            merged.maxInFlight = Optional.ofNullable(maxInFlight).orElse(defaults.maxInFlight);
+            merged.permitsPerSecond = Optional.ofNullable(permitsPerSecond).orElse(defaults.permitsPerSecond);
+            merged.failureRateThreshold = Optional.ofNullable(failureRateThreshold).
+                    orElse(defaults.failureRateThreshold);
+            merged.slidingWindowSize = Optional.ofNullable(slidingWindowSize).orElse(defaults.slidingWindowSize);
+            merged.minimumCalls = Optional.ofNullable(minimumCalls).orElse(defaults.minimumCalls);
+            merged.openStateSeconds = Optional.ofNullable(openStateSeconds).orElse(defaults.openStateSeconds);
+            return merged;
+        }
+    }
+
+    public static class ReportProperties {
+
+        /**
+         * Directory where full pull / push reports are written, as compressed artifacts; kept inline if not set.
+         * With more than one Core node, this must be a persistent directory shared among all of them, as reports can
+         * be downloaded from any node.
+         */
+        private String directory;
+
+        /**
+         * Maximum number of failures to include in the report stored with each task execution.
+         */
+        private int failureSampleSize = 100;
+
+        /**
+         * Number of most recent provisioning results kept in memory while running pull / push tasks.
+         */
+        private int retainedResults = 1000;
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(final String directory) {
+            this.directory = directory;
+        }
+
+        public int getFailureSampleSize() {
+            return failureSampleSize;
+        }
+
+        public void setFailureSampleSize(final int failureSampleSize) {
+            this.failureSampleSize = failureSampleSize;
+        }
+
+        public int getRetainedResults() {
+            return retainedResults;
+        }
+
+        public void setRetainedResults(final int retainedResults) {
+            this.retainedResults = retainedResults;
+        }
+    }
+
     private final ExecutorProperties asyncConnectorFacadeExecutor = new ExecutorProperties();
 
     private final ExecutorProperties propagationTaskExecutorAsyncExecutor = new ExecutorProperties();
 
     private String virAttrCacheSpec = "maximumSize=5000,expireAfterAccess=1m";
 
+    private String auditConfCacheSpec = "maximumSize=100,expireAfterWrite=1m";
+
+    private String mappingPlanCacheSpec = "maximumSize=5000,expireAfterAccess=1h";
+
+    private int inboundMatcherIndexMaxSize = 500000;
+
+    private int outboundMatcherSnapshotMaxSize = 500000;
+
     private final List<String> connIdLocation = new ArrayList<>();
 
     private final QuartzProperties quartz = new QuartzProperties();
 
+    private final ConnectorLimitsProperties connectorLimits = new ConnectorLimitsProperties();
+
+    private final Map<String, ConnectorLimitsProperties> connInstanceLimits = new HashMap<>();
+
+    private final ReportProperties report = new ReportProperties();
+
     public String getVirAttrCacheSpec() {
         return virAttrCacheSpec;
     }
@@ -107,6 +260,38 @@ public class ProvisioningProperties {
         this.virAttrCacheSpec = virAttrCacheSpec;
     }
 
+    public String getAuditConfCacheSpec() {
+        return auditConfCacheSpec;
+    }
+
+    public void setAuditConfCacheSpec(final String auditConfCacheSpec) {
+        this.auditConfCacheSpec = auditConfCacheSpec;
+    }
+
+    public String getMappingPlanCacheSpec() {
+        return mappingPlanCacheSpec;
+    }
+
+    public void setMappingPlanCacheSpec(final String mappingPlanCacheSpec) {
+        this.mappingPlanCacheSpec = mappingPlanCacheSpec;
+    }
+
+    public int getInboundMatcherIndexMaxSize() {
+        return inboundMatcherIndexMaxSize;
+    }
+
+    public void setInboundMatcherIndexMaxSize(final int inboundMatcherIndexMaxSize) {
+        this.inboundMatcherIndexMaxSize = inboundMatcherIndexMaxSize;
+    }
+
+    public int getOutboundMatcherSnapshotMaxSize() {
+        return outboundMatcherSnapshotMaxSize;
+    }
+
+    public void setOutboundMatcherSnapshotMaxSize(final int outboundMatcherSnapshotMaxSize) {
+        this.outboundMatcherSnapshotMaxSize = outboundMatcherSnapshotMaxSize;
+    }
+
     public ExecutorProperties getAsyncConnectorFacadeExecutor() {
         return asyncConnectorFacadeExecutor;
     }
@@ -122,4 +307,19 @@ public class ProvisioningProperties {
     public QuartzProperties getQuartz() {
         return quartz;
     }
+
+    public ConnectorLimitsProperties getConnectorLimits() {
+        return connectorLimits;
+    }
+
+    /**
+     * @return limits overriding {@link #getConnectorLimits()}, by connector instance key
+     */
+    public Map<String, ConnectorLimitsProperties> getConnInstanceLimits() {
+        return connInstanceLimits;
+    }
+
+    public ReportProperties getReport() {
+        return report;
+    }
 }
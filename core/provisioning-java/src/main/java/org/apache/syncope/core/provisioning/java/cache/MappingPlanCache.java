@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.text.ParseException;
+import java.util.Optional;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
+import org.apache.syncope.common.lib.to.Item;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.VirSchemaDAO;
+import org.apache.syncope.core.persistence.api.entity.Schema;
+import org.apache.syncope.core.provisioning.api.IntAttrName;
+import org.apache.syncope.core.provisioning.api.IntAttrNameParser;
+import org.apache.syncope.core.provisioning.api.data.JEXLItemTransformer;
+import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+
+/**
+ * Cache of what is compiled out of mapping items: parsed internal attribute names, scoped by domain, and JEXL
+ * transformers.
+ * Entries are keyed on item content, so that any change to a resource mapping simply results in new entries; no
+ * entity instance is retained, and schemas referred by parsed names are looked up again by key at each use, so that
+ * parsed names whose schema was removed or replaced are detected and parsed again.
+ */
+public class MappingPlanCache {
+
+    protected final IntAttrNameParser intAttrNameParser;
+
+    protected final PlainSchemaDAO plainSchemaDAO;
+
+    protected final DerSchemaDAO derSchemaDAO;
+
+    protected final VirSchemaDAO virSchemaDAO;
+
+    protected final Cache<Triple<String, String, AnyTypeKind>, Pair<IntAttrName, String>> intAttrNames;
+
+    protected final Cache<Pair<String, String>, Optional<JEXLItemTransformer>> jexlTransformers;
+
+    public MappingPlanCache(
+            final IntAttrNameParser intAttrNameParser,
+            final PlainSchemaDAO plainSchemaDAO,
+            final DerSchemaDAO derSchemaDAO,
+            final VirSchemaDAO virSchemaDAO,
+            final String cacheSpec) {
+
+        this.intAttrNameParser = intAttrNameParser;
+        this.plainSchemaDAO = plainSchemaDAO;
+        this.derSchemaDAO = derSchemaDAO;
+        this.virSchemaDAO = virSchemaDAO;
+        this.intAttrNames = Caffeine.from(cacheSpec).build();
+        this.jexlTransformers = Caffeine.from(cacheSpec).build();
+    }
+
+    protected static IntAttrName copy(final IntAttrName source, final Schema schema) {
+        IntAttrName result = new IntAttrName();
+        result.setAnyTypeKind(source.getAnyTypeKind());
+        result.setField(source.getField());
+        result.setSchemaType(source.getSchemaType());
+        result.setSchema(schema);
+        result.setEnclosingGroup(source.getEnclosingGroup());
+        result.setRelatedUser(source.getRelatedUser());
+        result.setRelatedAnyObject(source.getRelatedAnyObject());
+        result.setMembershipOfGroup(source.getMembershipOfGroup());
+        result.setPrivilegesOfApplication(source.getPrivilegesOfApplication());
+        result.setRelationshipType(source.getRelationshipType());
+        result.setRelationshipAnyType(source.getRelationshipAnyType());
+        return result;
+    }
+
+    protected Schema findSchema(final IntAttrName template, final String schemaKey) {
+        switch (template.getSchemaType()) {
+            case PLAIN:
+                return plainSchemaDAO.find(schemaKey);
+
+            case DERIVED:
+                return derSchemaDAO.find(schemaKey);
+
+            case VIRTUAL:
+                return virSchemaDAO.find(schemaKey);
+
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns the parsed form of the given internal attribute name, parsing it only if not already available for the
+     * current domain.
+     * Returned instances are never shared, hence they can be freely altered by callers.
+     *
+     * @param intAttrName internal attribute name
+     * @param provisionAnyTypeKind any type kind of the provision including the mapping item
+     * @return parsed internal attribute name
+     * @throws ParseException if the given internal attribute name cannot be parsed
+     */
+    public IntAttrName getIntAttrName(final String intAttrName, final AnyTypeKind provisionAnyTypeKind)
+            throws ParseException {
+
+        Triple<String, String, AnyTypeKind> key =
+                Triple.of(AuthContextUtils.getDomain(), intAttrName, provisionAnyTypeKind);
+
+        Pair<IntAttrName, String> cached = intAttrNames.getIfPresent(key);
+        if (cached != null) {
+            if (cached.getRight() == null) {
+                return copy(cached.getLeft(), null);
+            }
+
+            Schema schema = findSchema(cached.getLeft(), cached.getRight());
+            if (schema != null) {
+                return copy(cached.getLeft(), schema);
+            }
+            intAttrNames.invalidate(key);
+        }
+
+        IntAttrName parsed = intAttrNameParser.parse(intAttrName, provisionAnyTypeKind);
+        // names not resolved to any field, schema or application might be resolved later on, don't retain them
+        if (parsed.getField() != null || parsed.getSchema() != null || parsed.getPrivilegesOfApplication() != null) {
+            String schemaKey = Optional.ofNullable(parsed.getSchema()).map(Schema::getKey).orElse(null);
+            intAttrNames.put(key, Pair.of(copy(parsed, null), schemaKey));
+        }
+        return parsed;
+    }
+
+    /**
+     * Returns the JEXL transformer for the given mapping item, if any.
+     * Returned instances are shared, hence they must not be altered.
+     *
+     * @param item mapping item
+     * @return JEXL transformer, if any JEXL expression is defined by the given mapping item
+     */
+    public Optional<JEXLItemTransformer> getJEXLTransformer(final Item item) {
+        return jexlTransformers.get(
+                Pair.of(item.getPropagationJEXLTransformer(), item.getPullJEXLTransformer()),
+                key -> MappingUtils.buildJEXLTransformer(key.getLeft(), key.getRight()));
+    }
+}
@@ -36,6 +36,7 @@ import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.provisioning.api.DerAttrHandler;
 import org.apache.syncope.core.provisioning.api.data.JEXLItemTransformer;
 import org.apache.syncope.core.provisioning.api.jexl.JexlUtils;
+import org.apache.syncope.core.provisioning.api.jexl.LazyJexlContext;
 import org.springframework.beans.factory.annotation.Autowired;
 
 public class JEXLItemTransformerImpl implements JEXLItemTransformer {
@@ -65,11 +66,11 @@ public class JEXLItemTransformerImpl implements JEXLItemTransformer {
             final AttrSchemaType schemaType,
             final PlainAttrValue value) {
 
-        JexlContext jexlContext = new MapContext();
+        LazyJexlContext jexlContext = new LazyJexlContext();
         if (any != null) {
-            JexlUtils.addFieldsToContext(any, jexlContext);
-            JexlUtils.addPlainAttrsToContext(any.getPlainAttrs(), jexlContext);
-            JexlUtils.addDerAttrsToContext(any, derAttrHandler, jexlContext);
+            jexlContext.withFields(any).
+                    withPlainAttrs(any.getPlainAttrs()).
+                    withDerAttrs(any, derAttrHandler);
         }
 
         Object oValue;
@@ -157,6 +157,8 @@ public class TaskDataBinderImpl extends AbstractExecutableDatabinder implements
             pushTask.getFilters().entrySet().
                     removeIf(filter -> !pushTaskTO.getFilters().containsKey(filter.getKey()));
 
+            pushTask.setSnapshotMatching(pushTaskTO.isSnapshotMatching());
+
             pushTask.setConcurrentSettings(pushTaskTO.getConcurrentSettings());
         } else if (provisioningTask instanceof PullTask && provisioningTaskTO instanceof PullTaskTO) {
             PullTask pullTask = (PullTask) provisioningTask;
@@ -218,6 +220,8 @@ public class TaskDataBinderImpl extends AbstractExecutableDatabinder implements
 
             pullTask.setRemediation(pullTaskTO.isRemediation());
 
+            pullTask.setCommitBatchSize(pullTaskTO.getCommitBatchSize());
+
             pullTask.setConcurrentSettings(pullTaskTO.getConcurrentSettings());
         }
 
@@ -499,6 +503,8 @@ public class TaskDataBinderImpl extends AbstractExecutableDatabinder implements
 
                 pullTaskTO.setRemediation(pullTask.isRemediation());
 
+                pullTaskTO.setCommitBatchSize(pullTask.getCommitBatchSize());
+
                 pullTaskTO.setConcurrentSettings(pullTask.getConcurrentSettings());
                 break;
 
@@ -516,6 +522,8 @@ public class TaskDataBinderImpl extends AbstractExecutableDatabinder implements
 
                 pushTaskTO.getFilters().putAll(pushTask.getFilters());
 
+                pushTaskTO.setSnapshotMatching(pushTask.isSnapshotMatching());
+
                 pushTaskTO.setConcurrentSettings(pushTask.getConcurrentSettings());
                 break;
 
@@ -93,6 +93,11 @@ public abstract class AbstractSchedTaskJobDelegate<T extends SchedTask> implemen
     @Autowired
     protected ApplicationEventPublisher publisher;
 
+    /**
+     * Key of the task execution being run.
+     */
+    protected String executionKey;
+
     protected boolean interrupt;
 
     protected boolean interrupted;
@@ -143,6 +148,7 @@ public abstract class AbstractSchedTaskJobDelegate<T extends SchedTask> implemen
         String executor = Optional.ofNullable(context.getMergedJobDataMap().getString(JobManager.EXECUTOR_KEY)).
                 orElse(securityProperties.getAdminUser());
         TaskExec<SchedTask> execution = taskUtilsFactory.getInstance(taskType).newTaskExec();
+        executionKey = execution.getKey();
         execution.setStart(OffsetDateTime.now());
         execution.setTask(task);
         execution.setExecutor(executor);
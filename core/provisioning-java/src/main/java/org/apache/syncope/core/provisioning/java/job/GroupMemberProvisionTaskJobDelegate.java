@@ -20,15 +20,20 @@ package org.apache.syncope.core.provisioning.java.job;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.to.PropagationStatus;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ProvisionAction;
 import org.apache.syncope.common.lib.types.TaskType;
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
+import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.dao.search.MembershipCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
@@ -50,6 +55,12 @@ public class GroupMemberProvisionTaskJobDelegate extends AbstractSchedTaskJobDel
     @Autowired
     private GroupDAO groupDAO;
 
+    @Autowired
+    private UserDAO userDAO;
+
+    @Autowired
+    private AnyObjectDAO anyObjectDAO;
+
     @Autowired
     private AnySearchDAO searchDAO;
 
@@ -78,6 +89,20 @@ public class GroupMemberProvisionTaskJobDelegate extends AbstractSchedTaskJobDel
         super.execute(taskType, taskKey, dryRun, context);
     }
 
+    /**
+     * Loads associations for the page of members starting at the given index, if any such page starts there.
+     *
+     * @param anyDAO any DAO
+     * @param anys members
+     * @param index index of the member about to be provisioned
+     */
+    private static void prefetch(final AnyDAO<?> anyDAO, final List<? extends Any<?>> anys, final int index) {
+        if (index % AnyDAO.DEFAULT_PAGE_SIZE == 0) {
+            anyDAO.prefetch(anys.subList(index, Math.min(index + AnyDAO.DEFAULT_PAGE_SIZE, anys.size())).stream().
+                    map(Any::getKey).collect(Collectors.toList()));
+        }
+    }
+
     @Override
     protected String doExecute(final boolean dryRun, final String executor, final JobExecutionContext context)
             throws JobExecutionException {
@@ -101,6 +126,7 @@ public class GroupMemberProvisionTaskJobDelegate extends AbstractSchedTaskJobDel
                 + users.size() + " users from " + gResources);
 
         for (int i = 0; i < users.size() && !interrupt; i++) {
+            prefetch(userDAO, users, i);
             List<PropagationStatus> statuses = action == ProvisionAction.DEPROVISION
                     ? userProvisioningManager.deprovision(
                             users.get(i).getKey(), gResources, false, executor)
@@ -131,6 +157,7 @@ public class GroupMemberProvisionTaskJobDelegate extends AbstractSchedTaskJobDel
                 + anyObjects.size() + " any objects from " + gResources);
 
         for (int i = 0; i < anyObjects.size() && !interrupt; i++) {
+            prefetch(anyObjectDAO, anyObjects, i);
             List<PropagationStatus> statuses = action == ProvisionAction.DEPROVISION
                     ? anyObjectProvisioningManager.deprovision(
                             anyObjects.get(i).getKey(), gResources, false, executor)
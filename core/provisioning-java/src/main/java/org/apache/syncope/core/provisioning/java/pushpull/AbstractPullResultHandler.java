@@ -127,6 +127,21 @@ public abstract class AbstractPullResultHandler
     @Transactional(rollbackFor = Throwable.class, propagation = Propagation.REQUIRES_NEW)
     @Override
     public boolean handle(final SyncDelta delta) {
+        return process(delta);
+    }
+
+    @Transactional(rollbackFor = Throwable.class, propagation = Propagation.REQUIRES_NEW)
+    @Override
+    public int handle(final List<SyncDelta> deltas) {
+        for (int i = 0; i < deltas.size(); i++) {
+            if (!process(deltas.get(i))) {
+                return i;
+            }
+        }
+        return deltas.size();
+    }
+
+    protected boolean process(final SyncDelta delta) {
         Provision provision = null;
         try {
             provision = profile.getTask().getResource().
@@ -866,7 +881,8 @@ public abstract class AbstractPullResultHandler
                     finalDelta,
                     profile.getTask().getResource(),
                     provision,
-                    anyTypeKind);
+                    anyTypeKind,
+                    profile.getConnObjectKeyIndexes().get(provision.getAnyType()));
             LOG.debug("Match(es) found for {} as {}: {}",
                     finalDelta.getUid().getUidValue(), finalDelta.getObject().getObjectClass(), matches);
 
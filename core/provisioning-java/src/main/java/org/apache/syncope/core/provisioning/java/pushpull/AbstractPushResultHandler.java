@@ -19,12 +19,14 @@
 package org.apache.syncope.core.provisioning.java.pushpull;
 
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
@@ -51,18 +53,22 @@ import org.apache.syncope.core.provisioning.api.event.AfterHandlingEvent;
 import org.apache.syncope.core.provisioning.api.notification.NotificationManager;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationReporter;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
+import org.apache.syncope.core.provisioning.api.pushpull.ConnObjectSnapshot;
 import org.apache.syncope.core.provisioning.api.pushpull.IgnoreProvisionException;
 import org.apache.syncope.core.provisioning.api.pushpull.PushActions;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePushResultHandler;
 import org.apache.syncope.core.provisioning.java.job.AfterHandlingJob;
 import org.apache.syncope.core.provisioning.java.propagation.DefaultPropagationReporter;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.identityconnectors.common.security.GuardedString;
+import org.identityconnectors.framework.common.objects.Attribute;
 import org.identityconnectors.framework.common.objects.ConnectorObject;
 import org.quartz.JobExecutionException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.quartz.SchedulerFactoryBean;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.CollectionUtils;
 
 public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHandler<PushTask, PushActions>
         implements SyncopePushResultHandler {
@@ -90,6 +96,46 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
 
     protected abstract String getName(Any<?> any);
 
+    protected static Set<Object> comparable(final List<Object> values) {
+        return values == null
+                ? Set.of()
+                : values.stream().
+                        map(value -> value instanceof byte[]
+                        ? Base64.getEncoder().encodeToString((byte[]) value)
+                        : value).
+                        collect(Collectors.toSet());
+    }
+
+    /**
+     * Tells whether propagating the given task would leave the remote object as found before pushing.
+     * Passwords cannot be compared, hence updates including them are never considered as unchanged.
+     *
+     * @param taskInfo propagation task to check
+     * @param beforeObj remote object found before pushing
+     * @return whether the remote object already holds all the values to propagate
+     */
+    protected boolean isUnchanged(final PropagationTaskInfo taskInfo, final ConnectorObject beforeObj) {
+        if (taskInfo.getPropagationData() == null
+                || taskInfo.getPropagationData().getAttributes() == null
+                || taskInfo.getPropagationData().getAttributes().isEmpty()) {
+
+            return false;
+        }
+
+        Map<String, Attribute> beforeAttrs = beforeObj.getAttributes().stream().
+                collect(Collectors.toMap(attr -> attr.getName().toUpperCase(), Function.identity(), (a1, a2) -> a1));
+        return taskInfo.getPropagationData().getAttributes().stream().allMatch(attr -> {
+            if (attr.getValue() != null && attr.getValue().stream().anyMatch(GuardedString.class::isInstance)) {
+                return false;
+            }
+
+            Attribute beforeAttr = beforeAttrs.get(attr.getName().toUpperCase());
+            return beforeAttr == null
+                    ? CollectionUtils.isEmpty(attr.getValue())
+                    : comparable(attr.getValue()).equals(comparable(beforeAttr.getValue()));
+        });
+    }
+
     protected void update(
             final Any<?> any,
             final Boolean enable,
@@ -117,6 +163,11 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
                 null,
                 noPropResources);
         if (!taskInfos.isEmpty()) {
+            if (profile.getTask().isSnapshotMatching() && isUnchanged(taskInfos.get(0), beforeObj)) {
+                reportUnchanged(any, result);
+                return;
+            }
+
             taskInfos.get(0).setBeforeObj(Optional.of(beforeObj));
             PropagationReporter reporter = new DefaultPropagationReporter();
             taskExecutor.execute(taskInfos.get(0), reporter, securityProperties.getAdminUser());
@@ -124,6 +175,14 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
         }
     }
 
+    protected void reportUnchanged(final Any<?> any, final ProvisioningReport result) {
+        LOG.debug("{} is unchanged on {}, not propagating", any, profile.getTask().getResource());
+
+        result.setOperation(ResourceOperation.NONE);
+        result.setStatus(ProvisioningReport.Status.SUCCESS);
+        result.setMessage("Unchanged on " + profile.getTask().getResource().getKey() + ", not propagated");
+    }
+
     protected void deprovision(final Any<?> any, final ConnectorObject beforeObj, final ProvisioningReport result) {
         AnyTO before = getAnyTO(any);
 
@@ -260,12 +319,20 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
         // Try to read remote object BEFORE any actual operation
         Set<String> moreAttrsToGet = new HashSet<>();
         profile.getActions().forEach(action -> moreAttrsToGet.addAll(action.moreAttrsToGet(profile, any)));
-        List<ConnectorObject> connObjs = outboundMatcher.match(
-                profile.getConnector(),
-                any,
-                profile.getTask().getResource(),
-                provision,
-                Optional.of(moreAttrsToGet.toArray(String[]::new)));
+        ConnObjectSnapshot snapshot = profile.getConnObjectSnapshots().get(provision.getAnyType());
+        List<ConnectorObject> connObjs = snapshot != null && snapshot.getAttrsToGet().containsAll(moreAttrsToGet)
+                ? outboundMatcher.match(snapshot, any, profile.getTask().getResource(), provision)
+                : List.of();
+        // the snapshot is keyed by exact value: on a miss, ask the connector, which may match differently
+        // (case-insensitively, normalized values, ...)
+        if (connObjs.isEmpty()) {
+            connObjs = outboundMatcher.match(
+                    profile.getConnector(),
+                    any,
+                    profile.getTask().getResource(),
+                    provision,
+                    Optional.of(moreAttrsToGet.toArray(String[]::new)));
+        }
         LOG.debug("Match(es) found for {} as {}: {}", any, provision.getObjectClass(), connObjs);
 
         if (connObjs.size() > 1) {
@@ -130,6 +130,16 @@ public class DefaultRealmPullResultHandler
         }
     }
 
+    @Override
+    public int handle(final List<SyncDelta> deltas) {
+        for (int i = 0; i < deltas.size(); i++) {
+            if (!handle(deltas.get(i))) {
+                return i;
+            }
+        }
+        return deltas.size();
+    }
+
     protected void throwIgnoreProvisionException(final SyncDelta delta, final Exception exception)
             throws JobExecutionException {
 
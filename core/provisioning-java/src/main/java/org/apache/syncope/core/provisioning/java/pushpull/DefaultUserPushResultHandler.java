@@ -45,6 +45,7 @@ import org.apache.syncope.core.provisioning.api.UserWorkflowResult;
 import org.apache.syncope.core.provisioning.api.WorkflowResult;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationReporter;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
+import org.apache.syncope.core.provisioning.api.pushpull.ConnObjectSnapshot;
 import org.apache.syncope.core.provisioning.api.pushpull.IgnoreProvisionException;
 import org.apache.syncope.core.provisioning.api.pushpull.PushActions;
 import org.apache.syncope.core.provisioning.api.pushpull.UserPushResultHandler;
@@ -134,6 +135,11 @@ public class DefaultUserPushResultHandler extends AbstractPushResultHandler impl
                 null,
                 noPropResources);
         if (!taskInfos.isEmpty()) {
+            if (profile.getTask().isSnapshotMatching() && isUnchanged(taskInfos.get(0), beforeObj)) {
+                reportUnchanged(any, result);
+                return;
+            }
+
             taskInfos.get(0).setBeforeObj(Optional.of(beforeObj));
             PropagationReporter reporter = new DefaultPropagationReporter();
             taskExecutor.execute(taskInfos.get(0), reporter, profile.getExecutor());
@@ -223,7 +229,10 @@ public class DefaultUserPushResultHandler extends AbstractPushResultHandler impl
         LOG.debug("Pushing linked account {} towards {}", account.getKey(), profile.getTask().getResource());
 
         // Try to read remote object BEFORE any actual operation
-        Optional<ConnectorObject> connObj = MappingUtils.getConnObjectKeyItem(provision).
+        ConnObjectSnapshot snapshot = profile.getConnObjectSnapshots().get(provision.getAnyType());
+        Optional<ConnectorObject> connObj = Optional.ofNullable(snapshot).
+                flatMap(s -> s.get(account.getConnObjectKeyValue())).
+                or(() -> MappingUtils.getConnObjectKeyItem(provision).
                 flatMap(connObjectKeyItem -> outboundMatcher.matchByConnObjectKeyValue(
                 profile.getConnector(),
                 connObjectKeyItem,
@@ -231,7 +240,7 @@ public class DefaultUserPushResultHandler extends AbstractPushResultHandler impl
                 profile.getTask().getResource(),
                 provision,
                 Optional.empty(),
-                Optional.empty()));
+                Optional.empty())));
         LOG.debug("Match found for linked account {} as {}: {}", account, provision.getObjectClass(), connObj);
 
         ConnectorObject beforeObj = connObj.orElse(null);
@@ -27,12 +27,15 @@ import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.to.Item;
 import org.apache.syncope.common.lib.to.OrgUnit;
 import org.apache.syncope.common.lib.to.Provision;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.common.lib.types.MatchType;
+import org.apache.syncope.common.lib.types.SchemaType;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.ParsingValidationException;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
@@ -62,6 +65,7 @@ import org.apache.syncope.core.provisioning.api.IntAttrName;
 import org.apache.syncope.core.provisioning.api.IntAttrNameParser;
 import org.apache.syncope.core.provisioning.api.VirAttrHandler;
 import org.apache.syncope.core.provisioning.api.data.ItemTransformer;
+import org.apache.syncope.core.provisioning.api.pushpull.ConnObjectKeyIndex;
 import org.apache.syncope.core.provisioning.api.rules.PullCorrelationRule;
 import org.apache.syncope.core.provisioning.api.rules.PullMatch;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
@@ -109,6 +113,8 @@ public class InboundMatcher {
 
     protected final AnyUtilsFactory anyUtilsFactory;
 
+    protected final int indexMaxSize;
+
     protected final Map<String, PullCorrelationRule> perContextPullCorrelationRules = new ConcurrentHashMap<>();
 
     public InboundMatcher(
@@ -121,7 +127,8 @@ public class InboundMatcher {
             final ImplementationDAO implementationDAO,
             final VirAttrHandler virAttrHandler,
             final IntAttrNameParser intAttrNameParser,
-            final AnyUtilsFactory anyUtilsFactory) {
+            final AnyUtilsFactory anyUtilsFactory,
+            final int indexMaxSize) {
 
         this.userDAO = userDAO;
         this.anyObjectDAO = anyObjectDAO;
@@ -133,6 +140,7 @@ public class InboundMatcher {
         this.virAttrHandler = virAttrHandler;
         this.intAttrNameParser = intAttrNameParser;
         this.anyUtilsFactory = anyUtilsFactory;
+        this.indexMaxSize = indexMaxSize;
     }
 
     public Optional<PullMatch> match(
@@ -221,13 +229,7 @@ public class InboundMatcher {
                 collect(Collectors.toList());
     }
 
-    public List<PullMatch> matchByConnObjectKeyValue(
-            final Item connObjectKeyItem,
-            final String connObjectKeyValue,
-            final AnyTypeKind anyTypeKind,
-            final boolean ignoreCaseMatch,
-            final ExternalResource resource) {
-
+    protected String transform(final Item connObjectKeyItem, final String connObjectKeyValue) {
         String finalConnObjectKeyValue = connObjectKeyValue;
         for (ItemTransformer transformer
                 : MappingUtils.getItemTransformers(connObjectKeyItem, getTransformers(connObjectKeyItem))) {
@@ -240,6 +242,17 @@ public class InboundMatcher {
                 finalConnObjectKeyValue = output.get(0).toString();
             }
         }
+        return finalConnObjectKeyValue;
+    }
+
+    public List<PullMatch> matchByConnObjectKeyValue(
+            final Item connObjectKeyItem,
+            final String connObjectKeyValue,
+            final AnyTypeKind anyTypeKind,
+            final boolean ignoreCaseMatch,
+            final ExternalResource resource) {
+
+        String finalConnObjectKeyValue = transform(connObjectKeyItem, connObjectKeyValue);
 
         List<PullMatch> noMatchResult = List.of(PullCorrelationRule.NO_MATCH);
 
@@ -339,6 +352,32 @@ public class InboundMatcher {
         return result.isEmpty() ? noMatchResult : result;
     }
 
+    protected List<PullMatch> matchByConnObjectKeyValue(
+            final Item connObjectKeyItem,
+            final String connObjectKeyValue,
+            final AnyTypeKind anyTypeKind,
+            final ExternalResource resource,
+            final ConnObjectKeyIndex index) {
+
+        String finalConnObjectKeyValue = transform(connObjectKeyItem, connObjectKeyValue);
+
+        List<PullMatch> result = new ArrayList<>();
+
+        List<String> anyKeys = index.getAnyKeys(finalConnObjectKeyValue);
+        if (!anyKeys.isEmpty()) {
+            anyUtilsFactory.getInstance(anyTypeKind).dao().findByKeys(anyKeys).
+                    forEach(any -> result.add(new PullMatch(MatchType.ANY, any)));
+        }
+
+        if (resource != null && index.hasLinkedAccount(finalConnObjectKeyValue)) {
+            userDAO.findLinkedAccount(resource, finalConnObjectKeyValue).
+                    map(account -> new PullMatch(MatchType.LINKED_ACCOUNT, account)).
+                    ifPresent(result::add);
+        }
+
+        return result;
+    }
+
     protected List<PullMatch> matchByCorrelationRule(
             final SyncDelta syncDelta,
             final Provision provision,
@@ -383,6 +422,77 @@ public class InboundMatcher {
         return rule;
     }
 
+    /**
+     * Builds the index of the internal values matched by the connector object key of the given provision, to be
+     * passed to {@link #match(SyncDelta, ExternalResource, Provision, AnyTypeKind, ConnObjectKeyIndex)} while
+     * performing full reconciliation.
+     * No index is built if a correlation rule is defined, if the connector object key is not mapped onto
+     * {@code username}, {@code name} or a String plain schema, or if the configured maximum size is exceeded.
+     *
+     * @param resource external resource
+     * @param provision mapping
+     * @param anyTypeKind type kind
+     * @return index, if available
+     */
+    public Optional<ConnObjectKeyIndex> buildIndex(
+            final ExternalResource resource,
+            final Provision provision,
+            final AnyTypeKind anyTypeKind) {
+
+        if (indexMaxSize <= 0 || rule(resource, provision).isPresent()) {
+            return Optional.empty();
+        }
+
+        Optional<Item> connObjectKeyItem = MappingUtils.getConnObjectKeyItem(provision);
+        if (connObjectKeyItem.isEmpty()) {
+            return Optional.empty();
+        }
+
+        IntAttrName intAttrName;
+        try {
+            intAttrName = intAttrNameParser.parse(connObjectKeyItem.get().getIntAttrName(), anyTypeKind);
+        } catch (ParseException e) {
+            LOG.error("Invalid intAttrName '{}' specified, ignoring", connObjectKeyItem.get().getIntAttrName(), e);
+            return Optional.empty();
+        }
+
+        AnyUtils anyUtils = anyUtilsFactory.getInstance(anyTypeKind);
+
+        // one more than allowed, to tell when the maximum size is exceeded
+        List<Pair<String, String>> values;
+        if ("username".equals(intAttrName.getField()) && anyTypeKind == AnyTypeKind.USER
+                || "name".equals(intAttrName.getField()) && anyTypeKind != AnyTypeKind.USER) {
+
+            values = anyUtils.dao().findFieldValues(intAttrName.getField(), indexMaxSize + 1);
+        } else if (intAttrName.getSchemaType() == SchemaType.PLAIN
+                && ((PlainSchema) intAttrName.getSchema()).getType() == AttrSchemaType.String) {
+
+            values = anyUtils.dao().findPlainAttrValues((PlainSchema) intAttrName.getSchema(), indexMaxSize + 1);
+        } else {
+            return Optional.empty();
+        }
+
+        ConnObjectKeyIndex index = new ConnObjectKeyIndex(provision.isIgnoreCaseMatch(), indexMaxSize);
+        if (values.size() > indexMaxSize
+                || !values.stream().allMatch(value -> index.addAny(value.getLeft(), value.getRight()))) {
+
+            LOG.info("More than {} values to index for {} on {}, matching with queries",
+                    indexMaxSize, provision.getAnyType(), resource.getKey());
+            return Optional.empty();
+        }
+
+        if (!userDAO.findLinkedAccountsByResource(resource).stream().
+                allMatch(account -> index.addLinkedAccount(account.getConnObjectKeyValue()))) {
+
+            LOG.info("More than {} values to index for {} on {}, matching with queries",
+                    indexMaxSize, provision.getAnyType(), resource.getKey());
+            return Optional.empty();
+        }
+
+        LOG.debug("Indexed {} values for {} on {}", index.size(), provision.getAnyType(), resource.getKey());
+        return Optional.of(index);
+    }
+
     /**
      * Finds internal entities based on external attributes and mapping.
      *
@@ -398,6 +508,27 @@ public class InboundMatcher {
             final Provision provision,
             final AnyTypeKind anyTypeKind) {
 
+        return match(syncDelta, resource, provision, anyTypeKind, null);
+    }
+
+    /**
+     * Finds internal entities based on external attributes and mapping, probing the given index - if available -
+     * before querying for the connector object key value, which is then only done when not found in the index.
+     *
+     * @param syncDelta change operation, including external attributes
+     * @param resource external resource
+     * @param provision mapping
+     * @param anyTypeKind type kind
+     * @param index index built via {@link #buildIndex(ExternalResource, Provision, AnyTypeKind)}, may be null
+     * @return list of matching users' / groups' / any objects' keys
+     */
+    public List<PullMatch> match(
+            final SyncDelta syncDelta,
+            final ExternalResource resource,
+            final Provision provision,
+            final AnyTypeKind anyTypeKind,
+            final ConnObjectKeyIndex index) {
+
         Optional<PullCorrelationRule> rule = rule(resource, provision);
 
         List<PullMatch> result = List.of();
@@ -422,12 +553,23 @@ public class InboundMatcher {
                 if (connObjectKeyValue == null) {
                     result = List.of(PullCorrelationRule.NO_MATCH);
                 } else {
-                    result = matchByConnObjectKeyValue(
-                            connObjectKeyItem.get(),
-                            connObjectKeyValue,
-                            anyTypeKind,
-                            provision.isIgnoreCaseMatch(),
-                            resource);
+                    if (index != null) {
+                        result = matchByConnObjectKeyValue(
+                                connObjectKeyItem.get(),
+                                connObjectKeyValue,
+                                anyTypeKind,
+                                resource,
+                                index);
+                    }
+                    // values not found in the index might have been set after it was built
+                    if (result.isEmpty()) {
+                        result = matchByConnObjectKeyValue(
+                                connObjectKeyItem.get(),
+                                connObjectKeyValue,
+                                anyTypeKind,
+                                provision.isIgnoreCaseMatch(),
+                                resource);
+                    }
                 }
             }
         } catch (RuntimeException e) {
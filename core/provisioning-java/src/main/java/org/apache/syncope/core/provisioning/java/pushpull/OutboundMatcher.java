@@ -31,6 +31,8 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.apache.syncope.common.lib.to.Item;
 import org.apache.syncope.common.lib.to.Provision;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.ConnectorCapability;
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.dao.VirSchemaDAO;
 import org.apache.syncope.core.persistence.api.entity.Any;
@@ -45,12 +47,15 @@ import org.apache.syncope.core.provisioning.api.TimeoutException;
 import org.apache.syncope.core.provisioning.api.VirAttrHandler;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationActions;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
+import org.apache.syncope.core.provisioning.api.pushpull.ConnObjectSnapshot;
 import org.apache.syncope.core.provisioning.api.rules.PushCorrelationRule;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
 import org.apache.syncope.core.spring.implementation.ImplementationManager;
 import org.identityconnectors.framework.common.objects.AttributeBuilder;
+import org.identityconnectors.framework.common.objects.AttributeUtil;
 import org.identityconnectors.framework.common.objects.ConnectorObject;
 import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.OperationOptions;
 import org.identityconnectors.framework.common.objects.SearchResult;
 import org.identityconnectors.framework.common.objects.filter.Filter;
 import org.identityconnectors.framework.spi.SearchResultsHandler;
@@ -72,6 +77,8 @@ public class OutboundMatcher {
 
     protected final VirAttrHandler virAttrHandler;
 
+    protected final int snapshotMaxSize;
+
     protected final Map<String, PropagationActions> perContextActions = new ConcurrentHashMap<>();
 
     protected final Map<String, PushCorrelationRule> perContextPushCorrelationRules = new ConcurrentHashMap<>();
@@ -81,13 +88,15 @@ public class OutboundMatcher {
             final UserDAO userDAO,
             final AnyUtilsFactory anyUtilsFactory,
             final VirSchemaDAO virSchemaDAO,
-            final VirAttrHandler virAttrHandler) {
+            final VirAttrHandler virAttrHandler,
+            final int snapshotMaxSize) {
 
         this.mappingManager = mappingManager;
         this.userDAO = userDAO;
         this.anyUtilsFactory = anyUtilsFactory;
         this.virSchemaDAO = virSchemaDAO;
         this.virAttrHandler = virAttrHandler;
+        this.snapshotMaxSize = snapshotMaxSize;
     }
 
     protected Optional<PushCorrelationRule> rule(final ExternalResource resource, final Provision provision) {
@@ -244,6 +253,125 @@ public class OutboundMatcher {
         return result;
     }
 
+    /**
+     * Reads all the objects for the given provision from the connector, keeping only the attributes required for
+     * matching and propagating, to be passed to {@link #match(ConnObjectSnapshot, Any, ExternalResource, Provision)}.
+     * Objects are read page by page; no snapshot is taken if a correlation rule is defined, if the connector cannot
+     * search, if not all objects could be read or if they are more than the configured maximum.
+     *
+     * @param connector connector
+     * @param resource external resource
+     * @param provision mapping
+     * @return snapshot, if available
+     */
+    @Transactional(readOnly = true)
+    public Optional<ConnObjectSnapshot> buildSnapshot(
+            final Connector connector,
+            final ExternalResource resource,
+            final Provision provision) {
+
+        Optional<Item> connObjectKeyItem = MappingUtils.getConnObjectKeyItem(provision);
+        if (snapshotMaxSize <= 0
+                || connObjectKeyItem.isEmpty()
+                || rule(resource, provision).isPresent()
+                || !connector.getConnInstance().getCapabilities().contains(ConnectorCapability.SEARCH)) {
+
+            return Optional.empty();
+        }
+
+        Stream<Item> items = Stream.concat(
+                provision.getMapping().getItems().stream(),
+                virSchemaDAO.find(resource.getKey(), provision.getAnyType()).stream().
+                        map(VirSchema::asLinkingMappingItem));
+        OperationOptions options = MappingUtils.buildOperationOptions(
+                items,
+                getPropagationActions(resource).stream().
+                        flatMap(a -> a.moreAttrsToGet(Optional.empty(), provision).stream()).
+                        toArray(String[]::new));
+
+        ConnObjectSnapshot snapshot = new ConnObjectSnapshot(
+                provision.isIgnoreCaseMatch(),
+                Set.copyOf(List.of(options.getAttributesToGet())),
+                snapshotMaxSize);
+        boolean[] full = new boolean[] { false };
+        try {
+            String cookie = null;
+            do {
+                SearchResult result = connector.search(
+                        new ObjectClass(provision.getObjectClass()),
+                        null,
+                        new SearchResultsHandler() {
+
+                    @Override
+                    public void handleResult(final SearchResult result) {
+                        // nothing to do
+                    }
+
+                    @Override
+                    public boolean handle(final ConnectorObject connectorObject) {
+                        Optional<String> value = Optional.ofNullable(
+                                connectorObject.getAttributeByName(connObjectKeyItem.get().getExtAttrName())).
+                                map(AttributeUtil::getStringValue);
+                        if (value.isPresent() && !snapshot.put(value.get(), connectorObject)) {
+                            full[0] = true;
+                            return false;
+                        }
+                        return true;
+                    }
+                }, AnyDAO.DEFAULT_PAGE_SIZE, cookie, List.of(), options);
+
+                if (full[0]) {
+                    LOG.info("More than {} {} on {}, matching one by one",
+                            snapshotMaxSize, provision.getObjectClass(), resource);
+                    return Optional.empty();
+                }
+                if (result == null || (result.getPagedResultsCookie() == null && !result.isAllResultsReturned())) {
+                    LOG.info("Could not read all {} from {}, matching one by one",
+                            provision.getObjectClass(), resource);
+                    return Optional.empty();
+                }
+
+                cookie = result.getPagedResultsCookie();
+            } while (cookie != null);
+        } catch (RuntimeException e) {
+            LOG.error("While reading {} from {}, matching one by one", provision.getObjectClass(), resource, e);
+            return Optional.empty();
+        }
+
+        LOG.debug("Read {} {} from {}", snapshot.size(), provision.getObjectClass(), resource);
+        return Optional.of(snapshot);
+    }
+
+    /**
+     * Finds the object matching the given any in the given snapshot.
+     * Lookup is by exact connector object key value: callers should fall back to
+     * {@link #match(Connector, Any, ExternalResource, Provision, Optional, Item...)} when nothing is found.
+     *
+     * @param snapshot snapshot built via {@link #buildSnapshot(Connector, ExternalResource, Provision)}
+     * @param any any object
+     * @param resource external resource
+     * @param provision mapping
+     * @return matching object, if found
+     */
+    @Transactional(readOnly = true)
+    public List<ConnectorObject> match(
+            final ConnObjectSnapshot snapshot,
+            final Any<?> any,
+            final ExternalResource resource,
+            final Provision provision) {
+
+        List<ConnectorObject> result = mappingManager.getConnObjectKeyValue(any, resource, provision).
+                flatMap(snapshot::get).
+                map(List::of).
+                orElseGet(List::of);
+
+        if (result.size() == 1) {
+            virAttrHandler.setValues(any, result.get(0));
+        }
+
+        return result;
+    }
+
     protected List<ConnectorObject> matchByCorrelationRule(
             final Connector connector,
             final Filter filter,
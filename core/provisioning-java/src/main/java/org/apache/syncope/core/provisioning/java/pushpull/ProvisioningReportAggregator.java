@@ -0,0 +1,357 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.common.lib.to.ProvisioningReport;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.TraceLevel;
+import org.apache.syncope.core.persistence.api.entity.ExternalResource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Aggregates provisioning results as they are produced, by keeping per-category counters and a bounded sample of
+ * failures; each result is also written, according to the trace level, to the given compressed artifact, if any.
+ * Memory usage does not depend on the number of results, unless no artifact is given: in such case, results are
+ * kept to be reported inline, as full report.
+ */
+public class ProvisioningReportAggregator implements AutoCloseable {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(ProvisioningReportAggregator.class);
+
+    protected enum Category {
+        USER("Users"),
+        LINKED_ACCOUNT("Accounts"),
+        GROUP("Groups"),
+        ANY_OBJECT("Any objects"),
+        REALM("Realms");
+
+        private final String label;
+
+        Category(final String label) {
+            this.label = label;
+        }
+
+        static Category of(final ProvisioningReport result) {
+            if (StringUtils.isBlank(result.getAnyType())) {
+                return REALM;
+            }
+            switch (result.getAnyType()) {
+                case "USER":
+                    return USER;
+
+                case "LINKED_ACCOUNT":
+                    return LINKED_ACCOUNT;
+
+                case "GROUP":
+                    return GROUP;
+
+                default:
+                    return ANY_OBJECT;
+            }
+        }
+    }
+
+    protected static final int SUCC_CREATE = 0;
+
+    protected static final int SUCC_UPDATE = 1;
+
+    protected static final int SUCC_DELETE = 2;
+
+    protected static final int SUCC_NONE = 3;
+
+    protected static final int FAIL_CREATE = 4;
+
+    protected static final int FAIL_UPDATE = 5;
+
+    protected static final int FAIL_DELETE = 6;
+
+    protected static final int IGNORE = 7;
+
+    /**
+     * Formats the given provisioning result for the given trace level.
+     *
+     * @param result provisioning result
+     * @param level trace level
+     * @return formatted result, or null if nothing is to be reported
+     */
+    public static String format(final ProvisioningReport result, final TraceLevel level) {
+        if (level == TraceLevel.SUMMARY || level == TraceLevel.NONE) {
+            // No per entry log in this case.
+            return null;
+        }
+        if (level == TraceLevel.FAILURES) {
+            // only report failures
+            return result.getStatus() == ProvisioningReport.Status.FAILURE
+                    ? String.format("Failed %s (key/name): %s/%s with message: %s",
+                            result.getOperation(), result.getKey(), result.getName(), result.getMessage())
+                    : null;
+        }
+        // All
+        return String.format("%s %s (key/name): %s/%s %s",
+                result.getOperation(), result.getStatus(), result.getKey(), result.getName(),
+                StringUtils.isBlank(result.getMessage())
+                ? StringUtils.EMPTY
+                : "with message: " + result.getMessage());
+    }
+
+    protected static int slot(final ProvisioningReport result) {
+        if (result.getStatus() == null || result.getOperation() == null) {
+            return -1;
+        }
+
+        switch (result.getStatus()) {
+            case SUCCESS:
+                switch (result.getOperation()) {
+                    case CREATE:
+                        return SUCC_CREATE;
+
+                    case UPDATE:
+                        return SUCC_UPDATE;
+
+                    case DELETE:
+                        return SUCC_DELETE;
+
+                    case NONE:
+                        return SUCC_NONE;
+
+                    default:
+                        return -1;
+                }
+
+            case FAILURE:
+                switch (result.getOperation()) {
+                    case CREATE:
+                        return FAIL_CREATE;
+
+                    case UPDATE:
+                        return FAIL_UPDATE;
+
+                    case DELETE:
+                        return FAIL_DELETE;
+
+                    default:
+                        return -1;
+                }
+
+            case IGNORE:
+                return IGNORE;
+
+            default:
+                return -1;
+        }
+    }
+
+    protected final TraceLevel traceLevel;
+
+    protected final int failureSampleSize;
+
+    protected final Path artifact;
+
+    protected final Map<Category, long[]> counters = new EnumMap<>(Category.class);
+
+    protected final Map<Category, List<String>> failureSample = new EnumMap<>(Category.class);
+
+    protected final Map<Category, List<String>> inline = new EnumMap<>(Category.class);
+
+    protected int sampled;
+
+    protected long failures;
+
+    protected BufferedWriter writer;
+
+    protected boolean closed;
+
+    public ProvisioningReportAggregator(final TraceLevel traceLevel, final int failureSampleSize, final Path artifact) {
+        this.traceLevel = traceLevel;
+        this.failureSampleSize = failureSampleSize;
+        this.artifact = artifact;
+        for (Category category : Category.values()) {
+            counters.put(category, new long[IGNORE + 1]);
+        }
+    }
+
+    /**
+     * @return full report artifact, if being written
+     */
+    public Path getArtifact() {
+        return artifact;
+    }
+
+    public synchronized void add(final ProvisioningReport result) {
+        Category category = Category.of(result);
+        int slot = slot(result);
+        if (slot >= 0) {
+            counters.get(category)[slot]++;
+        }
+
+        if (result.getStatus() == ProvisioningReport.Status.FAILURE) {
+            failures++;
+            if (sampled < failureSampleSize && traceLevel.ordinal() >= TraceLevel.FAILURES.ordinal()) {
+                failureSample.computeIfAbsent(category, k -> new ArrayList<>()).
+                        add(format(result, TraceLevel.FAILURES));
+                sampled++;
+            }
+        }
+
+        write(category, result);
+    }
+
+    protected void write(final Category category, final ProvisioningReport result) {
+        if (closed) {
+            return;
+        }
+
+        String line = format(result, traceLevel);
+        if (line == null) {
+            return;
+        }
+
+        if (artifact == null) {
+            inline.computeIfAbsent(category, k -> new ArrayList<>()).add(line);
+            return;
+        }
+
+        try {
+            if (writer == null) {
+                writer = new BufferedWriter(new OutputStreamWriter(
+                        new GZIPOutputStream(Files.newOutputStream(artifact)), StandardCharsets.UTF_8));
+            }
+            writer.append(category.label).append(": ").append(line).append('\n');
+        } catch (IOException e) {
+            LOG.error("While writing to {}, no further results will be written", artifact, e);
+            closed = true;
+        }
+    }
+
+    /**
+     * Flushes and closes the full report artifact, if any; further results will be only counted.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                LOG.error("While closing {}", artifact, e);
+            }
+            writer = null;
+        }
+    }
+
+    protected void summary(final StringBuilder report, final Category category) {
+        long[] count = counters.get(category);
+        report.append(category.label).append(' ').
+                append("[created/failures]: ").append(count[SUCC_CREATE]).append('/').append(count[FAIL_CREATE]).
+                append(' ').
+                append("[updated/failures]: ").append(count[SUCC_UPDATE]).append('/').append(count[FAIL_UPDATE]).
+                append(' ').
+                append("[deleted/failures]: ").append(count[SUCC_DELETE]).append('/').append(count[FAIL_DELETE]).
+                append(' ').
+                append("[no operation/ignored]: ").append(count[SUCC_NONE]).append('/').append(count[IGNORE]).
+                append('\n');
+    }
+
+    /**
+     * Create a textual report of the provisioning operation, based on the trace level: counters, then either sample
+     * of failures and reference to the full report artifact, or full report inline when no artifact was given.
+     *
+     * @param resource Provisioning resource
+     * @param dryRun dry run?
+     * @param interrupted was execution interrupted?
+     * @return report as string
+     */
+    public synchronized String report(
+            final ExternalResource resource,
+            final boolean dryRun,
+            final boolean interrupted) {
+
+        StringBuilder report = new StringBuilder();
+
+        if (dryRun) {
+            report.append("==> Dry run only, no modifications were made <==\n\n");
+        }
+
+        if (interrupted) {
+            report.append("==> Execution was interrupted <==\n\n");
+        }
+
+        // Summary, also to be included for FAILURE and ALL, so create it anyway.
+        boolean includeUser = resource.getProvisionByAnyType(AnyTypeKind.USER.name()).isPresent();
+        boolean includeGroup = resource.getProvisionByAnyType(AnyTypeKind.GROUP.name()).isPresent();
+        boolean includeAnyObject = resource.getProvisions().stream().anyMatch(
+                provision -> !provision.getAnyType().equals(AnyTypeKind.USER.name())
+                && !provision.getAnyType().equals(AnyTypeKind.GROUP.name()));
+        boolean includeRealm = resource.getOrgUnit() != null;
+
+        if (includeUser) {
+            summary(report, Category.USER);
+            summary(report, Category.LINKED_ACCOUNT);
+        }
+        if (includeGroup) {
+            summary(report, Category.GROUP);
+        }
+        if (includeAnyObject) {
+            summary(report, Category.ANY_OBJECT);
+        }
+        if (includeRealm) {
+            summary(report, Category.REALM);
+        }
+
+        // Full report inline
+        if (artifact == null) {
+            inline.forEach((category, lines) -> {
+                report.append('\n').append(category.label).append(":\n");
+                lines.forEach(line -> report.append(line).append('\n'));
+            });
+
+            return report.toString();
+        }
+
+        // Failures sample
+        if (traceLevel.ordinal() >= TraceLevel.FAILURES.ordinal() && !failureSample.isEmpty()) {
+            failureSample.forEach((category, sample) -> {
+                report.append('\n').append(category.label).append(" failed:\n");
+                sample.forEach(line -> report.append(line).append('\n'));
+            });
+            if (failures > sampled) {
+                report.append("\n... and ").append(failures - sampled).append(" more failures\n");
+            }
+        }
+
+        if (artifact != null && Files.exists(artifact)) {
+            report.append("\nFull report: ").append(artifact.getFileName()).append('\n');
+        }
+
+        return report.toString();
+    }
+}
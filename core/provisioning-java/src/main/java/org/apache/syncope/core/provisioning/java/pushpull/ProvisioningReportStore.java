@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.common.lib.types.TraceLevel;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Manages the full reports of pull and push task executions, written as compressed artifacts under the configured
+ * directory, one sub-directory per domain, and named after the task execution they belong to.
+ * As executions can run on any Core node while reports are downloaded from any other, the directory must be shared
+ * among all nodes.
+ */
+public class ProvisioningReportStore {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(ProvisioningReportStore.class);
+
+    public static final String EXTENSION = ".log.gz";
+
+    protected final Path directory;
+
+    protected final int failureSampleSize;
+
+    protected final int retainedResults;
+
+    public ProvisioningReportStore(final String directory, final int failureSampleSize, final int retainedResults) {
+        this.directory = StringUtils.isBlank(directory) ? null : Path.of(directory);
+        this.failureSampleSize = failureSampleSize;
+        this.retainedResults = retainedResults;
+    }
+
+    /**
+     * @return directory where full reports are written, if configured
+     */
+    public Optional<Path> getDirectory() {
+        return Optional.ofNullable(directory);
+    }
+
+    public int getRetainedResults() {
+        return retainedResults;
+    }
+
+    public String getFilename(final String executionKey) {
+        return executionKey + EXTENSION;
+    }
+
+    protected Optional<Path> path(final String executionKey) {
+        if (directory == null || StringUtils.isBlank(executionKey)
+                || StringUtils.containsAny(executionKey, '/', '\\', '.')) {
+
+            return Optional.empty();
+        }
+        return Optional.of(directory.resolve(AuthContextUtils.getDomain()).resolve(getFilename(executionKey)));
+    }
+
+    /**
+     * Builds a new aggregator for the given task execution, writing the full report to an artifact in the current
+     * domain when a directory is configured and trace level is at least {@link TraceLevel#FAILURES}.
+     *
+     * @param traceLevel trace level
+     * @param executionKey task execution key
+     * @return new aggregator
+     */
+    public ProvisioningReportAggregator newAggregator(final TraceLevel traceLevel, final String executionKey) {
+        Path artifact = null;
+        if (traceLevel.ordinal() >= TraceLevel.FAILURES.ordinal()) {
+            artifact = path(executionKey).map(path -> {
+                try {
+                    Files.createDirectories(path.getParent());
+                    return path;
+                } catch (IOException e) {
+                    LOG.error("Could not create directory for {}", path, e);
+                    return null;
+                }
+            }).orElse(null);
+        }
+
+        return new ProvisioningReportAggregator(traceLevel, failureSampleSize, artifact);
+    }
+
+    /**
+     * @param executionKey task execution key
+     * @return full report artifact for the given task execution in the current domain, if available
+     */
+    public Optional<Path> find(final String executionKey) {
+        return path(executionKey).filter(Files::isRegularFile);
+    }
+
+    /**
+     * Removes the full report artifact for the given task execution in the current domain, if available.
+     *
+     * @param executionKey task execution key
+     */
+    public void delete(final String executionKey) {
+        find(executionKey).ifPresent(path -> {
+            try {
+                Files.delete(path);
+            } catch (IOException e) {
+                LOG.error("Could not delete {}", path, e);
+            }
+        });
+    }
+}
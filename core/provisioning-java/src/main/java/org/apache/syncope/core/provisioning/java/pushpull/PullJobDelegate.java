@@ -34,6 +34,7 @@ import org.apache.commons.lang3.tuple.MutablePair;
 import org.apache.syncope.common.lib.to.Item;
 import org.apache.syncope.common.lib.to.OrgUnit;
 import org.apache.syncope.common.lib.to.Provision;
+import org.apache.syncope.common.lib.to.ProvisioningReport;
 import org.apache.syncope.common.lib.types.ConflictResolutionAction;
 import org.apache.syncope.common.lib.types.ResourceOperation;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.PlainAttrValidationManager;
@@ -45,6 +46,7 @@ import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.Implementation;
+import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.VirSchema;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.policy.PullPolicy;
@@ -105,6 +107,11 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
 
     protected Optional<ReconFilterBuilder> perContextReconFilterBuilder = Optional.empty();
 
+    /**
+     * Keys and UID values of created objects, for any types whose provision requires to store UID on create.
+     */
+    protected final Map<String, Map<String, String>> uidOnCreate = new ConcurrentHashMap<>();
+
     @Override
     public void setLatestSyncToken(final String objectClass, final SyncToken latestSyncToken) {
         latestSyncTokens.put(objectClass, latestSyncToken);
@@ -130,6 +137,20 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
                 setStatus(builder.toString());
             }
         }
+
+        drainResults(profile, false);
+    }
+
+    @Override
+    protected void onDrained(final ProvisioningReport result) {
+        if (result.getUidValue() != null && result.getKey() != null
+                && result.getOperation() == ResourceOperation.CREATE && result.getAnyType() != null) {
+
+            profile.getTask().getResource().getProvisionByAnyType(result.getAnyType()).
+                    filter(provision -> provision.getUidOnCreate() != null).
+                    ifPresent(provision -> uidOnCreate.computeIfAbsent(
+                    result.getAnyType(), k -> new ConcurrentHashMap<>()).put(result.getKey(), result.getUidValue()));
+        }
     }
 
     @Override
@@ -278,6 +299,7 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
                                 ConnObjectUtils.toSyncToken(orgUnit.getSyncToken()),
                                 dispatcher,
                                 options);
+                        dispatcher.flush();
 
                         if (!dryRun) {
                             orgUnit.setSyncToken(
@@ -301,6 +323,7 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
                                 options);
                         break;
                 }
+                dispatcher.flush();
             } catch (Throwable t) {
                 throw new JobExecutionException("While pulling from connector", t);
             }
@@ -376,27 +399,32 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
 
                     case FULL_RECONCILIATION:
                     default:
+                        inboundMatcher.buildIndex(pullTask.getResource(), provision, anyType.getKind()).
+                                ifPresent(index -> profile.getConnObjectKeyIndexes().
+                                put(provision.getAnyType(), index));
+
                         connector.fullReconciliation(
                                 new ObjectClass(provision.getObjectClass()),
                                 dispatcher,
                                 options);
                         break;
                 }
+                dispatcher.flush();
 
                 if (provision.getUidOnCreate() != null) {
+                    drainResults(profile, true);
+
                     AnyUtils anyUtils = anyUtilsFactory.getInstance(anyType.getKind());
-                    profile.getResults().stream().
-                            filter(result -> result.getUidValue() != null && result.getKey() != null
-                            && result.getOperation() == ResourceOperation.CREATE
-                            && result.getAnyType().equals(provision.getAnyType())).
-                            forEach(result -> anyUtils.addAttr(
-                            validator,
-                            result.getKey(),
-                            plainSchemaDAO.find(provision.getUidOnCreate()), result.getUidValue()));
+                    PlainSchema uidOnCreateSchema = plainSchemaDAO.find(provision.getUidOnCreate());
+                    Optional.ofNullable(uidOnCreate.remove(provision.getAnyType())).
+                            ifPresent(created -> created.forEach((key, uidValue) -> anyUtils.addAttr(
+                            validator, key, uidOnCreateSchema, uidValue)));
                 }
             } catch (Throwable t) {
                 throw new JobExecutionException("While pulling from connector", t);
             } finally {
+                profile.getConnObjectKeyIndexes().remove(provision.getAnyType());
+
                 if (setSyncTokens) {
                     latestSyncTokens.forEach((objectClass, syncToken) -> pullTask.getResource().
                             getProvisionByObjectClass(objectClass).
@@ -418,10 +446,11 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
         }
 
         dispatcher.cleanup();
+        profile.getConnObjectKeyIndexes().clear();
 
         setStatus("Pull done");
 
-        String result = createReport(profile.getResults(), pullTask.getResource(), dryRun);
+        String result = createReport(profile, pullTask.getResource(), dryRun);
         LOG.debug("Pull result: {}", result);
         return result;
     }
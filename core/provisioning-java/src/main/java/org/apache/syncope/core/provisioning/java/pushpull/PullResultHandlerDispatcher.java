@@ -18,6 +18,10 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.RejectedExecutionException;
 import org.apache.syncope.core.persistence.api.entity.task.PullTask;
 import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningProfile;
@@ -32,14 +36,22 @@ public class PullResultHandlerDispatcher
         extends SyncopeResultHandlerDispatcher<PullTask, PullActions, SyncopePullResultHandler>
         implements SyncResultsHandler {
 
+    protected final ProvisioningProfile<PullTask, PullActions> profile;
+
     protected final SyncopePullExecutor executor;
 
+    protected final int commitBatchSize;
+
+    protected final Map<String, List<SyncDelta>> pending = new HashMap<>();
+
     public PullResultHandlerDispatcher(
             final ProvisioningProfile<PullTask, PullActions> profile,
             final SyncopePullExecutor executor) {
 
         super(profile);
+        this.profile = profile;
         this.executor = executor;
+        this.commitBatchSize = profile.getTask().getCommitBatchSize();
     }
 
     @Transactional
@@ -51,6 +63,19 @@ public class PullResultHandlerDispatcher
             return false;
         }
 
+        if (commitBatchSize > 1) {
+            String objectClass = delta.getObjectClass().getObjectClassValue();
+
+            List<SyncDelta> batch = pending.computeIfAbsent(objectClass, k -> new ArrayList<>(commitBatchSize));
+            batch.add(delta);
+            if (batch.size() < commitBatchSize) {
+                return true;
+            }
+
+            pending.remove(objectClass);
+            return dispatch(objectClass, batch);
+        }
+
         if (ecs.isEmpty()) {
             boolean result = nonConcurrentHandler(delta.getObjectClass().getObjectClassValue()).handle(delta);
 
@@ -77,4 +102,74 @@ public class PullResultHandlerDispatcher
             return false;
         }
     }
+
+    /**
+     * Handles the deltas still pending in partial batches; to be invoked once the connector has returned all deltas
+     * for an object class.
+     *
+     * @return whether all pending deltas were successfully handled (always true when running concurrently)
+     */
+    public boolean flush() {
+        boolean result = true;
+        for (Map.Entry<String, List<SyncDelta>> entry : pending.entrySet()) {
+            result &= dispatch(entry.getKey(), entry.getValue());
+        }
+        pending.clear();
+        return result;
+    }
+
+    protected boolean dispatch(final String objectClass, final List<SyncDelta> batch) {
+        if (ecs.isEmpty()) {
+            return handle(nonConcurrentHandler(objectClass), objectClass, batch);
+        }
+
+        try {
+            submit(() -> handle(suppliers.get(objectClass).get(), objectClass, batch));
+            return true;
+        } catch (RejectedExecutionException e) {
+            LOG.error("Could not submit pull handler for {} deltas of {}", batch.size(), objectClass);
+            return false;
+        }
+    }
+
+    /**
+     * Handles the given deltas within a single transaction; should that fail, the transaction is rolled back and the
+     * deltas are handled again one by one, each in its own transaction, so that failures are reported per object.
+     *
+     * @param handler pull result handler
+     * @param objectClass object class
+     * @param batch deltas
+     * @return whether all deltas were successfully handled
+     */
+    protected boolean handle(
+            final SyncopePullResultHandler handler,
+            final String objectClass,
+            final List<SyncDelta> batch) {
+
+        int handled;
+        profile.beginBatch();
+        try {
+            handled = handler.handle(batch);
+            profile.endBatch(true);
+        } catch (RuntimeException e) {
+            profile.endBatch(false);
+            LOG.warn("Could not handle {} deltas of {} in a single transaction, replaying one by one",
+                    batch.size(), objectClass, e);
+
+            handled = 0;
+            while (handled < batch.size() && handler.handle(batch.get(handled))) {
+                handled++;
+            }
+        }
+
+        for (int i = 0; i < handled; i++) {
+            executor.setLatestSyncToken(objectClass, batch.get(i).getToken());
+            executor.reportHandled(objectClass, batch.get(i).getObject().getName());
+        }
+        if (handled < batch.size()) {
+            executor.reportHandled(objectClass, batch.get(handled).getObject().getName());
+        }
+
+        return handled == batch.size();
+    }
 }
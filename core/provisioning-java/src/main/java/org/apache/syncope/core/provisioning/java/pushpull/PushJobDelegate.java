@@ -27,11 +27,13 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.MutablePair;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.to.Provision;
 import org.apache.syncope.common.lib.types.ConflictResolutionAction;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
+import org.apache.syncope.core.persistence.api.dao.EntityCacheDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
@@ -75,6 +77,12 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> i
     @Autowired
     protected SearchCondVisitor searchCondVisitor;
 
+    @Autowired
+    protected OutboundMatcher outboundMatcher;
+
+    @Autowired
+    protected EntityCacheDAO entityCacheDAO;
+
     protected ProvisioningProfile<PushTask, PushActions> profile;
 
     protected final Map<String, MutablePair<Integer, String>> handled = new ConcurrentHashMap<>();
@@ -99,6 +107,8 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> i
                     append('\n'));
             setStatus(builder.toString());
         }
+
+        drainResults(profile, false);
     }
 
     @Override
@@ -253,29 +263,38 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> i
                 return handler;
             });
 
+            if (pushTask.isSnapshotMatching()) {
+                setStatus("Reading " + provision.getObjectClass());
+
+                outboundMatcher.buildSnapshot(connector, pushTask.getResource(), provision).
+                        ifPresent(snapshot -> profile.getConnObjectSnapshots().put(provision.getAnyType(), snapshot));
+            }
+
             String filter = pushTask.getFilter(anyType.getKey()).orElse(null);
             SearchCond cond = StringUtils.isBlank(filter)
                     ? anyDAO.getAllMatchingCond()
                     : SearchCondConverter.convert(searchCondVisitor, filter);
-            int count = searchDAO.count(
-                    profile.getTask().getSourceRealm(),
-                    true,
-                    Set.of(profile.getTask().getSourceRealm().getFullPath()),
-                    cond,
-                    anyType.getKind());
+            boolean prefetch = entityCacheDAO.isStoreCacheEnabled();
             boolean result = true;
-            for (int page = 1; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE) + 1 && result; page++) {
-                List<? extends Any<?>> anys = searchDAO.search(
+            String continuation = null;
+            do {
+                Pair<List<Any<?>>, String> anys = searchDAO.search(
                         profile.getTask().getSourceRealm(),
                         true,
                         Set.of(profile.getTask().getSourceRealm().getFullPath()),
                         cond,
-                        page,
+                        continuation,
                         AnyDAO.DEFAULT_PAGE_SIZE,
                         List.of(),
                         anyType.getKind());
-                result = doHandle(anys, dispatcher, pushTask.getResource());
-            }
+                // load associations for the whole page at once: as handlers run in their own transactions,
+                // this is only worth when they can find such associations in the store cache
+                if (prefetch) {
+                    anyDAO.prefetch(anys.getLeft().stream().map(Any::getKey).collect(Collectors.toList()));
+                }
+                result = doHandle(anys.getLeft(), dispatcher, pushTask.getResource());
+                continuation = anys.getRight();
+            } while (result && continuation != null);
         }
 
         if (!profile.isDryRun()) {
@@ -285,10 +304,11 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> i
         }
 
         dispatcher.cleanup();
+        profile.getConnObjectSnapshots().clear();
 
         setStatus("Push done");
 
-        String result = createReport(profile.getResults(), pushTask.getResource(), dryRun);
+        String result = createReport(profile, pushTask.getResource(), dryRun);
         LOG.debug("Push result: {}", result);
         return result;
     }
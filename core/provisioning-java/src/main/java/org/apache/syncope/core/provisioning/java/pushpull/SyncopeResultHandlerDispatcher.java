@@ -29,6 +29,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Supplier;
 import org.apache.syncope.core.persistence.api.entity.task.ProvisioningTask;
+import org.apache.syncope.core.provisioning.api.event.BulkOperationContext;
 import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningActions;
 import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningProfile;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopeResultHandler;
@@ -67,9 +68,15 @@ public abstract class SyncopeResultHandlerDispatcher<
             t.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
 
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            boolean bulk = BulkOperationContext.isBulk();
             t.setTaskDecorator(d -> () -> {
                 SecurityContextHolder.getContext().setAuthentication(authentication);
-                d.run();
+                BulkOperationContext.setBulk(bulk);
+                try {
+                    d.run();
+                } finally {
+                    BulkOperationContext.setBulk(false);
+                }
             });
 
             t.initialize();
@@ -74,23 +74,39 @@ public final class MappingUtils {
                 item -> item.getPurpose() == MappingPurpose.PULL || item.getPurpose() == MappingPurpose.BOTH);
     }
 
+    public static Optional<JEXLItemTransformer> buildJEXLTransformer(
+            final String propagationJEXL,
+            final String pullJEXL) {
+
+        if (StringUtils.isBlank(propagationJEXL) && StringUtils.isBlank(pullJEXL)) {
+            return Optional.empty();
+        }
+
+        JEXLItemTransformer jexlTransformer = (JEXLItemTransformer) ApplicationContextProvider.getBeanFactory().
+                createBean(JEXLItemTransformerImpl.class, AbstractBeanDefinition.AUTOWIRE_BY_NAME, false);
+
+        jexlTransformer.setPropagationJEXL(propagationJEXL);
+        jexlTransformer.setPullJEXL(pullJEXL);
+        return Optional.of(jexlTransformer);
+    }
+
     public static List<ItemTransformer> getItemTransformers(
             final Item item,
             final List<Implementation> transformers) {
 
-        List<ItemTransformer> result = new ArrayList<>();
+        return getItemTransformers(
+                buildJEXLTransformer(item.getPropagationJEXLTransformer(), item.getPullJEXLTransformer()),
+                transformers);
+    }
 
-        // First consider the JEXL transformation expressions
-        if (StringUtils.isNotBlank(item.getPropagationJEXLTransformer())
-                || StringUtils.isNotBlank(item.getPullJEXLTransformer())) {
+    public static List<ItemTransformer> getItemTransformers(
+            final Optional<JEXLItemTransformer> jexlTransformer,
+            final List<Implementation> transformers) {
 
-            JEXLItemTransformer jexlTransformer = (JEXLItemTransformer) ApplicationContextProvider.getBeanFactory().
-                    createBean(JEXLItemTransformerImpl.class, AbstractBeanDefinition.AUTOWIRE_BY_NAME, false);
+        List<ItemTransformer> result = new ArrayList<>();
 
-            jexlTransformer.setPropagationJEXL(item.getPropagationJEXLTransformer());
-            jexlTransformer.setPullJEXL(item.getPullJEXLTransformer());
-            result.add(jexlTransformer);
-        }
+        // First consider the JEXL transformation expressions
+        jexlTransformer.ifPresent(result::add);
 
         // Then other custom transformers
         transformers.forEach(impl -> {
@@ -55,17 +55,21 @@ import org.apache.syncope.core.persistence.api.entity.DynRealm;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.Role;
+import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.provisioning.api.AuditManager;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
 import org.apache.syncope.core.provisioning.api.ImplementationLookup;
 import org.apache.syncope.core.provisioning.api.MappingManager;
+import org.apache.syncope.core.provisioning.api.event.AnyLifecycleEvent;
 import org.apache.syncope.core.provisioning.api.utils.RealmUtils;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
 import org.identityconnectors.framework.common.objects.Uid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
 import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.core.Authentication;
@@ -120,6 +124,14 @@ public class AuthDataAccessor {
 
     protected final ImplementationLookup implementationLookup;
 
+    protected final JWTAuthenticationCache jwtAuthenticationCache;
+
+    protected final LastLoginDateRecorder lastLoginDateRecorder;
+
+    protected final AuthoritiesCache authoritiesCache;
+
+    protected final ApplicationEventPublisher publisher;
+
     private Map<String, JWTSSOProvider> jwtSSOProviders;
 
     public AuthDataAccessor(
@@ -135,7 +147,11 @@ public class AuthDataAccessor {
             final ConnectorManager connectorManager,
             final AuditManager auditManager,
             final MappingManager mappingManager,
-            final ImplementationLookup implementationLookup) {
+            final ImplementationLookup implementationLookup,
+            final JWTAuthenticationCache jwtAuthenticationCache,
+            final LastLoginDateRecorder lastLoginDateRecorder,
+            final AuthoritiesCache authoritiesCache,
+            final ApplicationEventPublisher publisher) {
 
         this.securityProperties = securityProperties;
         this.realmDAO = realmDAO;
@@ -150,6 +166,10 @@ public class AuthDataAccessor {
         this.auditManager = auditManager;
         this.mappingManager = mappingManager;
         this.implementationLookup = implementationLookup;
+        this.jwtAuthenticationCache = jwtAuthenticationCache;
+        this.lastLoginDateRecorder = lastLoginDateRecorder;
+        this.authoritiesCache = authoritiesCache;
+        this.publisher = publisher;
     }
 
     public JWTSSOProvider getJWTSSOProvider(final String issuer) {
@@ -251,15 +271,23 @@ public class AuthDataAccessor {
                 delegationKey = getDelegationKey(
                         SyncopeAuthenticationDetails.class.cast(authentication.getDetails()), user.getKey());
 
-                if (confParamOps.get(domain, "log.lastlogindate", true, Boolean.class)) {
-                    user.setLastLoginDate(OffsetDateTime.now());
-                    userModified = true;
-                }
-
                 if (user.getFailedLogins() != 0) {
                     user.setFailedLogins(0);
                     userModified = true;
                 }
+
+                if (confParamOps.get(domain, "log.lastlogindate", true, Boolean.class)) {
+                    OffsetDateTime lastLoginDate = OffsetDateTime.now();
+                    if (lastLoginDateRecorder.isEnabled()) {
+                        lastLoginDateRecorder.record(domain, user.getKey(), lastLoginDate);
+                    } else {
+                        userDAO.updateLastLoginDates(Map.of(user.getKey(), lastLoginDate));
+
+                        // let the loaded user, and whatever is built upon it - as search indexes - reflect the update
+                        user.setLastLoginDate(lastLoginDate);
+                        publisher.publishEvent(new AnyLifecycleEvent<>(this, SyncDeltaType.UPDATE, user, domain));
+                    }
+                }
             } else {
                 user.setFailedLogins(user.getFailedLogins() + 1);
                 userModified = true;
@@ -352,11 +380,7 @@ public class AuthDataAccessor {
         return authorities;
     }
 
-    protected Set<SyncopeGrantedAuthority> getUserAuthorities(final User user) {
-        if (user.isMustChangePassword()) {
-            return MUST_CHANGE_PASSWORD_AUTHORITIES;
-        }
-
+    protected Pair<Set<SyncopeGrantedAuthority>, Set<String>> buildUserAuthorities(final User user) {
         Map<String, Set<String>> entForRealms = new HashMap<>();
 
         // Give entitlements as assigned by roles (with static or dynamic realms, where applicable) - assigned
@@ -377,27 +401,42 @@ public class AuthDataAccessor {
         }));
 
         // Give group entitlements for owned groups
-        groupDAO.findOwnedByUser(user.getKey()).forEach(group -> {
+        Set<String> ownedGroups = new HashSet<>();
+        List<Group> owned = groupDAO.findOwnedByUser(user.getKey());
+        if (!owned.isEmpty()) {
             Role groupOwnerRole = roleDAO.find(GROUP_OWNER_ROLE);
             if (groupOwnerRole == null) {
                 LOG.warn("Role {} was not found", GROUP_OWNER_ROLE);
             } else {
-                groupOwnerRole.getEntitlements().forEach(entitlement -> {
-                    Set<String> realms = Optional.ofNullable(entForRealms.get(entitlement)).orElseGet(() -> {
-                        HashSet<String> r = new HashSet<>();
-                        entForRealms.put(entitlement, r);
-                        return r;
-                    });
+                owned.forEach(group -> {
+                    ownedGroups.add(group.getKey());
 
-                    realms.add(RealmUtils.getGroupOwnerRealm(group.getRealm().getFullPath(), group.getKey()));
+                    groupOwnerRole.getEntitlements().forEach(entitlement -> {
+                        Set<String> realms = Optional.ofNullable(entForRealms.get(entitlement)).orElseGet(() -> {
+                            HashSet<String> r = new HashSet<>();
+                            entForRealms.put(entitlement, r);
+                            return r;
+                        });
+
+                        realms.add(RealmUtils.getGroupOwnerRealm(group.getRealm().getFullPath(), group.getKey()));
+                    });
                 });
             }
-        });
+        }
 
-        return buildAuthorities(entForRealms);
+        return Pair.of(buildAuthorities(entForRealms), ownedGroups);
     }
 
-    protected Set<SyncopeGrantedAuthority> getDelegatedAuthorities(final Delegation delegation) {
+    protected Set<SyncopeGrantedAuthority> getUserAuthorities(final User user) {
+        if (user.isMustChangePassword()) {
+            return MUST_CHANGE_PASSWORD_AUTHORITIES;
+        }
+
+        return authoritiesCache.getUserAuthorities(
+                AuthContextUtils.getDomain(), user.getKey(), () -> buildUserAuthorities(user));
+    }
+
+    protected Set<SyncopeGrantedAuthority> buildDelegatedAuthorities(final Delegation delegation) {
         Map<String, Set<String>> entForRealms = new HashMap<>();
 
         delegation.getRoles().stream().filter(role -> !GROUP_OWNER_ROLE.equals(role.getKey())).
@@ -417,6 +456,11 @@ public class AuthDataAccessor {
         return buildAuthorities(entForRealms);
     }
 
+    protected Set<SyncopeGrantedAuthority> getDelegatedAuthorities(final Delegation delegation) {
+        return authoritiesCache.getDelegatedAuthorities(
+                AuthContextUtils.getDomain(), delegation.getKey(), () -> buildDelegatedAuthorities(delegation));
+    }
+
     @Transactional
     public Set<SyncopeGrantedAuthority> getAuthorities(final String username, final String delegationKey) {
         Set<SyncopeGrantedAuthority> authorities;
@@ -444,8 +488,41 @@ public class AuthDataAccessor {
         return authorities;
     }
 
+    /**
+     * Only JWTs issued by this Syncope deployment, hence featuring a JWT ID matching a stored access token, are
+     * cached once resolved.
+     *
+     * @param authentication JWT authentication
+     * @return whether the given authentication can be cached once resolved
+     */
+    protected boolean isCacheable(final JWTAuthentication authentication) {
+        return authentication.getClaims().getJWTID() != null
+                && securityProperties.getJwtIssuer().equals(authentication.getClaims().getIssuer());
+    }
+
+    /**
+     * Returns username and authorities already resolved for the given JWT, if available, without accessing storage.
+     *
+     * @param authentication JWT authentication
+     * @return username and authorities, if available
+     */
+    public Optional<Pair<String, Set<SyncopeGrantedAuthority>>> getCached(final JWTAuthentication authentication) {
+        if (!isCacheable(authentication)) {
+            return Optional.empty();
+        }
+
+        return jwtAuthenticationCache.get(
+                authentication.getDetails().getDomain(),
+                authentication.getClaims().getJWTID(),
+                authentication.getDetails().getDelegatedBy());
+    }
+
     @Transactional
     public Pair<String, Set<SyncopeGrantedAuthority>> authenticate(final JWTAuthentication authentication) {
+        // read before accessing storage, so that what is resolved is not cached if evicted meanwhile
+        long generation = jwtAuthenticationCache.generation();
+
+        String userKey = null;
         String username;
         Set<SyncopeGrantedAuthority> authorities;
 
@@ -468,6 +545,7 @@ public class AuthDataAccessor {
             }
 
             User user = resolved.getLeft();
+            userKey = user.getKey();
             String delegationKey = getDelegationKey(authentication.getDetails(), user.getKey());
             username = user.getUsername();
             authorities = resolved.getRight() == null
@@ -498,6 +576,17 @@ public class AuthDataAccessor {
             }
         }
 
+        if (isCacheable(authentication)) {
+            jwtAuthenticationCache.put(
+                    authentication.getDetails().getDomain(),
+                    authentication.getClaims().getJWTID(),
+                    authentication.getDetails().getDelegatedBy(),
+                    userKey,
+                    username,
+                    authorities,
+                    generation);
+        }
+
         return Pair.of(username, authorities);
     }
 
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.core.persistence.api.entity.group.Group;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.event.AnyLifecycleEvent;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Bounded, time-limited cache of the effective authorities of users, keyed by domain and user key, and of those
+ * granted by delegations with explicit roles, keyed by domain and delegation key.
+ * User entries are evicted upon changes of the related user or of groups owned by them, all entries of a domain
+ * upon changes of roles, realms or dynamic realms there; changes made on other nodes are notified via OpenJPA remote
+ * commit events, as for {@link JWTAuthenticationCache}.
+ */
+public class AuthoritiesCache {
+
+    /**
+     * Users' authorities: (domain, user key) to (authorities, keys of owned groups).
+     */
+    protected final Cache<Pair<String, String>, Pair<Set<SyncopeGrantedAuthority>, Set<String>>> users;
+
+    /**
+     * Keys of the cached users' authorities by (domain, key of owned group).
+     */
+    protected final CacheIndex<Pair<String, String>, Pair<String, String>> groupOwners;
+
+    /**
+     * Delegations' authorities: (domain, delegation key) to authorities.
+     */
+    protected final Cache<Pair<String, String>, Set<SyncopeGrantedAuthority>> delegations;
+
+    public AuthoritiesCache(final String cacheSpec) {
+        this.users = Caffeine.from(cacheSpec).
+                executor(Runnable::run).
+                <Pair<String, String>, Pair<Set<SyncopeGrantedAuthority>, Set<String>>>removalListener(
+                        (key, value, cause) -> {
+                            if (key != null && value != null) {
+                                unindex(key, value.getRight());
+                            }
+                        }).
+                build();
+        this.groupOwners = new CacheIndex<>(users);
+        this.delegations = Caffeine.from(cacheSpec).build();
+    }
+
+    protected void unindex(final Pair<String, String> key, final Set<String> ownedGroups) {
+        ownedGroups.forEach(group -> groupOwners.remove(Pair.of(key.getLeft(), group), key));
+    }
+
+    /**
+     * Returns the cached authorities of the given user, invoking the provided builder only if not already available.
+     *
+     * @param domain domain
+     * @param userKey user key
+     * @param builder builds the user's authorities and the keys of the groups owned by the user
+     * @return user's authorities
+     */
+    public Set<SyncopeGrantedAuthority> getUserAuthorities(
+            final String domain,
+            final String userKey,
+            final Supplier<Pair<Set<SyncopeGrantedAuthority>, Set<String>>> builder) {
+
+        Pair<String, String> key = Pair.of(domain, userKey);
+        Pair<Set<SyncopeGrantedAuthority>, Set<String>> authorities = users.get(key, k -> {
+            Pair<Set<SyncopeGrantedAuthority>, Set<String>> built = builder.get();
+            return Pair.of(Set.copyOf(built.getLeft()), Set.copyOf(built.getRight()));
+        });
+        authorities.getRight().forEach(group -> groupOwners.add(Pair.of(domain, group), key));
+        return authorities.getLeft();
+    }
+
+    /**
+     * Returns the cached authorities granted by the given delegation, invoking the provided builder only if not
+     * already available.
+     *
+     * @param domain domain
+     * @param delegationKey delegation key
+     * @param builder builds the authorities granted by the delegation
+     * @return authorities granted by the delegation
+     */
+    public Set<SyncopeGrantedAuthority> getDelegatedAuthorities(
+            final String domain,
+            final String delegationKey,
+            final Supplier<Set<SyncopeGrantedAuthority>> builder) {
+
+        return delegations.get(Pair.of(domain, delegationKey), k -> Set.copyOf(builder.get()));
+    }
+
+    /**
+     * Evicts the authorities of the given user.
+     *
+     * @param domain domain
+     * @param userKey user key
+     */
+    public void evictUser(final String domain, final String userKey) {
+        CacheEvictionUtils.evict(() -> users.invalidate(Pair.of(domain, userKey)));
+    }
+
+    /**
+     * Evicts the authorities depending on ownership of the given group.
+     *
+     * @param domain domain
+     * @param group group
+     */
+    public void evictGroupOwners(final String domain, final Group group) {
+        if (group.getGroupOwner() != null) {
+            evictAll(domain);
+            return;
+        }
+
+        String userOwner = group.getUserOwner() == null ? null : group.getUserOwner().getKey();
+        CacheEvictionUtils.evict(() -> {
+            if (userOwner != null) {
+                users.invalidate(Pair.of(domain, userOwner));
+            }
+            groupOwners.invalidate(Pair.of(domain, group.getKey()));
+        });
+    }
+
+    /**
+     * Evicts all the authorities granted by delegations with explicit roles.
+     *
+     * @param domain domain
+     */
+    public void evictDelegations(final String domain) {
+        CacheEvictionUtils.evict(() -> delegations.asMap().keySet().removeIf(key -> domain.equals(key.getLeft())));
+    }
+
+    /**
+     * Evicts all the authorities for the given domain, as when roles, realms or dynamic realms are changed.
+     *
+     * @param domain domain
+     */
+    public void evictAll(final String domain) {
+        CacheEvictionUtils.evict(() -> users.asMap().keySet().removeIf(key -> domain.equals(key.getLeft())));
+        evictDelegations(domain);
+    }
+
+    @EventListener
+    public void onAnyLifecycleEvent(final AnyLifecycleEvent<?> event) {
+        if (event.getAny() instanceof User user && user.getKey() != null) {
+            evictUser(event.getDomain(), user.getKey());
+        } else if (event.getAny() instanceof Group group && group.getKey() != null) {
+            evictGroupOwners(event.getDomain(), group);
+        }
+    }
+}
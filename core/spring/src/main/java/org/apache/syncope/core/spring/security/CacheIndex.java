@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Secondary index of the keys of a cache, to find the entries related to a given value without scanning the cache.
+ * Keys are to be added after putting the related entry in the cache - and also before, when concurrent evictions shall
+ * find it - and removed when such entry is removed.
+ *
+ * @param <I> index key type
+ * @param <K> cache key type
+ */
+public class CacheIndex<I, K> {
+
+    protected final Cache<K, ?> cache;
+
+    protected final Map<I, Set<K>> index = new ConcurrentHashMap<>();
+
+    public CacheIndex(final Cache<K, ?> cache) {
+        this.cache = cache;
+    }
+
+    public void add(final I indexKey, final K key) {
+        index.compute(indexKey, (k, keys) -> {
+            Set<K> indexed = keys == null ? ConcurrentHashMap.newKeySet() : keys;
+            indexed.add(key);
+            return indexed;
+        });
+    }
+
+    /**
+     * Removes the given key, unless meanwhile put again in the cache.
+     *
+     * @param indexKey index key
+     * @param key cache key
+     */
+    public void remove(final I indexKey, final K key) {
+        index.computeIfPresent(indexKey, (k, keys) -> {
+            if (!cache.asMap().containsKey(key)) {
+                keys.remove(key);
+            }
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    /**
+     * Invalidates the cache entries indexed under the given index key.
+     *
+     * @param indexKey index key
+     */
+    public void invalidate(final I indexKey) {
+        Set<K> keys = index.remove(indexKey);
+        if (keys != null) {
+            cache.invalidateAll(keys);
+        }
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
+import org.apache.syncope.core.persistence.api.entity.group.Group;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.event.AnyLifecycleEvent;
+import org.apache.syncope.core.provisioning.api.utils.RealmUtils;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Bounded, time-limited cache of the JWT authentications already resolved, keyed by domain, JWT ID and delegating
+ * user (if any).
+ * Entries are evicted upon changes of the related access token, user, delegation or owned group, found via secondary
+ * indexes; entries resolved before an eviction are not put afterwards, as they might be stale. Changes made on other
+ * nodes are notified via OpenJPA remote commit events, hence the cache is consistent among nodes
+ * only when a remote commit provider is configured, as required anyway by multi-node deployments.
+ */
+public class JWTAuthenticationCache {
+
+    /**
+     * Resolved authentications: (domain, JWT ID, delegated by) to (user key, username, authorities).
+     */
+    protected final Cache<Triple<String, String, String>, Triple<String, String, Set<SyncopeGrantedAuthority>>> cache;
+
+    /**
+     * Keys of the cached authentications by (domain, JWT ID).
+     */
+    protected final CacheIndex<Pair<String, String>, Triple<String, String, String>> byToken;
+
+    /**
+     * Keys of the cached authentications by (domain, user key).
+     */
+    protected final CacheIndex<Pair<String, String>, Triple<String, String, String>> byUser;
+
+    /**
+     * Keys of the cached authentications resolved under delegation, by domain.
+     */
+    protected final CacheIndex<String, Triple<String, String, String>> delegated;
+
+    /**
+     * Keys of the cached authentications by (domain, key of group owned).
+     */
+    protected final CacheIndex<Pair<String, String>, Triple<String, String, String>> byOwnedGroup;
+
+    /**
+     * Incremented by each eviction, to tell whether authentications being resolved might be stale.
+     */
+    protected final AtomicLong generation = new AtomicLong();
+
+    public JWTAuthenticationCache(final String cacheSpec) {
+        this.cache = Caffeine.from(cacheSpec).
+                executor(Runnable::run).
+                <Triple<String, String, String>, Triple<String, String, Set<SyncopeGrantedAuthority>>>removalListener(
+                        (key, value, cause) -> {
+                            if (key != null && value != null) {
+                                unindex(key, value.getLeft(), value.getRight());
+                            }
+                        }).
+                build();
+        this.byToken = new CacheIndex<>(cache);
+        this.byUser = new CacheIndex<>(cache);
+        this.delegated = new CacheIndex<>(cache);
+        this.byOwnedGroup = new CacheIndex<>(cache);
+    }
+
+    protected static Set<String> ownedGroups(final Set<SyncopeGrantedAuthority> authorities) {
+        return authorities.stream().
+                flatMap(authority -> authority.getRealms().stream()).
+                map(RealmUtils::parseGroupOwnerRealm).
+                flatMap(Optional::stream).
+                map(Pair::getRight).
+                collect(Collectors.toSet());
+    }
+
+    protected void index(
+            final Triple<String, String, String> key,
+            final String userKey,
+            final Set<SyncopeGrantedAuthority> authorities) {
+
+        byToken.add(Pair.of(key.getLeft(), key.getMiddle()), key);
+        if (userKey != null) {
+            byUser.add(Pair.of(key.getLeft(), userKey), key);
+        }
+        if (key.getRight() != null) {
+            delegated.add(key.getLeft(), key);
+        }
+        ownedGroups(authorities).forEach(group -> byOwnedGroup.add(Pair.of(key.getLeft(), group), key));
+    }
+
+    protected void unindex(
+            final Triple<String, String, String> key,
+            final String userKey,
+            final Set<SyncopeGrantedAuthority> authorities) {
+
+        byToken.remove(Pair.of(key.getLeft(), key.getMiddle()), key);
+        if (userKey != null) {
+            byUser.remove(Pair.of(key.getLeft(), userKey), key);
+        }
+        if (key.getRight() != null) {
+            delegated.remove(key.getLeft(), key);
+        }
+        ownedGroups(authorities).forEach(group -> byOwnedGroup.remove(Pair.of(key.getLeft(), group), key));
+    }
+
+    protected void evict(final Runnable eviction) {
+        CacheEvictionUtils.evict(() -> {
+            generation.incrementAndGet();
+            eviction.run();
+        });
+    }
+
+    /**
+     * To be read before resolving an authentication, then passed to
+     * {@link #put(String, String, String, String, String, Set, long)}.
+     *
+     * @return current eviction generation
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * @param domain domain
+     * @param jwtId JWT ID
+     * @param delegatedBy delegating user, if any
+     * @return username and authorities, if available
+     */
+    public Optional<Pair<String, Set<SyncopeGrantedAuthority>>> get(
+            final String domain,
+            final String jwtId,
+            final String delegatedBy) {
+
+        return Optional.ofNullable(cache.getIfPresent(Triple.of(domain, jwtId, delegatedBy))).
+                map(resolved -> Pair.of(resolved.getMiddle(), resolved.getRight()));
+    }
+
+    /**
+     * @param domain domain
+     * @param jwtId JWT ID
+     * @param delegatedBy delegating user, if any
+     * @param userKey user key, null for admin
+     * @param username username
+     * @param authorities authorities
+     * @param generation eviction generation read before resolving the authentication: nothing is put if any eviction
+     * occurred since then
+     */
+    public void put(
+            final String domain,
+            final String jwtId,
+            final String delegatedBy,
+            final String userKey,
+            final String username,
+            final Set<SyncopeGrantedAuthority> authorities,
+            final long generation) {
+
+        Triple<String, String, String> key = Triple.of(domain, jwtId, delegatedBy);
+        Set<SyncopeGrantedAuthority> copy = Set.copyOf(authorities);
+
+        // index first, so that evictions running meanwhile find the entry being put
+        index(key, userKey, copy);
+        Triple<String, String, Set<SyncopeGrantedAuthority>> current = cache.asMap().compute(key, (k, v) ->
+                this.generation.get() == generation ? Triple.of(userKey, username, copy) : v);
+        if (current == null) {
+            unindex(key, userKey, copy);
+        } else {
+            // restore index entries possibly removed along with a previous value for the same key
+            index(key, current.getLeft(), current.getRight());
+        }
+    }
+
+    /**
+     * Evicts the authentications resolved for the given access token.
+     *
+     * @param domain domain
+     * @param jwtId JWT ID
+     */
+    public void evictToken(final String domain, final String jwtId) {
+        evict(() -> byToken.invalidate(Pair.of(domain, jwtId)));
+    }
+
+    /**
+     * Evicts the authentications resolved for the given user, and all those resolved under delegation, as they might
+     * depend on the given user's roles.
+     *
+     * @param domain domain
+     * @param userKey user key
+     */
+    public void evictUser(final String domain, final String userKey) {
+        evict(() -> {
+            byUser.invalidate(Pair.of(domain, userKey));
+            delegated.invalidate(domain);
+        });
+    }
+
+    /**
+     * Evicts the authentications depending on ownership of the given group, by previous or current owners, and all
+     * those resolved under delegation.
+     *
+     * @param domain domain
+     * @param group group
+     */
+    public void evictGroupOwners(final String domain, final Group group) {
+        if (group.getGroupOwner() != null) {
+            // members of the owner group are not known here
+            evictAll(domain);
+            return;
+        }
+
+        String userOwner = group.getUserOwner() == null ? null : group.getUserOwner().getKey();
+        evict(() -> {
+            if (userOwner != null) {
+                byUser.invalidate(Pair.of(domain, userOwner));
+            }
+            byOwnedGroup.invalidate(Pair.of(domain, group.getKey()));
+            delegated.invalidate(domain);
+        });
+    }
+
+    /**
+     * Evicts all the authentications resolved under delegation.
+     *
+     * @param domain domain
+     */
+    public void evictDelegations(final String domain) {
+        evict(() -> delegated.invalidate(domain));
+    }
+
+    /**
+     * Evicts all the authentications resolved for the given domain.
+     *
+     * @param domain domain
+     */
+    public void evictAll(final String domain) {
+        evict(() -> cache.asMap().keySet().removeIf(key -> domain.equals(key.getLeft())));
+    }
+
+    @EventListener
+    public void onAnyLifecycleEvent(final AnyLifecycleEvent<?> event) {
+        if (event.getAny() instanceof User user && user.getKey() != null) {
+            evictUser(event.getDomain(), user.getKey());
+        } else if (event.getAny() instanceof Group group && group.getKey() != null) {
+            evictGroupOwners(event.getDomain(), group);
+        }
+    }
+}
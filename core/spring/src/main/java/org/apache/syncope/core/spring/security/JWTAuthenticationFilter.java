@@ -121,12 +121,12 @@ public class JWTAuthenticationFilter extends BasicAuthenticationFilter {
             JWTAuthentication jwtAuthentication =
                     new JWTAuthentication(claims, authenticationDetailsSource.buildDetails(request));
             jwtAuthentication.setAuthenticated(true);
-            AuthContextUtils.callAsAdmin(jwtAuthentication.getDetails().getDomain(), () -> {
-                Pair<String, Set<SyncopeGrantedAuthority>> authenticated = dataAccessor.authenticate(jwtAuthentication);
-                jwtAuthentication.setUsername(authenticated.getLeft());
-                jwtAuthentication.getAuthorities().addAll(authenticated.getRight());
-                return null;
-            });
+            Pair<String, Set<SyncopeGrantedAuthority>> authenticated = dataAccessor.getCached(jwtAuthentication).
+                    orElseGet(() -> AuthContextUtils.callAsAdmin(
+                    jwtAuthentication.getDetails().getDomain(),
+                    () -> dataAccessor.authenticate(jwtAuthentication)));
+            jwtAuthentication.setUsername(authenticated.getLeft());
+            jwtAuthentication.getAuthorities().addAll(authenticated.getRight());
             SecurityContextHolder.getContext().setAuthentication(jwtAuthentication);
 
             chain.doFilter(request, response);
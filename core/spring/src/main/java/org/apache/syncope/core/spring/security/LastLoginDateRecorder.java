@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * Write-behind buffer for users' last login dates: dates are recorded in memory and periodically stored, per domain,
+ * via {@link UserDAO#updateLastLoginDates(java.util.Map)}, so that successful logins do not require to save the whole
+ * user.
+ * No more than the configured maximum of dates are kept pending per domain: beyond that, dates are stored right away.
+ */
+public class LastLoginDateRecorder implements DisposableBean {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(LastLoginDateRecorder.class);
+
+    protected final UserDAO userDAO;
+
+    protected final boolean enabled;
+
+    protected final int maxPending;
+
+    protected final Map<String, Map<String, OffsetDateTime>> pending = new ConcurrentHashMap<>();
+
+    protected final ScheduledExecutorService scheduler;
+
+    protected final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+
+    public LastLoginDateRecorder(
+            final UserDAO userDAO,
+            final boolean enabled,
+            final long flushInterval,
+            final int maxPending) {
+
+        this.userDAO = userDAO;
+        this.enabled = enabled;
+        this.maxPending = maxPending;
+
+        if (enabled) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "lastLoginDateRecorder");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+        } else {
+            scheduler = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void record(final String domain, final String userKey, final OffsetDateTime lastLoginDate) {
+        Map<String, OffsetDateTime> dates = pending.computeIfAbsent(domain, k -> new ConcurrentHashMap<>());
+        if (dates.size() >= maxPending && !dates.containsKey(userKey)) {
+            // no room left until the next flush
+            userDAO.updateLastLoginDates(Map.of(userKey, lastLoginDate));
+            scheduleFlush();
+            return;
+        }
+
+        dates.merge(userKey, lastLoginDate, LastLoginDateRecorder::latest);
+
+        if (dates.size() >= maxPending) {
+            scheduleFlush();
+        }
+    }
+
+    protected void scheduleFlush() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            scheduler.execute(() -> {
+                try {
+                    flush();
+                } finally {
+                    flushScheduled.set(false);
+                }
+            });
+        }
+    }
+
+    protected static OffsetDateTime latest(final OffsetDateTime date1, final OffsetDateTime date2) {
+        return date1.isAfter(date2) ? date1 : date2;
+    }
+
+    public void flush() {
+        pending.forEach((domain, dates) -> {
+            Map<String, OffsetDateTime> batch = new HashMap<>();
+            dates.keySet().forEach(userKey -> Optional.ofNullable(dates.remove(userKey)).
+                    ifPresent(date -> batch.put(userKey, date)));
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            try {
+                AuthContextUtils.callAsAdmin(domain, () -> {
+                    userDAO.updateLastLoginDates(batch);
+                    return null;
+                });
+                LOG.debug("Stored {} last login dates for domain {}", batch.size(), domain);
+            } catch (Exception e) {
+                LOG.error("While storing {} last login dates for domain {}, will retry up to {} of them",
+                        batch.size(), domain, maxPending, e);
+                batch.forEach((userKey, date) -> {
+                    if (dates.size() < maxPending || dates.containsKey(userKey)) {
+                        dates.merge(userKey, date, LastLoginDateRecorder::latest);
+                    }
+                });
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            flush();
+        }
+    }
+}
@@ -25,6 +25,7 @@ import java.security.NoSuchAlgorithmException;
 import java.security.spec.InvalidKeySpecException;
 import org.apache.syncope.common.lib.types.CipherAlgorithm;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.provisioning.api.rules.RuleEnforcer;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
 import org.apache.syncope.core.spring.policy.DefaultRuleEnforcer;
@@ -109,6 +110,28 @@ public class SecurityContext {
         return new AccessTokenJWSSigner(jwsAlgorithm, jwsKey(jwsAlgorithm, props));
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public JWTAuthenticationCache jwtAuthenticationCache(final SecurityProperties props) {
+        return new JWTAuthenticationCache(props.getJwtAuthCacheSpec());
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public AuthoritiesCache authoritiesCache(final SecurityProperties props) {
+        return new AuthoritiesCache(props.getAuthoritiesCacheSpec());
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public LastLoginDateRecorder lastLoginDateRecorder(final SecurityProperties props, final UserDAO userDAO) {
+        return new LastLoginDateRecorder(
+                userDAO,
+                props.getLastLogin().isWriteBehind(),
+                props.getLastLogin().getFlushInterval(),
+                props.getLastLogin().getMaxPending());
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public PasswordGenerator passwordGenerator() {
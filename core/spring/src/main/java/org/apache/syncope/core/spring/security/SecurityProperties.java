@@ -82,6 +82,39 @@ public class SecurityProperties {
         }
     }
 
+    public static class LastLoginProperties {
+
+        private boolean writeBehind = false;
+
+        private long flushInterval = 5000;
+
+        private int maxPending = 10000;
+
+        public boolean isWriteBehind() {
+            return writeBehind;
+        }
+
+        public void setWriteBehind(final boolean writeBehind) {
+            this.writeBehind = writeBehind;
+        }
+
+        public long getFlushInterval() {
+            return flushInterval;
+        }
+
+        public void setFlushInterval(final long flushInterval) {
+            this.flushInterval = flushInterval;
+        }
+
+        public int getMaxPending() {
+            return maxPending;
+        }
+
+        public void setMaxPending(final int maxPending) {
+            this.maxPending = maxPending;
+        }
+    }
+
     private String adminUser;
 
     private String adminPassword;
@@ -100,8 +133,14 @@ public class SecurityProperties {
 
     private String secretKey;
 
+    private String jwtAuthCacheSpec = "maximumSize=10000,expireAfterWrite=1m";
+
+    private String authoritiesCacheSpec = "maximumSize=10000,expireAfterWrite=1m";
+
     private final DigesterProperties digester = new DigesterProperties();
 
+    private final LastLoginProperties lastLogin = new LastLoginProperties();
+
     public String getAdminUser() {
         return adminUser;
     }
@@ -174,7 +213,27 @@ public class SecurityProperties {
         this.secretKey = secretKey;
     }
 
+    public String getJwtAuthCacheSpec() {
+        return jwtAuthCacheSpec;
+    }
+
+    public void setJwtAuthCacheSpec(final String jwtAuthCacheSpec) {
+        this.jwtAuthCacheSpec = jwtAuthCacheSpec;
+    }
+
+    public String getAuthoritiesCacheSpec() {
+        return authoritiesCacheSpec;
+    }
+
+    public void setAuthoritiesCacheSpec(final String authoritiesCacheSpec) {
+        this.authoritiesCacheSpec = authoritiesCacheSpec;
+    }
+
     public DigesterProperties getDigester() {
         return digester;
     }
+
+    public LastLoginProperties getLastLogin() {
+        return lastLogin;
+    }
 }
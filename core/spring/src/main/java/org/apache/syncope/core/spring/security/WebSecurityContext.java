@@ -34,6 +34,7 @@ import org.apache.syncope.core.provisioning.api.ImplementationLookup;
 import org.apache.syncope.core.provisioning.api.MappingManager;
 import org.apache.syncope.core.provisioning.api.UserProvisioningManager;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -151,7 +152,11 @@ public class WebSecurityContext {
             final ConnectorManager connectorManager,
             final AuditManager auditManager,
             final MappingManager mappingManager,
-            final ImplementationLookup implementationLookup) {
+            final ImplementationLookup implementationLookup,
+            final JWTAuthenticationCache jwtAuthenticationCache,
+            final LastLoginDateRecorder lastLoginDateRecorder,
+            final AuthoritiesCache authoritiesCache,
+            final ApplicationEventPublisher publisher) {
 
         return new AuthDataAccessor(
                 securityProperties,
@@ -166,6 +171,10 @@ public class WebSecurityContext {
                 connectorManager,
                 auditManager,
                 mappingManager,
-                implementationLookup);
+                implementationLookup,
+                jwtAuthenticationCache,
+                lastLoginDateRecorder,
+                authoritiesCache,
+                publisher);
     }
 }
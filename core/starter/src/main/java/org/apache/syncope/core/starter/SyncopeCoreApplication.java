@@ -20,6 +20,7 @@ package org.apache.syncope.core.starter;
 
 import java.util.Map;
 import org.apache.cxf.spring.boot.autoconfigure.openapi.OpenApiAutoConfiguration;
+import org.apache.syncope.common.keymaster.client.api.ConfParamCache;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.common.keymaster.client.api.DomainOps;
 import org.apache.syncope.common.keymaster.client.api.startstop.KeymasterStop;
@@ -43,12 +44,16 @@ import org.apache.syncope.core.provisioning.api.ConnIdBundleManager;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
 import org.apache.syncope.core.provisioning.api.ImplementationLookup;
 import org.apache.syncope.core.provisioning.api.data.ConnInstanceDataBinder;
+import org.apache.syncope.core.starter.actuate.AuditAppendersEndpoint;
+import org.apache.syncope.core.starter.actuate.ConfParamCacheEndpoint;
+import org.apache.syncope.core.starter.actuate.ConnectorsEndpoint;
 import org.apache.syncope.core.starter.actuate.DefaultSyncopeCoreInfoContributor;
 import org.apache.syncope.core.starter.actuate.DomainsHealthIndicator;
 import org.apache.syncope.core.starter.actuate.EntityCacheEndpoint;
 import org.apache.syncope.core.starter.actuate.ExternalResourcesHealthIndicator;
 import org.apache.syncope.core.starter.actuate.SyncopeCoreInfoContributor;
 import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.actuate.mail.MailHealthIndicator;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -186,6 +191,24 @@ public class SyncopeCoreApplication extends SpringBootServletInitializer {
         return new EntityCacheEndpoint(entityCacheDAO);
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public ConnectorsEndpoint connectorsEndpoint() {
+        return new ConnectorsEndpoint();
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public AuditAppendersEndpoint auditAppendersEndpoint() {
+        return new AuditAppendersEndpoint();
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public ConfParamCacheEndpoint confParamCacheEndpoint(final ObjectProvider<ConfParamCache> confParamCache) {
+        return new ConfParamCacheEndpoint(confParamCache);
+    }
+
     @Bean
     public SyncopeStarterEventListener syncopeCoreEventListener(
             @Qualifier("syncopeCoreInfoContributor")
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.starter.actuate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.syncope.core.logic.audit.AsyncAuditAppender;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Reports queue depth, lag and counters of each asynchronous audit appender.
+ */
+@Endpoint(id = "auditAppenders")
+public class AuditAppendersEndpoint {
+
+    @ReadOperation
+    public Map<String, Object> auditAppenders() {
+        Map<String, Object> appenders = new TreeMap<>();
+
+        LoggerContext logCtx = (LoggerContext) LogManager.getContext(false);
+        logCtx.getConfiguration().getAppenders().values().stream().
+                filter(AsyncAuditAppender.class::isInstance).map(AsyncAuditAppender.class::cast).
+                forEach(appender -> {
+                    Map<String, Object> state = new LinkedHashMap<>();
+                    state.put("target", appender.getTarget().getName());
+                    state.put("overflowPolicy", appender.getOverflowPolicy());
+                    state.put("queueCapacity", appender.getQueueCapacity());
+                    state.put("queueDepth", appender.getQueueDepth());
+                    state.put("lagMillis", appender.getLag());
+                    state.put("written", appender.getWritten());
+                    state.put("dropped", appender.getDropped());
+                    state.put("spilled", appender.getSpilled());
+                    state.put("failed", appender.getFailed());
+
+                    appenders.put(appender.getName(), state);
+                });
+
+        return appenders;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.starter.actuate;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.syncope.common.keymaster.client.api.ConfParamCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Reports hits and misses of the Keymaster configuration parameters near cache, when available.
+ */
+@Endpoint(id = "confParamCache")
+public class ConfParamCacheEndpoint {
+
+    protected final ObjectProvider<ConfParamCache> confParamCache;
+
+    public ConfParamCacheEndpoint(final ObjectProvider<ConfParamCache> confParamCache) {
+        this.confParamCache = confParamCache;
+    }
+
+    @ReadOperation
+    public Map<String, Object> statistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+
+        confParamCache.ifAvailable(cache -> {
+            CacheStats stats = cache.stats();
+            statistics.put("size", cache.size());
+            statistics.put("hits", stats.hitCount());
+            statistics.put("misses", stats.missCount());
+            statistics.put("hitRate", stats.hitRate());
+            statistics.put("loadFailures", stats.loadFailureCount());
+            statistics.put("evictions", stats.evictionCount());
+        });
+
+        return statistics;
+    }
+
+    @DeleteOperation
+    public void clearCache() {
+        confParamCache.ifAvailable(ConfParamCache::invalidateAll);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.starter.actuate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import org.apache.syncope.core.provisioning.java.ConnectorFacadeProxy;
+import org.apache.syncope.core.spring.ApplicationContextProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Reports the state of the limits enforced on each registered connector.
+ */
+@Endpoint(id = "connectors")
+public class ConnectorsEndpoint {
+
+    @ReadOperation
+    public Map<String, Object> connectors() {
+        Map<String, Object> connectors = new TreeMap<>();
+
+        ApplicationContextProvider.getBeanFactory().getBeansOfType(ConnectorFacadeProxy.class, false, false).
+                forEach((beanName, connector) -> {
+                    Map<String, Object> state = new LinkedHashMap<>();
+                    state.put("connInstance", connector.getConnInstance().getDisplayName());
+                    state.put("maxInFlight", connector.getBulkhead().getMaxInFlight());
+                    state.put("inFlight", connector.getBulkhead().getInFlight());
+                    state.put("waiting", connector.getBulkhead().getWaiting());
+                    state.put("permitsPerSecond", connector.getRateLimiter().getPermitsPerSecond());
+                    if (connector.getCircuitBreaker().isEnabled()) {
+                        state.put("circuitBreaker", connector.getCircuitBreaker().getState());
+                        state.put("failureRate", connector.getCircuitBreaker().getFailureRate());
+                    }
+
+                    connectors.put(beanName, state);
+                });
+
+        return connectors;
+    }
+}
@@ -63,7 +63,10 @@ public class ElasticsearchClientContext {
                 client,
                 elasticsearchUtils,
                 props.getNumberOfShards(),
-                props.getNumberOfReplicas());
+                props.getNumberOfReplicas(),
+                props.getBulkMaxOperations(),
+                props.getBulkFlushInterval(),
+                props.getBulkMaxConcurrentRequests());
     }
 
     @ConditionalOnMissingBean
@@ -19,7 +19,10 @@
 package org.apache.syncope.ext.elasticsearch.client;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkIngester;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkListener;
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.VersionType;
 import co.elastic.clients.elasticsearch._types.analysis.CustomNormalizer;
 import co.elastic.clients.elasticsearch._types.analysis.Normalizer;
 import co.elastic.clients.elasticsearch._types.mapping.DynamicTemplate;
@@ -28,10 +31,14 @@ import co.elastic.clients.elasticsearch._types.mapping.ObjectProperty;
 import co.elastic.clients.elasticsearch._types.mapping.Property;
 import co.elastic.clients.elasticsearch._types.mapping.TextProperty;
 import co.elastic.clients.elasticsearch._types.mapping.TypeMapping;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
 import co.elastic.clients.elasticsearch.core.DeleteRequest;
 import co.elastic.clients.elasticsearch.core.DeleteResponse;
 import co.elastic.clients.elasticsearch.core.IndexRequest;
 import co.elastic.clients.elasticsearch.core.IndexResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
 import co.elastic.clients.elasticsearch.indices.CreateIndexRequest;
 import co.elastic.clients.elasticsearch.indices.CreateIndexResponse;
 import co.elastic.clients.elasticsearch.indices.DeleteIndexRequest;
@@ -41,21 +48,37 @@ import co.elastic.clients.elasticsearch.indices.IndexSettings;
 import co.elastic.clients.elasticsearch.indices.IndexSettingsAnalysis;
 import com.fasterxml.jackson.databind.JsonNode;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.provisioning.api.event.AnyLifecycleEvent;
+import org.apache.syncope.core.provisioning.api.event.BulkOperationContext;
 import org.apache.syncope.core.spring.security.SecureRandomUtils;
 import org.identityconnectors.framework.common.objects.SyncDeltaType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * Listen to any create / update and delete in order to keep the Elasticsearch indexes consistent.
+ * Changes are indexed right away, unless occurring during bulk operations: in such case, they are coalesced by
+ * document and periodically sent via the bulk API.
+ * Each change carries an external version, growing with the time it occurred, so that Elasticsearch discards any
+ * change older than the latest one applied to the same document - as for bulk operations queued again after failing.
  */
-public class ElasticsearchIndexManager {
+public class ElasticsearchIndexManager implements DisposableBean {
 
     private static final Logger LOG = LoggerFactory.getLogger(ElasticsearchIndexManager.class);
 
@@ -67,16 +90,153 @@ public class ElasticsearchIndexManager {
 
     protected final String numberOfReplicas;
 
+    protected final int bulkMaxOperations;
+
+    protected final long bulkFlushInterval;
+
+    protected final int bulkMaxConcurrentRequests;
+
+    /**
+     * Latest operation for each document changed by bulk operations since last flush, by index and id; holds up to
+     * {@code bulkMaxOperations} entries.
+     */
+    protected final Map<Pair<String, String>, BulkOperation> pending = new ConcurrentHashMap<>();
+
+    protected final AtomicLong versions = new AtomicLong();
+
+    protected final BulkIngester<Void> ingester;
+
+    protected final ScheduledExecutorService flusher;
+
     public ElasticsearchIndexManager(
             final ElasticsearchClient client,
             final ElasticsearchUtils elasticsearchUtils,
             final String numberOfShards,
-            final String numberOfReplicas) {
+            final String numberOfReplicas,
+            final int bulkMaxOperations,
+            final long bulkFlushInterval,
+            final int bulkMaxConcurrentRequests) {
 
         this.client = client;
         this.elasticsearchUtils = elasticsearchUtils;
         this.numberOfShards = numberOfShards;
         this.numberOfReplicas = numberOfReplicas;
+        this.bulkMaxOperations = bulkMaxOperations;
+        this.bulkFlushInterval = bulkFlushInterval;
+        this.bulkMaxConcurrentRequests = bulkMaxConcurrentRequests;
+
+        // a single request at a time, to preserve the order of the changes to the same document; failures which
+        // might be transient are queued again, unless the same document was changed in the meantime
+        this.ingester = bulkIngester(1, (operation, retryable) -> {
+            if (retryable) {
+                pending.putIfAbsent(key(operation), operation);
+            }
+        });
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("ElasticsearchIndexManager-");
+        threadFactory.setDaemon(true);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        this.flusher.scheduleWithFixedDelay(this::flush, bulkFlushInterval, bulkFlushInterval, TimeUnit.SECONDS);
+    }
+
+    protected static Pair<String, String> key(final BulkOperation operation) {
+        return operation.isDelete()
+                ? Pair.of(operation.delete().index(), operation.delete().id())
+                : Pair.of(operation.index().index(), operation.index().id());
+    }
+
+    /**
+     * @return external version for the next document change, in microseconds since the epoch or greater
+     */
+    protected long nextVersion() {
+        long now = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+        return versions.updateAndGet(previous -> Math.max(previous + 1, now));
+    }
+
+    protected static boolean isRetryable(final int status) {
+        return status == 429 || status >= 500;
+    }
+
+    protected BulkIngester<Void> bulkIngester(
+            final int maxConcurrentRequests,
+            final BiConsumer<BulkOperation, Boolean> onFailure) {
+
+        return BulkIngester.of(b -> b.client(client).
+                maxOperations(bulkMaxOperations).
+                maxConcurrentRequests(maxConcurrentRequests).
+                flushInterval(bulkFlushInterval, TimeUnit.SECONDS).
+                listener(new BulkListener<Void>() {
+
+                    @Override
+                    public void beforeBulk(
+                            final long executionId,
+                            final BulkRequest request,
+                            final List<Void> contexts) {
+
+                        LOG.debug("About to send bulk #{} with {} operations",
+                                executionId, request.operations().size());
+                    }
+
+                    @Override
+                    public void afterBulk(
+                            final long executionId,
+                            final BulkRequest request,
+                            final List<Void> contexts,
+                            final BulkResponse response) {
+
+                        if (response.errors()) {
+                            for (int i = 0; i < response.items().size(); i++) {
+                                BulkResponseItem item = response.items().get(i);
+                                if (item.status() == 409) {
+                                    LOG.debug("Not performing {} {} in {}, superseded by a later change",
+                                            item.operationType(), item.id(), item.index());
+                                } else if (item.error() != null) {
+                                    LOG.error("Could not {} {} in {}: {}",
+                                            item.operationType(), item.id(), item.index(), item.error().reason());
+                                    onFailure.accept(request.operations().get(i), isRetryable(item.status()));
+                                }
+                            }
+                        } else {
+                            LOG.debug("Bulk #{} successfully completed in {} ms", executionId, response.took());
+                        }
+                    }
+
+                    @Override
+                    public void afterBulk(
+                            final long executionId,
+                            final BulkRequest request,
+                            final List<Void> contexts,
+                            final Throwable failure) {
+
+                        LOG.error("While sending bulk #{}", executionId, failure);
+                        request.operations().forEach(operation -> onFailure.accept(operation, true));
+                    }
+                }));
+    }
+
+    /**
+     * Builds a new bulk ingester, for sending large numbers of documents with the configured parallelism; caller is
+     * responsible for closing it, which will wait for all the operations to be sent.
+     *
+     * @param failures incremented for each operation which could not be performed
+     * @return bulk ingester
+     */
+    public BulkIngester<Void> bulkIngester(final AtomicLong failures) {
+        return bulkIngester(bulkMaxConcurrentRequests, (operation, retryable) -> failures.incrementAndGet());
+    }
+
+    /**
+     * Hands the pending operations over to the bulk ingester.
+     */
+    public synchronized void flush() {
+        pending.keySet().forEach(key -> Optional.ofNullable(pending.remove(key)).ifPresent(ingester::add));
+    }
+
+    @Override
+    public void destroy() {
+        flusher.shutdown();
+        flush();
+        ingester.close();
     }
 
     public boolean existsAnyIndex(final String domain, final AnyTypeKind kind) throws IOException {
@@ -239,24 +399,64 @@ public class ElasticsearchIndexManager {
 
     @TransactionalEventListener
     public void any(final AnyLifecycleEvent<Any<?>> event) throws IOException {
+        String index = ElasticsearchUtils.getAnyIndex(event.getDomain(), event.getAny().getType().getKind());
+        String id = event.getAny().getKey();
+
+        if (BulkOperationContext.isBulk()) {
+            LOG.debug("About to enqueue {} index for {}", event.getType().name(), event.getAny());
+
+            long version = nextVersion();
+            BulkOperation operation;
+            if (event.getType() == SyncDeltaType.DELETE) {
+                operation = new BulkOperation.Builder().delete(op -> op.index(index).id(id).
+                        version(version).versionType(VersionType.External)).build();
+            } else {
+                Map<String, Object> document = elasticsearchUtils.document(event.getAny(), event.getDomain());
+                operation = new BulkOperation.Builder().index(op -> op.index(index).id(id).document(document).
+                        version(version).versionType(VersionType.External)).build();
+            }
+
+            // any operation still pending for the same document is superseded
+            pending.put(Pair.of(index, id), operation);
+            if (pending.size() >= bulkMaxOperations) {
+                flush();
+                ingester.flush();
+            }
+            return;
+        }
+
         LOG.debug("About to {} index for {}", event.getType().name(), event.getAny());
 
-        if (event.getType() == SyncDeltaType.DELETE) {
-            DeleteRequest request = new DeleteRequest.Builder().index(
-                    ElasticsearchUtils.getAnyIndex(event.getDomain(), event.getAny().getType().getKind())).
-                    id(event.getAny().getKey()).
-                    build();
-            DeleteResponse response = client.delete(request);
-            LOG.debug("Index successfully deleted for {}[{}]: {}",
-                    event.getAny().getType().getKind(), event.getAny().getKey(), response);
-        } else {
-            IndexRequest<Map<String, Object>> request = new IndexRequest.Builder<Map<String, Object>>().
-                    index(ElasticsearchUtils.getAnyIndex(event.getDomain(), event.getAny().getType().getKind())).
-                    id(event.getAny().getKey()).
-                    document(elasticsearchUtils.document(event.getAny(), event.getDomain())).
-                    build();
-            IndexResponse response = client.index(request);
-            LOG.debug("Index successfully created or updated for {}: {}", event.getAny(), response);
+        // any operation still pending for the same document is superseded
+        pending.remove(Pair.of(index, id));
+        long version = nextVersion();
+        try {
+            if (event.getType() == SyncDeltaType.DELETE) {
+                DeleteResponse response = client.delete(new DeleteRequest.Builder().
+                        index(index).
+                        id(id).
+                        version(version).
+                        versionType(VersionType.External).
+                        build());
+                LOG.debug("Index successfully deleted for {}[{}]: {}",
+                        event.getAny().getType().getKind(), id, response);
+            } else {
+                IndexRequest<Map<String, Object>> request = new IndexRequest.Builder<Map<String, Object>>().
+                        index(index).
+                        id(id).
+                        document(elasticsearchUtils.document(event.getAny(), event.getDomain())).
+                        version(version).
+                        versionType(VersionType.External).
+                        build();
+                IndexResponse response = client.index(request);
+                LOG.debug("Index successfully created or updated for {}: {}", event.getAny(), response);
+            }
+        } catch (ElasticsearchException e) {
+            if (e.status() != 409) {
+                throw e;
+            }
+            LOG.debug("Not performing {} index for {}, superseded by a later change",
+                    event.getType().name(), event.getAny());
         }
     }
 
@@ -274,4 +474,42 @@ public class ElasticsearchIndexManager {
 
         LOG.debug("Audit successfully created: {}", response);
     }
+
+    /**
+     * Indexes several audit entries with a single bulk request.
+     *
+     * @param domain domain
+     * @param entries audit entries, as pairs of instant and message
+     * @return positions, in the given list, of the entries which could not be indexed
+     * @throws IOException if the bulk request could not be sent
+     */
+    public List<Integer> audit(final String domain, final List<Pair<Long, JsonNode>> entries) throws IOException {
+        LOG.debug("About to audit {} entries", entries.size());
+
+        String index = ElasticsearchUtils.getAuditIndex(domain);
+        List<BulkOperation> operations = new ArrayList<>(entries.size());
+        for (Pair<Long, JsonNode> entry : entries) {
+            Map<String, Object> document = elasticsearchUtils.document(entry.getLeft(), entry.getRight(), domain);
+            operations.add(new BulkOperation.Builder().index(op -> op.
+                    index(index).
+                    id(SecureRandomUtils.generateRandomUUID().toString()).
+                    document(document)).
+                    build());
+        }
+        BulkResponse response = client.bulk(new BulkRequest.Builder().operations(operations).build());
+
+        List<Integer> failed = new ArrayList<>();
+        if (response.errors()) {
+            for (int i = 0; i < response.items().size(); i++) {
+                BulkResponseItem item = response.items().get(i);
+                if (item.error() != null) {
+                    LOG.error("Could not audit {} in {}: {}", item.id(), item.index(), item.error().reason());
+                    failed.add(i);
+                }
+            }
+        } else {
+            LOG.debug("{} audit entries successfully created in {} ms", entries.size(), response.took());
+        }
+        return failed;
+    }
 }
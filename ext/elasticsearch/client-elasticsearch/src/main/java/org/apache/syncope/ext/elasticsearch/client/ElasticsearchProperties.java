@@ -36,6 +36,12 @@ public class ElasticsearchProperties {
 
     private String numberOfReplicas = "1";
 
+    private int bulkMaxOperations = 1000;
+
+    private long bulkFlushInterval = 1;
+
+    private int bulkMaxConcurrentRequests = 4;
+
     public String getHostname() {
         return hostname;
     }
@@ -83,4 +89,28 @@ public class ElasticsearchProperties {
     public void setNumberOfReplicas(final String numberOfReplicas) {
         this.numberOfReplicas = numberOfReplicas;
     }
+
+    public int getBulkMaxOperations() {
+        return bulkMaxOperations;
+    }
+
+    public void setBulkMaxOperations(final int bulkMaxOperations) {
+        this.bulkMaxOperations = bulkMaxOperations;
+    }
+
+    public long getBulkFlushInterval() {
+        return bulkFlushInterval;
+    }
+
+    public void setBulkFlushInterval(final long bulkFlushInterval) {
+        this.bulkFlushInterval = bulkFlushInterval;
+    }
+
+    public int getBulkMaxConcurrentRequests() {
+        return bulkMaxConcurrentRequests;
+    }
+
+    public void setBulkMaxConcurrentRequests(final int bulkMaxConcurrentRequests) {
+        this.bulkMaxConcurrentRequests = bulkMaxConcurrentRequests;
+    }
 }
@@ -19,17 +19,22 @@
 package org.apache.syncope.core.logic.audit;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
 import java.io.Serializable;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.core.Filter;
 import org.apache.logging.log4j.core.Layout;
 import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.appender.AppenderLoggingException;
 import org.apache.logging.log4j.core.config.Property;
 import org.apache.logging.log4j.core.config.plugins.PluginBuilderFactory;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.ext.elasticsearch.client.ElasticsearchIndexManager;
 
-public class ElasticsearchAppender extends AbstractAppender {
+public class ElasticsearchAppender extends AbstractAppender implements BatchingAppender {
 
     public static class Builder extends AbstractAppender.Builder<Builder>
             implements org.apache.logging.log4j.core.util.Builder<ElasticsearchAppender> {
@@ -94,4 +99,19 @@ public class ElasticsearchAppender extends AbstractAppender {
             LOGGER.error("While requesting to index event for appender [{}]", getName(), e);
         }
     }
+
+    @Override
+    public List<LogEvent> append(final List<LogEvent> events) {
+        try {
+            return elasticsearchIndexManager.audit(
+                    domain,
+                    events.stream().map(event -> Pair.of(
+                    event.getTimeMillis(),
+                    POJOHelper.deserialize(event.getMessage().getFormattedMessage(), JsonNode.class))).
+                            collect(Collectors.toList())).
+                    stream().map(events::get).collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new AppenderLoggingException("While requesting to index events for appender [" + getName() + "]", e);
+        }
+    }
 }
@@ -26,20 +26,25 @@ import org.apache.logging.log4j.core.LoggerContext;
 import org.apache.logging.log4j.core.config.LoggerConfig;
 import org.apache.syncope.common.lib.types.AuditLoggerName;
 import org.apache.syncope.core.logic.IdRepoLogicContext;
+import org.apache.syncope.core.logic.LogicProperties;
+import org.apache.syncope.core.logic.init.AuditLoader;
 import org.apache.syncope.core.persistence.api.DomainHolder;
 import org.apache.syncope.ext.elasticsearch.client.ElasticsearchIndexManager;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @AutoConfigureBefore(IdRepoLogicContext.class)
+@EnableConfigurationProperties(LogicProperties.class)
 @Configuration(proxyBeanMethods = false)
 public class ElasticsearchLogicContext {
 
     @ConditionalOnMissingBean(name = { "defaultAuditAppenders", "elasticsearchDefaultAuditAppenders" })
     @Bean
     public List<AuditAppender> defaultAuditAppenders(
+            final LogicProperties logicProperties,
             final DomainHolder domainHolder,
             final ElasticsearchIndexManager elasticsearchIndexManager) {
 
@@ -50,7 +55,11 @@ public class ElasticsearchLogicContext {
             AuditAppender appender = new ElasticsearchAuditAppender(domain, elasticsearchIndexManager);
 
             LoggerConfig logConf = new LoggerConfig(AuditLoggerName.getAuditLoggerName(domain), null, false);
-            logConf.addAppender(appender.getTargetAppender(), Level.DEBUG, null);
+            logConf.addAppender(
+                    AuditLoader.domainAuditAppender(
+                            logCtx, appender.getTargetAppender(), logicProperties.getAsyncAudit()),
+                    Level.DEBUG,
+                    null);
             logConf.setLevel(Level.DEBUG);
             logCtx.getConfiguration().addLogger(logConf.getName(), logConf);
 
@@ -33,7 +33,10 @@ import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import co.elastic.clients.json.JsonData;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -51,6 +54,7 @@ import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.rest.api.service.JAXRSService;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.DynRealmDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
@@ -78,6 +82,7 @@ import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.core.provisioning.api.utils.FormatUtils;
 import org.apache.syncope.core.provisioning.api.utils.RealmUtils;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
@@ -115,6 +120,7 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
             final GroupDAO groupDAO,
             final AnyObjectDAO anyObjectDAO,
             final PlainSchemaDAO schemaDAO,
+            final DerSchemaDAO derSchemaDAO,
             final EntityFactory entityFactory,
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator,
@@ -128,6 +134,7 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
                 groupDAO,
                 anyObjectDAO,
                 schemaDAO,
+                derSchemaDAO,
                 entityFactory,
                 anyUtilsFactory,
                 validator);
@@ -324,6 +331,113 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
                 : buildResult(esResult.stream().map(Hit::id).collect(Collectors.toList()), kind);
     }
 
+    protected String encodeContinuation(final String index, final List<FieldValue> searchAfter) {
+        Map<String, Object> continuation = new HashMap<>();
+        continuation.put("index", index);
+        continuation.put("after", searchAfter.stream().map(FieldValue::_get).collect(Collectors.toList()));
+
+        return Base64.getUrlEncoder().withoutPadding().
+                encodeToString(POJOHelper.serialize(continuation).getBytes(StandardCharsets.UTF_8));
+    }
+
+    protected static FieldValue toFieldValue(final Object value) {
+        if (value == null) {
+            return FieldValue.NULL;
+        }
+        if (value instanceof Boolean booleanValue) {
+            return FieldValue.of(booleanValue);
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return FieldValue.of(((Number) value).doubleValue());
+        }
+        if (value instanceof Number number) {
+            return FieldValue.of(number.longValue());
+        }
+        return FieldValue.of(value.toString());
+    }
+
+    protected List<FieldValue> decodeContinuation(final String index, final String continuation) {
+        try {
+            Map<?, ?> decoded = POJOHelper.deserialize(
+                    new String(Base64.getUrlDecoder().decode(continuation), StandardCharsets.UTF_8), Map.class);
+            if (decoded == null || !index.equals(decoded.get("index"))
+                    || !(decoded.get("after") instanceof List<?> after) || after.isEmpty()) {
+
+                throw invalidContinuation(continuation);
+            }
+
+            return after.stream().map(ElasticsearchAnySearchDAO::toFieldValue).collect(Collectors.toList());
+        } catch (IllegalArgumentException e) {
+            throw invalidContinuation(continuation);
+        }
+    }
+
+    /**
+     * Deep paging via {@code search_after}: results are sorted as requested, then by key, and the continuation token
+     * carries the sort values of the last hit returned, so that subsequent pages are not bound by
+     * {@code index.max_result_window}.
+     * No point in time is kept open between pages, so there is no limit on how long callers can take before asking
+     * for the next page; as with JPA, each page reflects the index as it is when requested.
+     * Query and authorization filters are evaluated again at each invocation; tokens are only accepted for the same
+     * index they were issued for.
+     */
+    @Override
+    protected <T extends Any<?>> Pair<List<T>, String> doSearch(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final String continuation,
+            final int itemsPerPage,
+            final List<OrderByClause> orderBy,
+            final AnyTypeKind kind) {
+
+        String index = ElasticsearchUtils.getAnyIndex(AuthContextUtils.getDomain(), kind);
+
+        List<FieldValue> searchAfter = continuation == null ? List.of() : decodeContinuation(index, continuation);
+
+        List<SortOptions> sort = new ArrayList<>(sortBuilders(kind, orderBy));
+        sort.add(new SortOptions.Builder().field(
+                new FieldSort.Builder().field("id").order(SortOrder.Asc).build()).
+                build());
+
+        SearchRequest.Builder builder = new SearchRequest.Builder().
+                index(index).
+                searchType(SearchType.QueryThenFetch).
+                query(getQuery(base, recursive, adminRealms, cond, kind)).
+                size(itemsPerPage).
+                sort(sort);
+        if (!searchAfter.isEmpty()) {
+            builder.searchAfter(searchAfter);
+        }
+        SearchRequest request = builder.build();
+        LOG.debug("Search JSON request: {}", request);
+
+        @SuppressWarnings("rawtypes")
+        List<Hit<Map>> esResult;
+        try {
+            esResult = client.search(request, Map.class).hits().hits();
+        } catch (Exception e) {
+            LOG.error("While searching in Elasticsearch", e);
+
+            if (continuation == null) {
+                return Pair.of(List.of(), null);
+            }
+            // do not let callers mistake a failure for the last page
+            throw invalidContinuation(continuation);
+        }
+
+        String next = esResult.size() < itemsPerPage
+                ? null
+                : encodeContinuation(index, esResult.get(esResult.size() - 1).sort());
+
+        return Pair.of(
+                esResult.isEmpty()
+                ? List.of()
+                : buildResult(esResult.stream().map(Hit::id).collect(Collectors.toList()), kind),
+                next);
+    }
+
     protected Query getQuery(final SearchCond cond, final AnyTypeKind kind) {
         Query query = null;
 
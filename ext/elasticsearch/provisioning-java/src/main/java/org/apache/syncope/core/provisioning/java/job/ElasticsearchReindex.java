@@ -19,12 +19,13 @@
 package org.apache.syncope.core.provisioning.java.job;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkIngester;
 import co.elastic.clients.elasticsearch._types.mapping.TypeMapping;
-import co.elastic.clients.elasticsearch.core.IndexRequest;
-import co.elastic.clients.elasticsearch.core.IndexResponse;
 import co.elastic.clients.elasticsearch.indices.IndexSettings;
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
@@ -94,6 +95,28 @@ public class ElasticsearchReindex extends AbstractSchedTaskJobDelegate<SchedTask
         return indexManager.defaultAuditMapping();
     }
 
+    protected void index(final AnyDAO<?> anyDAO, final AnyTypeKind kind, final BulkIngester<Void> ingester) {
+        String index = ElasticsearchUtils.getAnyIndex(AuthContextUtils.getDomain(), kind);
+
+        String lastKey = null;
+        List<String> keys;
+        do {
+            keys = anyDAO.findAllKeys(lastKey, AnyDAO.DEFAULT_PAGE_SIZE);
+            for (String key : keys) {
+                try {
+                    Map<String, Object> document = utils.document(anyDAO.find(key), AuthContextUtils.getDomain());
+                    ingester.add(op -> op.index(idx -> idx.index(index).id(key).document(document)));
+                } catch (Exception e) {
+                    LOG.error("Could not create index for {} {}", kind, key, e);
+                }
+            }
+
+            if (!keys.isEmpty()) {
+                lastKey = keys.get(keys.size() - 1);
+            }
+        } while (keys.size() == AnyDAO.DEFAULT_PAGE_SIZE);
+    }
+
     @Override
     protected String doExecute(final boolean dryRun, final String executor, final JobExecutionContext context)
             throws JobExecutionException {
@@ -111,64 +134,25 @@ public class ElasticsearchReindex extends AbstractSchedTaskJobDelegate<SchedTask
                 indexManager.createAnyIndex(
                         AuthContextUtils.getDomain(), AnyTypeKind.ANY_OBJECT, anyObjectSettings(), anyObjectMapping());
 
-                int users = userDAO.count();
-                setStatus("Indexing " + users + " users...");
-                for (int page = 1; page <= (users / AnyDAO.DEFAULT_PAGE_SIZE) + 1; page++) {
-                    for (String user : userDAO.findAllKeys(page, AnyDAO.DEFAULT_PAGE_SIZE)) {
-                        IndexRequest<Map<String, Object>> request = new IndexRequest.Builder<Map<String, Object>>().
-                                index(ElasticsearchUtils.getAnyIndex(AuthContextUtils.getDomain(), AnyTypeKind.USER)).
-                                id(user).
-                                document(utils.document(userDAO.find(user), AuthContextUtils.getDomain())).
-                                build();
-                        try {
-                            IndexResponse response = client.index(request);
-                            LOG.debug("Index successfully created for {}: {}", user, response);
-                        } catch (Exception e) {
-                            LOG.error("Could not create index for {} {}", AnyTypeKind.USER, user, e);
-                        }
-                    }
-                }
+                AtomicLong failures = new AtomicLong();
+                try (BulkIngester<Void> ingester = indexManager.bulkIngester(failures)) {
+                    setStatus("Indexing " + userDAO.count() + " users...");
+                    index(userDAO, AnyTypeKind.USER, ingester);
 
-                int groups = groupDAO.count();
-                setStatus("Indexing " + groups + " groups...");
-                for (int page = 1; page <= (groups / AnyDAO.DEFAULT_PAGE_SIZE) + 1; page++) {
-                    for (String group : groupDAO.findAllKeys(page, AnyDAO.DEFAULT_PAGE_SIZE)) {
-                        IndexRequest<Map<String, Object>> request = new IndexRequest.Builder<Map<String, Object>>().
-                                index(ElasticsearchUtils.getAnyIndex(AuthContextUtils.getDomain(), AnyTypeKind.GROUP)).
-                                id(group).
-                                document(utils.document(groupDAO.find(group), AuthContextUtils.getDomain())).
-                                build();
-                        try {
-                            IndexResponse response = client.index(request);
-                            LOG.debug("Index successfully created for {}: {}", group, response);
-                        } catch (Exception e) {
-                            LOG.error("Could not create index for {} {}", AnyTypeKind.GROUP, group, e);
-                        }
-                    }
-                }
+                    setStatus("Indexing " + groupDAO.count() + " groups...");
+                    index(groupDAO, AnyTypeKind.GROUP, ingester);
 
-                int anyObjects = anyObjectDAO.count();
-                setStatus("Indexing " + anyObjects + " any objects...");
-                for (int page = 1; page <= (anyObjects / AnyDAO.DEFAULT_PAGE_SIZE) + 1; page++) {
-                    for (String anyObject : anyObjectDAO.findAllKeys(page, AnyDAO.DEFAULT_PAGE_SIZE)) {
-                        IndexRequest<Map<String, Object>> request = new IndexRequest.Builder<Map<String, Object>>().
-                                index(ElasticsearchUtils.getAnyIndex(
-                                        AuthContextUtils.getDomain(), AnyTypeKind.ANY_OBJECT)).
-                                id(anyObject).
-                                document(utils.document(anyObjectDAO.find(anyObject), AuthContextUtils.getDomain())).
-                                build();
-                        try {
-                            IndexResponse response = client.index(request);
-                            LOG.debug("Index successfully created for {}: {}", anyObject, response);
-                        } catch (Exception e) {
-                            LOG.error("Could not create index for {} {}", AnyTypeKind.ANY_OBJECT, anyObject, e);
-                        }
-                    }
+                    setStatus("Indexing " + anyObjectDAO.count() + " any objects...");
+                    index(anyObjectDAO, AnyTypeKind.ANY_OBJECT, ingester);
                 }
 
                 indexManager.createAuditIndex(
                         AuthContextUtils.getDomain(), auditSettings(), auditMapping());
 
+                if (failures.get() > 0) {
+                    throw new JobExecutionException(failures.get() + " documents could not be indexed");
+                }
+
                 setStatus("Rebuild indexes for domain " + AuthContextUtils.getDomain() + " successfully completed");
             } catch (Exception e) {
                 throw new JobExecutionException("While rebuilding index for domain " + AuthContextUtils.getDomain(), e);